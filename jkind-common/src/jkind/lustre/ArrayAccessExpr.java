@@ -1,5 +1,7 @@
 package jkind.lustre;
 
+import java.util.Objects;
+
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
 
@@ -27,4 +29,15 @@ public class ArrayAccessExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(array, index);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		ArrayAccessExpr other = (ArrayAccessExpr) obj;
+		return array.equals(other.array) && index.equals(other.index);
+	}
+}
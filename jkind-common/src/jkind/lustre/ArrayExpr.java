@@ -21,4 +21,15 @@ public class ArrayExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return elements.hashCode();
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		ArrayExpr other = (ArrayExpr) obj;
+		return elements.equals(other.elements);
+	}
 }
@@ -1,5 +1,7 @@
 package jkind.lustre;
 
+import java.util.Objects;
+
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
 
@@ -26,4 +28,15 @@ public class ArrayUpdateExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(array, index, value);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		ArrayUpdateExpr other = (ArrayUpdateExpr) obj;
+		return array.equals(other.array) && index.equals(other.index) && value.equals(other.value);
+	}
+}
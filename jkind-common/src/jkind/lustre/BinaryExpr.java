@@ -1,5 +1,7 @@
 package jkind.lustre;
 
+import java.util.Objects;
+
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
 
@@ -26,4 +28,15 @@ public class BinaryExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(left, op, right);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		BinaryExpr other = (BinaryExpr) obj;
+		return left.equals(other.left) && op == other.op && right.equals(other.right);
+	}
+}
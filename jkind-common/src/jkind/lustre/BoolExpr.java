@@ -20,4 +20,15 @@ public class BoolExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return Boolean.hashCode(value);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		BoolExpr other = (BoolExpr) obj;
+		return value == other.value;
+	}
 }
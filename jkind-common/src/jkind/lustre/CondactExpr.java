@@ -2,6 +2,7 @@ package jkind.lustre;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
@@ -33,4 +34,15 @@ public class CondactExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(clock, call, args);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		CondactExpr other = (CondactExpr) obj;
+		return clock.equals(other.clock) && call.equals(other.call) && args.equals(other.args);
+	}
 }
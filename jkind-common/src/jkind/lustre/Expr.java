@@ -3,8 +3,15 @@ package jkind.lustre;
 import jkind.lustre.visitors.AstVisitor;
 import jkind.lustre.visitors.ExprVisitor;
 
-
+/**
+ * Expressions are immutable and compared structurally, ignoring locations.
+ * The structural hash is computed once and cached, so expressions whose
+ * subexpressions are shared (see ExprFactory) are hashed and compared in
+ * constant time.
+ */
 public abstract class Expr extends Ast {
+	private int hash = 0;
+
 	public Expr(Location location) {
 		super(location);
 	}
@@ -16,4 +23,31 @@ public abstract class Expr extends Ast {
 	}
 	
 	public abstract <T> T accept(ExprVisitor<T> visitor);
-}
\ No newline at end of file
+
+	@Override
+	public final int hashCode() {
+		if (hash == 0) {
+			hash = computeHash();
+		}
+		return hash;
+	}
+
+	@Override
+	public final boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || obj.getClass() != getClass()) {
+			return false;
+		}
+		Expr other = (Expr) obj;
+		return hashCode() == other.hashCode() && equalsExpr(other);
+	}
+
+	protected abstract int computeHash();
+
+	/**
+	 * Structural equality with an expression of the same class
+	 */
+	protected abstract boolean equalsExpr(Expr other);
+}
@@ -0,0 +1,130 @@
+package jkind.lustre;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jkind.lustre.visitors.AstMapVisitor;
+
+/**
+ * Hash-consing of expressions. Structurally equal expressions built by the
+ * same factory are represented by a single object, so duplicate
+ * subexpressions are shared in memory and compared by reference.
+ * 
+ * Equal expressions from different locations are merged, so sharing should
+ * only be applied after all location-based error reporting.
+ */
+public class ExprFactory {
+	private final Map<Expr, Expr> table = new HashMap<>();
+	private final Sharer sharer = new Sharer();
+
+	/**
+	 * Returns the representative of the given expression
+	 * 
+	 * Assumption: The subexpressions of e have been interned
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Expr> T intern(T e) {
+		Expr existing = table.putIfAbsent(e, e);
+		return existing == null ? e : (T) existing;
+	}
+
+	public Expr share(Expr e) {
+		return e.accept(sharer);
+	}
+
+	public Program share(Program program) {
+		return sharer.visit(program);
+	}
+
+	private class Sharer extends AstMapVisitor {
+		@Override
+		public Expr visit(ArrayAccessExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(ArrayExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(ArrayUpdateExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(BinaryExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(BoolExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(CastExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(CondactExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(FunctionCallExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(IdExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(IfThenElseExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(IntExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(NodeCallExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(RealExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(RecordAccessExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(RecordExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(RecordUpdateExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(TupleExpr e) {
+			return intern(super.visit(e));
+		}
+
+		@Override
+		public Expr visit(UnaryExpr e) {
+			return intern(super.visit(e));
+		}
+	}
+}
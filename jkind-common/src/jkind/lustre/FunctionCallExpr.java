@@ -2,6 +2,7 @@ package jkind.lustre;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
@@ -30,4 +31,15 @@ public class FunctionCallExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(function, args);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		FunctionCallExpr other = (FunctionCallExpr) obj;
+		return function.equals(other.function) && args.equals(other.args);
+	}
+}
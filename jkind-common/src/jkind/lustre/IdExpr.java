@@ -21,4 +21,15 @@ public class IdExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return id.hashCode();
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		IdExpr other = (IdExpr) obj;
+		return id.equals(other.id);
+	}
 }
@@ -1,5 +1,7 @@
 package jkind.lustre;
 
+import java.util.Objects;
+
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
 
@@ -27,4 +29,15 @@ public class IfThenElseExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(cond, thenExpr, elseExpr);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		IfThenElseExpr other = (IfThenElseExpr) obj;
+		return cond.equals(other.cond) && thenExpr.equals(other.thenExpr) && elseExpr.equals(other.elseExpr);
+	}
 }
@@ -26,4 +26,15 @@ public class IntExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return value.hashCode();
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		IntExpr other = (IntExpr) obj;
+		return value.equals(other.value);
+	}
 }
@@ -207,25 +207,54 @@ public class LustreUtil {
 	}
 
 	public static Expr typeConstraint(String id, Type type) {
+		return typeConstraint(id(id), type);
+	}
+
+	private static Expr typeConstraint(Expr expr, Type type) {
 		if (type instanceof SubrangeIntType) {
-			return subrangeConstraint(id, (SubrangeIntType) type);
+			return subrangeConstraint(expr, (SubrangeIntType) type);
 		} else if (type instanceof EnumType) {
-			return enumConstraint(id, (EnumType) type);
+			return enumConstraint(expr, (EnumType) type);
+		} else if (type instanceof ArrayType) {
+			return arrayConstraint(expr, (ArrayType) type);
 		} else {
 			return null;
 		}
 	}
 
 	public static Expr subrangeConstraint(String id, SubrangeIntType subrange) {
-		return boundConstraint(id, new IntExpr(subrange.low), new IntExpr(subrange.high));
+		return subrangeConstraint(id(id), subrange);
+	}
+
+	private static Expr subrangeConstraint(Expr expr, SubrangeIntType subrange) {
+		return boundConstraint(expr, new IntExpr(subrange.low), new IntExpr(subrange.high));
 	}
 
 	public static Expr enumConstraint(String id, EnumType et) {
-		return boundConstraint(id, new IntExpr(0), new IntExpr(et.values.size() - 1));
+		return enumConstraint(id(id), et);
+	}
+
+	private static Expr enumConstraint(Expr expr, EnumType et) {
+		return boundConstraint(expr, new IntExpr(0), new IntExpr(et.values.size() - 1));
+	}
+
+	/**
+	 * Array elements are only constrained within the bounds of the array
+	 */
+	private static Expr arrayConstraint(Expr expr, ArrayType at) {
+		List<Expr> constraints = new ArrayList<>();
+		for (int i = 0; i < at.size; i++) {
+			Expr constraint = typeConstraint(new ArrayAccessExpr(expr, i), at.base);
+			if (constraint == null) {
+				return null;
+			}
+			constraints.add(constraint);
+		}
+		return and(constraints);
 	}
 
-	private static Expr boundConstraint(String id, Expr low, Expr high) {
-		return and(lessEqual(low, id(id)), lessEqual(id(id), high));
+	private static Expr boundConstraint(Expr expr, Expr low, Expr high) {
+		return and(lessEqual(low, expr), lessEqual(expr, high));
 	}
 
 	/* Decls */
@@ -2,6 +2,7 @@ package jkind.lustre;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
@@ -30,4 +31,15 @@ public class NodeCallExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(node, args);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		NodeCallExpr other = (NodeCallExpr) obj;
+		return node.equals(other.node) && args.equals(other.args);
+	}
 }
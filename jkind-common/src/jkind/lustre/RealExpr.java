@@ -22,4 +22,15 @@ public class RealExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return value.hashCode();
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		RealExpr other = (RealExpr) obj;
+		return value.equals(other.value);
+	}
 }
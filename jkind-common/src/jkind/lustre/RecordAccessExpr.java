@@ -1,5 +1,7 @@
 package jkind.lustre;
 
+import java.util.Objects;
+
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
 
@@ -23,4 +25,15 @@ public class RecordAccessExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(record, field);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		RecordAccessExpr other = (RecordAccessExpr) obj;
+		return record.equals(other.record) && field.equals(other.field);
+	}
+}
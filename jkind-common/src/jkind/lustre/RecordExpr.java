@@ -1,6 +1,7 @@
 package jkind.lustre;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.SortedMap;
 
 import jkind.Assert;
@@ -28,4 +29,15 @@ public class RecordExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(id, fields);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		RecordExpr other = (RecordExpr) obj;
+		return id.equals(other.id) && fields.equals(other.fields);
+	}
 }
@@ -1,5 +1,7 @@
 package jkind.lustre;
 
+import java.util.Objects;
+
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
 
@@ -26,4 +28,15 @@ public class RecordUpdateExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(record, field, value);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		RecordUpdateExpr other = (RecordUpdateExpr) obj;
+		return record.equals(other.record) && field.equals(other.field) && value.equals(other.value);
+	}
+}
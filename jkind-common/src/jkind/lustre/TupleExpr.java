@@ -31,4 +31,15 @@ public class TupleExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return elements.hashCode();
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		TupleExpr other = (TupleExpr) obj;
+		return elements.equals(other.elements);
+	}
 }
@@ -1,5 +1,7 @@
 package jkind.lustre;
 
+import java.util.Objects;
+
 import jkind.Assert;
 import jkind.lustre.visitors.ExprVisitor;
 
@@ -23,4 +25,15 @@ public class UnaryExpr extends Expr {
 	public <T> T accept(ExprVisitor<T> visitor) {
 		return visitor.visit(this);
 	}
+
+	@Override
+	protected int computeHash() {
+		return Objects.hash(op, expr);
+	}
+
+	@Override
+	protected boolean equalsExpr(Expr obj) {
+		UnaryExpr other = (UnaryExpr) obj;
+		return op == other.op && expr.equals(other.expr);
+	}
 }
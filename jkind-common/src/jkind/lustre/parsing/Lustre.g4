@@ -9,6 +9,7 @@ constant: 'const' ID (':' type)? '=' expr ';';
 node:
   'node' ID '(' input=varDeclList? ')'
   'returns' '(' output=varDeclList? ')' ';'
+  contract?
   ('var' local=varDeclList ';')?
   'let'
     (equation | property | assertion | main | realizabilityInputs | ivc)*
@@ -39,6 +40,11 @@ type: 'int'                                              # intType
 
 bound: '-'? INT;
 
+// Items are 'assume' or 'guarantee', which are not reserved words
+contract: '(*@contract' contractItem* '*)';
+
+contractItem: ID expr ';';
+
 property: '--%PROPERTY' eID ';';
 
 realizabilityInputs: '--%REALIZABLE' (ID (',' ID)*)? ';';
@@ -97,6 +103,6 @@ ID: [a-zA-Z_~][a-zA-Z_0-9~]*;
 WS: [ \t\n\r\f]+ -> skip;
 
 SL_COMMENT: '--' (~[%\n\r] ~[\n\r]* | /* empty */) ('\r'? '\n')? -> skip;
-ML_COMMENT: '(*' .*? '*)' -> skip;
+ML_COMMENT: '(*' (~'@' .*?)? '*)' -> skip;
 
 ERROR: .;
@@ -17,15 +17,15 @@ public class LustreLexer extends Lexer {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		T__54=1, T__53=2, T__52=3, T__51=4, T__50=5, T__49=6, T__48=7, T__47=8, 
-		T__46=9, T__45=10, T__44=11, T__43=12, T__42=13, T__41=14, T__40=15, T__39=16, 
-		T__38=17, T__37=18, T__36=19, T__35=20, T__34=21, T__33=22, T__32=23, 
-		T__31=24, T__30=25, T__29=26, T__28=27, T__27=28, T__26=29, T__25=30, 
-		T__24=31, T__23=32, T__22=33, T__21=34, T__20=35, T__19=36, T__18=37, 
-		T__17=38, T__16=39, T__15=40, T__14=41, T__13=42, T__12=43, T__11=44, 
-		T__10=45, T__9=46, T__8=47, T__7=48, T__6=49, T__5=50, T__4=51, T__3=52, 
-		T__2=53, T__1=54, T__0=55, REAL=56, BOOL=57, INT=58, ID=59, WS=60, SL_COMMENT=61, 
-		ML_COMMENT=62, ERROR=63;
+		T__56=1, T__55=2, T__54=3, T__53=4, T__52=5, T__51=6, T__50=7, T__49=8, 
+		T__48=9, T__47=10, T__46=11, T__45=12, T__44=13, T__43=14, T__42=15, T__41=16, 
+		T__40=17, T__39=18, T__38=19, T__37=20, T__36=21, T__35=22, T__34=23, 
+		T__33=24, T__32=25, T__31=26, T__30=27, T__29=28, T__28=29, T__27=30, 
+		T__26=31, T__25=32, T__24=33, T__23=34, T__22=35, T__21=36, T__20=37, 
+		T__19=38, T__18=39, T__17=40, T__16=41, T__15=42, T__14=43, T__13=44, 
+		T__12=45, T__11=46, T__10=47, T__9=48, T__8=49, T__7=50, T__6=51, T__5=52, 
+		T__4=53, T__3=54, T__2=55, T__1=56, T__0=57, REAL=58, BOOL=59, INT=60, 
+		ID=61, WS=62, SL_COMMENT=63, ML_COMMENT=64, ERROR=65;
 	public static String[] modeNames = {
 		"DEFAULT_MODE"
 	};
@@ -39,17 +39,17 @@ public class LustreLexer extends Lexer {
 		"'\\u001F'", "' '", "'!'", "'\"'", "'#'", "'$'", "'%'", "'&'", "'''", 
 		"'('", "')'", "'*'", "'+'", "','", "'-'", "'.'", "'/'", "'0'", "'1'", 
 		"'2'", "'3'", "'4'", "'5'", "'6'", "'7'", "'8'", "'9'", "':'", "';'", 
-		"'<'", "'='", "'>'", "'?'"
+		"'<'", "'='", "'>'", "'?'", "'@'", "'A'"
 	};
 	public static final String[] ruleNames = {
-		"T__54", "T__53", "T__52", "T__51", "T__50", "T__49", "T__48", "T__47", 
-		"T__46", "T__45", "T__44", "T__43", "T__42", "T__41", "T__40", "T__39", 
-		"T__38", "T__37", "T__36", "T__35", "T__34", "T__33", "T__32", "T__31", 
-		"T__30", "T__29", "T__28", "T__27", "T__26", "T__25", "T__24", "T__23", 
-		"T__22", "T__21", "T__20", "T__19", "T__18", "T__17", "T__16", "T__15", 
-		"T__14", "T__13", "T__12", "T__11", "T__10", "T__9", "T__8", "T__7", "T__6", 
-		"T__5", "T__4", "T__3", "T__2", "T__1", "T__0", "REAL", "BOOL", "INT", 
-		"ID", "WS", "SL_COMMENT", "ML_COMMENT", "ERROR"
+		"T__56", "T__55", "T__54", "T__53", "T__52", "T__51", "T__50", "T__49", 
+		"T__48", "T__47", "T__46", "T__45", "T__44", "T__43", "T__42", "T__41", 
+		"T__40", "T__39", "T__38", "T__37", "T__36", "T__35", "T__34", "T__33", 
+		"T__32", "T__31", "T__30", "T__29", "T__28", "T__27", "T__26", "T__25", 
+		"T__24", "T__23", "T__22", "T__21", "T__20", "T__19", "T__18", "T__17", 
+		"T__16", "T__15", "T__14", "T__13", "T__12", "T__11", "T__10", "T__9", 
+		"T__8", "T__7", "T__6", "T__5", "T__4", "T__3", "T__2", "T__1", "T__0", 
+		"REAL", "BOOL", "INT", "ID", "WS", "SL_COMMENT", "ML_COMMENT", "ERROR"
 	};
 
 
@@ -77,7 +77,7 @@ public class LustreLexer extends Lexer {
 	public ATN getATN() { return _ATN; }
 
 	public static final String _serializedATN =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2A\u01b5\b\1\4\2\t"+
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2C\u01cb\b\1\4\2\t"+
 		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -85,139 +85,147 @@ public class LustreLexer extends Lexer {
 		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
 		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
 		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
-		"\4>\t>\4?\t?\4@\t@\3\2\3\2\3\3\3\3\3\4\3\4\3\4\3\4\3\5\3\5\3\6\3\6\3\7"+
-		"\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\13"+
-		"\3\13\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\17\3\17"+
-		"\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\22\3\22\3\22"+
-		"\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\24\3\25"+
-		"\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\26"+
-		"\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31\3\31"+
-		"\3\32\3\32\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3\34"+
-		"\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3\36\3\36\3\36\3\36\3\36\3\36\3\36"+
-		"\3\36\3\36\3\36\3\36\3\36\3\37\3\37\3 \3 \3 \3!\3!\3!\3\"\3\"\3\"\3\""+
-		"\3\"\3#\3#\3#\3$\3$\3$\3$\3$\3$\3$\3$\3%\3%\3%\3%\3%\3%\3%\3%\3&\3&\3"+
-		"\'\3\'\3(\3(\3(\3)\3)\3*\3*\3*\3*\3*\3*\3*\3+\3+\3,\3,\3-\3-\3-\3-\3-"+
-		"\3.\3.\3.\3.\3/\3/\3/\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\61"+
-		"\3\61\3\61\3\62\3\62\3\62\3\62\3\63\3\63\3\63\3\63\3\63\3\64\3\64\3\65"+
-		"\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3\67\3\67\38\38\38\38\38\39\39\39"+
-		"\39\3:\3:\3:\3:\3:\3:\3:\3:\3:\5:\u017c\n:\3;\6;\u017f\n;\r;\16;\u0180"+
-		"\3<\3<\7<\u0185\n<\f<\16<\u0188\13<\3=\6=\u018b\n=\r=\16=\u018c\3=\3="+
-		"\3>\3>\3>\3>\3>\7>\u0196\n>\f>\16>\u0199\13>\3>\5>\u019c\n>\3>\5>\u019f"+
-		"\n>\3>\5>\u01a2\n>\3>\3>\3?\3?\3?\3?\7?\u01aa\n?\f?\16?\u01ad\13?\3?\3"+
-		"?\3?\3?\3?\3@\3@\3\u01ab\2A\3\3\5\4\7\5\t\6\13\7\r\b\17\t\21\n\23\13\25"+
-		"\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+\27-\30/\31\61\32"+
-		"\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+U,W-Y.[/]\60_\61a"+
-		"\62c\63e\64g\65i\66k\67m8o9q:s;u<w=y>{?}@\177A\3\2\b\3\2\62;\6\2C\\aa"+
-		"c|\u0080\u0080\7\2\62;C\\aac|\u0080\u0080\5\2\13\f\16\17\"\"\5\2\f\f\17"+
-		"\17\'\'\4\2\f\f\17\17\u01bd\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3"+
-		"\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2"+
-		"\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37"+
-		"\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3"+
-		"\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2"+
-		"\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C"+
-		"\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2"+
-		"\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2"+
-		"\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i"+
-		"\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2"+
-		"\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\3\u0081"+
-		"\3\2\2\2\5\u0083\3\2\2\2\7\u0085\3\2\2\2\t\u0089\3\2\2\2\13\u008b\3\2"+
-		"\2\2\r\u008d\3\2\2\2\17\u0091\3\2\2\2\21\u0097\3\2\2\2\23\u009b\3\2\2"+
-		"\2\25\u009e\3\2\2\2\27\u00a0\3\2\2\2\31\u00a4\3\2\2\2\33\u00ab\3\2\2\2"+
-		"\35\u00ad\3\2\2\2\37\u00b2\3\2\2\2!\u00b7\3\2\2\2#\u00ba\3\2\2\2%\u00be"+
-		"\3\2\2\2\'\u00c6\3\2\2\2)\u00ca\3\2\2\2+\u00d3\3\2\2\2-\u00d9\3\2\2\2"+
-		"/\u00de\3\2\2\2\61\u00e0\3\2\2\2\63\u00e7\3\2\2\2\65\u00e9\3\2\2\2\67"+
-		"\u00ec\3\2\2\29\u00fa\3\2\2\2;\u00fc\3\2\2\2=\u0108\3\2\2\2?\u010a\3\2"+
-		"\2\2A\u010d\3\2\2\2C\u0110\3\2\2\2E\u0115\3\2\2\2G\u0118\3\2\2\2I\u0120"+
-		"\3\2\2\2K\u0128\3\2\2\2M\u012a\3\2\2\2O\u012c\3\2\2\2Q\u012f\3\2\2\2S"+
-		"\u0131\3\2\2\2U\u0138\3\2\2\2W\u013a\3\2\2\2Y\u013c\3\2\2\2[\u0141\3\2"+
-		"\2\2]\u0145\3\2\2\2_\u0148\3\2\2\2a\u0151\3\2\2\2c\u0154\3\2\2\2e\u0158"+
-		"\3\2\2\2g\u015d\3\2\2\2i\u015f\3\2\2\2k\u0163\3\2\2\2m\u0167\3\2\2\2o"+
-		"\u0169\3\2\2\2q\u016e\3\2\2\2s\u017b\3\2\2\2u\u017e\3\2\2\2w\u0182\3\2"+
-		"\2\2y\u018a\3\2\2\2{\u0190\3\2\2\2}\u01a5\3\2\2\2\177\u01b3\3\2\2\2\u0081"+
-		"\u0082\7}\2\2\u0082\4\3\2\2\2\u0083\u0084\7?\2\2\u0084\6\3\2\2\2\u0085"+
-		"\u0086\7k\2\2\u0086\u0087\7p\2\2\u0087\u0088\7v\2\2\u0088\b\3\2\2\2\u0089"+
-		"\u008a\7*\2\2\u008a\n\3\2\2\2\u008b\u008c\7.\2\2\u008c\f\3\2\2\2\u008d"+
-		"\u008e\7x\2\2\u008e\u008f\7c\2\2\u008f\u0090\7t\2\2\u0090\16\3\2\2\2\u0091"+
-		"\u0092\7e\2\2\u0092\u0093\7q\2\2\u0093\u0094\7p\2\2\u0094\u0095\7u\2\2"+
-		"\u0095\u0096\7v\2\2\u0096\20\3\2\2\2\u0097\u0098\7o\2\2\u0098\u0099\7"+
-		"q\2\2\u0099\u009a\7f\2\2\u009a\22\3\2\2\2\u009b\u009c\7@\2\2\u009c\u009d"+
-		"\7?\2\2\u009d\24\3\2\2\2\u009e\u009f\7>\2\2\u009f\26\3\2\2\2\u00a0\u00a1"+
-		"\7r\2\2\u00a1\u00a2\7t\2\2\u00a2\u00a3\7g\2\2\u00a3\30\3\2\2\2\u00a4\u00a5"+
-		"\7c\2\2\u00a5\u00a6\7u\2\2\u00a6\u00a7\7u\2\2\u00a7\u00a8\7g\2\2\u00a8"+
-		"\u00a9\7t\2\2\u00a9\u00aa\7v\2\2\u00aa\32\3\2\2\2\u00ab\u00ac\7_\2\2\u00ac"+
-		"\34\3\2\2\2\u00ad\u00ae\7p\2\2\u00ae\u00af\7q\2\2\u00af\u00b0\7f\2\2\u00b0"+
-		"\u00b1\7g\2\2\u00b1\36\3\2\2\2\u00b2\u00b3\7v\2\2\u00b3\u00b4\7{\2\2\u00b4"+
-		"\u00b5\7r\2\2\u00b5\u00b6\7g\2\2\u00b6 \3\2\2\2\u00b7\u00b8\7>\2\2\u00b8"+
-		"\u00b9\7@\2\2\u00b9\"\3\2\2\2\u00ba\u00bb\7n\2\2\u00bb\u00bc\7g\2\2\u00bc"+
-		"\u00bd\7v\2\2\u00bd$\3\2\2\2\u00be\u00bf\7t\2\2\u00bf\u00c0\7g\2\2\u00c0"+
-		"\u00c1\7v\2\2\u00c1\u00c2\7w\2\2\u00c2\u00c3\7t\2\2\u00c3\u00c4\7p\2\2"+
-		"\u00c4\u00c5\7u\2\2\u00c5&\3\2\2\2\u00c6\u00c7\7v\2\2\u00c7\u00c8\7g\2"+
-		"\2\u00c8\u00c9\7n\2\2\u00c9(\3\2\2\2\u00ca\u00cb\7h\2\2\u00cb\u00cc\7"+
-		"w\2\2\u00cc\u00cd\7p\2\2\u00cd\u00ce\7e\2\2\u00ce\u00cf\7v\2\2\u00cf\u00d0"+
-		"\7k\2\2\u00d0\u00d1\7q\2\2\u00d1\u00d2\7p\2\2\u00d2*\3\2\2\2\u00d3\u00d4"+
-		"\7h\2\2\u00d4\u00d5\7n\2\2\u00d5\u00d6\7q\2\2\u00d6\u00d7\7q\2\2\u00d7"+
-		"\u00d8\7t\2\2\u00d8,\3\2\2\2\u00d9\u00da\7v\2\2\u00da\u00db\7j\2\2\u00db"+
-		"\u00dc\7g\2\2\u00dc\u00dd\7p\2\2\u00dd.\3\2\2\2\u00de\u00df\7-\2\2\u00df"+
-		"\60\3\2\2\2\u00e0\u00e1\7u\2\2\u00e1\u00e2\7v\2\2\u00e2\u00e3\7t\2\2\u00e3"+
-		"\u00e4\7w\2\2\u00e4\u00e5\7e\2\2\u00e5\u00e6\7v\2\2\u00e6\62\3\2\2\2\u00e7"+
-		"\u00e8\7\61\2\2\u00e8\64\3\2\2\2\u00e9\u00ea\7q\2\2\u00ea\u00eb\7h\2\2"+
-		"\u00eb\66\3\2\2\2\u00ec\u00ed\7/\2\2\u00ed\u00ee\7/\2\2\u00ee\u00ef\7"+
-		"\'\2\2\u00ef\u00f0\7T\2\2\u00f0\u00f1\7G\2\2\u00f1\u00f2\7C\2\2\u00f2"+
-		"\u00f3\7N\2\2\u00f3\u00f4\7K\2\2\u00f4\u00f5\7\\\2\2\u00f5\u00f6\7C\2"+
-		"\2\u00f6\u00f7\7D\2\2\u00f7\u00f8\7N\2\2\u00f8\u00f9\7G\2\2\u00f98\3\2"+
-		"\2\2\u00fa\u00fb\7=\2\2\u00fb:\3\2\2\2\u00fc\u00fd\7/\2\2\u00fd\u00fe"+
-		"\7/\2\2\u00fe\u00ff\7\'\2\2\u00ff\u0100\7R\2\2\u0100\u0101\7T\2\2\u0101"+
-		"\u0102\7Q\2\2\u0102\u0103\7R\2\2\u0103\u0104\7G\2\2\u0104\u0105\7T\2\2"+
-		"\u0105\u0106\7V\2\2\u0106\u0107\7[\2\2\u0107<\3\2\2\2\u0108\u0109\7\177"+
-		"\2\2\u0109>\3\2\2\2\u010a\u010b\7k\2\2\u010b\u010c\7h\2\2\u010c@\3\2\2"+
-		"\2\u010d\u010e\7<\2\2\u010e\u010f\7?\2\2\u010fB\3\2\2\2\u0110\u0111\7"+
-		"g\2\2\u0111\u0112\7p\2\2\u0112\u0113\7w\2\2\u0113\u0114\7o\2\2\u0114D"+
-		"\3\2\2\2\u0115\u0116\7>\2\2\u0116\u0117\7?\2\2\u0117F\3\2\2\2\u0118\u0119"+
-		"\7/\2\2\u0119\u011a\7/\2\2\u011a\u011b\7\'\2\2\u011b\u011c\7O\2\2\u011c"+
-		"\u011d\7C\2\2\u011d\u011e\7K\2\2\u011e\u011f\7P\2\2\u011fH\3\2\2\2\u0120"+
-		"\u0121\7e\2\2\u0121\u0122\7q\2\2\u0122\u0123\7p\2\2\u0123\u0124\7f\2\2"+
-		"\u0124\u0125\7c\2\2\u0125\u0126\7e\2\2\u0126\u0127\7v\2\2\u0127J\3\2\2"+
-		"\2\u0128\u0129\7,\2\2\u0129L\3\2\2\2\u012a\u012b\7\60\2\2\u012bN\3\2\2"+
-		"\2\u012c\u012d\7/\2\2\u012d\u012e\7@\2\2\u012eP\3\2\2\2\u012f\u0130\7"+
-		"<\2\2\u0130R\3\2\2\2\u0131\u0132\7/\2\2\u0132\u0133\7/\2\2\u0133\u0134"+
-		"\7\'\2\2\u0134\u0135\7K\2\2\u0135\u0136\7X\2\2\u0136\u0137\7E\2\2\u0137"+
-		"T\3\2\2\2\u0138\u0139\7]\2\2\u0139V\3\2\2\2\u013a\u013b\7@\2\2\u013bX"+
-		"\3\2\2\2\u013c\u013d\7d\2\2\u013d\u013e\7q\2\2\u013e\u013f\7q\2\2\u013f"+
-		"\u0140\7n\2\2\u0140Z\3\2\2\2\u0141\u0142\7z\2\2\u0142\u0143\7q\2\2\u0143"+
-		"\u0144\7t\2\2\u0144\\\3\2\2\2\u0145\u0146\7q\2\2\u0146\u0147\7t\2\2\u0147"+
-		"^\3\2\2\2\u0148\u0149\7u\2\2\u0149\u014a\7w\2\2\u014a\u014b\7d\2\2\u014b"+
-		"\u014c\7t\2\2\u014c\u014d\7c\2\2\u014d\u014e\7p\2\2\u014e\u014f\7i\2\2"+
-		"\u014f\u0150\7g\2\2\u0150`\3\2\2\2\u0151\u0152\7?\2\2\u0152\u0153\7@\2"+
-		"\2\u0153b\3\2\2\2\u0154\u0155\7f\2\2\u0155\u0156\7k\2\2\u0156\u0157\7"+
-		"x\2\2\u0157d\3\2\2\2\u0158\u0159\7g\2\2\u0159\u015a\7n\2\2\u015a\u015b"+
-		"\7u\2\2\u015b\u015c\7g\2\2\u015cf\3\2\2\2\u015d\u015e\7+\2\2\u015eh\3"+
-		"\2\2\2\u015f\u0160\7c\2\2\u0160\u0161\7p\2\2\u0161\u0162\7f\2\2\u0162"+
-		"j\3\2\2\2\u0163\u0164\7p\2\2\u0164\u0165\7q\2\2\u0165\u0166\7v\2\2\u0166"+
-		"l\3\2\2\2\u0167\u0168\7/\2\2\u0168n\3\2\2\2\u0169\u016a\7t\2\2\u016a\u016b"+
-		"\7g\2\2\u016b\u016c\7c\2\2\u016c\u016d\7n\2\2\u016dp\3\2\2\2\u016e\u016f"+
-		"\5u;\2\u016f\u0170\7\60\2\2\u0170\u0171\5u;\2\u0171r\3\2\2\2\u0172\u0173"+
-		"\7v\2\2\u0173\u0174\7t\2\2\u0174\u0175\7w\2\2\u0175\u017c\7g\2\2\u0176"+
-		"\u0177\7h\2\2\u0177\u0178\7c\2\2\u0178\u0179\7n\2\2\u0179\u017a\7u\2\2"+
-		"\u017a\u017c\7g\2\2\u017b\u0172\3\2\2\2\u017b\u0176\3\2\2\2\u017ct\3\2"+
-		"\2\2\u017d\u017f\t\2\2\2\u017e\u017d\3\2\2\2\u017f\u0180\3\2\2\2\u0180"+
-		"\u017e\3\2\2\2\u0180\u0181\3\2\2\2\u0181v\3\2\2\2\u0182\u0186\t\3\2\2"+
-		"\u0183\u0185\t\4\2\2\u0184\u0183\3\2\2\2\u0185\u0188\3\2\2\2\u0186\u0184"+
-		"\3\2\2\2\u0186\u0187\3\2\2\2\u0187x\3\2\2\2\u0188\u0186\3\2\2\2\u0189"+
-		"\u018b\t\5\2\2\u018a\u0189\3\2\2\2\u018b\u018c\3\2\2\2\u018c\u018a\3\2"+
-		"\2\2\u018c\u018d\3\2\2\2\u018d\u018e\3\2\2\2\u018e\u018f\b=\2\2\u018f"+
-		"z\3\2\2\2\u0190\u0191\7/\2\2\u0191\u0192\7/\2\2\u0192\u019b\3\2\2\2\u0193"+
-		"\u0197\n\6\2\2\u0194\u0196\n\7\2\2\u0195\u0194\3\2\2\2\u0196\u0199\3\2"+
-		"\2\2\u0197\u0195\3\2\2\2\u0197\u0198\3\2\2\2\u0198\u019c\3\2\2\2\u0199"+
-		"\u0197\3\2\2\2\u019a\u019c\3\2\2\2\u019b\u0193\3\2\2\2\u019b\u019a\3\2"+
-		"\2\2\u019c\u01a1\3\2\2\2\u019d\u019f\7\17\2\2\u019e\u019d\3\2\2\2\u019e"+
-		"\u019f\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0\u01a2\7\f\2\2\u01a1\u019e\3\2"+
-		"\2\2\u01a1\u01a2\3\2\2\2\u01a2\u01a3\3\2\2\2\u01a3\u01a4\b>\2\2\u01a4"+
-		"|\3\2\2\2\u01a5\u01a6\7*\2\2\u01a6\u01a7\7,\2\2\u01a7\u01ab\3\2\2\2\u01a8"+
-		"\u01aa\13\2\2\2\u01a9\u01a8\3\2\2\2\u01aa\u01ad\3\2\2\2\u01ab\u01ac\3"+
-		"\2\2\2\u01ab\u01a9\3\2\2\2\u01ac\u01ae\3\2\2\2\u01ad\u01ab\3\2\2\2\u01ae"+
-		"\u01af\7,\2\2\u01af\u01b0\7+\2\2\u01b0\u01b1\3\2\2\2\u01b1\u01b2\b?\2"+
-		"\2\u01b2~\3\2\2\2\u01b3\u01b4\13\2\2\2\u01b4\u0080\3\2\2\2\f\2\u017b\u0180"+
-		"\u0186\u018c\u0197\u019b\u019e\u01a1\u01ab\3\b\2\2";
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\3\2\3\2\3\3\3\3\3\4\3\4\3\4\3\4\3\5\3\5"+
+		"\3\6\3\6\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\n\3"+
+		"\n\3\n\3\13\3\13\3\13\3\f\3\f\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16"+
+		"\3\16\3\16\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21"+
+		"\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24"+
+		"\3\24\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26"+
+		"\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\34\3\34\3\34\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36"+
+		"\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\37\3\37\3 \3 \3 \3 \3"+
+		" \3 \3 \3 \3 \3 \3 \3 \3!\3!\3\"\3\"\3\"\3#\3#\3#\3$\3$\3$\3$\3$\3%\3"+
+		"%\3%\3&\3&\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3(\3(\3)"+
+		"\3)\3*\3*\3*\3+\3+\3,\3,\3,\3,\3,\3,\3,\3-\3-\3.\3.\3/\3/\3/\3/\3/\3\60"+
+		"\3\60\3\60\3\60\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\62"+
+		"\3\62\3\63\3\63\3\63\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3\65\3\65\3\66"+
+		"\3\66\3\67\3\67\3\67\3\67\38\38\38\38\39\39\3:\3:\3:\3:\3:\3;\3;\3;\3"+
+		";\3<\3<\3<\3<\3<\3<\3<\3<\3<\5<\u018f\n<\3=\6=\u0192\n=\r=\16=\u0193\3"+
+		">\3>\7>\u0198\n>\f>\16>\u019b\13>\3?\6?\u019e\n?\r?\16?\u019f\3?\3?\3"+
+		"@\3@\3@\3@\3@\7@\u01a9\n@\f@\16@\u01ac\13@\3@\5@\u01af\n@\3@\5@\u01b2"+
+		"\n@\3@\5@\u01b5\n@\3@\3@\3A\3A\3A\3A\3A\7A\u01be\nA\fA\16A\u01c1\13A\5"+
+		"A\u01c3\nA\3A\3A\3A\3A\3A\3B\3B\3\u01bf\2C\3\3\5\4\7\5\t\6\13\7\r\b\17"+
+		"\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26+"+
+		"\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O)Q*S+"+
+		"U,W-Y.[/]\60_\61a\62c\63e\64g\65i\66k\67m8o9q:s;u<w=y>{?}@\177A\u0081"+
+		"B\u0083C\3\2\t\3\2\62;\6\2C\\aac|\u0080\u0080\7\2\62;C\\aac|\u0080\u0080"+
+		"\5\2\13\f\16\17\"\"\5\2\f\f\17\17\'\'\4\2\f\f\17\17\3\2BB\u01d4\2\3\3"+
+		"\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2"+
+		"\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3"+
+		"\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2"+
+		"%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61"+
+		"\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2"+
+		"\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I"+
+		"\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2"+
+		"\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2"+
+		"\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o"+
+		"\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2"+
+		"\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\3\u0085"+
+		"\3\2\2\2\5\u0087\3\2\2\2\7\u0089\3\2\2\2\t\u008d\3\2\2\2\13\u008f\3\2"+
+		"\2\2\r\u0091\3\2\2\2\17\u0095\3\2\2\2\21\u009b\3\2\2\2\23\u009f\3\2\2"+
+		"\2\25\u00a2\3\2\2\2\27\u00a5\3\2\2\2\31\u00a7\3\2\2\2\33\u00ab\3\2\2\2"+
+		"\35\u00b2\3\2\2\2\37\u00b4\3\2\2\2!\u00b9\3\2\2\2#\u00be\3\2\2\2%\u00c1"+
+		"\3\2\2\2\'\u00c5\3\2\2\2)\u00cd\3\2\2\2+\u00d1\3\2\2\2-\u00da\3\2\2\2"+
+		"/\u00e0\3\2\2\2\61\u00e5\3\2\2\2\63\u00e7\3\2\2\2\65\u00ee\3\2\2\2\67"+
+		"\u00f0\3\2\2\29\u00f3\3\2\2\2;\u00ff\3\2\2\2=\u010d\3\2\2\2?\u010f\3\2"+
+		"\2\2A\u011b\3\2\2\2C\u011d\3\2\2\2E\u0120\3\2\2\2G\u0123\3\2\2\2I\u0128"+
+		"\3\2\2\2K\u012b\3\2\2\2M\u0133\3\2\2\2O\u013b\3\2\2\2Q\u013d\3\2\2\2S"+
+		"\u013f\3\2\2\2U\u0142\3\2\2\2W\u0144\3\2\2\2Y\u014b\3\2\2\2[\u014d\3\2"+
+		"\2\2]\u014f\3\2\2\2_\u0154\3\2\2\2a\u0158\3\2\2\2c\u015b\3\2\2\2e\u0164"+
+		"\3\2\2\2g\u0167\3\2\2\2i\u016b\3\2\2\2k\u0170\3\2\2\2m\u0172\3\2\2\2o"+
+		"\u0176\3\2\2\2q\u017a\3\2\2\2s\u017c\3\2\2\2u\u0181\3\2\2\2w\u018e\3\2"+
+		"\2\2y\u0191\3\2\2\2{\u0195\3\2\2\2}\u019d\3\2\2\2\177\u01a3\3\2\2\2\u0081"+
+		"\u01b8\3\2\2\2\u0083\u01c9\3\2\2\2\u0085\u0086\7}\2\2\u0086\4\3\2\2\2"+
+		"\u0087\u0088\7?\2\2\u0088\6\3\2\2\2\u0089\u008a\7k\2\2\u008a\u008b\7p"+
+		"\2\2\u008b\u008c\7v\2\2\u008c\b\3\2\2\2\u008d\u008e\7*\2\2\u008e\n\3\2"+
+		"\2\2\u008f\u0090\7.\2\2\u0090\f\3\2\2\2\u0091\u0092\7x\2\2\u0092\u0093"+
+		"\7c\2\2\u0093\u0094\7t\2\2\u0094\16\3\2\2\2\u0095\u0096\7e\2\2\u0096\u0097"+
+		"\7q\2\2\u0097\u0098\7p\2\2\u0098\u0099\7u\2\2\u0099\u009a\7v\2\2\u009a"+
+		"\20\3\2\2\2\u009b\u009c\7o\2\2\u009c\u009d\7q\2\2\u009d\u009e\7f\2\2\u009e"+
+		"\22\3\2\2\2\u009f\u00a0\7@\2\2\u00a0\u00a1\7?\2\2\u00a1\24\3\2\2\2\u00a2"+
+		"\u00a3\7,\2\2\u00a3\u00a4\7+\2\2\u00a4\26\3\2\2\2\u00a5\u00a6\7>\2\2\u00a6"+
+		"\30\3\2\2\2\u00a7\u00a8\7r\2\2\u00a8\u00a9\7t\2\2\u00a9\u00aa\7g\2\2\u00aa"+
+		"\32\3\2\2\2\u00ab\u00ac\7c\2\2\u00ac\u00ad\7u\2\2\u00ad\u00ae\7u\2\2\u00ae"+
+		"\u00af\7g\2\2\u00af\u00b0\7t\2\2\u00b0\u00b1\7v\2\2\u00b1\34\3\2\2\2\u00b2"+
+		"\u00b3\7_\2\2\u00b3\36\3\2\2\2\u00b4\u00b5\7p\2\2\u00b5\u00b6\7q\2\2\u00b6"+
+		"\u00b7\7f\2\2\u00b7\u00b8\7g\2\2\u00b8 \3\2\2\2\u00b9\u00ba\7v\2\2\u00ba"+
+		"\u00bb\7{\2\2\u00bb\u00bc\7r\2\2\u00bc\u00bd\7g\2\2\u00bd\"\3\2\2\2\u00be"+
+		"\u00bf\7>\2\2\u00bf\u00c0\7@\2\2\u00c0$\3\2\2\2\u00c1\u00c2\7n\2\2\u00c2"+
+		"\u00c3\7g\2\2\u00c3\u00c4\7v\2\2\u00c4&\3\2\2\2\u00c5\u00c6\7t\2\2\u00c6"+
+		"\u00c7\7g\2\2\u00c7\u00c8\7v\2\2\u00c8\u00c9\7w\2\2\u00c9\u00ca\7t\2\2"+
+		"\u00ca\u00cb\7p\2\2\u00cb\u00cc\7u\2\2\u00cc(\3\2\2\2\u00cd\u00ce\7v\2"+
+		"\2\u00ce\u00cf\7g\2\2\u00cf\u00d0\7n\2\2\u00d0*\3\2\2\2\u00d1\u00d2\7"+
+		"h\2\2\u00d2\u00d3\7w\2\2\u00d3\u00d4\7p\2\2\u00d4\u00d5\7e\2\2\u00d5\u00d6"+
+		"\7v\2\2\u00d6\u00d7\7k\2\2\u00d7\u00d8\7q\2\2\u00d8\u00d9\7p\2\2\u00d9"+
+		",\3\2\2\2\u00da\u00db\7h\2\2\u00db\u00dc\7n\2\2\u00dc\u00dd\7q\2\2\u00dd"+
+		"\u00de\7q\2\2\u00de\u00df\7t\2\2\u00df.\3\2\2\2\u00e0\u00e1\7v\2\2\u00e1"+
+		"\u00e2\7j\2\2\u00e2\u00e3\7g\2\2\u00e3\u00e4\7p\2\2\u00e4\60\3\2\2\2\u00e5"+
+		"\u00e6\7-\2\2\u00e6\62\3\2\2\2\u00e7\u00e8\7u\2\2\u00e8\u00e9\7v\2\2\u00e9"+
+		"\u00ea\7t\2\2\u00ea\u00eb\7w\2\2\u00eb\u00ec\7e\2\2\u00ec\u00ed\7v\2\2"+
+		"\u00ed\64\3\2\2\2\u00ee\u00ef\7\61\2\2\u00ef\66\3\2\2\2\u00f0\u00f1\7"+
+		"q\2\2\u00f1\u00f2\7h\2\2\u00f28\3\2\2\2\u00f3\u00f4\7*\2\2\u00f4\u00f5"+
+		"\7,\2\2\u00f5\u00f6\7B\2\2\u00f6\u00f7\7e\2\2\u00f7\u00f8\7q\2\2\u00f8"+
+		"\u00f9\7p\2\2\u00f9\u00fa\7v\2\2\u00fa\u00fb\7t\2\2\u00fb\u00fc\7c\2\2"+
+		"\u00fc\u00fd\7e\2\2\u00fd\u00fe\7v\2\2\u00fe:\3\2\2\2\u00ff\u0100\7/\2"+
+		"\2\u0100\u0101\7/\2\2\u0101\u0102\7\'\2\2\u0102\u0103\7T\2\2\u0103\u0104"+
+		"\7G\2\2\u0104\u0105\7C\2\2\u0105\u0106\7N\2\2\u0106\u0107\7K\2\2\u0107"+
+		"\u0108\7\\\2\2\u0108\u0109\7C\2\2\u0109\u010a\7D\2\2\u010a\u010b\7N\2"+
+		"\2\u010b\u010c\7G\2\2\u010c<\3\2\2\2\u010d\u010e\7=\2\2\u010e>\3\2\2\2"+
+		"\u010f\u0110\7/\2\2\u0110\u0111\7/\2\2\u0111\u0112\7\'\2\2\u0112\u0113"+
+		"\7R\2\2\u0113\u0114\7T\2\2\u0114\u0115\7Q\2\2\u0115\u0116\7R\2\2\u0116"+
+		"\u0117\7G\2\2\u0117\u0118\7T\2\2\u0118\u0119\7V\2\2\u0119\u011a\7[\2\2"+
+		"\u011a@\3\2\2\2\u011b\u011c\7\177\2\2\u011cB\3\2\2\2\u011d\u011e\7k\2"+
+		"\2\u011e\u011f\7h\2\2\u011fD\3\2\2\2\u0120\u0121\7<\2\2\u0121\u0122\7"+
+		"?\2\2\u0122F\3\2\2\2\u0123\u0124\7g\2\2\u0124\u0125\7p\2\2\u0125\u0126"+
+		"\7w\2\2\u0126\u0127\7o\2\2\u0127H\3\2\2\2\u0128\u0129\7>\2\2\u0129\u012a"+
+		"\7?\2\2\u012aJ\3\2\2\2\u012b\u012c\7/\2\2\u012c\u012d\7/\2\2\u012d\u012e"+
+		"\7\'\2\2\u012e\u012f\7O\2\2\u012f\u0130\7C\2\2\u0130\u0131\7K\2\2\u0131"+
+		"\u0132\7P\2\2\u0132L\3\2\2\2\u0133\u0134\7e\2\2\u0134\u0135\7q\2\2\u0135"+
+		"\u0136\7p\2\2\u0136\u0137\7f\2\2\u0137\u0138\7c\2\2\u0138\u0139\7e\2\2"+
+		"\u0139\u013a\7v\2\2\u013aN\3\2\2\2\u013b\u013c\7,\2\2\u013cP\3\2\2\2\u013d"+
+		"\u013e\7\60\2\2\u013eR\3\2\2\2\u013f\u0140\7/\2\2\u0140\u0141\7@\2\2\u0141"+
+		"T\3\2\2\2\u0142\u0143\7<\2\2\u0143V\3\2\2\2\u0144\u0145\7/\2\2\u0145\u0146"+
+		"\7/\2\2\u0146\u0147\7\'\2\2\u0147\u0148\7K\2\2\u0148\u0149\7X\2\2\u0149"+
+		"\u014a\7E\2\2\u014aX\3\2\2\2\u014b\u014c\7]\2\2\u014cZ\3\2\2\2\u014d\u014e"+
+		"\7@\2\2\u014e\\\3\2\2\2\u014f\u0150\7d\2\2\u0150\u0151\7q\2\2\u0151\u0152"+
+		"\7q\2\2\u0152\u0153\7n\2\2\u0153^\3\2\2\2\u0154\u0155\7z\2\2\u0155\u0156"+
+		"\7q\2\2\u0156\u0157\7t\2\2\u0157`\3\2\2\2\u0158\u0159\7q\2\2\u0159\u015a"+
+		"\7t\2\2\u015ab\3\2\2\2\u015b\u015c\7u\2\2\u015c\u015d\7w\2\2\u015d\u015e"+
+		"\7d\2\2\u015e\u015f\7t\2\2\u015f\u0160\7c\2\2\u0160\u0161\7p\2\2\u0161"+
+		"\u0162\7i\2\2\u0162\u0163\7g\2\2\u0163d\3\2\2\2\u0164\u0165\7?\2\2\u0165"+
+		"\u0166\7@\2\2\u0166f\3\2\2\2\u0167\u0168\7f\2\2\u0168\u0169\7k\2\2\u0169"+
+		"\u016a\7x\2\2\u016ah\3\2\2\2\u016b\u016c\7g\2\2\u016c\u016d\7n\2\2\u016d"+
+		"\u016e\7u\2\2\u016e\u016f\7g\2\2\u016fj\3\2\2\2\u0170\u0171\7+\2\2\u0171"+
+		"l\3\2\2\2\u0172\u0173\7c\2\2\u0173\u0174\7p\2\2\u0174\u0175\7f\2\2\u0175"+
+		"n\3\2\2\2\u0176\u0177\7p\2\2\u0177\u0178\7q\2\2\u0178\u0179\7v\2\2\u0179"+
+		"p\3\2\2\2\u017a\u017b\7/\2\2\u017br\3\2\2\2\u017c\u017d\7t\2\2\u017d\u017e"+
+		"\7g\2\2\u017e\u017f\7c\2\2\u017f\u0180\7n\2\2\u0180t\3\2\2\2\u0181\u0182"+
+		"\5y=\2\u0182\u0183\7\60\2\2\u0183\u0184\5y=\2\u0184v\3\2\2\2\u0185\u0186"+
+		"\7v\2\2\u0186\u0187\7t\2\2\u0187\u0188\7w\2\2\u0188\u018f\7g\2\2\u0189"+
+		"\u018a\7h\2\2\u018a\u018b\7c\2\2\u018b\u018c\7n\2\2\u018c\u018d\7u\2\2"+
+		"\u018d\u018f\7g\2\2\u018e\u0185\3\2\2\2\u018e\u0189\3\2\2\2\u018fx\3\2"+
+		"\2\2\u0190\u0192\t\2\2\2\u0191\u0190\3\2\2\2\u0192\u0193\3\2\2\2\u0193"+
+		"\u0191\3\2\2\2\u0193\u0194\3\2\2\2\u0194z\3\2\2\2\u0195\u0199\t\3\2\2"+
+		"\u0196\u0198\t\4\2\2\u0197\u0196\3\2\2\2\u0198\u019b\3\2\2\2\u0199\u0197"+
+		"\3\2\2\2\u0199\u019a\3\2\2\2\u019a|\3\2\2\2\u019b\u0199\3\2\2\2\u019c"+
+		"\u019e\t\5\2\2\u019d\u019c\3\2\2\2\u019e\u019f\3\2\2\2\u019f\u019d\3\2"+
+		"\2\2\u019f\u01a0\3\2\2\2\u01a0\u01a1\3\2\2\2\u01a1\u01a2\b?\2\2\u01a2"+
+		"~\3\2\2\2\u01a3\u01a4\7/\2\2\u01a4\u01a5\7/\2\2\u01a5\u01ae\3\2\2\2\u01a6"+
+		"\u01aa\n\6\2\2\u01a7\u01a9\n\7\2\2\u01a8\u01a7\3\2\2\2\u01a9\u01ac\3\2"+
+		"\2\2\u01aa\u01a8\3\2\2\2\u01aa\u01ab\3\2\2\2\u01ab\u01af\3\2\2\2\u01ac"+
+		"\u01aa\3\2\2\2\u01ad\u01af\3\2\2\2\u01ae\u01a6\3\2\2\2\u01ae\u01ad\3\2"+
+		"\2\2\u01af\u01b4\3\2\2\2\u01b0\u01b2\7\17\2\2\u01b1\u01b0\3\2\2\2\u01b1"+
+		"\u01b2\3\2\2\2\u01b2\u01b3\3\2\2\2\u01b3\u01b5\7\f\2\2\u01b4\u01b1\3\2"+
+		"\2\2\u01b4\u01b5\3\2\2\2\u01b5\u01b6\3\2\2\2\u01b6\u01b7\b@\2\2\u01b7"+
+		"\u0080\3\2\2\2\u01b8\u01b9\7*\2\2\u01b9\u01ba\7,\2\2\u01ba\u01c2\3\2\2"+
+		"\2\u01bb\u01bf\n\b\2\2\u01bc\u01be\13\2\2\2\u01bd\u01bc\3\2\2\2\u01be"+
+		"\u01c1\3\2\2\2\u01bf\u01c0\3\2\2\2\u01bf\u01bd\3\2\2\2\u01c0\u01c3\3\2"+
+		"\2\2\u01c1\u01bf\3\2\2\2\u01c2\u01bb\3\2\2\2\u01c2\u01c3\3\2\2\2\u01c3"+
+		"\u01c4\3\2\2\2\u01c4\u01c5\7,\2\2\u01c5\u01c6\7+\2\2\u01c6\u01c7\3\2\2"+
+		"\2\u01c7\u01c8\bA\2\2\u01c8\u0082\3\2\2\2\u01c9\u01ca\13\2\2\2\u01ca\u0084"+
+		"\3\2\2\2\r\2\u018e\u0193\u0199\u019f\u01aa\u01ae\u01b1\u01b4\u01bf\u01c2"+
+		"\3\b\2\2";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
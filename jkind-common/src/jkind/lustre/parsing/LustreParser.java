@@ -17,36 +17,38 @@ public class LustreParser extends Parser {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		T__54=1, T__53=2, T__52=3, T__51=4, T__50=5, T__49=6, T__48=7, T__47=8, 
-		T__46=9, T__45=10, T__44=11, T__43=12, T__42=13, T__41=14, T__40=15, T__39=16, 
-		T__38=17, T__37=18, T__36=19, T__35=20, T__34=21, T__33=22, T__32=23, 
-		T__31=24, T__30=25, T__29=26, T__28=27, T__27=28, T__26=29, T__25=30, 
-		T__24=31, T__23=32, T__22=33, T__21=34, T__20=35, T__19=36, T__18=37, 
-		T__17=38, T__16=39, T__15=40, T__14=41, T__13=42, T__12=43, T__11=44, 
-		T__10=45, T__9=46, T__8=47, T__7=48, T__6=49, T__5=50, T__4=51, T__3=52, 
-		T__2=53, T__1=54, T__0=55, REAL=56, BOOL=57, INT=58, ID=59, WS=60, SL_COMMENT=61, 
-		ML_COMMENT=62, ERROR=63;
+		T__56=1, T__55=2, T__54=3, T__53=4, T__52=5, T__51=6, T__50=7, T__49=8, 
+		T__48=9, T__47=10, T__46=11, T__45=12, T__44=13, T__43=14, T__42=15, T__41=16, 
+		T__40=17, T__39=18, T__38=19, T__37=20, T__36=21, T__35=22, T__34=23, 
+		T__33=24, T__32=25, T__31=26, T__30=27, T__29=28, T__28=29, T__27=30, 
+		T__26=31, T__25=32, T__24=33, T__23=34, T__22=35, T__21=36, T__20=37, 
+		T__19=38, T__18=39, T__17=40, T__16=41, T__15=42, T__14=43, T__13=44, 
+		T__12=45, T__11=46, T__10=47, T__9=48, T__8=49, T__7=50, T__6=51, T__5=52, 
+		T__4=53, T__3=54, T__2=55, T__1=56, T__0=57, REAL=58, BOOL=59, INT=60, 
+		ID=61, WS=62, SL_COMMENT=63, ML_COMMENT=64, ERROR=65;
 	public static final String[] tokenNames = {
 		"<INVALID>", "'{'", "'='", "'int'", "'('", "','", "'var'", "'const'", 
-		"'mod'", "'>='", "'<'", "'pre'", "'assert'", "']'", "'node'", "'type'", 
-		"'<>'", "'let'", "'returns'", "'tel'", "'function'", "'floor'", "'then'", 
-		"'+'", "'struct'", "'/'", "'of'", "'--%REALIZABLE'", "';'", "'--%PROPERTY'", 
-		"'}'", "'if'", "':='", "'enum'", "'<='", "'--%MAIN'", "'condact'", "'*'", 
-		"'.'", "'->'", "':'", "'--%IVC'", "'['", "'>'", "'bool'", "'xor'", "'or'", 
-		"'subrange'", "'=>'", "'div'", "'else'", "')'", "'and'", "'not'", "'-'", 
-		"'real'", "REAL", "BOOL", "INT", "ID", "WS", "SL_COMMENT", "ML_COMMENT", 
-		"ERROR"
+		"'mod'", "'>='", "'*)'", "'<'", "'pre'", "'assert'", "']'", "'node'", 
+		"'type'", "'<>'", "'let'", "'returns'", "'tel'", "'function'", "'floor'", 
+		"'then'", "'+'", "'struct'", "'/'", "'of'", "'(*@contract'", "'--%REALIZABLE'", 
+		"';'", "'--%PROPERTY'", "'}'", "'if'", "':='", "'enum'", "'<='", "'--%MAIN'", 
+		"'condact'", "'*'", "'.'", "'->'", "':'", "'--%IVC'", "'['", "'>'", "'bool'", 
+		"'xor'", "'or'", "'subrange'", "'=>'", "'div'", "'else'", "')'", "'and'", 
+		"'not'", "'-'", "'real'", "REAL", "BOOL", "INT", "ID", "WS", "SL_COMMENT", 
+		"ML_COMMENT", "ERROR"
 	};
 	public static final int
 		RULE_program = 0, RULE_typedef = 1, RULE_constant = 2, RULE_node = 3, 
 		RULE_function = 4, RULE_varDeclList = 5, RULE_varDeclGroup = 6, RULE_topLevelType = 7, 
-		RULE_type = 8, RULE_bound = 9, RULE_property = 10, RULE_realizabilityInputs = 11, 
-		RULE_ivc = 12, RULE_main = 13, RULE_assertion = 14, RULE_equation = 15, 
-		RULE_lhs = 16, RULE_expr = 17, RULE_eID = 18;
+		RULE_type = 8, RULE_bound = 9, RULE_contract = 10, RULE_contractItem = 11, 
+		RULE_property = 12, RULE_realizabilityInputs = 13, RULE_ivc = 14, RULE_main = 15, 
+		RULE_assertion = 16, RULE_equation = 17, RULE_lhs = 18, RULE_expr = 19, 
+		RULE_eID = 20;
 	public static final String[] ruleNames = {
 		"program", "typedef", "constant", "node", "function", "varDeclList", "varDeclGroup", 
-		"topLevelType", "type", "bound", "property", "realizabilityInputs", "ivc", 
-		"main", "assertion", "equation", "lhs", "expr", "eID"
+		"topLevelType", "type", "bound", "contract", "contractItem", "property", 
+		"realizabilityInputs", "ivc", "main", "assertion", "equation", "lhs", 
+		"expr", "eID"
 	};
 
 	@Override
@@ -112,42 +114,42 @@ public class LustreParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(44);
+			setState(48);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__48) | (1L << T__41) | (1L << T__40) | (1L << T__35))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__50) | (1L << T__42) | (1L << T__41) | (1L << T__36))) != 0)) {
 				{
-				setState(42);
+				setState(46);
 				switch (_input.LA(1)) {
-				case T__40:
+				case T__41:
 					{
-					setState(38); typedef();
+					setState(42); typedef();
 					}
 					break;
-				case T__48:
+				case T__50:
 					{
-					setState(39); constant();
+					setState(43); constant();
 					}
 					break;
-				case T__41:
+				case T__42:
 					{
-					setState(40); node();
+					setState(44); node();
 					}
 					break;
-				case T__35:
+				case T__36:
 					{
-					setState(41); function();
+					setState(45); function();
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(46);
+				setState(50);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(47); match(EOF);
+			setState(51); match(EOF);
 			}
 		}
 		catch (RecognitionException re) {
@@ -183,11 +185,11 @@ public class LustreParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(49); match(T__40);
-			setState(50); match(ID);
-			setState(51); match(T__53);
-			setState(52); topLevelType();
-			setState(53); match(T__27);
+			setState(53); match(T__41);
+			setState(54); match(ID);
+			setState(55); match(T__55);
+			setState(56); topLevelType();
+			setState(57); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -227,20 +229,20 @@ public class LustreParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(55); match(T__48);
-			setState(56); match(ID);
-			setState(59);
+			setState(59); match(T__50);
+			setState(60); match(ID);
+			setState(63);
 			_la = _input.LA(1);
 			if (_la==T__15) {
 				{
-				setState(57); match(T__15);
-				setState(58); type(0);
+				setState(61); match(T__15);
+				setState(62); type(0);
 				}
 			}
 
-			setState(61); match(T__53);
-			setState(62); expr(0);
-			setState(63); match(T__27);
+			setState(65); match(T__55);
+			setState(66); expr(0);
+			setState(67); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -267,6 +269,9 @@ public class LustreParser extends Parser {
 		public List<VarDeclListContext> varDeclList() {
 			return getRuleContexts(VarDeclListContext.class);
 		}
+		public ContractContext contract() {
+			return getRuleContext(ContractContext.class,0);
+		}
 		public List<RealizabilityInputsContext> realizabilityInputs() {
 			return getRuleContexts(RealizabilityInputsContext.class);
 		}
@@ -319,93 +324,101 @@ public class LustreParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(65); match(T__41);
-			setState(66); match(ID);
-			setState(67); match(T__51);
-			setState(69);
+			setState(69); match(T__42);
+			setState(70); match(ID);
+			setState(71); match(T__53);
+			setState(73);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(68); ((NodeContext)_localctx).input = varDeclList();
+				setState(72); ((NodeContext)_localctx).input = varDeclList();
 				}
 			}
 
-			setState(71); match(T__4);
-			setState(72); match(T__37);
-			setState(73); match(T__51);
-			setState(75);
+			setState(75); match(T__4);
+			setState(76); match(T__38);
+			setState(77); match(T__53);
+			setState(79);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(74); ((NodeContext)_localctx).output = varDeclList();
+				setState(78); ((NodeContext)_localctx).output = varDeclList();
+				}
+			}
+
+			setState(81); match(T__4);
+			setState(82); match(T__27);
+			setState(84);
+			_la = _input.LA(1);
+			if (_la==T__29) {
+				{
+				setState(83); contract();
 				}
 			}
 
-			setState(77); match(T__4);
-			setState(78); match(T__27);
-			setState(83);
+			setState(90);
 			_la = _input.LA(1);
-			if (_la==T__49) {
+			if (_la==T__51) {
 				{
-				setState(79); match(T__49);
-				setState(80); ((NodeContext)_localctx).local = varDeclList();
-				setState(81); match(T__27);
+				setState(86); match(T__51);
+				setState(87); ((NodeContext)_localctx).local = varDeclList();
+				setState(88); match(T__27);
 				}
 			}
 
-			setState(85); match(T__38);
-			setState(94);
+			setState(92); match(T__39);
+			setState(101);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__51) | (1L << T__43) | (1L << T__28) | (1L << T__26) | (1L << T__20) | (1L << T__14) | (1L << ID))) != 0)) {
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__53) | (1L << T__44) | (1L << T__28) | (1L << T__26) | (1L << T__20) | (1L << T__14) | (1L << ID))) != 0)) {
 				{
-				setState(92);
+				setState(99);
 				switch (_input.LA(1)) {
-				case T__51:
+				case T__53:
 				case ID:
 					{
-					setState(86); equation();
+					setState(93); equation();
 					}
 					break;
 				case T__26:
 					{
-					setState(87); property();
+					setState(94); property();
 					}
 					break;
-				case T__43:
+				case T__44:
 					{
-					setState(88); assertion();
+					setState(95); assertion();
 					}
 					break;
 				case T__20:
 					{
-					setState(89); main();
+					setState(96); main();
 					}
 					break;
 				case T__28:
 					{
-					setState(90); realizabilityInputs();
+					setState(97); realizabilityInputs();
 					}
 					break;
 				case T__14:
 					{
-					setState(91); ivc();
+					setState(98); ivc();
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(96);
+				setState(103);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(97); match(T__36);
-			setState(99);
+			setState(104); match(T__37);
+			setState(106);
 			_la = _input.LA(1);
 			if (_la==T__27) {
 				{
-				setState(98); match(T__27);
+				setState(105); match(T__27);
 				}
 			}
 
@@ -452,30 +465,30 @@ public class LustreParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(101); match(T__35);
-			setState(102); eID(0);
-			setState(103); match(T__51);
-			setState(105);
+			setState(108); match(T__36);
+			setState(109); eID(0);
+			setState(110); match(T__53);
+			setState(112);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(104); ((FunctionContext)_localctx).input = varDeclList();
+				setState(111); ((FunctionContext)_localctx).input = varDeclList();
 				}
 			}
 
-			setState(107); match(T__4);
-			setState(108); match(T__37);
-			setState(109); match(T__51);
-			setState(111);
+			setState(114); match(T__4);
+			setState(115); match(T__38);
+			setState(116); match(T__53);
+			setState(118);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(110); ((FunctionContext)_localctx).output = varDeclList();
+				setState(117); ((FunctionContext)_localctx).output = varDeclList();
 				}
 			}
 
-			setState(113); match(T__4);
-			setState(114); match(T__27);
+			setState(120); match(T__4);
+			setState(121); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -514,22 +527,22 @@ public class LustreParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(116); varDeclGroup();
-			setState(121);
+			setState(123); varDeclGroup();
+			setState(128);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(117); match(T__27);
-					setState(118); varDeclGroup();
+					setState(124); match(T__27);
+					setState(125); varDeclGroup();
 					}
 					} 
 				}
-				setState(123);
+				setState(130);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,11,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 			}
 			}
 		}
@@ -572,23 +585,23 @@ public class LustreParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(124); eID(0);
-			setState(129);
+			setState(131); eID(0);
+			setState(136);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__50) {
+			while (_la==T__52) {
 				{
 				{
-				setState(125); match(T__50);
-				setState(126); eID(0);
+				setState(132); match(T__52);
+				setState(133); eID(0);
 				}
 				}
-				setState(131);
+				setState(138);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(132); match(T__15);
-			setState(133); type(0);
+			setState(139); match(T__15);
+			setState(140); type(0);
 			}
 		}
 		catch (RecognitionException re) {
@@ -660,9 +673,9 @@ public class LustreParser extends Parser {
 		enterRule(_localctx, 14, RULE_topLevelType);
 		int _la;
 		try {
-			setState(164);
+			setState(171);
 			switch (_input.LA(1)) {
-			case T__52:
+			case T__54:
 			case T__11:
 			case T__8:
 			case T__0:
@@ -670,61 +683,61 @@ public class LustreParser extends Parser {
 				_localctx = new PlainTypeContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(135); type(0);
+				setState(142); type(0);
 				}
 				break;
-			case T__31:
+			case T__32:
 				_localctx = new RecordTypeContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(136); match(T__31);
-				setState(137); match(T__54);
+				setState(143); match(T__32);
+				setState(144); match(T__56);
 				{
-				setState(138); match(ID);
-				setState(139); match(T__15);
-				setState(140); type(0);
+				setState(145); match(ID);
+				setState(146); match(T__15);
+				setState(147); type(0);
 				}
-				setState(148);
+				setState(155);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__27) {
 					{
 					{
-					setState(142); match(T__27);
-					setState(143); match(ID);
-					setState(144); match(T__15);
-					setState(145); type(0);
+					setState(149); match(T__27);
+					setState(150); match(ID);
+					setState(151); match(T__15);
+					setState(152); type(0);
 					}
 					}
-					setState(150);
+					setState(157);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(151); match(T__25);
+				setState(158); match(T__25);
 				}
 				break;
 			case T__22:
 				_localctx = new EnumTypeContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(153); match(T__22);
-				setState(154); match(T__54);
-				setState(155); match(ID);
-				setState(160);
+				setState(160); match(T__22);
+				setState(161); match(T__56);
+				setState(162); match(ID);
+				setState(167);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__50) {
+				while (_la==T__52) {
 					{
 					{
-					setState(156); match(T__50);
-					setState(157); match(ID);
+					setState(163); match(T__52);
+					setState(164); match(ID);
 					}
 					}
-					setState(162);
+					setState(169);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(163); match(T__25);
+				setState(170); match(T__25);
 				}
 				break;
 			default:
@@ -828,15 +841,15 @@ public class LustreParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(180);
+			setState(187);
 			switch (_input.LA(1)) {
-			case T__52:
+			case T__54:
 				{
 				_localctx = new IntTypeContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(167); match(T__52);
+				setState(174); match(T__54);
 				}
 				break;
 			case T__8:
@@ -844,14 +857,14 @@ public class LustreParser extends Parser {
 				_localctx = new SubrangeTypeContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(168); match(T__8);
-				setState(169); match(T__13);
-				setState(170); bound();
-				setState(171); match(T__50);
-				setState(172); bound();
-				setState(173); match(T__42);
-				setState(174); match(T__29);
-				setState(175); match(T__52);
+				setState(175); match(T__8);
+				setState(176); match(T__13);
+				setState(177); bound();
+				setState(178); match(T__52);
+				setState(179); bound();
+				setState(180); match(T__43);
+				setState(181); match(T__30);
+				setState(182); match(T__54);
 				}
 				break;
 			case T__11:
@@ -859,7 +872,7 @@ public class LustreParser extends Parser {
 				_localctx = new BoolTypeContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(177); match(T__11);
+				setState(184); match(T__11);
 				}
 				break;
 			case T__0:
@@ -867,7 +880,7 @@ public class LustreParser extends Parser {
 				_localctx = new RealTypeContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(178); match(T__0);
+				setState(185); match(T__0);
 				}
 				break;
 			case ID:
@@ -875,16 +888,16 @@ public class LustreParser extends Parser {
 				_localctx = new UserTypeContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(179); match(ID);
+				setState(186); match(ID);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(188);
+			setState(195);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
@@ -893,17 +906,17 @@ public class LustreParser extends Parser {
 					{
 					_localctx = new ArrayTypeContext(new TypeContext(_parentctx, _parentState));
 					pushNewRecursionContext(_localctx, _startState, RULE_type);
-					setState(182);
+					setState(189);
 					if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-					setState(183); match(T__13);
-					setState(184); match(INT);
-					setState(185); match(T__42);
+					setState(190); match(T__13);
+					setState(191); match(INT);
+					setState(192); match(T__43);
 					}
 					} 
 				}
-				setState(190);
+				setState(197);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,17,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,18,_ctx);
 			}
 			}
 		}
@@ -938,15 +951,106 @@ public class LustreParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(192);
+			setState(199);
 			_la = _input.LA(1);
 			if (_la==T__1) {
 				{
-				setState(191); match(T__1);
+				setState(198); match(T__1);
 				}
 			}
 
-			setState(194); match(INT);
+			setState(201); match(INT);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ContractContext extends ParserRuleContext {
+		public ContractItemContext contractItem(int i) {
+			return getRuleContext(ContractItemContext.class,i);
+		}
+		public List<ContractItemContext> contractItem() {
+			return getRuleContexts(ContractItemContext.class);
+		}
+		public ContractContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_contract; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LustreVisitor ) return ((LustreVisitor<? extends T>)visitor).visitContract(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ContractContext contract() throws RecognitionException {
+		ContractContext _localctx = new ContractContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_contract);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(203); match(T__29);
+			setState(207);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==ID) {
+				{
+				{
+				setState(204); contractItem();
+				}
+				}
+				setState(209);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(210); match(T__47);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ContractItemContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(LustreParser.ID, 0); }
+		public ExprContext expr() {
+			return getRuleContext(ExprContext.class,0);
+		}
+		public ContractItemContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_contractItem; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof LustreVisitor ) return ((LustreVisitor<? extends T>)visitor).visitContractItem(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final ContractItemContext contractItem() throws RecognitionException {
+		ContractItemContext _localctx = new ContractItemContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_contractItem);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(212); match(ID);
+			setState(213); expr(0);
+			setState(214); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -977,13 +1081,13 @@ public class LustreParser extends Parser {
 
 	public final PropertyContext property() throws RecognitionException {
 		PropertyContext _localctx = new PropertyContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_property);
+		enterRule(_localctx, 24, RULE_property);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(196); match(T__26);
-			setState(197); eID(0);
-			setState(198); match(T__27);
+			setState(216); match(T__26);
+			setState(217); eID(0);
+			setState(218); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1015,35 +1119,35 @@ public class LustreParser extends Parser {
 
 	public final RealizabilityInputsContext realizabilityInputs() throws RecognitionException {
 		RealizabilityInputsContext _localctx = new RealizabilityInputsContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_realizabilityInputs);
+		enterRule(_localctx, 26, RULE_realizabilityInputs);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(200); match(T__28);
-			setState(209);
+			setState(220); match(T__28);
+			setState(229);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(201); match(ID);
-				setState(206);
+				setState(221); match(ID);
+				setState(226);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__50) {
+				while (_la==T__52) {
 					{
 					{
-					setState(202); match(T__50);
-					setState(203); match(ID);
+					setState(222); match(T__52);
+					setState(223); match(ID);
 					}
 					}
-					setState(208);
+					setState(228);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(211); match(T__27);
+			setState(231); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1077,35 +1181,35 @@ public class LustreParser extends Parser {
 
 	public final IvcContext ivc() throws RecognitionException {
 		IvcContext _localctx = new IvcContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_ivc);
+		enterRule(_localctx, 28, RULE_ivc);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(213); match(T__14);
-			setState(222);
+			setState(233); match(T__14);
+			setState(242);
 			_la = _input.LA(1);
 			if (_la==ID) {
 				{
-				setState(214); eID(0);
-				setState(219);
+				setState(234); eID(0);
+				setState(239);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__50) {
+				while (_la==T__52) {
 					{
 					{
-					setState(215); match(T__50);
-					setState(216); eID(0);
+					setState(235); match(T__52);
+					setState(236); eID(0);
 					}
 					}
-					setState(221);
+					setState(241);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(224); match(T__27);
+			setState(244); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1133,17 +1237,17 @@ public class LustreParser extends Parser {
 
 	public final MainContext main() throws RecognitionException {
 		MainContext _localctx = new MainContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_main);
+		enterRule(_localctx, 30, RULE_main);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(226); match(T__20);
-			setState(228);
+			setState(246); match(T__20);
+			setState(248);
 			_la = _input.LA(1);
 			if (_la==T__27) {
 				{
-				setState(227); match(T__27);
+				setState(247); match(T__27);
 				}
 			}
 
@@ -1177,13 +1281,13 @@ public class LustreParser extends Parser {
 
 	public final AssertionContext assertion() throws RecognitionException {
 		AssertionContext _localctx = new AssertionContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_assertion);
+		enterRule(_localctx, 32, RULE_assertion);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(230); match(T__43);
-			setState(231); expr(0);
-			setState(232); match(T__27);
+			setState(250); match(T__44);
+			setState(251); expr(0);
+			setState(252); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1217,38 +1321,38 @@ public class LustreParser extends Parser {
 
 	public final EquationContext equation() throws RecognitionException {
 		EquationContext _localctx = new EquationContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_equation);
+		enterRule(_localctx, 34, RULE_equation);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(240);
+			setState(260);
 			switch (_input.LA(1)) {
 			case ID:
 				{
-				setState(234); lhs();
+				setState(254); lhs();
 				}
 				break;
-			case T__51:
+			case T__53:
 				{
-				setState(235); match(T__51);
-				setState(237);
+				setState(255); match(T__53);
+				setState(257);
 				_la = _input.LA(1);
 				if (_la==ID) {
 					{
-					setState(236); lhs();
+					setState(256); lhs();
 					}
 				}
 
-				setState(239); match(T__4);
+				setState(259); match(T__4);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(242); match(T__53);
-			setState(243); expr(0);
-			setState(244); match(T__27);
+			setState(262); match(T__55);
+			setState(263); expr(0);
+			setState(264); match(T__27);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1282,23 +1386,23 @@ public class LustreParser extends Parser {
 
 	public final LhsContext lhs() throws RecognitionException {
 		LhsContext _localctx = new LhsContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_lhs);
+		enterRule(_localctx, 36, RULE_lhs);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(246); eID(0);
-			setState(251);
+			setState(266); eID(0);
+			setState(271);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__50) {
+			while (_la==T__52) {
 				{
 				{
-				setState(247); match(T__50);
-				setState(248); eID(0);
+				setState(267); match(T__52);
+				setState(268); eID(0);
 				}
 				}
-				setState(253);
+				setState(273);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1578,23 +1682,23 @@ public class LustreParser extends Parser {
 		int _parentState = getState();
 		ExprContext _localctx = new ExprContext(_ctx, _parentState);
 		ExprContext _prevctx = _localctx;
-		int _startState = 34;
-		enterRecursionRule(_localctx, 34, RULE_expr, _p);
+		int _startState = 38;
+		enterRecursionRule(_localctx, 38, RULE_expr, _p);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(340);
-			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			setState(360);
+			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
 			case 1:
 				{
 				_localctx = new PreExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
 
-				setState(255); match(T__44);
-				setState(256); expr(14);
+				setState(275); match(T__45);
+				setState(276); expr(14);
 				}
 				break;
 			case 2:
@@ -1602,8 +1706,8 @@ public class LustreParser extends Parser {
 				_localctx = new NotExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(257); match(T__2);
-				setState(258); expr(13);
+				setState(277); match(T__2);
+				setState(278); expr(13);
 				}
 				break;
 			case 3:
@@ -1611,8 +1715,8 @@ public class LustreParser extends Parser {
 				_localctx = new NegateExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(259); match(T__1);
-				setState(260); expr(12);
+				setState(279); match(T__1);
+				setState(280); expr(12);
 				}
 				break;
 			case 4:
@@ -1620,7 +1724,7 @@ public class LustreParser extends Parser {
 				_localctx = new IdExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(261); match(ID);
+				setState(281); match(ID);
 				}
 				break;
 			case 5:
@@ -1628,7 +1732,7 @@ public class LustreParser extends Parser {
 				_localctx = new IntExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(262); match(INT);
+				setState(282); match(INT);
 				}
 				break;
 			case 6:
@@ -1636,7 +1740,7 @@ public class LustreParser extends Parser {
 				_localctx = new RealExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(263); match(REAL);
+				setState(283); match(REAL);
 				}
 				break;
 			case 7:
@@ -1644,7 +1748,7 @@ public class LustreParser extends Parser {
 				_localctx = new BoolExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(264); match(BOOL);
+				setState(284); match(BOOL);
 				}
 				break;
 			case 8:
@@ -1652,16 +1756,16 @@ public class LustreParser extends Parser {
 				_localctx = new CastExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(265);
+				setState(285);
 				((CastExprContext)_localctx).op = _input.LT(1);
 				_la = _input.LA(1);
-				if ( !(_la==T__34 || _la==T__0) ) {
+				if ( !(_la==T__35 || _la==T__0) ) {
 					((CastExprContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 				}
 				consume();
-				setState(266); match(T__51);
-				setState(267); expr(0);
-				setState(268); match(T__4);
+				setState(286); match(T__53);
+				setState(287); expr(0);
+				setState(288); match(T__4);
 				}
 				break;
 			case 9:
@@ -1669,31 +1773,31 @@ public class LustreParser extends Parser {
 				_localctx = new CallExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(270); eID(0);
-				setState(271); match(T__51);
-				setState(280);
+				setState(290); eID(0);
+				setState(291); match(T__53);
+				setState(300);
 				_la = _input.LA(1);
-				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__51) | (1L << T__44) | (1L << T__34) | (1L << T__24) | (1L << T__19) | (1L << T__13) | (1L << T__2) | (1L << T__1) | (1L << T__0) | (1L << REAL) | (1L << BOOL) | (1L << INT) | (1L << ID))) != 0)) {
+				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__53) | (1L << T__45) | (1L << T__35) | (1L << T__24) | (1L << T__19) | (1L << T__13) | (1L << T__2) | (1L << T__1) | (1L << T__0) | (1L << REAL) | (1L << BOOL) | (1L << INT) | (1L << ID))) != 0)) {
 					{
-					setState(272); expr(0);
-					setState(277);
+					setState(292); expr(0);
+					setState(297);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
-					while (_la==T__50) {
+					while (_la==T__52) {
 						{
 						{
-						setState(273); match(T__50);
-						setState(274); expr(0);
+						setState(293); match(T__52);
+						setState(294); expr(0);
 						}
 						}
-						setState(279);
+						setState(299);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(282); match(T__4);
+				setState(302); match(T__4);
 				}
 				break;
 			case 10:
@@ -1701,24 +1805,24 @@ public class LustreParser extends Parser {
 				_localctx = new CondactExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(284); match(T__19);
-				setState(285); match(T__51);
-				setState(286); expr(0);
-				setState(289); 
+				setState(304); match(T__19);
+				setState(305); match(T__53);
+				setState(306); expr(0);
+				setState(309); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(287); match(T__50);
-					setState(288); expr(0);
+					setState(307); match(T__52);
+					setState(308); expr(0);
 					}
 					}
-					setState(291); 
+					setState(311); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
-				} while ( _la==T__50 );
-				setState(293); match(T__4);
+				} while ( _la==T__52 );
+				setState(313); match(T__4);
 				}
 				break;
 			case 11:
@@ -1726,12 +1830,12 @@ public class LustreParser extends Parser {
 				_localctx = new IfThenElseExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(295); match(T__24);
-				setState(296); expr(0);
-				setState(297); match(T__33);
-				setState(298); expr(0);
-				setState(299); match(T__5);
-				setState(300); expr(0);
+				setState(315); match(T__24);
+				setState(316); expr(0);
+				setState(317); match(T__34);
+				setState(318); expr(0);
+				setState(319); match(T__5);
+				setState(320); expr(0);
 				}
 				break;
 			case 12:
@@ -1739,28 +1843,28 @@ public class LustreParser extends Parser {
 				_localctx = new RecordExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(302); match(ID);
-				setState(303); match(T__54);
-				setState(304); match(ID);
-				setState(305); match(T__53);
-				setState(306); expr(0);
-				setState(313);
+				setState(322); match(ID);
+				setState(323); match(T__56);
+				setState(324); match(ID);
+				setState(325); match(T__55);
+				setState(326); expr(0);
+				setState(333);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__27) {
 					{
 					{
-					setState(307); match(T__27);
-					setState(308); match(ID);
-					setState(309); match(T__53);
-					setState(310); expr(0);
+					setState(327); match(T__27);
+					setState(328); match(ID);
+					setState(329); match(T__55);
+					setState(330); expr(0);
 					}
 					}
-					setState(315);
+					setState(335);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(316); match(T__25);
+				setState(336); match(T__25);
 				}
 				break;
 			case 13:
@@ -1768,23 +1872,23 @@ public class LustreParser extends Parser {
 				_localctx = new ArrayExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(318); match(T__13);
-				setState(319); expr(0);
-				setState(324);
+				setState(338); match(T__13);
+				setState(339); expr(0);
+				setState(344);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__50) {
+				while (_la==T__52) {
 					{
 					{
-					setState(320); match(T__50);
-					setState(321); expr(0);
+					setState(340); match(T__52);
+					setState(341); expr(0);
 					}
 					}
-					setState(326);
+					setState(346);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(327); match(T__42);
+				setState(347); match(T__43);
 				}
 				break;
 			case 14:
@@ -1792,184 +1896,184 @@ public class LustreParser extends Parser {
 				_localctx = new TupleExprContext(_localctx);
 				_ctx = _localctx;
 				_prevctx = _localctx;
-				setState(329); match(T__51);
-				setState(330); expr(0);
-				setState(335);
+				setState(349); match(T__53);
+				setState(350); expr(0);
+				setState(355);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while (_la==T__50) {
+				while (_la==T__52) {
 					{
 					{
-					setState(331); match(T__50);
-					setState(332); expr(0);
+					setState(351); match(T__52);
+					setState(352); expr(0);
 					}
 					}
-					setState(337);
+					setState(357);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(338); match(T__4);
+				setState(358); match(T__4);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(387);
+			setState(407);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(385);
-					switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
+					setState(405);
+					switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
 					case 1:
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(342);
+						setState(362);
 						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
-						setState(343);
+						setState(363);
 						((BinaryExprContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__47) | (1L << T__30) | (1L << T__18) | (1L << T__6))) != 0)) ) {
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__49) | (1L << T__31) | (1L << T__18) | (1L << T__6))) != 0)) ) {
 							((BinaryExprContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						consume();
-						setState(344); expr(12);
+						setState(364); expr(12);
 						}
 						break;
 					case 2:
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(345);
+						setState(365);
 						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(346);
+						setState(366);
 						((BinaryExprContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !(_la==T__32 || _la==T__1) ) {
+						if ( !(_la==T__33 || _la==T__1) ) {
 							((BinaryExprContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						consume();
-						setState(347); expr(11);
+						setState(367); expr(11);
 						}
 						break;
 					case 3:
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(348);
+						setState(368);
 						if (!(precpred(_ctx, 9))) throw new FailedPredicateException(this, "precpred(_ctx, 9)");
-						setState(349);
+						setState(369);
 						((BinaryExprContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
-						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__53) | (1L << T__46) | (1L << T__45) | (1L << T__39) | (1L << T__21) | (1L << T__12))) != 0)) ) {
+						if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__55) | (1L << T__48) | (1L << T__46) | (1L << T__40) | (1L << T__21) | (1L << T__12))) != 0)) ) {
 							((BinaryExprContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						consume();
-						setState(350); expr(10);
+						setState(370); expr(10);
 						}
 						break;
 					case 4:
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(351);
+						setState(371);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(352); ((BinaryExprContext)_localctx).op = match(T__3);
-						setState(353); expr(9);
+						setState(372); ((BinaryExprContext)_localctx).op = match(T__3);
+						setState(373); expr(9);
 						}
 						break;
 					case 5:
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(354);
+						setState(374);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(355);
+						setState(375);
 						((BinaryExprContext)_localctx).op = _input.LT(1);
 						_la = _input.LA(1);
 						if ( !(_la==T__10 || _la==T__9) ) {
 							((BinaryExprContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 						}
 						consume();
-						setState(356); expr(8);
+						setState(376); expr(8);
 						}
 						break;
 					case 6:
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(357);
+						setState(377);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(358); ((BinaryExprContext)_localctx).op = match(T__7);
-						setState(359); expr(6);
+						setState(378); ((BinaryExprContext)_localctx).op = match(T__7);
+						setState(379); expr(6);
 						}
 						break;
 					case 7:
 						{
 						_localctx = new BinaryExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(360);
+						setState(380);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(361); ((BinaryExprContext)_localctx).op = match(T__16);
-						setState(362); expr(5);
+						setState(381); ((BinaryExprContext)_localctx).op = match(T__16);
+						setState(382); expr(5);
 						}
 						break;
 					case 8:
 						{
 						_localctx = new RecordAccessExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(363);
+						setState(383);
 						if (!(precpred(_ctx, 18))) throw new FailedPredicateException(this, "precpred(_ctx, 18)");
-						setState(364); match(T__17);
-						setState(365); match(ID);
+						setState(384); match(T__17);
+						setState(385); match(ID);
 						}
 						break;
 					case 9:
 						{
 						_localctx = new RecordUpdateExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(366);
+						setState(386);
 						if (!(precpred(_ctx, 17))) throw new FailedPredicateException(this, "precpred(_ctx, 17)");
-						setState(367); match(T__54);
-						setState(368); match(ID);
-						setState(369); match(T__23);
-						setState(370); expr(0);
-						setState(371); match(T__25);
+						setState(387); match(T__56);
+						setState(388); match(ID);
+						setState(389); match(T__23);
+						setState(390); expr(0);
+						setState(391); match(T__25);
 						}
 						break;
 					case 10:
 						{
 						_localctx = new ArrayAccessExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(373);
+						setState(393);
 						if (!(precpred(_ctx, 16))) throw new FailedPredicateException(this, "precpred(_ctx, 16)");
-						setState(374); match(T__13);
-						setState(375); expr(0);
-						setState(376); match(T__42);
+						setState(394); match(T__13);
+						setState(395); expr(0);
+						setState(396); match(T__43);
 						}
 						break;
 					case 11:
 						{
 						_localctx = new ArrayUpdateExprContext(new ExprContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_expr);
-						setState(378);
+						setState(398);
 						if (!(precpred(_ctx, 15))) throw new FailedPredicateException(this, "precpred(_ctx, 15)");
-						setState(379); match(T__13);
-						setState(380); expr(0);
-						setState(381); match(T__23);
-						setState(382); expr(0);
-						setState(383); match(T__42);
+						setState(399); match(T__13);
+						setState(400); expr(0);
+						setState(401); match(T__23);
+						setState(402); expr(0);
+						setState(403); match(T__43);
 						}
 						break;
 					}
 					} 
 				}
-				setState(389);
+				setState(409);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,35,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			}
 			}
 		}
@@ -2038,8 +2142,8 @@ public class LustreParser extends Parser {
 		int _parentState = getState();
 		EIDContext _localctx = new EIDContext(_ctx, _parentState);
 		EIDContext _prevctx = _localctx;
-		int _startState = 36;
-		enterRecursionRule(_localctx, 36, RULE_eID, _p);
+		int _startState = 40;
+		enterRecursionRule(_localctx, 40, RULE_eID, _p);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
@@ -2049,46 +2153,46 @@ public class LustreParser extends Parser {
 			_ctx = _localctx;
 			_prevctx = _localctx;
 
-			setState(391); match(ID);
+			setState(411); match(ID);
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(402);
+			setState(422);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,39,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(400);
-					switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
+					setState(420);
+					switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
 					case 1:
 						{
 						_localctx = new ArrayEIDContext(new EIDContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_eID);
-						setState(393);
+						setState(413);
 						if (!(precpred(_ctx, 2))) throw new FailedPredicateException(this, "precpred(_ctx, 2)");
-						setState(394); match(T__13);
-						setState(395); match(INT);
-						setState(396); match(T__42);
+						setState(414); match(T__13);
+						setState(415); match(INT);
+						setState(416); match(T__43);
 						}
 						break;
 					case 2:
 						{
 						_localctx = new RecordEIDContext(new EIDContext(_parentctx, _parentState));
 						pushNewRecursionContext(_localctx, _startState, RULE_eID);
-						setState(397);
+						setState(417);
 						if (!(precpred(_ctx, 1))) throw new FailedPredicateException(this, "precpred(_ctx, 1)");
-						setState(398); match(T__17);
-						setState(399); match(ID);
+						setState(418); match(T__17);
+						setState(419); match(ID);
 						}
 						break;
 					}
 					} 
 				}
-				setState(404);
+				setState(424);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,39,_ctx);
 			}
 			}
 		}
@@ -2106,8 +2210,8 @@ public class LustreParser extends Parser {
 	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
 		switch (ruleIndex) {
 		case 8: return type_sempred((TypeContext)_localctx, predIndex);
-		case 17: return expr_sempred((ExprContext)_localctx, predIndex);
-		case 18: return eID_sempred((EIDContext)_localctx, predIndex);
+		case 19: return expr_sempred((ExprContext)_localctx, predIndex);
+		case 20: return eID_sempred((EIDContext)_localctx, predIndex);
 		}
 		return true;
 	}
@@ -2142,155 +2246,163 @@ public class LustreParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3A\u0198\4\2\t\2\4"+
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3C\u01ac\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
-		"\4\23\t\23\4\24\t\24\3\2\3\2\3\2\3\2\7\2-\n\2\f\2\16\2\60\13\2\3\2\3\2"+
-		"\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\5\4>\n\4\3\4\3\4\3\4\3\4\3\5"+
-		"\3\5\3\5\3\5\5\5H\n\5\3\5\3\5\3\5\3\5\5\5N\n\5\3\5\3\5\3\5\3\5\3\5\3\5"+
-		"\5\5V\n\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\7\5_\n\5\f\5\16\5b\13\5\3\5\3\5"+
-		"\5\5f\n\5\3\6\3\6\3\6\3\6\5\6l\n\6\3\6\3\6\3\6\3\6\5\6r\n\6\3\6\3\6\3"+
-		"\6\3\7\3\7\3\7\7\7z\n\7\f\7\16\7}\13\7\3\b\3\b\3\b\7\b\u0082\n\b\f\b\16"+
-		"\b\u0085\13\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t"+
-		"\7\t\u0095\n\t\f\t\16\t\u0098\13\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u00a1"+
-		"\n\t\f\t\16\t\u00a4\13\t\3\t\5\t\u00a7\n\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n"+
-		"\3\n\3\n\3\n\3\n\3\n\3\n\3\n\5\n\u00b7\n\n\3\n\3\n\3\n\3\n\7\n\u00bd\n"+
-		"\n\f\n\16\n\u00c0\13\n\3\13\5\13\u00c3\n\13\3\13\3\13\3\f\3\f\3\f\3\f"+
-		"\3\r\3\r\3\r\3\r\7\r\u00cf\n\r\f\r\16\r\u00d2\13\r\5\r\u00d4\n\r\3\r\3"+
-		"\r\3\16\3\16\3\16\3\16\7\16\u00dc\n\16\f\16\16\16\u00df\13\16\5\16\u00e1"+
-		"\n\16\3\16\3\16\3\17\3\17\5\17\u00e7\n\17\3\20\3\20\3\20\3\20\3\21\3\21"+
-		"\3\21\5\21\u00f0\n\21\3\21\5\21\u00f3\n\21\3\21\3\21\3\21\3\21\3\22\3"+
-		"\22\3\22\7\22\u00fc\n\22\f\22\16\22\u00ff\13\22\3\23\3\23\3\23\3\23\3"+
-		"\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3"+
-		"\23\3\23\3\23\7\23\u0116\n\23\f\23\16\23\u0119\13\23\5\23\u011b\n\23\3"+
-		"\23\3\23\3\23\3\23\3\23\3\23\3\23\6\23\u0124\n\23\r\23\16\23\u0125\3\23"+
-		"\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
-		"\3\23\3\23\3\23\7\23\u013a\n\23\f\23\16\23\u013d\13\23\3\23\3\23\3\23"+
-		"\3\23\3\23\3\23\7\23\u0145\n\23\f\23\16\23\u0148\13\23\3\23\3\23\3\23"+
-		"\3\23\3\23\3\23\7\23\u0150\n\23\f\23\16\23\u0153\13\23\3\23\3\23\5\23"+
-		"\u0157\n\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
-		"\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
-		"\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
-		"\3\23\3\23\3\23\7\23\u0184\n\23\f\23\16\23\u0187\13\23\3\24\3\24\3\24"+
-		"\3\24\3\24\3\24\3\24\3\24\3\24\3\24\7\24\u0193\n\24\f\24\16\24\u0196\13"+
-		"\24\3\24\2\5\22$&\25\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&\2\7\4"+
-		"\2\27\2799\6\2\n\n\33\33\'\'\63\63\4\2\31\3188\7\2\4\4\13\f\22\22$$--"+
-		"\3\2/\60\u01c9\2.\3\2\2\2\4\63\3\2\2\2\69\3\2\2\2\bC\3\2\2\2\ng\3\2\2"+
-		"\2\fv\3\2\2\2\16~\3\2\2\2\20\u00a6\3\2\2\2\22\u00b6\3\2\2\2\24\u00c2\3"+
-		"\2\2\2\26\u00c6\3\2\2\2\30\u00ca\3\2\2\2\32\u00d7\3\2\2\2\34\u00e4\3\2"+
-		"\2\2\36\u00e8\3\2\2\2 \u00f2\3\2\2\2\"\u00f8\3\2\2\2$\u0156\3\2\2\2&\u0188"+
-		"\3\2\2\2(-\5\4\3\2)-\5\6\4\2*-\5\b\5\2+-\5\n\6\2,(\3\2\2\2,)\3\2\2\2,"+
-		"*\3\2\2\2,+\3\2\2\2-\60\3\2\2\2.,\3\2\2\2./\3\2\2\2/\61\3\2\2\2\60.\3"+
-		"\2\2\2\61\62\7\2\2\3\62\3\3\2\2\2\63\64\7\21\2\2\64\65\7=\2\2\65\66\7"+
-		"\4\2\2\66\67\5\20\t\2\678\7\36\2\28\5\3\2\2\29:\7\t\2\2:=\7=\2\2;<\7*"+
-		"\2\2<>\5\22\n\2=;\3\2\2\2=>\3\2\2\2>?\3\2\2\2?@\7\4\2\2@A\5$\23\2AB\7"+
-		"\36\2\2B\7\3\2\2\2CD\7\20\2\2DE\7=\2\2EG\7\6\2\2FH\5\f\7\2GF\3\2\2\2G"+
-		"H\3\2\2\2HI\3\2\2\2IJ\7\65\2\2JK\7\24\2\2KM\7\6\2\2LN\5\f\7\2ML\3\2\2"+
-		"\2MN\3\2\2\2NO\3\2\2\2OP\7\65\2\2PU\7\36\2\2QR\7\b\2\2RS\5\f\7\2ST\7\36"+
-		"\2\2TV\3\2\2\2UQ\3\2\2\2UV\3\2\2\2VW\3\2\2\2W`\7\23\2\2X_\5 \21\2Y_\5"+
-		"\26\f\2Z_\5\36\20\2[_\5\34\17\2\\_\5\30\r\2]_\5\32\16\2^X\3\2\2\2^Y\3"+
-		"\2\2\2^Z\3\2\2\2^[\3\2\2\2^\\\3\2\2\2^]\3\2\2\2_b\3\2\2\2`^\3\2\2\2`a"+
-		"\3\2\2\2ac\3\2\2\2b`\3\2\2\2ce\7\25\2\2df\7\36\2\2ed\3\2\2\2ef\3\2\2\2"+
-		"f\t\3\2\2\2gh\7\26\2\2hi\5&\24\2ik\7\6\2\2jl\5\f\7\2kj\3\2\2\2kl\3\2\2"+
-		"\2lm\3\2\2\2mn\7\65\2\2no\7\24\2\2oq\7\6\2\2pr\5\f\7\2qp\3\2\2\2qr\3\2"+
-		"\2\2rs\3\2\2\2st\7\65\2\2tu\7\36\2\2u\13\3\2\2\2v{\5\16\b\2wx\7\36\2\2"+
-		"xz\5\16\b\2yw\3\2\2\2z}\3\2\2\2{y\3\2\2\2{|\3\2\2\2|\r\3\2\2\2}{\3\2\2"+
-		"\2~\u0083\5&\24\2\177\u0080\7\7\2\2\u0080\u0082\5&\24\2\u0081\177\3\2"+
-		"\2\2\u0082\u0085\3\2\2\2\u0083\u0081\3\2\2\2\u0083\u0084\3\2\2\2\u0084"+
-		"\u0086\3\2\2\2\u0085\u0083\3\2\2\2\u0086\u0087\7*\2\2\u0087\u0088\5\22"+
-		"\n\2\u0088\17\3\2\2\2\u0089\u00a7\5\22\n\2\u008a\u008b\7\32\2\2\u008b"+
-		"\u008c\7\3\2\2\u008c\u008d\7=\2\2\u008d\u008e\7*\2\2\u008e\u008f\5\22"+
-		"\n\2\u008f\u0096\3\2\2\2\u0090\u0091\7\36\2\2\u0091\u0092\7=\2\2\u0092"+
-		"\u0093\7*\2\2\u0093\u0095\5\22\n\2\u0094\u0090\3\2\2\2\u0095\u0098\3\2"+
-		"\2\2\u0096\u0094\3\2\2\2\u0096\u0097\3\2\2\2\u0097\u0099\3\2\2\2\u0098"+
-		"\u0096\3\2\2\2\u0099\u009a\7 \2\2\u009a\u00a7\3\2\2\2\u009b\u009c\7#\2"+
-		"\2\u009c\u009d\7\3\2\2\u009d\u00a2\7=\2\2\u009e\u009f\7\7\2\2\u009f\u00a1"+
-		"\7=\2\2\u00a0\u009e\3\2\2\2\u00a1\u00a4\3\2\2\2\u00a2\u00a0\3\2\2\2\u00a2"+
-		"\u00a3\3\2\2\2\u00a3\u00a5\3\2\2\2\u00a4\u00a2\3\2\2\2\u00a5\u00a7\7 "+
-		"\2\2\u00a6\u0089\3\2\2\2\u00a6\u008a\3\2\2\2\u00a6\u009b\3\2\2\2\u00a7"+
-		"\21\3\2\2\2\u00a8\u00a9\b\n\1\2\u00a9\u00b7\7\5\2\2\u00aa\u00ab\7\61\2"+
-		"\2\u00ab\u00ac\7,\2\2\u00ac\u00ad\5\24\13\2\u00ad\u00ae\7\7\2\2\u00ae"+
-		"\u00af\5\24\13\2\u00af\u00b0\7\17\2\2\u00b0\u00b1\7\34\2\2\u00b1\u00b2"+
-		"\7\5\2\2\u00b2\u00b7\3\2\2\2\u00b3\u00b7\7.\2\2\u00b4\u00b7\79\2\2\u00b5"+
-		"\u00b7\7=\2\2\u00b6\u00a8\3\2\2\2\u00b6\u00aa\3\2\2\2\u00b6\u00b3\3\2"+
-		"\2\2\u00b6\u00b4\3\2\2\2\u00b6\u00b5\3\2\2\2\u00b7\u00be\3\2\2\2\u00b8"+
-		"\u00b9\f\4\2\2\u00b9\u00ba\7,\2\2\u00ba\u00bb\7<\2\2\u00bb\u00bd\7\17"+
-		"\2\2\u00bc\u00b8\3\2\2\2\u00bd\u00c0\3\2\2\2\u00be\u00bc\3\2\2\2\u00be"+
-		"\u00bf\3\2\2\2\u00bf\23\3\2\2\2\u00c0\u00be\3\2\2\2\u00c1\u00c3\78\2\2"+
-		"\u00c2\u00c1\3\2\2\2\u00c2\u00c3\3\2\2\2\u00c3\u00c4\3\2\2\2\u00c4\u00c5"+
-		"\7<\2\2\u00c5\25\3\2\2\2\u00c6\u00c7\7\37\2\2\u00c7\u00c8\5&\24\2\u00c8"+
-		"\u00c9\7\36\2\2\u00c9\27\3\2\2\2\u00ca\u00d3\7\35\2\2\u00cb\u00d0\7=\2"+
-		"\2\u00cc\u00cd\7\7\2\2\u00cd\u00cf\7=\2\2\u00ce\u00cc\3\2\2\2\u00cf\u00d2"+
-		"\3\2\2\2\u00d0\u00ce\3\2\2\2\u00d0\u00d1\3\2\2\2\u00d1\u00d4\3\2\2\2\u00d2"+
-		"\u00d0\3\2\2\2\u00d3\u00cb\3\2\2\2\u00d3\u00d4\3\2\2\2\u00d4\u00d5\3\2"+
-		"\2\2\u00d5\u00d6\7\36\2\2\u00d6\31\3\2\2\2\u00d7\u00e0\7+\2\2\u00d8\u00dd"+
-		"\5&\24\2\u00d9\u00da\7\7\2\2\u00da\u00dc\5&\24\2\u00db\u00d9\3\2\2\2\u00dc"+
-		"\u00df\3\2\2\2\u00dd\u00db\3\2\2\2\u00dd\u00de\3\2\2\2\u00de\u00e1\3\2"+
-		"\2\2\u00df\u00dd\3\2\2\2\u00e0\u00d8\3\2\2\2\u00e0\u00e1\3\2\2\2\u00e1"+
-		"\u00e2\3\2\2\2\u00e2\u00e3\7\36\2\2\u00e3\33\3\2\2\2\u00e4\u00e6\7%\2"+
-		"\2\u00e5\u00e7\7\36\2\2\u00e6\u00e5\3\2\2\2\u00e6\u00e7\3\2\2\2\u00e7"+
-		"\35\3\2\2\2\u00e8\u00e9\7\16\2\2\u00e9\u00ea\5$\23\2\u00ea\u00eb\7\36"+
-		"\2\2\u00eb\37\3\2\2\2\u00ec\u00f3\5\"\22\2\u00ed\u00ef\7\6\2\2\u00ee\u00f0"+
-		"\5\"\22\2\u00ef\u00ee\3\2\2\2\u00ef\u00f0\3\2\2\2\u00f0\u00f1\3\2\2\2"+
-		"\u00f1\u00f3\7\65\2\2\u00f2\u00ec\3\2\2\2\u00f2\u00ed\3\2\2\2\u00f3\u00f4"+
-		"\3\2\2\2\u00f4\u00f5\7\4\2\2\u00f5\u00f6\5$\23\2\u00f6\u00f7\7\36\2\2"+
-		"\u00f7!\3\2\2\2\u00f8\u00fd\5&\24\2\u00f9\u00fa\7\7\2\2\u00fa\u00fc\5"+
-		"&\24\2\u00fb\u00f9\3\2\2\2\u00fc\u00ff\3\2\2\2\u00fd\u00fb\3\2\2\2\u00fd"+
-		"\u00fe\3\2\2\2\u00fe#\3\2\2\2\u00ff\u00fd\3\2\2\2\u0100\u0101\b\23\1\2"+
-		"\u0101\u0102\7\r\2\2\u0102\u0157\5$\23\20\u0103\u0104\7\67\2\2\u0104\u0157"+
-		"\5$\23\17\u0105\u0106\78\2\2\u0106\u0157\5$\23\16\u0107\u0157\7=\2\2\u0108"+
-		"\u0157\7<\2\2\u0109\u0157\7:\2\2\u010a\u0157\7;\2\2\u010b\u010c\t\2\2"+
-		"\2\u010c\u010d\7\6\2\2\u010d\u010e\5$\23\2\u010e\u010f\7\65\2\2\u010f"+
-		"\u0157\3\2\2\2\u0110\u0111\5&\24\2\u0111\u011a\7\6\2\2\u0112\u0117\5$"+
-		"\23\2\u0113\u0114\7\7\2\2\u0114\u0116\5$\23\2\u0115\u0113\3\2\2\2\u0116"+
-		"\u0119\3\2\2\2\u0117\u0115\3\2\2\2\u0117\u0118\3\2\2\2\u0118\u011b\3\2"+
-		"\2\2\u0119\u0117\3\2\2\2\u011a\u0112\3\2\2\2\u011a\u011b\3\2\2\2\u011b"+
-		"\u011c\3\2\2\2\u011c\u011d\7\65\2\2\u011d\u0157\3\2\2\2\u011e\u011f\7"+
-		"&\2\2\u011f\u0120\7\6\2\2\u0120\u0123\5$\23\2\u0121\u0122\7\7\2\2\u0122"+
-		"\u0124\5$\23\2\u0123\u0121\3\2\2\2\u0124\u0125\3\2\2\2\u0125\u0123\3\2"+
-		"\2\2\u0125\u0126\3\2\2\2\u0126\u0127\3\2\2\2\u0127\u0128\7\65\2\2\u0128"+
-		"\u0157\3\2\2\2\u0129\u012a\7!\2\2\u012a\u012b\5$\23\2\u012b\u012c\7\30"+
-		"\2\2\u012c\u012d\5$\23\2\u012d\u012e\7\64\2\2\u012e\u012f\5$\23\2\u012f"+
-		"\u0157\3\2\2\2\u0130\u0131\7=\2\2\u0131\u0132\7\3\2\2\u0132\u0133\7=\2"+
-		"\2\u0133\u0134\7\4\2\2\u0134\u013b\5$\23\2\u0135\u0136\7\36\2\2\u0136"+
-		"\u0137\7=\2\2\u0137\u0138\7\4\2\2\u0138\u013a\5$\23\2\u0139\u0135\3\2"+
-		"\2\2\u013a\u013d\3\2\2\2\u013b\u0139\3\2\2\2\u013b\u013c\3\2\2\2\u013c"+
-		"\u013e\3\2\2\2\u013d\u013b\3\2\2\2\u013e\u013f\7 \2\2\u013f\u0157\3\2"+
-		"\2\2\u0140\u0141\7,\2\2\u0141\u0146\5$\23\2\u0142\u0143\7\7\2\2\u0143"+
-		"\u0145\5$\23\2\u0144\u0142\3\2\2\2\u0145\u0148\3\2\2\2\u0146\u0144\3\2"+
-		"\2\2\u0146\u0147\3\2\2\2\u0147\u0149\3\2\2\2\u0148\u0146\3\2\2\2\u0149"+
-		"\u014a\7\17\2\2\u014a\u0157\3\2\2\2\u014b\u014c\7\6\2\2\u014c\u0151\5"+
-		"$\23\2\u014d\u014e\7\7\2\2\u014e\u0150\5$\23\2\u014f\u014d\3\2\2\2\u0150"+
-		"\u0153\3\2\2\2\u0151\u014f\3\2\2\2\u0151\u0152\3\2\2\2\u0152\u0154\3\2"+
-		"\2\2\u0153\u0151\3\2\2\2\u0154\u0155\7\65\2\2\u0155\u0157\3\2\2\2\u0156"+
-		"\u0100\3\2\2\2\u0156\u0103\3\2\2\2\u0156\u0105\3\2\2\2\u0156\u0107\3\2"+
-		"\2\2\u0156\u0108\3\2\2\2\u0156\u0109\3\2\2\2\u0156\u010a\3\2\2\2\u0156"+
-		"\u010b\3\2\2\2\u0156\u0110\3\2\2\2\u0156\u011e\3\2\2\2\u0156\u0129\3\2"+
-		"\2\2\u0156\u0130\3\2\2\2\u0156\u0140\3\2\2\2\u0156\u014b\3\2\2\2\u0157"+
-		"\u0185\3\2\2\2\u0158\u0159\f\r\2\2\u0159\u015a\t\3\2\2\u015a\u0184\5$"+
-		"\23\16\u015b\u015c\f\f\2\2\u015c\u015d\t\4\2\2\u015d\u0184\5$\23\r\u015e"+
-		"\u015f\f\13\2\2\u015f\u0160\t\5\2\2\u0160\u0184\5$\23\f\u0161\u0162\f"+
-		"\n\2\2\u0162\u0163\7\66\2\2\u0163\u0184\5$\23\13\u0164\u0165\f\t\2\2\u0165"+
-		"\u0166\t\6\2\2\u0166\u0184\5$\23\n\u0167\u0168\f\b\2\2\u0168\u0169\7\62"+
-		"\2\2\u0169\u0184\5$\23\b\u016a\u016b\f\7\2\2\u016b\u016c\7)\2\2\u016c"+
-		"\u0184\5$\23\7\u016d\u016e\f\24\2\2\u016e\u016f\7(\2\2\u016f\u0184\7="+
-		"\2\2\u0170\u0171\f\23\2\2\u0171\u0172\7\3\2\2\u0172\u0173\7=\2\2\u0173"+
-		"\u0174\7\"\2\2\u0174\u0175\5$\23\2\u0175\u0176\7 \2\2\u0176\u0184\3\2"+
-		"\2\2\u0177\u0178\f\22\2\2\u0178\u0179\7,\2\2\u0179\u017a\5$\23\2\u017a"+
-		"\u017b\7\17\2\2\u017b\u0184\3\2\2\2\u017c\u017d\f\21\2\2\u017d\u017e\7"+
-		",\2\2\u017e\u017f\5$\23\2\u017f\u0180\7\"\2\2\u0180\u0181\5$\23\2\u0181"+
-		"\u0182\7\17\2\2\u0182\u0184\3\2\2\2\u0183\u0158\3\2\2\2\u0183\u015b\3"+
-		"\2\2\2\u0183\u015e\3\2\2\2\u0183\u0161\3\2\2\2\u0183\u0164\3\2\2\2\u0183"+
-		"\u0167\3\2\2\2\u0183\u016a\3\2\2\2\u0183\u016d\3\2\2\2\u0183\u0170\3\2"+
-		"\2\2\u0183\u0177\3\2\2\2\u0183\u017c\3\2\2\2\u0184\u0187\3\2\2\2\u0185"+
-		"\u0183\3\2\2\2\u0185\u0186\3\2\2\2\u0186%\3\2\2\2\u0187\u0185\3\2\2\2"+
-		"\u0188\u0189\b\24\1\2\u0189\u018a\7=\2\2\u018a\u0194\3\2\2\2\u018b\u018c"+
-		"\f\4\2\2\u018c\u018d\7,\2\2\u018d\u018e\7<\2\2\u018e\u0193\7\17\2\2\u018f"+
-		"\u0190\f\3\2\2\u0190\u0191\7(\2\2\u0191\u0193\7=\2\2\u0192\u018b\3\2\2"+
-		"\2\u0192\u018f\3\2\2\2\u0193\u0196\3\2\2\2\u0194\u0192\3\2\2\2\u0194\u0195"+
-		"\3\2\2\2\u0195\'\3\2\2\2\u0196\u0194\3\2\2\2(,.=GMU^`ekq{\u0083\u0096"+
-		"\u00a2\u00a6\u00b6\u00be\u00c2\u00d0\u00d3\u00dd\u00e0\u00e6\u00ef\u00f2"+
-		"\u00fd\u0117\u011a\u0125\u013b\u0146\u0151\u0156\u0183\u0185\u0192\u0194";
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\3\2\3\2\3\2\3\2\7\2\61\n\2\f"+
+		"\2\16\2\64\13\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\5\4B\n"+
+		"\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5\5\5L\n\5\3\5\3\5\3\5\3\5\5\5R\n\5\3"+
+		"\5\3\5\3\5\5\5W\n\5\3\5\3\5\3\5\3\5\5\5]\n\5\3\5\3\5\3\5\3\5\3\5\3\5\3"+
+		"\5\7\5f\n\5\f\5\16\5i\13\5\3\5\3\5\5\5m\n\5\3\6\3\6\3\6\3\6\5\6s\n\6\3"+
+		"\6\3\6\3\6\3\6\5\6y\n\6\3\6\3\6\3\6\3\7\3\7\3\7\7\7\u0081\n\7\f\7\16\7"+
+		"\u0084\13\7\3\b\3\b\3\b\7\b\u0089\n\b\f\b\16\b\u008c\13\b\3\b\3\b\3\b"+
+		"\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u009c\n\t\f\t\16\t\u009f"+
+		"\13\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\7\t\u00a8\n\t\f\t\16\t\u00ab\13\t\3"+
+		"\t\5\t\u00ae\n\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3"+
+		"\n\5\n\u00be\n\n\3\n\3\n\3\n\3\n\7\n\u00c4\n\n\f\n\16\n\u00c7\13\n\3\13"+
+		"\5\13\u00ca\n\13\3\13\3\13\3\f\3\f\7\f\u00d0\n\f\f\f\16\f\u00d3\13\f\3"+
+		"\f\3\f\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17\7\17\u00e3"+
+		"\n\17\f\17\16\17\u00e6\13\17\5\17\u00e8\n\17\3\17\3\17\3\20\3\20\3\20"+
+		"\3\20\7\20\u00f0\n\20\f\20\16\20\u00f3\13\20\5\20\u00f5\n\20\3\20\3\20"+
+		"\3\21\3\21\5\21\u00fb\n\21\3\22\3\22\3\22\3\22\3\23\3\23\3\23\5\23\u0104"+
+		"\n\23\3\23\5\23\u0107\n\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\7\24\u0110"+
+		"\n\24\f\24\16\24\u0113\13\24\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3"+
+		"\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\7\25\u012a"+
+		"\n\25\f\25\16\25\u012d\13\25\5\25\u012f\n\25\3\25\3\25\3\25\3\25\3\25"+
+		"\3\25\3\25\6\25\u0138\n\25\r\25\16\25\u0139\3\25\3\25\3\25\3\25\3\25\3"+
+		"\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\7\25\u014e"+
+		"\n\25\f\25\16\25\u0151\13\25\3\25\3\25\3\25\3\25\3\25\3\25\7\25\u0159"+
+		"\n\25\f\25\16\25\u015c\13\25\3\25\3\25\3\25\3\25\3\25\3\25\7\25\u0164"+
+		"\n\25\f\25\16\25\u0167\13\25\3\25\3\25\5\25\u016b\n\25\3\25\3\25\3\25"+
+		"\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25"+
+		"\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25"+
+		"\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\3\25\7\25\u0198"+
+		"\n\25\f\25\16\25\u019b\13\25\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3"+
+		"\26\3\26\7\26\u01a7\n\26\f\26\16\26\u01aa\13\26\3\26\2\5\22(*\27\2\4\6"+
+		"\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*\2\7\4\2\30\30;;\6\2\n\n\34\34"+
+		"))\65\65\4\2\32\32::\b\2\4\4\13\13\r\r\23\23&&//\3\2\61\62\u01dd\2\62"+
+		"\3\2\2\2\4\67\3\2\2\2\6=\3\2\2\2\bG\3\2\2\2\nn\3\2\2\2\f}\3\2\2\2\16\u0085"+
+		"\3\2\2\2\20\u00ad\3\2\2\2\22\u00bd\3\2\2\2\24\u00c9\3\2\2\2\26\u00cd\3"+
+		"\2\2\2\30\u00d6\3\2\2\2\32\u00da\3\2\2\2\34\u00de\3\2\2\2\36\u00eb\3\2"+
+		"\2\2 \u00f8\3\2\2\2\"\u00fc\3\2\2\2$\u0106\3\2\2\2&\u010c\3\2\2\2(\u016a"+
+		"\3\2\2\2*\u019c\3\2\2\2,\61\5\4\3\2-\61\5\6\4\2.\61\5\b\5\2/\61\5\n\6"+
+		"\2\60,\3\2\2\2\60-\3\2\2\2\60.\3\2\2\2\60/\3\2\2\2\61\64\3\2\2\2\62\60"+
+		"\3\2\2\2\62\63\3\2\2\2\63\65\3\2\2\2\64\62\3\2\2\2\65\66\7\2\2\3\66\3"+
+		"\3\2\2\2\678\7\22\2\289\7?\2\29:\7\4\2\2:;\5\20\t\2;<\7 \2\2<\5\3\2\2"+
+		"\2=>\7\t\2\2>A\7?\2\2?@\7,\2\2@B\5\22\n\2A?\3\2\2\2AB\3\2\2\2BC\3\2\2"+
+		"\2CD\7\4\2\2DE\5(\25\2EF\7 \2\2F\7\3\2\2\2GH\7\21\2\2HI\7?\2\2IK\7\6\2"+
+		"\2JL\5\f\7\2KJ\3\2\2\2KL\3\2\2\2LM\3\2\2\2MN\7\67\2\2NO\7\25\2\2OQ\7\6"+
+		"\2\2PR\5\f\7\2QP\3\2\2\2QR\3\2\2\2RS\3\2\2\2ST\7\67\2\2TV\7 \2\2UW\5\26"+
+		"\f\2VU\3\2\2\2VW\3\2\2\2W\\\3\2\2\2XY\7\b\2\2YZ\5\f\7\2Z[\7 \2\2[]\3\2"+
+		"\2\2\\X\3\2\2\2\\]\3\2\2\2]^\3\2\2\2^g\7\24\2\2_f\5$\23\2`f\5\32\16\2"+
+		"af\5\"\22\2bf\5 \21\2cf\5\34\17\2df\5\36\20\2e_\3\2\2\2e`\3\2\2\2ea\3"+
+		"\2\2\2eb\3\2\2\2ec\3\2\2\2ed\3\2\2\2fi\3\2\2\2ge\3\2\2\2gh\3\2\2\2hj\3"+
+		"\2\2\2ig\3\2\2\2jl\7\26\2\2km\7 \2\2lk\3\2\2\2lm\3\2\2\2m\t\3\2\2\2no"+
+		"\7\27\2\2op\5*\26\2pr\7\6\2\2qs\5\f\7\2rq\3\2\2\2rs\3\2\2\2st\3\2\2\2"+
+		"tu\7\67\2\2uv\7\25\2\2vx\7\6\2\2wy\5\f\7\2xw\3\2\2\2xy\3\2\2\2yz\3\2\2"+
+		"\2z{\7\67\2\2{|\7 \2\2|\13\3\2\2\2}\u0082\5\16\b\2~\177\7 \2\2\177\u0081"+
+		"\5\16\b\2\u0080~\3\2\2\2\u0081\u0084\3\2\2\2\u0082\u0080\3\2\2\2\u0082"+
+		"\u0083\3\2\2\2\u0083\r\3\2\2\2\u0084\u0082\3\2\2\2\u0085\u008a\5*\26\2"+
+		"\u0086\u0087\7\7\2\2\u0087\u0089\5*\26\2\u0088\u0086\3\2\2\2\u0089\u008c"+
+		"\3\2\2\2\u008a\u0088\3\2\2\2\u008a\u008b\3\2\2\2\u008b\u008d\3\2\2\2\u008c"+
+		"\u008a\3\2\2\2\u008d\u008e\7,\2\2\u008e\u008f\5\22\n\2\u008f\17\3\2\2"+
+		"\2\u0090\u00ae\5\22\n\2\u0091\u0092\7\33\2\2\u0092\u0093\7\3\2\2\u0093"+
+		"\u0094\7?\2\2\u0094\u0095\7,\2\2\u0095\u0096\5\22\n\2\u0096\u009d\3\2"+
+		"\2\2\u0097\u0098\7 \2\2\u0098\u0099\7?\2\2\u0099\u009a\7,\2\2\u009a\u009c"+
+		"\5\22\n\2\u009b\u0097\3\2\2\2\u009c\u009f\3\2\2\2\u009d\u009b\3\2\2\2"+
+		"\u009d\u009e\3\2\2\2\u009e\u00a0\3\2\2\2\u009f\u009d\3\2\2\2\u00a0\u00a1"+
+		"\7\"\2\2\u00a1\u00ae\3\2\2\2\u00a2\u00a3\7%\2\2\u00a3\u00a4\7\3\2\2\u00a4"+
+		"\u00a9\7?\2\2\u00a5\u00a6\7\7\2\2\u00a6\u00a8\7?\2\2\u00a7\u00a5\3\2\2"+
+		"\2\u00a8\u00ab\3\2\2\2\u00a9\u00a7\3\2\2\2\u00a9\u00aa\3\2\2\2\u00aa\u00ac"+
+		"\3\2\2\2\u00ab\u00a9\3\2\2\2\u00ac\u00ae\7\"\2\2\u00ad\u0090\3\2\2\2\u00ad"+
+		"\u0091\3\2\2\2\u00ad\u00a2\3\2\2\2\u00ae\21\3\2\2\2\u00af\u00b0\b\n\1"+
+		"\2\u00b0\u00be\7\5\2\2\u00b1\u00b2\7\63\2\2\u00b2\u00b3\7.\2\2\u00b3\u00b4"+
+		"\5\24\13\2\u00b4\u00b5\7\7\2\2\u00b5\u00b6\5\24\13\2\u00b6\u00b7\7\20"+
+		"\2\2\u00b7\u00b8\7\35\2\2\u00b8\u00b9\7\5\2\2\u00b9\u00be\3\2\2\2\u00ba"+
+		"\u00be\7\60\2\2\u00bb\u00be\7;\2\2\u00bc\u00be\7?\2\2\u00bd\u00af\3\2"+
+		"\2\2\u00bd\u00b1\3\2\2\2\u00bd\u00ba\3\2\2\2\u00bd\u00bb\3\2\2\2\u00bd"+
+		"\u00bc\3\2\2\2\u00be\u00c5\3\2\2\2\u00bf\u00c0\f\4\2\2\u00c0\u00c1\7."+
+		"\2\2\u00c1\u00c2\7>\2\2\u00c2\u00c4\7\20\2\2\u00c3\u00bf\3\2\2\2\u00c4"+
+		"\u00c7\3\2\2\2\u00c5\u00c3\3\2\2\2\u00c5\u00c6\3\2\2\2\u00c6\23\3\2\2"+
+		"\2\u00c7\u00c5\3\2\2\2\u00c8\u00ca\7:\2\2\u00c9\u00c8\3\2\2\2\u00c9\u00ca"+
+		"\3\2\2\2\u00ca\u00cb\3\2\2\2\u00cb\u00cc\7>\2\2\u00cc\25\3\2\2\2\u00cd"+
+		"\u00d1\7\36\2\2\u00ce\u00d0\5\30\r\2\u00cf\u00ce\3\2\2\2\u00d0\u00d3\3"+
+		"\2\2\2\u00d1\u00cf\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d4\3\2\2\2\u00d3"+
+		"\u00d1\3\2\2\2\u00d4\u00d5\7\f\2\2\u00d5\27\3\2\2\2\u00d6\u00d7\7?\2\2"+
+		"\u00d7\u00d8\5(\25\2\u00d8\u00d9\7 \2\2\u00d9\31\3\2\2\2\u00da\u00db\7"+
+		"!\2\2\u00db\u00dc\5*\26\2\u00dc\u00dd\7 \2\2\u00dd\33\3\2\2\2\u00de\u00e7"+
+		"\7\37\2\2\u00df\u00e4\7?\2\2\u00e0\u00e1\7\7\2\2\u00e1\u00e3\7?\2\2\u00e2"+
+		"\u00e0\3\2\2\2\u00e3\u00e6\3\2\2\2\u00e4\u00e2\3\2\2\2\u00e4\u00e5\3\2"+
+		"\2\2\u00e5\u00e8\3\2\2\2\u00e6\u00e4\3\2\2\2\u00e7\u00df\3\2\2\2\u00e7"+
+		"\u00e8\3\2\2\2\u00e8\u00e9\3\2\2\2\u00e9\u00ea\7 \2\2\u00ea\35\3\2\2\2"+
+		"\u00eb\u00f4\7-\2\2\u00ec\u00f1\5*\26\2\u00ed\u00ee\7\7\2\2\u00ee\u00f0"+
+		"\5*\26\2\u00ef\u00ed\3\2\2\2\u00f0\u00f3\3\2\2\2\u00f1\u00ef\3\2\2\2\u00f1"+
+		"\u00f2\3\2\2\2\u00f2\u00f5\3\2\2\2\u00f3\u00f1\3\2\2\2\u00f4\u00ec\3\2"+
+		"\2\2\u00f4\u00f5\3\2\2\2\u00f5\u00f6\3\2\2\2\u00f6\u00f7\7 \2\2\u00f7"+
+		"\37\3\2\2\2\u00f8\u00fa\7\'\2\2\u00f9\u00fb\7 \2\2\u00fa\u00f9\3\2\2\2"+
+		"\u00fa\u00fb\3\2\2\2\u00fb!\3\2\2\2\u00fc\u00fd\7\17\2\2\u00fd\u00fe\5"+
+		"(\25\2\u00fe\u00ff\7 \2\2\u00ff#\3\2\2\2\u0100\u0107\5&\24\2\u0101\u0103"+
+		"\7\6\2\2\u0102\u0104\5&\24\2\u0103\u0102\3\2\2\2\u0103\u0104\3\2\2\2\u0104"+
+		"\u0105\3\2\2\2\u0105\u0107\7\67\2\2\u0106\u0100\3\2\2\2\u0106\u0101\3"+
+		"\2\2\2\u0107\u0108\3\2\2\2\u0108\u0109\7\4\2\2\u0109\u010a\5(\25\2\u010a"+
+		"\u010b\7 \2\2\u010b%\3\2\2\2\u010c\u0111\5*\26\2\u010d\u010e\7\7\2\2\u010e"+
+		"\u0110\5*\26\2\u010f\u010d\3\2\2\2\u0110\u0113\3\2\2\2\u0111\u010f\3\2"+
+		"\2\2\u0111\u0112\3\2\2\2\u0112\'\3\2\2\2\u0113\u0111\3\2\2\2\u0114\u0115"+
+		"\b\25\1\2\u0115\u0116\7\16\2\2\u0116\u016b\5(\25\20\u0117\u0118\79\2\2"+
+		"\u0118\u016b\5(\25\17\u0119\u011a\7:\2\2\u011a\u016b\5(\25\16\u011b\u016b"+
+		"\7?\2\2\u011c\u016b\7>\2\2\u011d\u016b\7<\2\2\u011e\u016b\7=\2\2\u011f"+
+		"\u0120\t\2\2\2\u0120\u0121\7\6\2\2\u0121\u0122\5(\25\2\u0122\u0123\7\67"+
+		"\2\2\u0123\u016b\3\2\2\2\u0124\u0125\5*\26\2\u0125\u012e\7\6\2\2\u0126"+
+		"\u012b\5(\25\2\u0127\u0128\7\7\2\2\u0128\u012a\5(\25\2\u0129\u0127\3\2"+
+		"\2\2\u012a\u012d\3\2\2\2\u012b\u0129\3\2\2\2\u012b\u012c\3\2\2\2\u012c"+
+		"\u012f\3\2\2\2\u012d\u012b\3\2\2\2\u012e\u0126\3\2\2\2\u012e\u012f\3\2"+
+		"\2\2\u012f\u0130\3\2\2\2\u0130\u0131\7\67\2\2\u0131\u016b\3\2\2\2\u0132"+
+		"\u0133\7(\2\2\u0133\u0134\7\6\2\2\u0134\u0137\5(\25\2\u0135\u0136\7\7"+
+		"\2\2\u0136\u0138\5(\25\2\u0137\u0135\3\2\2\2\u0138\u0139\3\2\2\2\u0139"+
+		"\u0137\3\2\2\2\u0139\u013a\3\2\2\2\u013a\u013b\3\2\2\2\u013b\u013c\7\67"+
+		"\2\2\u013c\u016b\3\2\2\2\u013d\u013e\7#\2\2\u013e\u013f\5(\25\2\u013f"+
+		"\u0140\7\31\2\2\u0140\u0141\5(\25\2\u0141\u0142\7\66\2\2\u0142\u0143\5"+
+		"(\25\2\u0143\u016b\3\2\2\2\u0144\u0145\7?\2\2\u0145\u0146\7\3\2\2\u0146"+
+		"\u0147\7?\2\2\u0147\u0148\7\4\2\2\u0148\u014f\5(\25\2\u0149\u014a\7 \2"+
+		"\2\u014a\u014b\7?\2\2\u014b\u014c\7\4\2\2\u014c\u014e\5(\25\2\u014d\u0149"+
+		"\3\2\2\2\u014e\u0151\3\2\2\2\u014f\u014d\3\2\2\2\u014f\u0150\3\2\2\2\u0150"+
+		"\u0152\3\2\2\2\u0151\u014f\3\2\2\2\u0152\u0153\7\"\2\2\u0153\u016b\3\2"+
+		"\2\2\u0154\u0155\7.\2\2\u0155\u015a\5(\25\2\u0156\u0157\7\7\2\2\u0157"+
+		"\u0159\5(\25\2\u0158\u0156\3\2\2\2\u0159\u015c\3\2\2\2\u015a\u0158\3\2"+
+		"\2\2\u015a\u015b\3\2\2\2\u015b\u015d\3\2\2\2\u015c\u015a\3\2\2\2\u015d"+
+		"\u015e\7\20\2\2\u015e\u016b\3\2\2\2\u015f\u0160\7\6\2\2\u0160\u0165\5"+
+		"(\25\2\u0161\u0162\7\7\2\2\u0162\u0164\5(\25\2\u0163\u0161\3\2\2\2\u0164"+
+		"\u0167\3\2\2\2\u0165\u0163\3\2\2\2\u0165\u0166\3\2\2\2\u0166\u0168\3\2"+
+		"\2\2\u0167\u0165\3\2\2\2\u0168\u0169\7\67\2\2\u0169\u016b\3\2\2\2\u016a"+
+		"\u0114\3\2\2\2\u016a\u0117\3\2\2\2\u016a\u0119\3\2\2\2\u016a\u011b\3\2"+
+		"\2\2\u016a\u011c\3\2\2\2\u016a\u011d\3\2\2\2\u016a\u011e\3\2\2\2\u016a"+
+		"\u011f\3\2\2\2\u016a\u0124\3\2\2\2\u016a\u0132\3\2\2\2\u016a\u013d\3\2"+
+		"\2\2\u016a\u0144\3\2\2\2\u016a\u0154\3\2\2\2\u016a\u015f\3\2\2\2\u016b"+
+		"\u0199\3\2\2\2\u016c\u016d\f\r\2\2\u016d\u016e\t\3\2\2\u016e\u0198\5("+
+		"\25\16\u016f\u0170\f\f\2\2\u0170\u0171\t\4\2\2\u0171\u0198\5(\25\r\u0172"+
+		"\u0173\f\13\2\2\u0173\u0174\t\5\2\2\u0174\u0198\5(\25\f\u0175\u0176\f"+
+		"\n\2\2\u0176\u0177\78\2\2\u0177\u0198\5(\25\13\u0178\u0179\f\t\2\2\u0179"+
+		"\u017a\t\6\2\2\u017a\u0198\5(\25\n\u017b\u017c\f\b\2\2\u017c\u017d\7\64"+
+		"\2\2\u017d\u0198\5(\25\b\u017e\u017f\f\7\2\2\u017f\u0180\7+\2\2\u0180"+
+		"\u0198\5(\25\7\u0181\u0182\f\24\2\2\u0182\u0183\7*\2\2\u0183\u0198\7?"+
+		"\2\2\u0184\u0185\f\23\2\2\u0185\u0186\7\3\2\2\u0186\u0187\7?\2\2\u0187"+
+		"\u0188\7$\2\2\u0188\u0189\5(\25\2\u0189\u018a\7\"\2\2\u018a\u0198\3\2"+
+		"\2\2\u018b\u018c\f\22\2\2\u018c\u018d\7.\2\2\u018d\u018e\5(\25\2\u018e"+
+		"\u018f\7\20\2\2\u018f\u0198\3\2\2\2\u0190\u0191\f\21\2\2\u0191\u0192\7"+
+		".\2\2\u0192\u0193\5(\25\2\u0193\u0194\7$\2\2\u0194\u0195\5(\25\2\u0195"+
+		"\u0196\7\20\2\2\u0196\u0198\3\2\2\2\u0197\u016c\3\2\2\2\u0197\u016f\3"+
+		"\2\2\2\u0197\u0172\3\2\2\2\u0197\u0175\3\2\2\2\u0197\u0178\3\2\2\2\u0197"+
+		"\u017b\3\2\2\2\u0197\u017e\3\2\2\2\u0197\u0181\3\2\2\2\u0197\u0184\3\2"+
+		"\2\2\u0197\u018b\3\2\2\2\u0197\u0190\3\2\2\2\u0198\u019b\3\2\2\2\u0199"+
+		"\u0197\3\2\2\2\u0199\u019a\3\2\2\2\u019a)\3\2\2\2\u019b\u0199\3\2\2\2"+
+		"\u019c\u019d\b\26\1\2\u019d\u019e\7?\2\2\u019e\u01a8\3\2\2\2\u019f\u01a0"+
+		"\f\4\2\2\u01a0\u01a1\7.\2\2\u01a1\u01a2\7>\2\2\u01a2\u01a7\7\20\2\2\u01a3"+
+		"\u01a4\f\3\2\2\u01a4\u01a5\7*\2\2\u01a5\u01a7\7?\2\2\u01a6\u019f\3\2\2"+
+		"\2\u01a6\u01a3\3\2\2\2\u01a7\u01aa\3\2\2\2\u01a8\u01a6\3\2\2\2\u01a8\u01a9"+
+		"\3\2\2\2\u01a9+\3\2\2\2\u01aa\u01a8\3\2\2\2*\60\62AKQV\\eglrx\u0082\u008a"+
+		"\u009d\u00a9\u00ad\u00bd\u00c5\u00c9\u00d1\u00e4\u00e7\u00f1\u00f4\u00fa"+
+		"\u0103\u0106\u0111\u012b\u012e\u0139\u014f\u015a\u0165\u016a\u0197\u0199"+
+		"\u01a6\u01a8";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
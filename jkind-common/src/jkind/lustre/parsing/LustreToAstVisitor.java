@@ -65,6 +65,8 @@ import jkind.lustre.parsing.LustreParser.CallExprContext;
 import jkind.lustre.parsing.LustreParser.CastExprContext;
 import jkind.lustre.parsing.LustreParser.CondactExprContext;
 import jkind.lustre.parsing.LustreParser.ConstantContext;
+import jkind.lustre.parsing.LustreParser.ContractContext;
+import jkind.lustre.parsing.LustreParser.ContractItemContext;
 import jkind.lustre.parsing.LustreParser.EIDContext;
 import jkind.lustre.parsing.LustreParser.EnumTypeContext;
 import jkind.lustre.parsing.LustreParser.EquationContext;
@@ -159,7 +161,7 @@ public class LustreToAstVisitor extends LustreBaseVisitor<Object> {
 		List<Expr> assertions = assertions(ctx.assertion());
 		List<String> ivc = ivc(ctx.ivc());
 		List<String> realizabilityInputs = realizabilityInputs(ctx.realizabilityInputs());
-		Contract contract = null;
+		Contract contract = contract(ctx.contract());
 		if (!ctx.main().isEmpty()) {
 			if (main == null) {
 				main = id;
@@ -230,6 +232,26 @@ public class LustreToAstVisitor extends LustreBaseVisitor<Object> {
 		return assertions;
 	}
 
+	private Contract contract(ContractContext ctx) {
+		if (ctx == null) {
+			return null;
+		}
+
+		List<Expr> requires = new ArrayList<>();
+		List<Expr> ensures = new ArrayList<>();
+		for (ContractItemContext ictx : ctx.contractItem()) {
+			String keyword = ictx.ID().getText();
+			if (keyword.equals("assume")) {
+				requires.add(expr(ictx.expr()));
+			} else if (keyword.equals("guarantee")) {
+				ensures.add(expr(ictx.expr()));
+			} else {
+				fatal(ictx, "expected 'assume' or 'guarantee' in contract, but found '" + keyword + "'");
+			}
+		}
+		return new Contract(loc(ctx), requires, ensures);
+	}
+
 	private List<String> realizabilityInputs(List<RealizabilityInputsContext> ctxs) {
 		if (ctxs.size() > 1) {
 			fatal(ctxs.get(1), "at most one realizability statement allowed");
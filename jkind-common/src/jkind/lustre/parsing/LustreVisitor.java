@@ -164,6 +164,12 @@ public interface LustreVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitCallExpr(@NotNull LustreParser.CallExprContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LustreParser#contractItem}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitContractItem(@NotNull LustreParser.ContractItemContext ctx);
 	/**
 	 * Visit a parse tree produced by the {@code recordExpr}
 	 * labeled alternative in {@link LustreParser#expr}.
@@ -212,6 +218,12 @@ public interface LustreVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitBound(@NotNull LustreParser.BoundContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link LustreParser#contract}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitContract(@NotNull LustreParser.ContractContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link LustreParser#equation}.
 	 * @param ctx the parse tree
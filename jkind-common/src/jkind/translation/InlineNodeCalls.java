@@ -2,18 +2,26 @@ package jkind.translation;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 
+import jkind.lustre.Contract;
 import jkind.lustre.Equation;
 import jkind.lustre.Expr;
 import jkind.lustre.IdExpr;
+import jkind.lustre.LustreUtil;
+import jkind.lustre.NamedType;
 import jkind.lustre.Node;
 import jkind.lustre.NodeCallExpr;
 import jkind.lustre.Program;
 import jkind.lustre.TupleExpr;
+import jkind.lustre.Type;
 import jkind.lustre.VarDecl;
 import jkind.lustre.builders.NodeBuilder;
 import jkind.lustre.builders.ProgramBuilder;
@@ -24,33 +32,65 @@ import jkind.util.Util;
  * Inline node calls by introducing additional local variables. Assertions
  * within called nodes are ignored. Properties within called nodes are lifted to
  * properties in the main node.
+ * 
+ * Optionally, calls to nodes with contracts are abstracted by the contract
+ * instead of inlined. The outputs of such a call become inputs of the main
+ * node, constrained by the guarantees of the called node whenever its
+ * assumptions have held so far. The assumptions become properties at each call
+ * site. The body of each abstracted node is inlined once on its own, with
+ * fresh inputs, to prove its guarantees under its assumptions. Since the
+ * outputs of abstracted calls are only constrained by the contract, a
+ * counterexample which depends on them may not be a behavior of the program.
  */
 public class InlineNodeCalls extends ExprMapVisitor {
 	public static Program program(Program program) {
-		InlineNodeCalls inliner = new InlineNodeCalls(Util.getNodeTable(program.nodes));
+		return program(program, false);
+	}
+
+	public static Program program(Program program, boolean contracts) {
+		return program(program, contracts, new ArrayList<>());
+	}
+
+	/**
+	 * The ids of the outputs of abstracted calls are added to abstractions
+	 */
+	public static Program program(Program program, boolean contracts, List<String> abstractions) {
+		InlineNodeCalls inliner = new InlineNodeCalls(Util.getNodeTable(program.nodes), contracts);
 		Node main = program.getMainNode();
 
 		NodeBuilder builder = new NodeBuilder(main);
 		builder.clearAssertions().addAssertions(inliner.visitExprs(main.assertions));
 		builder.clearEquations().addEquations(inliner.visitEquationsQueue(main.equations));
+		if (contracts) {
+			builder.addEquations(inliner.checkContracts(main));
+		}
+		builder.addInputs(inliner.newInputs);
 		builder.addLocals(inliner.newLocals);
+		builder.addAssertions(inliner.newAssertions);
 		builder.addProperties(inliner.newProperties);
 		builder.addIvcs(inliner.newIvc);
+		abstractions.addAll(inliner.abstractions);
 
 		Node inlinedMain = builder.build();
 		return new ProgramBuilder(program).clearNodes().addNode(inlinedMain).build();
 	}
 
 	private final Map<String, Node> nodeTable;
+	private final boolean contracts;
+	private final List<VarDecl> newInputs = new ArrayList<>();
 	private final List<VarDecl> newLocals = new ArrayList<>();
+	private final List<Expr> newAssertions = new ArrayList<>();
 	private final List<String> newProperties = new ArrayList<>();
 	private final List<String> newIvc = new ArrayList<>();
 	private final Map<String, Integer> usedPrefixes = new HashMap<>();
 	private final Queue<Equation> queue = new ArrayDeque<>();
-	private final Map<String, Expr> inlinedCalls = new HashMap<>();
+	private final Map<NodeCallExpr, Expr> inlinedCalls = new HashMap<>();
+	private final Set<String> abstractedNodes = new LinkedHashSet<>();
+	private final List<String> abstractions = new ArrayList<>();
 
-	private InlineNodeCalls(Map<String, Node> nodeTable) {
+	private InlineNodeCalls(Map<String, Node> nodeTable, boolean contracts) {
 		this.nodeTable = nodeTable;
+		this.contracts = contracts;
 	}
 
 	public List<Equation> visitEquationsQueue(List<Equation> equations) {
@@ -72,8 +112,8 @@ public class InlineNodeCalls extends ExprMapVisitor {
 		});
 	}
 
-	private String getKey(NodeCallExpr e) {
-		return new NodeCallExpr(getOriginalName(e), e.args).toString();
+	private NodeCallExpr getKey(NodeCallExpr e) {
+		return new NodeCallExpr(getOriginalName(e), e.args);
 	}
 
 	private String getOriginalName(NodeCallExpr e) {
@@ -83,6 +123,9 @@ public class InlineNodeCalls extends ExprMapVisitor {
 	public List<IdExpr> visitNodeCallExpr(NodeCallExpr e) {
 		String prefix = newPrefix(e.node);
 		Node node = nodeTable.get(getOriginalName(e));
+		if (contracts && node.contract != null) {
+			return abstractNodeCallExpr(prefix, node, e.args);
+		}
 
 		Map<String, IdExpr> translation = getTranslation(prefix, node);
 
@@ -98,6 +141,135 @@ public class InlineNodeCalls extends ExprMapVisitor {
 		return result;
 	}
 
+	private List<IdExpr> abstractNodeCallExpr(String prefix, Node node, List<Expr> args) {
+		abstractedNodes.add(node.id);
+
+		Map<String, IdExpr> translation = new HashMap<>();
+		for (VarDecl decl : node.inputs) {
+			translation.put(decl.id, createVariable(newLocals, prefix + decl.id, decl.type));
+		}
+		for (VarDecl decl : node.outputs) {
+			IdExpr output = createVariable(newInputs, prefix + decl.id, decl.type);
+			translation.put(decl.id, output);
+			abstractions.add(output.id);
+		}
+		createInputEquations(node.inputs, args, translation);
+
+		Contract contract = (Contract) node.contract.accept(new SubstitutionVisitor(translation));
+		Expr guarantee = LustreUtil.and(contract.ensures);
+		if (contract.requires.isEmpty()) {
+			newAssertions.add(guarantee);
+		} else {
+			IdExpr requires = createVariable(newLocals, prefix + "~requires", NamedType.BOOL);
+			queue.add(new Equation(requires, LustreUtil.and(contract.requires)));
+			newProperties.add(requires.id);
+			newAssertions.add(LustreUtil.implies(historically(prefix, requires), guarantee));
+		}
+
+		List<IdExpr> result = new ArrayList<>();
+		for (VarDecl decl : node.outputs) {
+			result.add(translation.get(decl.id));
+		}
+		return result;
+	}
+
+	/**
+	 * Create obligations for the guarantees of the main node and of all
+	 * abstracted nodes. Each abstracted node is inlined once with fresh inputs,
+	 * and its own properties only need to hold while its assumptions have held.
+	 */
+	private List<Equation> checkContracts(Node main) {
+		if (main.contract != null) {
+			Map<String, IdExpr> translation = new HashMap<>();
+			for (VarDecl decl : Util.getVarDecls(main)) {
+				translation.put(decl.id, new IdExpr(decl.id));
+			}
+			checkGuarantees("", main.contract, translation);
+		}
+
+		// Checking a node may abstract further nodes
+		Set<String> checked = new HashSet<>();
+		List<Equation> result = new ArrayList<>();
+		do {
+			for (String id : new ArrayList<>(abstractedNodes)) {
+				if (checked.add(id)) {
+					checkNode(nodeTable.get(id));
+				}
+			}
+			result.addAll(visitEquationsQueue(Collections.emptyList()));
+		} while (!checked.containsAll(abstractedNodes));
+		return result;
+	}
+
+	private void checkNode(Node node) {
+		String prefix = newPrefix(node.id);
+
+		Map<String, IdExpr> translation = new HashMap<>();
+		for (VarDecl decl : node.inputs) {
+			translation.put(decl.id, createVariable(newInputs, prefix + decl.id, decl.type));
+		}
+		for (VarDecl decl : node.outputs) {
+			translation.put(decl.id, createVariable(newLocals, prefix + decl.id, decl.type));
+		}
+		for (VarDecl decl : node.locals) {
+			translation.put(decl.id, createVariable(newLocals, prefix + decl.id, decl.type));
+		}
+
+		Contract contract = (Contract) node.contract.accept(new SubstitutionVisitor(translation));
+		IdExpr assumed = checkGuarantees(prefix, contract, translation);
+
+		if (assumed != null) {
+			// Properties keep their names, but are only required under the
+			// assumptions of the node
+			for (String property : node.properties) {
+				if (Util.getIds(node.inputs).contains(property)) {
+					continue;
+				}
+				IdExpr id = translation.get(property);
+				IdExpr unguarded = createVariable(newLocals, prefix + "~" + property, NamedType.BOOL);
+				translation.put(property, unguarded);
+				queue.add(new Equation(id, LustreUtil.implies(assumed, unguarded)));
+			}
+		}
+
+		createAssignmentEquations(prefix, node.equations, translation);
+		for (String property : node.properties) {
+			newProperties.add(prefix + property);
+		}
+		accumulateIvcElements(node.ivc, translation);
+	}
+
+	/**
+	 * Add a property for each guarantee, required while the assumptions have
+	 * held. Returns the history of the assumptions, or null if there are none.
+	 */
+	private IdExpr checkGuarantees(String prefix, Contract contract, Map<String, IdExpr> translation) {
+		IdExpr assumed = null;
+		if (!contract.requires.isEmpty()) {
+			assumed = historically(prefix, LustreUtil.and(contract.requires));
+		}
+
+		for (int i = 0; i < contract.ensures.size(); i++) {
+			IdExpr guarantee = createVariable(newLocals, prefix + "~guarantee" + i, NamedType.BOOL);
+			Expr expr = contract.ensures.get(i);
+			queue.add(new Equation(guarantee, assumed == null ? expr : LustreUtil.implies(assumed, expr)));
+			newProperties.add(guarantee.id);
+		}
+		return assumed;
+	}
+
+	private IdExpr historically(String prefix, Expr expr) {
+		IdExpr assumed = createVariable(newLocals, prefix + "~assumed", NamedType.BOOL);
+		Expr history = LustreUtil.arrow(expr, LustreUtil.and(LustreUtil.pre(assumed), expr));
+		queue.add(new Equation(assumed, history));
+		return assumed;
+	}
+
+	private IdExpr createVariable(List<VarDecl> decls, String id, Type type) {
+		decls.add(new VarDecl(id, type));
+		return new IdExpr(id);
+	}
+
 	private Map<String, IdExpr> getTranslation(String prefix, Node node) {
 		Map<String, IdExpr> translation = new HashMap<>();
 		for (VarDecl decl : Util.getVarDecls(node)) {
@@ -1,6 +1,7 @@
 package jkind.util;
 
 import java.math.BigInteger;
+import java.util.Collections;
 
 import jkind.lustre.ArrayType;
 import jkind.lustre.EnumType;
@@ -8,6 +9,7 @@ import jkind.lustre.NamedType;
 import jkind.lustre.RecordType;
 import jkind.lustre.SubrangeIntType;
 import jkind.lustre.TupleType;
+import jkind.lustre.values.ArrayValue;
 import jkind.lustre.values.BooleanValue;
 import jkind.lustre.values.IntegerValue;
 import jkind.lustre.values.RealValue;
@@ -17,7 +19,7 @@ import jkind.lustre.visitors.TypeVisitor;
 public class DefaultValueVisitor implements TypeVisitor<Value> {
 	@Override
 	public Value visit(ArrayType e) {
-		throw new IllegalArgumentException();
+		return new ArrayValue(Collections.nCopies(e.size, e.base.accept(this)));
 	}
 
 	@Override
@@ -1,15 +1,24 @@
 package jkind;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import jkind.analysis.BitVectorWidth;
 import jkind.analysis.LinearChecker;
 import jkind.analysis.StaticAnalyzer;
 import jkind.engines.Director;
 import jkind.engines.SolverUtil;
+import jkind.engines.invariant.StateVariableReduction;
+import jkind.lustre.ExprFactory;
 import jkind.lustre.Node;
 import jkind.lustre.Program;
 import jkind.lustre.builders.ProgramBuilder;
 import jkind.translation.InlineSimpleEquations;
+import jkind.translation.PassManager;
 import jkind.translation.Specification;
+import jkind.translation.SweepEquations;
 import jkind.translation.Translate;
+import jkind.util.ContractAbstraction;
 
 public class JKind {
 	public static void main(String[] args) {
@@ -18,7 +27,9 @@ public class JKind {
 			Program program = Main.parseLustre(settings.filename);
 			program = setMainNode(program, settings.main);
 
-			StaticAnalyzer.check(program, settings.solver, settings);
+			PassManager passes = new PassManager(settings.passTiming);
+			Program parsed = program;
+			passes.time("StaticAnalyzer", () -> StaticAnalyzer.check(parsed, settings.solver, settings));
 			if (!LinearChecker.isLinear(program)) {
 				if (settings.pdrMax > 0) {
 					StdErr.warning("PDR not available for some properties due to non-linearities");
@@ -27,11 +38,32 @@ public class JKind {
 
 			ensureSolverAvailable(settings.solver);
 
-			program = Translate.translate(program);
-			Specification userSpec = new Specification(program, settings.slicing);
-			Specification analysisSpec = getAnalysisSpec(userSpec, settings);
+			List<String> abstractions = new ArrayList<>();
+			program = Translate.translate(program, settings.smtArrays, settings.compositional, abstractions, passes);
+			program = passes.run("ShareExprs", program, new ExprFactory()::share);
+			program = passes.run("SweepEquations", program, settings.inlining, SweepEquations::program);
+			program = passes.run("StateVariableReduction", program, settings.inlining && settings.reduceState,
+					p -> StateVariableReduction.program(p, settings));
+			Program translated = program;
+			Specification userSpec = passes.time("Specification", () -> new Specification(translated,
+					settings.slicing));
+			Specification analysisSpec = passes.time("InlineSimpleEquations", () -> getAnalysisSpec(userSpec,
+					settings));
+			ContractAbstraction abstraction = null;
+			if (!abstractions.isEmpty()) {
+				Specification concreteSpec = passes.time("ConcreteSpecification", () -> new Specification(
+						Translate.translate(parsed, settings.smtArrays), settings.slicing));
+				abstraction = new ContractAbstraction(userSpec, concreteSpec, abstractions);
+			}
+
+			if (settings.passTiming) {
+				StdErr.println(passes.toString());
+			}
+			if (settings.bitVectors && BitVectorWidth.get(analysisSpec.node) == 0) {
+				StdErr.warning("bit-vector encoding not available due to unbounded integers, using integer encoding");
+			}
 
-			int exitCode = new Director(settings, userSpec, analysisSpec).run();
+			int exitCode = new Director(settings, userSpec, analysisSpec, abstraction).run();
 			System.exit(exitCode); // Kills all threads
 		} catch (Throwable t) {
 			t.printStackTrace();
@@ -11,19 +11,31 @@ import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Options;
 
 public class JKindArgumentParser extends ArgumentParser {
+	private static final String ALL_IVCS = "all_ivcs";
+	private static final String BIT_VECTORS = "bit_vectors";
+	private static final String COMPOSITIONAL = "compositional";
 	private static final String EXCEL = "excel";
+	private static final String HOUDINI = "houdini";
 	private static final String INDUCT_CEX = "induct_cex";
+	private static final String INTERVAL_ANALYSIS = "interval_analysis";
+	private static final String ITP = "itp";
 	private static final String IVC = "ivc";
+	private static final String IVC_WORKERS = "ivc_workers";
 	private static final String MAIN = "main";
 	private static final String N = "n";
 	private static final String NO_BMC = "no_bmc";
 	private static final String NO_INV_GEN = "no_inv_gen";
 	private static final String NO_K_INDUCTION = "no_k_induction";
 	private static final String NO_SLICING = "no_slicing";
+	private static final String PASS_TIMING = "pass_timing";
 	private static final String PDR_MAX = "pdr_max";
+	private static final String PDR_MULTI = "pdr_multi";
+	private static final String PDR_WORKERS = "pdr_workers";
 	private static final String READ_ADVICE = "read_advice";
+	private static final String REDUCE_STATE = "reduce_state";
 	private static final String SCRATCH = "scratch";
 	private static final String SMOOTH = "smooth";
+	private static final String SMT_ARRAYS = "smt_arrays";
 	private static final String SOLVER = "solver";
 	private static final String TIMEOUT = "timeout";
 	private static final String WRITE_ADVICE = "write_advice";
@@ -44,20 +56,34 @@ public class JKindArgumentParser extends ArgumentParser {
 	@Override
 	protected Options getOptions() {
 		Options options = super.getOptions();
+		options.addOption(ALL_IVCS, false, "find all minimal inductive validity cores for valid properties (implies -ivc)");
+		options.addOption(BIT_VECTORS, false, "encode bounded integers as bit-vectors (Z3 and CVC4 only)");
+		options.addOption(COMPOSITIONAL, false,
+				"abstract calls to nodes with contracts by their contracts and verify each such node once");
 		options.addOption(EXCEL, false, "generate results in Excel format");
+		options.addOption(HOUDINI, true,
+				"number of parallel solvers for Houdini invariant inference (default: 0, disabled)");
 		options.addOption(INDUCT_CEX, false, "generate inductive counterexamples");
+		options.addOption(INTERVAL_ANALYSIS, false, "enable interval analysis of integer variables");
+		options.addOption(ITP, false, "enable interpolation-based model checking");
 		options.addOption(IVC, false,
 				"find an inductive validity core for valid properties (based on --%IVC annotated elements)");
+		options.addOption(IVC_WORKERS, true, "number of parallel solvers for IVC reduction and enumeration (default: 1)");
 		options.addOption(MAIN, true, "specify main node (overrides --%MAIN)");
 		options.addOption(N, true, "maximum depth for bmc and k-induction (default: unbounded)");
 		options.addOption(NO_BMC, false, "disable bounded model checking");
 		options.addOption(NO_INV_GEN, false, "disable invariant generation");
 		options.addOption(NO_K_INDUCTION, false, "disable k-induction");
 		options.addOption(NO_SLICING, false, "disable slicing");
+		options.addOption(PASS_TIMING, false, "print the runtime and AST size of each translation pass");
 		options.addOption(PDR_MAX, true, "maximum number of PDR parallel instances (0 to disable PDR)");
+		options.addOption(PDR_MULTI, false, "check properties with overlapping cones together in one PDR instance");
+		options.addOption(PDR_WORKERS, true, "number of solvers used by each PDR instance to propagate blocked cubes");
 		options.addOption(READ_ADVICE, true, "read advice from specified file");
+		options.addOption(REDUCE_STATE, false, "merge state variables proven equivalent or constant by induction");
 		options.addOption(SCRATCH, false, "produce files for debugging purposes");
 		options.addOption(SMOOTH, false, "smooth counterexamples (minimal changes in input values)");
+		options.addOption(SMT_ARRAYS, false, "encode arrays with the SMT theory of arrays instead of flattening them");
 		options.addOption(SOLVER, true,
 				"SMT solver (default: smtinterpol, alternatives: z3, yices, yices2, cvc4, mathsat)");
 		options.addOption(TIMEOUT, true, "maximum runtime in seconds (default: unbounded)");
@@ -88,18 +114,47 @@ public class JKindArgumentParser extends ArgumentParser {
 		ensureExclusive(line, EXCEL, XML_TO_STDOUT);
 		ensureExclusive(line, XML, XML_TO_STDOUT);
 
+		if (line.hasOption(ALL_IVCS)) {
+			settings.allIvcs = true;
+			settings.reduceIvc = true;
+		}
+
+		if (line.hasOption(BIT_VECTORS)) {
+			settings.bitVectors = true;
+		}
+
+		if (line.hasOption(COMPOSITIONAL)) {
+			settings.compositional = true;
+		}
+
 		if (line.hasOption(EXCEL)) {
 			settings.excel = true;
 		}
 
+		if (line.hasOption(HOUDINI)) {
+			settings.houdini = parseNonnegativeInt(line.getOptionValue(HOUDINI));
+		}
+
 		if (line.hasOption(INDUCT_CEX)) {
 			settings.inductiveCounterexamples = true;
 		}
 
+		if (line.hasOption(INTERVAL_ANALYSIS)) {
+			settings.intervalAnalysis = true;
+		}
+
+		if (line.hasOption(ITP)) {
+			settings.interpolation = true;
+		}
+
 		if (line.hasOption(IVC)) {
 			settings.reduceIvc = true;
 		}
 
+		if (line.hasOption(IVC_WORKERS)) {
+			settings.ivcWorkers = parseNonnegativeInt(line.getOptionValue(IVC_WORKERS));
+		}
+
 		if (line.hasOption(MAIN)) {
 			settings.main = line.getOptionValue(MAIN);
 		}
@@ -130,6 +185,10 @@ public class JKindArgumentParser extends ArgumentParser {
 			settings.n = parseNonnegativeInt(line.getOptionValue(N));
 		}
 
+		if (line.hasOption(PASS_TIMING)) {
+			settings.passTiming = true;
+		}
+
 		if (line.hasOption(PDR_MAX)) {
 			settings.pdrMax = parseNonnegativeInt(line.getOptionValue(PDR_MAX));
 		} else {
@@ -138,10 +197,22 @@ public class JKindArgumentParser extends ArgumentParser {
 			settings.pdrMax = Math.max(1, heuristic);
 		}
 
+		if (line.hasOption(PDR_MULTI)) {
+			settings.pdrMultiProperty = true;
+		}
+
+		if (line.hasOption(PDR_WORKERS)) {
+			settings.pdrWorkers = parseNonnegativeInt(line.getOptionValue(PDR_WORKERS));
+		}
+
 		if (line.hasOption(READ_ADVICE)) {
 			settings.readAdvice = line.getOptionValue(READ_ADVICE);
 		}
 
+		if (line.hasOption(REDUCE_STATE)) {
+			settings.reduceState = true;
+		}
+
 		if (line.hasOption(TIMEOUT)) {
 			settings.timeout = parseNonnegativeInt(line.getOptionValue(TIMEOUT));
 		}
@@ -154,6 +225,10 @@ public class JKindArgumentParser extends ArgumentParser {
 			settings.smoothCounterexamples = true;
 		}
 
+		if (line.hasOption(SMT_ARRAYS)) {
+			settings.smtArrays = true;
+		}
+
 		if (line.hasOption(SOLVER)) {
 			settings.solver = getSolverOption(line.getOptionValue(SOLVER));
 		}
@@ -193,14 +268,29 @@ public class JKindArgumentParser extends ArgumentParser {
 			}
 		}
 
-		if (settings.smoothCounterexamples) {
-			if (settings.solver != SolverOption.YICES && settings.solver != SolverOption.Z3) {
-				StdErr.fatal(ExitCodes.INVALID_OPTIONS, "smoothing not supported with " + settings.solver);
-			}
+		if (settings.reduceState && settings.reduceIvc) {
+			/**
+			 * Equivalences proven from the equations of IVC variables do not
+			 * hold once IVC reduction removes those equations
+			 */
+			StdErr.warning("state variable reduction not available with IVC reduction");
+			settings.reduceState = false;
+		}
+
+		if (settings.allIvcs && settings.excel) {
+			StdErr.fatal(ExitCodes.INVALID_OPTIONS, "all IVCs cannot be written to Excel, use -xml instead");
+		}
+
+		if (settings.smtArrays && settings.solver != SolverOption.SMTINTERPOL) {
+			StdErr.fatal(ExitCodes.INVALID_OPTIONS, "SMT arrays not supported with " + settings.solver);
+		}
+
+		if (settings.bitVectors && settings.solver != SolverOption.Z3 && settings.solver != SolverOption.CVC4) {
+			StdErr.fatal(ExitCodes.INVALID_OPTIONS, "bit-vectors not supported with " + settings.solver);
 		}
 
 		if (!settings.boundedModelChecking && !settings.kInduction && !settings.invariantGeneration
-				&& settings.pdrMax == 0 && settings.readAdvice == null) {
+				&& settings.pdrMax == 0 && !settings.interpolation && settings.readAdvice == null) {
 			StdErr.fatal(ExitCodes.INVALID_OPTIONS, "all proving engines disabled");
 		}
 
@@ -13,12 +13,24 @@ public class JKindSettings extends Settings {
 	public boolean boundedModelChecking = true;
 	public boolean kInduction = true;
 	public boolean invariantGeneration = true;
+	public boolean intervalAnalysis = false;
+	public int houdini = 0;
+	public boolean interpolation = false;
    	public int pdrMax = 1;
+	public boolean pdrMultiProperty = false;
+	public int pdrWorkers = 1;
 	public boolean inductiveCounterexamples = false;
 	public boolean reduceIvc = false;
+	public boolean allIvcs = false;
+	public int ivcWorkers = 1;
 	public boolean smoothCounterexamples = false;
 	public boolean inlining = true;
 	public boolean slicing = true;
+	public boolean smtArrays = false;
+	public boolean bitVectors = false;
+	public boolean compositional = false;
+	public boolean passTiming = false;
+	public boolean reduceState = false;
 	
 	public SolverOption solver = SolverOption.SMTINTERPOL;
 	public boolean scratch = false;
@@ -1,5 +1,6 @@
 package jkind;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import jkind.analysis.Level;
@@ -8,6 +9,7 @@ import jkind.util.Util;
 
 public class StdErr {
 	private static List<String> locationReference;
+	private static final ThreadLocal<List<String>> buffer = new ThreadLocal<>();
 
 	public static void setLocationReference(List<String> locationReference) {
 		StdErr.locationReference = locationReference;
@@ -63,7 +65,26 @@ public class StdErr {
 	}
 
 	public static void println(String text) {
-		System.err.println(text);
+		List<String> lines = buffer.get();
+		if (lines != null) {
+			lines.add(text);
+		} else {
+			System.err.println(text);
+		}
+	}
+
+	/**
+	 * Hold back the output of the current thread until stopBuffering, so that
+	 * the output of concurrent steps can be printed in a fixed order
+	 */
+	public static void startBuffering() {
+		buffer.set(new ArrayList<>());
+	}
+
+	public static List<String> stopBuffering() {
+		List<String> lines = buffer.get();
+		buffer.remove();
+		return lines;
 	}
 
 	public static void printStackTrace(Throwable t) {
@@ -0,0 +1,310 @@
+package jkind.analysis;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jkind.lustre.ArrayAccessExpr;
+import jkind.lustre.ArrayExpr;
+import jkind.lustre.ArrayUpdateExpr;
+import jkind.lustre.BinaryExpr;
+import jkind.lustre.BinaryOp;
+import jkind.lustre.BoolExpr;
+import jkind.lustre.CastExpr;
+import jkind.lustre.CondactExpr;
+import jkind.lustre.EnumType;
+import jkind.lustre.Equation;
+import jkind.lustre.Expr;
+import jkind.lustre.FunctionCallExpr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.IfThenElseExpr;
+import jkind.lustre.IntExpr;
+import jkind.lustre.NamedType;
+import jkind.lustre.Node;
+import jkind.lustre.NodeCallExpr;
+import jkind.lustre.RealExpr;
+import jkind.lustre.RecordAccessExpr;
+import jkind.lustre.RecordExpr;
+import jkind.lustre.RecordUpdateExpr;
+import jkind.lustre.SubrangeIntType;
+import jkind.lustre.TupleExpr;
+import jkind.lustre.Type;
+import jkind.lustre.UnaryExpr;
+import jkind.lustre.UnaryOp;
+import jkind.lustre.visitors.ExprVisitor;
+import jkind.util.Util;
+
+/**
+ * Computes the width needed to encode every integer term of a node as a
+ * signed bit-vector without overflow, or 0 if some integer term is unbounded.
+ *
+ * Each expression is mapped to a bound on its absolute value. Subrange and
+ * enumerated variables are bounded by their types, and variables of type int
+ * are bounded by their defining equations. Inputs of type int, integers
+ * defined in terms of their own previous values, unguarded pre expressions,
+ * reals, casts, and function calls are unbounded.
+ *
+ * The width includes one extra bit so that differences of bounded terms, as
+ * proposed by invariant generation, are also representable. The bounds of the
+ * variables hold in every reachable state, and must be asserted for every
+ * step so that states outside the window of a query cannot overflow.
+ *
+ * This assumes all transformations have been performed, so that no compound
+ * types remain.
+ */
+public class BitVectorWidth implements ExprVisitor<BigInteger> {
+	public static int get(Node node) {
+		BitVectorWidth visitor = analyze(node);
+		if (visitor == null) {
+			return 0;
+		}
+		return visitor.max.bitLength() + 2;
+	}
+
+	/**
+	 * Bounds on the absolute values of the integer variables of the node, or
+	 * null if some integer term is unbounded
+	 */
+	public static Map<String, BigInteger> getBounds(Node node) {
+		BitVectorWidth visitor = analyze(node);
+		if (visitor == null) {
+			return null;
+		}
+
+		Map<String, BigInteger> result = new LinkedHashMap<>();
+		for (String id : visitor.typeMap.keySet()) {
+			Type type = visitor.typeMap.get(id);
+			if (type == NamedType.INT || type instanceof SubrangeIntType) {
+				result.put(id, visitor.bounds.get(id));
+			}
+		}
+		return result;
+	}
+
+	private static BitVectorWidth analyze(Node node) {
+		BitVectorWidth visitor = new BitVectorWidth(node);
+		for (Equation eq : node.equations) {
+			if (visitor.record(eq.expr.accept(visitor)) == null) {
+				return null;
+			}
+		}
+		for (Expr assertion : node.assertions) {
+			if (visitor.record(assertion.accept(visitor)) == null) {
+				return null;
+			}
+		}
+		for (String id : visitor.typeMap.keySet()) {
+			if (visitor.record(visitor.eval(id)) == null) {
+				return null;
+			}
+		}
+		return visitor;
+	}
+
+	private final Map<String, Type> typeMap;
+	private final Map<String, Expr> equations = new HashMap<>();
+	private final Map<String, BigInteger> bounds = new HashMap<>();
+	private final ArrayDeque<String> evalStack = new ArrayDeque<>();
+	private BigInteger max = BigInteger.ZERO;
+	private boolean guarded = false;
+
+	private BitVectorWidth(Node node) {
+		this.typeMap = Util.getTypeMap(node);
+		for (Equation eq : node.equations) {
+			equations.put(eq.lhs.get(0).id, eq.expr);
+		}
+	}
+
+	private BigInteger record(BigInteger bound) {
+		if (bound != null) {
+			max = max.max(bound);
+		}
+		return bound;
+	}
+
+	private BigInteger eval(String id) {
+		if (bounds.containsKey(id)) {
+			return bounds.get(id);
+		}
+
+		Type type = typeMap.get(id);
+		BigInteger bound;
+		if (type == NamedType.BOOL) {
+			bound = BigInteger.ZERO;
+		} else if (type instanceof SubrangeIntType) {
+			SubrangeIntType subrange = (SubrangeIntType) type;
+			bound = subrange.low.abs().max(subrange.high.abs());
+		} else if (type instanceof EnumType) {
+			bound = BigInteger.valueOf(((EnumType) type).values.size() - 1);
+		} else if (type == NamedType.INT && equations.containsKey(id) && !evalStack.contains(id)) {
+			boolean outer = guarded;
+			guarded = false;
+			evalStack.push(id);
+			bound = record(equations.get(id).accept(this));
+			evalStack.pop();
+			guarded = outer;
+		} else {
+			bound = null;
+		}
+
+		bounds.put(id, bound);
+		return bound;
+	}
+
+	private boolean isTypeBounded(Expr e) {
+		return e instanceof IdExpr && typeMap.get(((IdExpr) e).id) != NamedType.INT;
+	}
+
+	private static BigInteger max(BigInteger left, BigInteger right) {
+		if (left == null || right == null) {
+			return null;
+		}
+		return left.max(right);
+	}
+
+	@Override
+	public BigInteger visit(ArrayAccessExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(ArrayExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(ArrayUpdateExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(BinaryExpr e) {
+		if (e.op == BinaryOp.ARROW) {
+			BigInteger left = record(e.left.accept(this));
+			boolean outer = guarded;
+			guarded = true;
+			BigInteger right = record(e.right.accept(this));
+			guarded = outer;
+			return max(left, right);
+		}
+
+		BigInteger left = record(e.left.accept(this));
+		BigInteger right = record(e.right.accept(this));
+		if (left == null || right == null) {
+			return null;
+		}
+
+		switch (e.op) {
+		case PLUS:
+		case MINUS:
+			return left.add(right);
+		case MULTIPLY:
+			return left.multiply(right);
+		case INT_DIVIDE:
+			return left;
+		case MODULUS:
+			return right;
+		case DIVIDE:
+			return null;
+		default:
+			return BigInteger.ZERO;
+		}
+	}
+
+	@Override
+	public BigInteger visit(BoolExpr e) {
+		return BigInteger.ZERO;
+	}
+
+	@Override
+	public BigInteger visit(CastExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(CondactExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(FunctionCallExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(IdExpr e) {
+		return eval(e.id);
+	}
+
+	@Override
+	public BigInteger visit(IfThenElseExpr e) {
+		if (e.cond.accept(this) == null) {
+			return null;
+		}
+		return max(record(e.thenExpr.accept(this)), record(e.elseExpr.accept(this)));
+	}
+
+	@Override
+	public BigInteger visit(IntExpr e) {
+		return e.value.abs();
+	}
+
+	@Override
+	public BigInteger visit(NodeCallExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(RealExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(RecordAccessExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(RecordExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(RecordUpdateExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(TupleExpr e) {
+		return null;
+	}
+
+	@Override
+	public BigInteger visit(UnaryExpr e) {
+		if (e.op == UnaryOp.PRE) {
+			// An unguarded pre is arbitrary in the first step, unless its type
+			// constrains it
+			if (!guarded) {
+				return isTypeBounded(e.expr) ? e.expr.accept(this) : null;
+			}
+			guarded = false;
+			BigInteger value = record(e.expr.accept(this));
+			guarded = true;
+			return value;
+		}
+
+		BigInteger value = record(e.expr.accept(this));
+		if (value == null) {
+			return null;
+		}
+
+		switch (e.op) {
+		case NOT:
+			return BigInteger.ZERO;
+		default:
+			return value;
+		}
+	}
+}
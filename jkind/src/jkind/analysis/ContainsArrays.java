@@ -0,0 +1,20 @@
+package jkind.analysis;
+
+import jkind.lustre.ArrayType;
+import jkind.lustre.Node;
+import jkind.lustre.VarDecl;
+import jkind.util.Util;
+
+/**
+ * Arrays only remain after translation when they are encoded as SMT arrays
+ */
+public class ContainsArrays {
+	public static boolean check(Node node) {
+		for (VarDecl vd : Util.getVarDecls(node)) {
+			if (vd.type instanceof ArrayType) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
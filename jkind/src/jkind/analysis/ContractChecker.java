@@ -0,0 +1,81 @@
+package jkind.analysis;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import jkind.StdErr;
+import jkind.lustre.CondactExpr;
+import jkind.lustre.Constant;
+import jkind.lustre.EnumType;
+import jkind.lustre.Expr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.Node;
+import jkind.lustre.NodeCallExpr;
+import jkind.lustre.Program;
+import jkind.lustre.visitors.ExprConjunctiveVisitor;
+import jkind.util.Util;
+
+/**
+ * Contracts used for compositional analysis may only refer to the inputs and
+ * outputs of their node, since calls are replaced by the contract of the
+ * called node
+ */
+public class ContractChecker extends ExprConjunctiveVisitor {
+	public static boolean check(Program program) {
+		Set<String> globals = new HashSet<>();
+		for (Constant c : program.constants) {
+			globals.add(c.id);
+		}
+		for (EnumType et : Util.getEnumTypes(program.types)) {
+			globals.addAll(et.values);
+		}
+
+		boolean passed = true;
+		for (Node node : program.nodes) {
+			if (node.contract != null) {
+				ContractChecker checker = new ContractChecker(globals, node);
+				for (Expr e : node.contract.requires) {
+					passed = checker.check(e) && passed;
+				}
+				for (Expr e : node.contract.ensures) {
+					passed = checker.check(e) && passed;
+				}
+			}
+		}
+		return passed;
+	}
+
+	private final Set<String> visible = new HashSet<>();
+	private final String node;
+
+	private ContractChecker(Set<String> globals, Node node) {
+		this.visible.addAll(globals);
+		this.visible.addAll(Util.getIds(node.inputs));
+		this.visible.addAll(Util.getIds(node.outputs));
+		this.node = node.id;
+	}
+
+	private boolean check(Expr e) {
+		if (!e.accept(this)) {
+			StdErr.error(e.location, "contract of node '" + node
+					+ "' may only refer to its inputs and outputs and may not call nodes");
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public Boolean visit(IdExpr e) {
+		return visible.contains(e.id);
+	}
+
+	@Override
+	public Boolean visit(NodeCallExpr e) {
+		return false;
+	}
+
+	@Override
+	public Boolean visit(CondactExpr e) {
+		return false;
+	}
+}
@@ -1,6 +1,10 @@
 package jkind.analysis;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
 
 import jkind.StdErr;
 import jkind.lustre.BinaryExpr;
@@ -12,6 +16,13 @@ import jkind.lustre.visitors.ExprIterVisitor;
 import jkind.util.Util;
 
 public class LinearChecker extends ExprIterVisitor {
+	/**
+	 * Linearity of each program and node already checked, since the same node
+	 * is checked by the main program, the solvers and the PDR subengines. Keys
+	 * are compared by identity.
+	 */
+	private static final Map<Object, Boolean> cache = Collections.synchronizedMap(new WeakHashMap<>());
+
 	private final Level level;
 	private boolean passed;
 	private ConstantAnalyzer constantAnalyzer;
@@ -22,15 +33,30 @@ public class LinearChecker extends ExprIterVisitor {
 	}
 
 	public static boolean check(Program program, Level level) {
+		if (isLinear(program)) {
+			return true;
+		}
+		if (level == Level.IGNORE) {
+			return false;
+		}
 		return new LinearChecker(level).visitProgram(program);
 	}
 
 	public static boolean isLinear(Program program) {
-		return new LinearChecker(Level.IGNORE).visitProgram(program);
+		return cached(program, () -> new LinearChecker(Level.IGNORE).visitProgram(program));
 	}
 
 	public static boolean isLinear(Node node) {
-		return isLinear(new Program(node));
+		return cached(node, () -> new LinearChecker(Level.IGNORE).visitProgram(new Program(node)));
+	}
+
+	private static boolean cached(Object key, Supplier<Boolean> check) {
+		Boolean linear = cache.get(key);
+		if (linear == null) {
+			linear = check.get();
+			cache.put(key, linear);
+		}
+		return linear;
 	}
 
 	public boolean visitProgram(Program program) {
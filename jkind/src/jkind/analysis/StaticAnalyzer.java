@@ -1,12 +1,19 @@
 package jkind.analysis;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import jkind.ExitCodes;
+import jkind.JKindException;
 import jkind.JKindSettings;
 import jkind.Settings;
 import jkind.SolverOption;
@@ -50,18 +57,40 @@ public class StaticAnalyzer {
 		valid = valid && functionsHaveUnconstrainedOutputTypes(program);
 		valid = valid && variablesUnique(program);
 		valid = valid && TypeChecker.check(program);
-		valid = valid && SubrangesNonempty.check(program);
-		valid = valid && ArraysNonempty.check(program);
-		valid = valid && constantsConstant(program);
-		valid = valid && DivisionChecker.check(program);
-		valid = valid && NodeDependencyChecker.check(program);
-		valid = valid && assignmentsSound(program);
-		valid = valid && ConstantArrayAccessBounded.check(program);
-		valid = valid && propertiesUnique(program);
-		valid = valid && propertiesExist(program);
-		valid = valid && propertiesBoolean(program);
-		valid = valid && ivcUnique(program);
-		valid = valid && ivcLocalOrOutput(program);
+		valid = valid && runConcurrently(getTypedChecks(program, solver, settings));
+
+		if (!valid) {
+			System.exit(ExitCodes.STATIC_ANALYSIS_ERROR);
+		}
+	}
+
+	/**
+	 * Checks which only rely on the program being well typed, and so may run
+	 * at the same time. Their output is still reported in this order.
+	 */
+	private static List<Supplier<Boolean>> getTypedChecks(Program program, SolverOption solver,
+			Settings settings) {
+		Map<Node, Declarations> declarations = new HashMap<>();
+		for (Node node : program.nodes) {
+			declarations.put(node, new Declarations(node));
+		}
+
+		List<Supplier<Boolean>> checks = new ArrayList<>();
+		checks.add(() -> SubrangesNonempty.check(program));
+		checks.add(() -> ArraysNonempty.check(program));
+		checks.add(() -> constantsConstant(program));
+		checks.add(() -> DivisionChecker.check(program));
+		checks.add(() -> NodeDependencyChecker.check(program));
+		checks.add(() -> assignmentsSound(program, declarations));
+		checks.add(() -> ConstantArrayAccessBounded.check(program));
+		checks.add(() -> propertiesUnique(program));
+		checks.add(() -> propertiesExist(program, declarations));
+		checks.add(() -> propertiesBoolean(program, declarations));
+		checks.add(() -> ivcUnique(program));
+		checks.add(() -> ivcLocalOrOutput(program, declarations));
+		if (settings instanceof JKindSettings && ((JKindSettings) settings).compositional) {
+			checks.add(() -> ContractChecker.check(program));
+		}
 
 		switch (solver) {
 			case Z3:
@@ -70,21 +99,22 @@ public class StaticAnalyzer {
 			case YICES2:
 				if (settings instanceof JKindSettings) {
 					JKindSettings jKindSettings = (JKindSettings) settings;
-					if (jKindSettings.reduceIvc && !LinearChecker.check(program, Level.IGNORE)) {
-						StdErr.warning(jKindSettings.solver
-								+ " does not support unsat-cores for nonlinear logic so IVC reduction will be slow");
-					}
+					checks.add(() -> {
+						if (jKindSettings.reduceIvc && !LinearChecker.isLinear(program)) {
+							StdErr.warning(jKindSettings.solver
+									+ " does not support unsat-cores for nonlinear logic so IVC reduction will be slow");
+						}
+						return true;
+					});
 				}
 				break;
 
 			default:
-				valid = valid && LinearChecker.check(program, Level.ERROR);
+				checks.add(() -> LinearChecker.check(program, Level.ERROR));
 				break;
 		}
 
-		if (!valid) {
-			System.exit(ExitCodes.STATIC_ANALYSIS_ERROR);
-		}
+		return checks;
 	}
 
 	private static void checkSolverLimitations(Program program, SolverOption solver) {
@@ -96,11 +126,101 @@ public class StaticAnalyzer {
 	}
 
 	private static void checkWarnings(Program program, SolverOption solver) {
-		warnUnusedAsserts(program);
-		warnAlgebraicLoops(program);
-		WarnUnguardedPreVisitor.check(program);
+		List<Supplier<Boolean>> checks = new ArrayList<>();
+		checks.add(warning(() -> warnUnusedAsserts(program)));
+		for (Node node : program.nodes) {
+			checks.add(warning(() -> warnAlgebraicLoops(node)));
+		}
+		for (Node node : program.nodes) {
+			checks.add(warning(() -> WarnUnguardedPreVisitor.check(node)));
+		}
 		if (solver == SolverOption.Z3) {
-			LinearChecker.check(program, Level.WARNING);
+			checks.add(warning(() -> LinearChecker.check(program, Level.WARNING)));
+		}
+		runConcurrently(checks);
+	}
+
+	private static Supplier<Boolean> warning(Runnable warn) {
+		return () -> {
+			warn.run();
+			return true;
+		};
+	}
+
+	/**
+	 * Run the checks concurrently, and print their output in the given order.
+	 * As when run in sequence, the output stops with the first check which
+	 * fails.
+	 */
+	private static boolean runConcurrently(List<Supplier<Boolean>> checks) {
+		int threads = Math.min(checks.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(threads, 1));
+		try {
+			List<Future<CheckResult>> futures = new ArrayList<>();
+			for (Supplier<Boolean> check : checks) {
+				futures.add(executor.submit(() -> new CheckResult(check)));
+			}
+
+			for (Future<CheckResult> future : futures) {
+				CheckResult result = await(future);
+				for (String line : result.output) {
+					StdErr.println(line);
+				}
+				if (!result.passed) {
+					return false;
+				}
+			}
+			return true;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new JKindException("Static analysis check failed", e.getCause());
+		} catch (InterruptedException e) {
+			throw new JKindException("Interrupted while waiting for static analysis", e);
+		}
+	}
+
+	private static class CheckResult {
+		private final boolean passed;
+		private final List<String> output;
+
+		public CheckResult(Supplier<Boolean> check) {
+			StdErr.startBuffering();
+			try {
+				this.passed = check.get();
+			} finally {
+				this.output = StdErr.stopBuffering();
+			}
+		}
+	}
+
+	/**
+	 * The declarations of a node, shared by the checks on its equations,
+	 * properties and IVC elements
+	 */
+	private static class Declarations {
+		private final Set<String> variables = new HashSet<>();
+		private final Set<String> assignable = new HashSet<>();
+		private final Set<String> booleans = new HashSet<>();
+
+		public Declarations(Node node) {
+			for (VarDecl varDecl : Util.getVarDecls(node)) {
+				variables.add(varDecl.id);
+				if (varDecl.type == NamedType.BOOL) {
+					booleans.add(varDecl.id);
+				}
+			}
+			assignable.addAll(Util.getIds(node.outputs));
+			assignable.addAll(Util.getIds(node.locals));
 		}
 	}
 
@@ -227,18 +347,16 @@ public class StaticAnalyzer {
 		return constant;
 	}
 
-	private static boolean assignmentsSound(Program program) {
+	private static boolean assignmentsSound(Program program, Map<Node, Declarations> declarations) {
 		boolean sound = true;
 		for (Node node : program.nodes) {
-			sound = assignmentsSound(node) && sound;
+			sound = assignmentsSound(node, declarations.get(node)) && sound;
 		}
 		return sound;
 	}
 
-	private static boolean assignmentsSound(Node node) {
-		Set<String> toAssign = new HashSet<>();
-		toAssign.addAll(Util.getIds(node.outputs));
-		toAssign.addAll(Util.getIds(node.locals));
+	private static boolean assignmentsSound(Node node, Declarations declarations) {
+		Set<String> toAssign = new HashSet<>(declarations.assignable);
 		Set<String> assigned = new HashSet<>();
 		boolean sound = true;
 
@@ -281,11 +399,11 @@ public class StaticAnalyzer {
 		return unique;
 	}
 
-	private static boolean propertiesExist(Program program) {
+	private static boolean propertiesExist(Program program, Map<Node, Declarations> declarations) {
 		boolean exist = true;
 
 		for (Node node : program.nodes) {
-			Set<String> variables = new HashSet<>(Util.getIds(Util.getVarDecls(node)));
+			Set<String> variables = declarations.get(node).variables;
 			for (String prop : node.properties) {
 				if (!variables.contains(prop)) {
 					StdErr.error("in node '" + node.id + "' property '" + prop + "' does not exist");
@@ -297,11 +415,11 @@ public class StaticAnalyzer {
 		return exist;
 	}
 
-	private static boolean propertiesBoolean(Program program) {
+	private static boolean propertiesBoolean(Program program, Map<Node, Declarations> declarations) {
 		boolean allBoolean = true;
 
 		for (Node node : program.nodes) {
-			Set<String> booleans = getBooleans(node);
+			Set<String> booleans = declarations.get(node).booleans;
 			for (String prop : node.properties) {
 				if (!booleans.contains(prop)) {
 					StdErr.error("in node '" + node.id + "' property '" + prop + "' does not have type bool");
@@ -313,16 +431,6 @@ public class StaticAnalyzer {
 		return allBoolean;
 	}
 
-	private static Set<String> getBooleans(Node node) {
-		Set<String> booleans = new HashSet<>();
-		for (VarDecl varDecl : Util.getVarDecls(node)) {
-			if (varDecl.type == NamedType.BOOL) {
-				booleans.add(varDecl.id);
-			}
-		}
-		return booleans;
-	}
-
 	private static void warnUnusedAsserts(Program program) {
 		for (Node node : program.nodes) {
 			if (node.id.equals(program.main)) {
@@ -335,16 +443,14 @@ public class StaticAnalyzer {
 		}
 	}
 
-	private static void warnAlgebraicLoops(Program program) {
-		for (Node node : program.nodes) {
-			Map<String, Set<String>> directDepends = Util.getDirectDependencies(node);
+	private static void warnAlgebraicLoops(Node node) {
+		Map<String, Set<String>> directDepends = Util.getDirectDependencies(node);
 
-			Set<String> covered = new HashSet<>();
-			for (Equation eq : node.equations) {
-				List<String> stack = new ArrayList<>();
-				for (IdExpr idExpr : eq.lhs) {
-					checkAlgebraicLoops(node.id, idExpr.id, stack, covered, directDepends);
-				}
+		Set<String> covered = new HashSet<>();
+		for (Equation eq : node.equations) {
+			List<String> stack = new ArrayList<>();
+			for (IdExpr idExpr : eq.lhs) {
+				checkAlgebraicLoops(node.id, idExpr.id, stack, covered, directDepends);
 			}
 		}
 	}
@@ -395,13 +501,11 @@ public class StaticAnalyzer {
 		return unique;
 	}
 
-	private static boolean ivcLocalOrOutput(Program program) {
+	private static boolean ivcLocalOrOutput(Program program, Map<Node, Declarations> declarations) {
 		boolean passed = true;
 
 		for (Node node : program.nodes) {
-			Set<String> assigned = new HashSet<>();
-			assigned.addAll(Util.getIds(node.outputs));
-			assigned.addAll(Util.getIds(node.locals));
+			Set<String> assigned = declarations.get(node).assignable;
 
 			for (String e : node.ivc) {
 				if (!assigned.contains(e)) {
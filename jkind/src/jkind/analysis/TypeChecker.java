@@ -130,6 +130,15 @@ public class TypeChecker implements ExprVisitor<Type> {
 			compareTypeAssignment(assertion, NamedType.BOOL, assertion.accept(this));
 		}
 
+		if (node.contract != null) {
+			for (Expr e : node.contract.requires) {
+				compareTypeAssignment(e, NamedType.BOOL, e.accept(this));
+			}
+			for (Expr e : node.contract.ensures) {
+				compareTypeAssignment(e, NamedType.BOOL, e.accept(this));
+			}
+		}
+
 		return passed;
 	}
 
@@ -15,12 +15,16 @@ import jkind.lustre.visitors.ExprIterVisitor;
 public class WarnUnguardedPreVisitor extends ExprIterVisitor {
 	public static void check(Program program) {
 		for (Node node : program.nodes) {
-			for (Equation eq : node.equations) {
-				eq.expr.accept(UNGUARDED);
-			}
-			for (Expr e : node.assertions) {
-				e.accept(UNGUARDED);
-			}
+			check(node);
+		}
+	}
+
+	public static void check(Node node) {
+		for (Equation eq : node.equations) {
+			eq.expr.accept(UNGUARDED);
+		}
+		for (Expr e : node.assertions) {
+			e.accept(UNGUARDED);
 		}
 	}
 
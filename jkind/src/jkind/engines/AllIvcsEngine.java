@@ -0,0 +1,474 @@
+package jkind.engines;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jkind.JKindException;
+import jkind.JKindSettings;
+import jkind.engines.messages.BaseStepMessage;
+import jkind.engines.messages.EngineType;
+import jkind.engines.messages.InductiveCounterexampleMessage;
+import jkind.engines.messages.InvalidMessage;
+import jkind.engines.messages.InvariantMessage;
+import jkind.engines.messages.IvcMessage;
+import jkind.engines.messages.UnknownMessage;
+import jkind.engines.messages.ValidMessage;
+import jkind.lustre.Expr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.NamedType;
+import jkind.lustre.VarDecl;
+import jkind.lustre.values.BooleanValue;
+import jkind.sexp.Cons;
+import jkind.sexp.Sexp;
+import jkind.sexp.Symbol;
+import jkind.solvers.Model;
+import jkind.solvers.ModelEvaluator;
+import jkind.solvers.Result;
+import jkind.solvers.Solver;
+import jkind.solvers.UnsatResult;
+import jkind.translation.Lustre2Sexp;
+import jkind.translation.Specification;
+import jkind.util.LinkedBiMap;
+import jkind.util.SexpUtil;
+
+/**
+ * Enumerates all minimal inductive validity cores of valid properties, based on
+ * "Efficient Generation of All Minimal Inductive Validity Cores" by Elaheh
+ * Ghassabani, Michael Whalen, and Andrew Gacek
+ *
+ * The engine solver is a map over the IVC activation literals which records
+ * the subsets of IVC elements that are still unexplored. A seed is a maximal
+ * unexplored subset. It is checked by Houdini over all invariants known to
+ * the engine: the seed is sufficient if the property survives in the largest
+ * k-inductive subset of the invariants when only the seed elements are
+ * enforced. A sufficient seed is shrunk to a minimal IVC and all of its
+ * supersets are blocked. An insufficient seed is maximal, so all of its
+ * subsets are blocked. Enumeration is complete when the map is unsatisfiable.
+ *
+ * Seeds are checked by a pool of explorers, each with its own solver which
+ * keeps the unrolling of the current property between checks. Every inductive
+ * set found is cached with the IVC elements it needs, so later checks and
+ * later properties reuse it without calling the solver.
+ */
+public class AllIvcsEngine extends SolverBasedEngine {
+	public static final String NAME = "all-ivcs";
+	private final LinkedBiMap<String, Symbol> ivcMap;
+
+	private final Map<String, ValidMessage> pending = new LinkedHashMap<>();
+	private final Set<Expr> invariants = new LinkedHashSet<>();
+	private final List<Proof> proofs = new CopyOnWriteArrayList<>();
+
+	private final List<Explorer> explorers = new ArrayList<>();
+	private ExecutorService executor;
+
+	public AllIvcsEngine(Specification spec, JKindSettings settings, Director director) {
+		super(NAME, spec, settings, director);
+		ivcMap = Lustre2Sexp.createIvcMap(spec.node.ivc);
+	}
+
+	@Override
+	protected void initializeSolver() {
+		solver = getSolver();
+		solver.initialize();
+		for (Symbol e : ivcMap.values()) {
+			solver.define(new VarDecl(e.str, NamedType.BOOL));
+		}
+	}
+
+	@Override
+	public void main() {
+		createExplorers();
+		try {
+			while (true) {
+				processMessagesAndWaitUntil(() -> properties.isEmpty() || !pending.isEmpty());
+				if (pending.isEmpty()) {
+					return;
+				}
+
+				String property = pending.keySet().iterator().next();
+				enumerate(property, pending.remove(property));
+			}
+		} finally {
+			executor.shutdownNow();
+			for (Explorer explorer : explorers) {
+				explorer.solver.stop();
+			}
+		}
+	}
+
+	private void createExplorers() {
+		int count = Math.max(1, settings.ivcWorkers);
+		for (int i = 0; i < count; i++) {
+			String scratch = getScratchBase() == null ? null : getScratchBase() + "." + i;
+			Solver other = SolverUtil.getSolver(settings.solver, scratch, spec.node, settings.bitVectors);
+			initializeIvcSolver(other, ivcMap.values());
+			explorers.add(new Explorer(other));
+		}
+		executor = Executors.newFixedThreadPool(count);
+	}
+
+	private void enumerate(String property, ValidMessage vm) {
+		comment("Enumerating IVCs for: " + property);
+		addInvariants(vm.invariants);
+		addInvariants(Collections.singletonList(new IdExpr(property)));
+		Enumeration enumeration = new Enumeration(property, vm, new ArrayList<>(invariants));
+
+		if (!ivcMap.isEmpty()) {
+			solver.push();
+			try {
+				explore(enumeration);
+			} finally {
+				enumeration.cancel();
+				solver.pop();
+			}
+			comment("Found " + enumeration.cores.size() + " minimal IVCs from " + enumeration.seeds + " seeds");
+		}
+
+		director.broadcast(new ValidMessage(vm.source, property, vm.k, vm.invariants, vm.ivc, vm.getNextItinerary()));
+	}
+
+	private void addInvariants(List<Expr> exprs) {
+		invariants.addAll(exprs);
+	}
+
+	private void explore(Enumeration enumeration) {
+		List<Future<?>> jobs = new ArrayList<>();
+		for (Explorer explorer : explorers) {
+			jobs.add(executor.submit(() -> explorer.explore(enumeration)));
+		}
+
+		processMessagesAndWaitUntil(() -> jobs.stream().allMatch(Future::isDone));
+		try {
+			for (Future<?> job : jobs) {
+				job.get();
+			}
+		} catch (ExecutionException e) {
+			throw new JKindException("IVC enumeration failed", e.getCause());
+		} catch (InterruptedException e) {
+			throw new JKindException("Interrupted while waiting for IVC enumeration", e);
+		}
+	}
+
+	/**
+	 * The enumeration state of one property. The map is kept in the engine
+	 * solver, which is shared by all explorers.
+	 */
+	private class Enumeration {
+		private final String property;
+		private final ValidMessage vm;
+		private final List<Expr> candidates;
+		private final int k;
+		private final List<Set<Symbol>> cores = new ArrayList<>();
+		private final Set<Set<String>> sent = new HashSet<>();
+		private boolean cancelled = false;
+		private int seeds = 0;
+
+		public Enumeration(String property, ValidMessage vm, List<Expr> candidates) {
+			this.property = property;
+			this.vm = vm;
+			this.candidates = candidates;
+			this.k = Math.max(1, vm.k);
+			this.sent.add(vm.ivc);
+		}
+
+		/**
+		 * Returns a maximal unexplored subset of the IVC literals, or null if
+		 * everything has been explored
+		 */
+		public synchronized List<Symbol> nextSeed() {
+			if (cancelled || !isUnexplored(new ArrayList<>())) {
+				return null;
+			}
+
+			List<Symbol> seed = new ArrayList<>();
+			for (Symbol e : ivcMap.valueList()) {
+				seed.add(e);
+				if (!isUnexplored(seed)) {
+					seed.remove(seed.size() - 1);
+				}
+			}
+
+			// Keep other explorers from taking the same seed before it is blocked
+			List<Sexp> disjuncts = new ArrayList<>();
+			for (Symbol e : ivcMap.valueList()) {
+				disjuncts.add(seed.contains(e) ? new Cons("not", e) : e);
+			}
+			solver.assertSexp(SexpUtil.disjoin(disjuncts));
+			seeds++;
+			return seed;
+		}
+
+		private boolean isUnexplored(List<Symbol> literals) {
+			return !(solver.checkSatAssuming(literals) instanceof UnsatResult);
+		}
+
+		/**
+		 * The seed is insufficient, so none of its subsets are explored
+		 */
+		public synchronized void blockDown(Collection<Symbol> seed) {
+			List<Sexp> disjuncts = new ArrayList<>();
+			for (Symbol e : ivcMap.valueList()) {
+				if (!seed.contains(e)) {
+					disjuncts.add(e);
+				}
+			}
+			solver.assertSexp(SexpUtil.disjoin(disjuncts));
+		}
+
+		/**
+		 * The core is a minimal IVC, so none of its supersets are explored
+		 */
+		public synchronized void addCore(Collection<Symbol> core) {
+			Set<Symbol> set = new HashSet<>(core);
+			if (cores.contains(set)) {
+				return;
+			}
+			cores.add(set);
+
+			List<Sexp> disjuncts = new ArrayList<>();
+			for (Symbol e : core) {
+				disjuncts.add(new Cons("not", e));
+			}
+			solver.assertSexp(SexpUtil.disjoin(disjuncts));
+			send(set);
+		}
+
+		public synchronized void cancel() {
+			cancelled = true;
+		}
+
+		public void send(Set<Symbol> core) {
+			Set<String> names = new HashSet<>();
+			for (Symbol e : core) {
+				names.add(ivcMap.inverse().get(e));
+			}
+
+			// The IVC found by reduction has already been written
+			Set<String> ivc = IvcReductionEngine.trimNode(names);
+			if (sent.add(ivc)) {
+				director.broadcast(new IvcMessage(getName(), property, ivc));
+			}
+		}
+	}
+
+	/**
+	 * A set of invariants which is k-inductive when only the given IVC
+	 * literals are enforced
+	 */
+	private static class Proof {
+		public final Set<Symbol> literals;
+		public final List<Expr> invariants;
+		public final int k;
+
+		public Proof(Collection<Symbol> literals, List<Expr> invariants, int k) {
+			this.literals = new HashSet<>(literals);
+			this.invariants = invariants;
+			this.k = k;
+		}
+
+		public boolean proves(Collection<Symbol> seed, String property, int maxK) {
+			return k <= maxK && seed.containsAll(literals) && contains(invariants, property);
+		}
+	}
+
+	private static boolean contains(List<Expr> invariants, String property) {
+		return invariants.contains(new IdExpr(property));
+	}
+
+	/**
+	 * A solver with the IVC transition relation which checks seeds
+	 */
+	private class Explorer {
+		private final Solver solver;
+
+		public Explorer(Solver solver) {
+			this.solver = solver;
+		}
+
+		public void explore(Enumeration enumeration) {
+			solver.comment("Exploring IVCs for: " + enumeration.property);
+			solver.push();
+
+			createVariables(solver, -1);
+			for (int i = 0; i <= enumeration.k; i++) {
+				createVariables(solver, i);
+			}
+			solver.assertSexp(getInductiveTransition(0));
+
+			List<Symbol> seed;
+			while ((seed = enumeration.nextSeed()) != null) {
+				Proof proof = prove(seed, enumeration);
+				if (proof == null) {
+					enumeration.blockDown(seed);
+				} else {
+					enumeration.addCore(shrink(proof, enumeration));
+				}
+			}
+
+			solver.pop();
+		}
+
+		/**
+		 * Returns a proof of the property which only needs the seed literals,
+		 * or null if there is none among the candidate invariants
+		 */
+		private Proof prove(Collection<Symbol> seed, Enumeration enumeration) {
+			for (Proof proof : proofs) {
+				if (proof.proves(seed, enumeration.property, enumeration.k)) {
+					return proof;
+				}
+			}
+
+			solver.push();
+			for (Symbol e : seed) {
+				solver.assertSexp(e);
+			}
+			List<Expr> inductive = houdini(enumeration.candidates, enumeration.property, enumeration.k);
+			solver.pop();
+
+			if (inductive == null) {
+				return null;
+			}
+			Proof proof = new Proof(seed, inductive, enumeration.k);
+			proofs.add(proof);
+			return proof;
+		}
+
+		/**
+		 * Returns the largest k-inductive subset of the candidates, or null if
+		 * it does not contain the property
+		 */
+		private List<Expr> houdini(List<Expr> candidates, String property, int k) {
+			List<Expr> current = new ArrayList<>(candidates);
+			while (true) {
+				Set<Expr> falsified = getFalsified(getBaseIvcQuery(current, k), current, 0, k - 1);
+				if (falsified == null) {
+					falsified = getFalsified(getStepIvcQuery(current, k), current, k, k);
+				}
+
+				if (falsified == null) {
+					return current;
+				}
+				current.removeAll(falsified);
+				if (falsified.isEmpty() || !contains(current, property)) {
+					// An unknown result is treated as insufficient, which may
+					// lose IVCs but never reports a wrong one
+					return null;
+				}
+			}
+		}
+
+		/**
+		 * Returns null if the query is valid, otherwise the candidates which
+		 * are false at the first index in the model where any candidate is
+		 * false
+		 */
+		private Set<Expr> getFalsified(Sexp query, List<Expr> candidates, int from, int to) {
+			Result result = solver.query(query);
+			if (result instanceof UnsatResult) {
+				return null;
+			}
+
+			Set<Expr> falsified = new HashSet<>();
+			Model model = getModel(result);
+			if (model == null) {
+				return falsified;
+			}
+
+			for (int i = from; i <= to && falsified.isEmpty(); i++) {
+				ModelEvaluator evaluator = new ModelEvaluator(model, i);
+				for (Expr candidate : candidates) {
+					if (evaluator.eval(candidate) == BooleanValue.FALSE) {
+						falsified.add(candidate);
+					}
+				}
+			}
+			return falsified;
+		}
+
+		/**
+		 * Shrink the literals of a proof to a minimal IVC. The unsat-core of
+		 * the proof is minimal for its invariants, but a smaller set of
+		 * literals may still have a proof with fewer invariants.
+		 */
+		private List<Symbol> shrink(Proof proof, Enumeration enumeration) {
+			List<Symbol> core = new ArrayList<>(proof.literals);
+			Result result = solver.unsatQuery(core, getIvcQuery(proof.invariants, proof.k));
+			if (result instanceof UnsatResult) {
+				core = ((UnsatResult) result).getUnsatCore();
+				proofs.add(new Proof(core, proof.invariants, proof.k));
+			}
+
+			int i = 0;
+			while (i < core.size()) {
+				List<Symbol> without = new ArrayList<>(core);
+				without.remove(i);
+				Proof smaller = prove(without, enumeration);
+				if (smaller == null) {
+					enumeration.blockDown(without);
+					i++;
+				} else {
+					core = retain(without, smaller.literals);
+				}
+			}
+			return core;
+		}
+
+		private List<Symbol> retain(List<Symbol> list, Set<Symbol> set) {
+			List<Symbol> result = new ArrayList<>();
+			for (Symbol symbol : list) {
+				if (set.contains(symbol)) {
+					result.add(symbol);
+				}
+			}
+			return result;
+		}
+	}
+
+	@Override
+	protected void handleMessage(BaseStepMessage bsm) {
+	}
+
+	@Override
+	protected void handleMessage(InductiveCounterexampleMessage icm) {
+	}
+
+	@Override
+	protected void handleMessage(InvalidMessage im) {
+		properties.removeAll(im.invalid);
+	}
+
+	@Override
+	protected void handleMessage(InvariantMessage im) {
+		addInvariants(im.invariants);
+	}
+
+	@Override
+	protected void handleMessage(UnknownMessage um) {
+		properties.removeAll(um.unknown);
+	}
+
+	@Override
+	protected void handleMessage(ValidMessage vm) {
+		addInvariants(vm.invariants);
+		if (vm.getNextDestination() == EngineType.ALL_IVCS) {
+			for (String property : vm.valid) {
+				if (properties.remove(property)) {
+					pending.put(property, vm);
+				}
+			}
+		}
+	}
+}
@@ -19,13 +19,17 @@ import jkind.StdErr;
 import jkind.advice.Advice;
 import jkind.advice.AdviceReader;
 import jkind.advice.AdviceWriter;
+import jkind.engines.interval.IntervalEngine;
 import jkind.engines.invariant.GraphInvariantGenerationEngine;
+import jkind.engines.invariant.HoudiniEngine;
+import jkind.engines.itp.ItpEngine;
 import jkind.engines.messages.BaseStepMessage;
 import jkind.engines.messages.EngineType;
 import jkind.engines.messages.InductiveCounterexampleMessage;
 import jkind.engines.messages.InvalidMessage;
 import jkind.engines.messages.InvariantMessage;
 import jkind.engines.messages.Itinerary;
+import jkind.engines.messages.IvcMessage;
 import jkind.engines.messages.Message;
 import jkind.engines.messages.MessageHandler;
 import jkind.engines.messages.StopMessage;
@@ -36,7 +40,9 @@ import jkind.lustre.Expr;
 import jkind.results.Counterexample;
 import jkind.results.layout.NodeLayout;
 import jkind.solvers.Model;
+import jkind.lustre.Type;
 import jkind.translation.Specification;
+import jkind.util.ContractAbstraction;
 import jkind.util.CounterexampleExtractor;
 import jkind.util.ModelReconstructionEvaluator;
 import jkind.util.Util;
@@ -51,12 +57,14 @@ public class Director extends MessageHandler {
 	private final JKindSettings settings;
 	private final Specification userSpec;
 	private final Specification analysisSpec;
+	private final ContractAbstraction abstraction;
 	private final Writer writer;
 	private final long startTime;
 
 	private final List<String> remainingProperties = new ArrayList<>();
 	private final List<String> validProperties = new ArrayList<>();
 	private final List<String> invalidProperties = new ArrayList<>();
+	private final List<String> enumeratingIvcs = new ArrayList<>();
 	private int baseStep = 0;
 	private final Map<String, InductiveCounterexampleMessage> inductiveCounterexamples = new HashMap<>();
 
@@ -67,9 +75,19 @@ public class Director extends MessageHandler {
 	private AdviceWriter adviceWriter;
 
 	public Director(JKindSettings settings, Specification userSpec, Specification analysisSpec) {
+		this(settings, userSpec, analysisSpec, null);
+	}
+
+	/**
+	 * Counterexamples which depend on calls abstracted by contracts are only
+	 * reported if they can be replayed on the fully inlined program
+	 */
+	public Director(JKindSettings settings, Specification userSpec, Specification analysisSpec,
+			ContractAbstraction abstraction) {
 		this.settings = settings;
 		this.userSpec = userSpec;
 		this.analysisSpec = analysisSpec;
+		this.abstraction = abstraction;
 
 		this.writer = getWriter();
 		this.startTime = System.currentTimeMillis();
@@ -92,8 +110,7 @@ public class Director extends MessageHandler {
 			if (settings.excel) {
 				return new ExcelWriter(settings.filename + ".xls", userSpec.node);
 			} else if (settings.xml) {
-				return new XmlWriter(settings.filename + ".xml", userSpec.typeMap,
-						settings.xmlToStdout);
+				return new XmlWriter(settings.filename + ".xml", getTypeMap(), settings.xmlToStdout);
 			} else {
 				return new ConsoleWriter(new NodeLayout(userSpec.node));
 			}
@@ -102,13 +119,24 @@ public class Director extends MessageHandler {
 		}
 	}
 
+	private Map<String, Type> getTypeMap() {
+		if (abstraction == null) {
+			return userSpec.typeMap;
+		}
+
+		// Replayed counterexamples contain the streams of inlined calls
+		Map<String, Type> typeMap = new HashMap<>(abstraction.getConcreteSpec().typeMap);
+		typeMap.putAll(userSpec.typeMap);
+		return typeMap;
+	}
+
 	public int run() {
 		printHeader();
 		writer.begin();
 		addShutdownHook();
 		createAndStartEngines();
 
-		while (!timeout() && propertiesRemaining() && someThreadAlive() && !someEngineFailed()
+		while (!timeout() && (propertiesRemaining() || ivcsRemaining()) && someThreadAlive() && !someEngineFailed()
 				&& !exitRequested()) {
 			processMessages();
 			sleep(100);
@@ -183,10 +211,22 @@ public class Director extends MessageHandler {
 			addEngine(new GraphInvariantGenerationEngine(analysisSpec, settings, this));
 		}
 
+		if (settings.houdini > 0) {
+			addEngine(new HoudiniEngine(analysisSpec, settings, this, inputAdvice));
+		}
+
+		if (settings.intervalAnalysis) {
+			addEngine(new IntervalEngine(analysisSpec, settings, this));
+		}
+
 		if (settings.reduceIvc) {
 			addEngine(new IvcReductionEngine(analysisSpec, settings, this));
 		}
 
+		if (settings.allIvcs) {
+			addEngine(new AllIvcsEngine(analysisSpec, settings, this));
+		}
+
 		if (settings.smoothCounterexamples) {
 			addEngine(new SmoothingEngine(analysisSpec, settings, this));
 		}
@@ -195,6 +235,10 @@ public class Director extends MessageHandler {
 			addEngine(new PdrEngine(analysisSpec, settings, this));
 		}
 
+		if (settings.interpolation) {
+			addEngine(new ItpEngine(analysisSpec, settings, this));
+		}
+
 		if (settings.readAdvice != null) {
 			addEngine(new AdviceEngine(analysisSpec, settings, this, inputAdvice));
 		}
@@ -227,6 +271,10 @@ public class Director extends MessageHandler {
 		return !remainingProperties.isEmpty();
 	}
 
+	private boolean ivcsRemaining() {
+		return !enumeratingIvcs.isEmpty();
+	}
+
 	private boolean someThreadAlive() {
 		return threads.stream().anyMatch(Thread::isAlive);
 	}
@@ -282,7 +330,9 @@ public class Director extends MessageHandler {
 
 	@Override
 	protected void handleMessage(ValidMessage vm) {
-		if (vm.getNextDestination() != null) {
+		if (vm.getNextDestination() == null) {
+			enumeratingIvcs.removeAll(vm.valid);
+		} else if (vm.getNextDestination() != EngineType.ALL_IVCS) {
 			return;
 		}
 
@@ -291,6 +341,14 @@ public class Director extends MessageHandler {
 			return;
 		}
 
+		/*
+		 * Properties are reported before all of their IVCs are enumerated, the
+		 * remaining IVCs are written as they arrive
+		 */
+		if (vm.getNextDestination() == EngineType.ALL_IVCS) {
+			enumeratingIvcs.addAll(newValid);
+		}
+
 		remainingProperties.removeAll(newValid);
 		validProperties.addAll(newValid);
 		inductiveCounterexamples.keySet().removeAll(newValid);
@@ -310,6 +368,13 @@ public class Director extends MessageHandler {
 		return result;
 	}
 
+	@Override
+	protected void handleMessage(IvcMessage im) {
+		if (enumeratingIvcs.contains(im.property)) {
+			writer.writeIvc(im.property, im.source, im.ivc, getRuntime());
+		}
+	}
+
 	@Override
 	protected void handleMessage(InvalidMessage im) {
 		if (im.getNextDestination() != null) {
@@ -322,13 +387,24 @@ public class Director extends MessageHandler {
 		}
 
 		remainingProperties.removeAll(newInvalid);
-		invalidProperties.addAll(newInvalid);
 		inductiveCounterexamples.keySet().removeAll(newInvalid);
 
 		double runtime = getRuntime();
+		List<String> spurious = new ArrayList<>();
 		for (String invalidProp : newInvalid) {
 			Counterexample cex = extractCounterexample(invalidProp, im.length, im.model, true);
-			writer.writeInvalid(invalidProp, im.source, cex, Collections.emptyList(), runtime);
+			if (cex == null) {
+				spurious.add(invalidProp);
+			} else {
+				invalidProperties.add(invalidProp);
+				writer.writeInvalid(invalidProp, im.source, cex, Collections.emptyList(), runtime);
+			}
+		}
+
+		// The property holds in the abstraction, and so in the program, for
+		// all shorter executions
+		if (!spurious.isEmpty()) {
+			writer.writeUnknown(spurious, im.length - 1, Collections.emptyMap(), runtime);
 		}
 	}
 
@@ -423,6 +499,9 @@ public class Director extends MessageHandler {
 		if (settings.reduceIvc) {
 			destinations.add(EngineType.IVC_REDUCTION);
 		}
+		if (settings.allIvcs) {
+			destinations.add(EngineType.ALL_IVCS);
+		}
 		return new Itinerary(destinations);
 	}
 
@@ -467,6 +546,9 @@ public class Director extends MessageHandler {
 		Map<String, Counterexample> result = new HashMap<>();
 
 		for (String prop : inductiveCounterexamples.keySet()) {
+			if (abstraction != null && abstraction.isAbstract(prop)) {
+				continue;
+			}
 			InductiveCounterexampleMessage icm = inductiveCounterexamples.get(prop);
 			result.put(prop, extractCounterexample(prop, icm.length, icm.model, false));
 		}
@@ -474,8 +556,20 @@ public class Director extends MessageHandler {
 		return result;
 	}
 
+	/**
+	 * Returns null if the counterexample depends on calls abstracted by
+	 * contracts and cannot be replayed on the fully inlined program
+	 */
 	private Counterexample extractCounterexample(String property, int k, Model model,
 			boolean concrete) {
+		if (abstraction != null && abstraction.isAbstract(property)) {
+			Model replayed = abstraction.replay(property, k, model);
+			if (replayed == null) {
+				return null;
+			}
+			return CounterexampleExtractor.extract(abstraction.getConcreteSpec(), k, replayed);
+		}
+
 		model = ModelReconstructionEvaluator.reconstruct(userSpec, analysisSpec, model, property, k, concrete);
 		return CounterexampleExtractor.extract(userSpec, k, model);
 	}
@@ -6,6 +6,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import jkind.JKindException;
 import jkind.JKindSettings;
@@ -19,13 +25,12 @@ import jkind.engines.messages.UnknownMessage;
 import jkind.engines.messages.ValidMessage;
 import jkind.lustre.Expr;
 import jkind.lustre.IdExpr;
-import jkind.lustre.NamedType;
-import jkind.lustre.VarDecl;
 import jkind.sexp.Cons;
 import jkind.sexp.Sexp;
 import jkind.sexp.Symbol;
 import jkind.solvers.Result;
 import jkind.solvers.SatResult;
+import jkind.solvers.Solver;
 import jkind.solvers.UnknownResult;
 import jkind.solvers.UnsatResult;
 import jkind.translation.Lustre2Sexp;
@@ -33,10 +38,20 @@ import jkind.translation.Specification;
 import jkind.util.LinkedBiMap;
 import jkind.util.SexpUtil;
 
+/**
+ * Reduces the invariants and the inductive validity core of valid properties.
+ * Properties are reduced on a pool of reducers, each with its own solver, and
+ * results are sent as soon as each reduction completes.
+ */
 public class IvcReductionEngine extends SolverBasedEngine {
 	public static final String NAME = "ivc-reduction";
 	private final LinkedBiMap<String, Symbol> ivcMap;
 
+	private final List<Reducer> reducers = new ArrayList<>();
+	private final BlockingQueue<Reducer> idleReducers = new LinkedBlockingQueue<>();
+	private final List<Future<?>> jobs = new ArrayList<>();
+	private ExecutorService executor;
+
 	public IvcReductionEngine(Specification spec, JKindSettings settings, Director director) {
 		super(NAME, spec, settings, director);
 		ivcMap = Lustre2Sexp.createIvcMap(spec.node.ivc);
@@ -45,32 +60,70 @@ public class IvcReductionEngine extends SolverBasedEngine {
 	@Override
 	protected void initializeSolver() {
 		solver = getSolver();
-		solver.initialize();
-
-		for (Symbol e : ivcMap.values()) {
-			solver.define(new VarDecl(e.str, NamedType.BOOL));
-		}
-		solver.declare(spec.functions);
-		solver.define(spec.getIvcTransitionRelation());
-		solver.define(new VarDecl(INIT.str, NamedType.BOOL));
+		initializeIvcSolver(solver, ivcMap.values());
 	}
 
 	@Override
 	public void main() {
-		processMessagesAndWaitUntil(() -> properties.isEmpty());
+		createReducers();
+		try {
+			processMessagesAndWaitUntil(() -> properties.isEmpty());
+			executor.shutdown();
+			for (Future<?> job : jobs) {
+				job.get();
+			}
+		} catch (ExecutionException e) {
+			throw new JKindException("IVC reduction failed", e.getCause());
+		} catch (InterruptedException e) {
+			throw new JKindException("Interrupted while waiting for IVC reduction", e);
+		} finally {
+			executor.shutdownNow();
+			for (Reducer reducer : reducers) {
+				if (reducer.solver != solver) {
+					reducer.solver.stop();
+				}
+			}
+		}
+	}
+
+	private void createReducers() {
+		int count = Math.max(1, settings.ivcWorkers);
+		reducers.add(new Reducer(solver));
+		for (int i = 1; i < count; i++) {
+			String scratch = getScratchBase() == null ? null : getScratchBase() + "." + i;
+			Solver other = SolverUtil.getSolver(settings.solver, scratch, spec.node, settings.bitVectors);
+			initializeIvcSolver(other, ivcMap.values());
+			reducers.add(new Reducer(other));
+		}
+		idleReducers.addAll(reducers);
+		executor = Executors.newFixedThreadPool(count);
 	}
 
 	private void reduce(ValidMessage vm) {
 		for (String property : vm.valid) {
 			if (properties.remove(property)) {
-				reduceInvariants(getInvariantByName(property, vm.invariants), vm);
+				Expr invariant = getInvariantByName(property, vm.invariants);
+				jobs.add(executor.submit(() -> {
+					reduce(invariant, vm);
+					return null;
+				}));
 			}
 		}
 	}
 
+	private void reduce(Expr property, ValidMessage vm) throws InterruptedException {
+		Reducer reducer = idleReducers.take();
+		try {
+			reducer.reduceInvariants(property, vm);
+		} finally {
+			idleReducers.put(reducer);
+		}
+	}
+
 	private Expr getInvariantByName(String name, List<Expr> invariants) {
+		IdExpr property = new IdExpr(name);
 		for (Expr invariant : invariants) {
-			if (invariant.toString().equals(name)) {
+			if (invariant.equals(property)) {
 				return invariant;
 			}
 		}
@@ -78,189 +131,174 @@ public class IvcReductionEngine extends SolverBasedEngine {
 		// In rare cases, PDR will not return the original property as one of
 		// the invariants. By returning a new Expr we will effectively add it as
 		// a new invariants. See https://github.com/agacek/jkind/issues/44
-		return new IdExpr(name);
+		return property;
 	}
 
-	private void reduceInvariants(Expr property, ValidMessage vm) {
-		comment("Reducing invariants for: " + property);
-		solver.push();
-		solver.assertSexp(SexpUtil.conjoin(ivcMap.valueList()));
+	private Sexp createConditional(Entry<Symbol, Expr> entry, int k) {
+		Symbol actLit = entry.getKey();
+		Sexp inv = entry.getValue().accept(new Lustre2Sexp(k));
+		return new Cons("=>", actLit, inv);
+	}
 
-		LinkedBiMap<Symbol, Expr> candidates = createActivationLiterals(vm.invariants, "inv");
+	private Set<String> getIvcNames(List<Symbol> symbols) {
+		Set<String> result = new HashSet<>();
+		for (Symbol s : symbols) {
+			result.add(ivcMap.inverse().get(s));
+		}
+		return result;
+	}
 
-		Set<Expr> irreducible = new HashSet<>();
-		irreducible.add(property);
-		candidates.inverse().remove(property);
+	static Set<String> trimNode(Set<String> arg) {
+		Set<String> ivc = new HashSet<>();
+		for (String e : arg) {
+			ivc.add(e.replaceAll("~[0-9]+", ""));
+		}
+		return ivc;
+	}
 
-		int k = 0;
-		createVariables(-1);
-		createVariables(0);
-		assertInductiveTransition(0);
+	/**
+	 * A solver with the IVC transition relation which reduces one property at
+	 * a time
+	 */
+	private class Reducer {
+		private final Solver solver;
 
-		while (k <= vm.k) {
-			Sexp query = SexpUtil.conjoinInvariants(irreducible, k);
-			Result result = solver.unsatQuery(candidates.keyList(), query);
+		public Reducer(Solver solver) {
+			this.solver = solver;
+		}
 
-			if (result instanceof SatResult || result instanceof UnknownResult) {
-				/*
-				 * We haven't yet found the minimal value of k, so assert the
-				 * irreducible and conditional invariants and increase k
-				 */
+		public void reduceInvariants(Expr property, ValidMessage vm) {
+			comment("Reducing invariants for: " + property);
+			solver.push();
+			solver.assertSexp(SexpUtil.conjoin(ivcMap.valueList()));
 
-				for (Expr inv : irreducible) {
-					solver.assertSexp(inv.accept(new Lustre2Sexp(k)));
-				}
-				for (Entry<Symbol, Expr> entry : candidates.entrySet()) {
-					solver.assertSexp(createConditional(entry, k));
-				}
-				k++;
-				createVariables(k);
-				assertInductiveTransition(k);
-			} else if (result instanceof UnsatResult) {
-				/*
-				 * We found the minimal value of k, now we determine which
-				 * candidate invariants are necessary to prove the irreducible
-				 * invariants. If no more are necessary, then we are done.
-				 * Otherwise we mark new irreducible invariants and start over
-				 * to see if any additional invariants are needed to prove
-				 * those.
-				 */
+			LinkedBiMap<Symbol, Expr> candidates = createActivationLiterals(vm.invariants, "inv");
 
-				List<Symbol> unsatCore = ((UnsatResult) result).getUnsatCore();
-				if (unsatCore.isEmpty()) {
-					break;
-				}
-				for (Symbol core : unsatCore) {
-					irreducible.add(candidates.remove(core));
-					solver.assertSexp(core);
-				}
-			}
-		}
+			Set<Expr> irreducible = new HashSet<>();
+			irreducible.add(property);
+			candidates.inverse().remove(property);
 
-		if (k == vm.k + 1) {
 			/*
-			 * Failed to find the right value of k, due to UnknownResult from
-			 * solver. Give up and use what we started with.
+			 * A property implied by invariants from other engines is reported
+			 * valid at k = 0, but its proof still needs those invariants to be
+			 * inductive
 			 */
-			irreducible.addAll(vm.invariants);
-			k = vm.k;
-		}
-
-		solver.pop();
-		reduceIvc(property, k, new ArrayList<>(irreducible), vm);
-	}
-
-	private void reduceIvc(Expr property, int k, List<Expr> invariants, ValidMessage vm) {
-		if (spec.node.ivc.isEmpty()) {
-			sendValid(property.toString(), k, invariants, Collections.emptySet(), vm);
-			return;
-		}
+			int limit = Math.max(1, vm.k);
+
+			int k = 0;
+			createVariables(-1);
+			createVariables(0);
+			assertInductiveTransition(0);
+
+			while (k <= limit) {
+				Sexp query = SexpUtil.conjoinInvariants(irreducible, k);
+				Result result = solver.unsatQuery(candidates.keyList(), query);
+
+				if (result instanceof SatResult || result instanceof UnknownResult) {
+					/*
+					 * We haven't yet found the minimal value of k, so assert the
+					 * irreducible and conditional invariants and increase k
+					 */
+
+					for (Expr inv : irreducible) {
+						solver.assertSexp(inv.accept(new Lustre2Sexp(k)));
+					}
+					for (Entry<Symbol, Expr> entry : candidates.entrySet()) {
+						solver.assertSexp(createConditional(entry, k));
+					}
+					k++;
+					createVariables(k);
+					assertInductiveTransition(k);
+				} else if (result instanceof UnsatResult) {
+					/*
+					 * We found the minimal value of k, now we determine which
+					 * candidate invariants are necessary to prove the irreducible
+					 * invariants. If no more are necessary, then we are done.
+					 * Otherwise we mark new irreducible invariants and start over
+					 * to see if any additional invariants are needed to prove
+					 * those.
+					 */
+
+					List<Symbol> unsatCore = ((UnsatResult) result).getUnsatCore();
+					if (unsatCore.isEmpty()) {
+						break;
+					}
+					for (Symbol core : unsatCore) {
+						irreducible.add(candidates.remove(core));
+						solver.assertSexp(core);
+					}
+				}
+			}
 
-		comment("Reducing ivc for: " + property);
-		solver.push();
+			if (k == limit + 1) {
+				/*
+				 * Failed to find the right value of k, due to UnknownResult from
+				 * solver. Give up and use what we started with.
+				 */
+				irreducible.addAll(vm.invariants);
+				k = limit;
+			}
 
-		createVariables(-1);
-		for (int i = 0; i <= k; i++) {
-			createVariables(i);
+			solver.pop();
+			reduceIvc(property, k, new ArrayList<>(irreducible), vm);
 		}
-		assertInductiveTransition(0);
 
-		Result result = solver.unsatQuery(ivcMap.valueList(), getIvcQuery(invariants, k));
-		if (!(result instanceof UnsatResult)) {
-			throw new JKindException("Trying to reduce IVC on falsifiable property");
-		}
-		List<Symbol> unsatCore = ((UnsatResult) result).getUnsatCore();
-		solver.pop();
+		private void reduceIvc(Expr property, int k, List<Expr> invariants, ValidMessage vm) {
+			if (spec.node.ivc.isEmpty()) {
+				sendValid(property.toString(), k, invariants, Collections.emptySet(), vm);
+				return;
+			}
 
-		sendValid(property.toString(), k, invariants, getIvcNames(unsatCore), vm);
-	}
+			comment("Reducing ivc for: " + property);
+			solver.push();
 
-	private Sexp getIvcQuery(List<Expr> properties, int k) {
-		if (k == 0) {
-			return SexpUtil.conjoinInvariants(properties, k);
-		}
+			createVariables(-1);
+			for (int i = 0; i <= k; i++) {
+				createVariables(i);
+			}
+			assertInductiveTransition(0);
 
-		Sexp base = getBaseIvcQuery(properties, k);
-		Sexp inductiveStep = getStepIvcQuery(properties, k);
-		return new Cons("and", base, inductiveStep);
-	}
+			Result result = solver.unsatQuery(ivcMap.valueList(), getIvcQuery(invariants, k));
+			if (!(result instanceof UnsatResult)) {
+				throw new JKindException("Trying to reduce IVC on falsifiable property");
+			}
+			List<Symbol> unsatCore = ((UnsatResult) result).getUnsatCore();
+			solver.pop();
 
-	/**
-	 * Base step query for IVC reduction. Examples for k = 1, 2, 3:
-	 * 
-	 * %init => P(0)
-	 * 
-	 * %init => (P(0) and (T(0, 1) => P(1)))
-	 *
-	 * %init => (P(0) and (T(0, 1) => (P(1) and (T(1, 2) => P(2)))))
-	 */
-	private Sexp getBaseIvcQuery(List<Expr> properties, int k) {
-		Sexp query = SexpUtil.conjoinInvariants(properties, k - 1);
-		for (int i = k - 1; i > 0; i--) {
-			query = new Cons("=>", getBaseTransition(i), query);
-			query = new Cons("and", SexpUtil.conjoinInvariants(properties, i - 1), query);
+			sendValid(property.toString(), k, invariants, getIvcNames(unsatCore), vm);
 		}
-		return new Cons("=>", INIT, query);
-	}
 
-	/**
-	 * Inductive step query for IVC reduction. Examples for k = 1, 2, 3:
-	 * 
-	 * (P(0) and T(0, 1)) => P(1)
-	 * 
-	 * (P(0) and T(0, 1) and P(1) and T(1, 2)) => P(2)
-	 *
-	 * (P(0) and T(0, 1) and P(1) and T(1, 2) and P(2) and T(2, 3)) => P(3)
-	 */
-	private Sexp getStepIvcQuery(List<Expr> properties, int k) {
-		List<Sexp> hyps = new ArrayList<>();
-		for (int i = 0; i < k; i++) {
-			hyps.add(SexpUtil.conjoinInvariants(properties, i));
-			hyps.add(getInductiveTransition(i + 1));
+		private <T> LinkedBiMap<Symbol, T> createActivationLiterals(List<T> elements, String prefix) {
+			LinkedBiMap<Symbol, T> map = new LinkedBiMap<>();
+			int i = 0;
+			for (T element : elements) {
+				map.put(solver.createActivationLiteral(prefix, i++), element);
+			}
+			return map;
 		}
-		return new Cons("=>", SexpUtil.conjoin(hyps), SexpUtil.conjoinInvariants(properties, k));
-	}
 
-	private Sexp createConditional(Entry<Symbol, Expr> entry, int k) {
-		Symbol actLit = entry.getKey();
-		Sexp inv = entry.getValue().accept(new Lustre2Sexp(k));
-		return new Cons("=>", actLit, inv);
-	}
+		private void sendValid(String valid, int k, List<Expr> invariants, Set<String> ivc, ValidMessage vm) {
+			comment("Sending " + valid + " at k = " + k + " with invariants: ");
+			for (Expr invariant : invariants) {
+				comment(invariant.toString());
+			}
+			comment("IVC: " + ivc.toString());
 
-	private <T> LinkedBiMap<Symbol, T> createActivationLiterals(List<T> elements, String prefix) {
-		LinkedBiMap<Symbol, T> map = new LinkedBiMap<>();
-		int i = 0;
-		for (T element : elements) {
-			map.put(solver.createActivationLiteral(prefix, i++), element);
+			Itinerary itinerary = vm.getNextItinerary();
+			director.broadcast(new ValidMessage(vm.source, valid, k, invariants, trimNode(ivc), itinerary));
 		}
-		return map;
-	}
 
-	private Set<String> getIvcNames(List<Symbol> symbols) {
-		Set<String> result = new HashSet<>();
-		for (Symbol s : symbols) {
-			result.add(ivcMap.inverse().get(s));
+		private void comment(String str) {
+			solver.comment(str);
 		}
-		return result;
-	}
 
-	private void sendValid(String valid, int k, List<Expr> invariants, Set<String> ivc, ValidMessage vm) {
-		comment("Sending " + valid + " at k = " + k + " with invariants: ");
-		for (Expr invariant : invariants) {
-			comment(invariant.toString());
+		private void createVariables(int k) {
+			IvcReductionEngine.this.createVariables(solver, k);
 		}
-		comment("IVC: " + ivc.toString());
 
-		Itinerary itinerary = vm.getNextItinerary();
-		director.broadcast(new ValidMessage(vm.source, valid, k, invariants, trimNode(ivc), itinerary));
-	}
-
-	private Set<String> trimNode(Set<String> arg) {
-		Set<String> ivc = new HashSet<>();
-		for (String e : arg) {
-			ivc.add(e.replaceAll("~[0-9]+", ""));
+		private void assertInductiveTransition(int k) {
+			solver.assertSexp(getInductiveTransition(k));
 		}
-		return ivc;
 	}
 
 	@Override
@@ -1,5 +1,8 @@
 package jkind.engines;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import jkind.JKindException;
 import jkind.JKindSettings;
 import jkind.engines.messages.BaseStepMessage;
@@ -15,6 +18,7 @@ import jkind.sexp.Cons;
 import jkind.sexp.Symbol;
 import jkind.slicing.Dependency;
 import jkind.slicing.DependencySet;
+import jkind.solvers.FuMalikMaxSatSolver;
 import jkind.solvers.MaxSatSolver;
 import jkind.solvers.Model;
 import jkind.solvers.Result;
@@ -22,9 +26,18 @@ import jkind.solvers.UnsatResult;
 import jkind.translation.Specification;
 import jkind.util.StreamIndex;
 
+/**
+ * Minimizes the number of input changes in counterexamples. Solvers without
+ * native MaxSAT support use the core-guided algorithm in FuMalikMaxSatSolver.
+ *
+ * The unrolling is shared by all counterexamples. Each transition is guarded
+ * by a literal for its step, so a counterexample only enables the steps it
+ * needs and later steps never constrain it.
+ */
 public class SmoothingEngine extends SolverBasedEngine {
 	public static final String NAME = "smoothing";
 	private MaxSatSolver maxSatSolver;
+	private final List<Symbol> steps = new ArrayList<>();
 
 	public SmoothingEngine(Specification spec, JKindSettings settings, Director director) {
 		super(NAME, spec, settings, director);
@@ -33,11 +46,16 @@ public class SmoothingEngine extends SolverBasedEngine {
 	@Override
 	protected void initializeSolver() {
 		super.initializeSolver();
-		maxSatSolver = (MaxSatSolver) solver;
+		if (solver instanceof MaxSatSolver) {
+			maxSatSolver = (MaxSatSolver) solver;
+		} else {
+			maxSatSolver = new FuMalikMaxSatSolver(solver);
+		}
 	}
 
 	@Override
 	public void main() {
+		createVariables(-1);
 		processMessagesAndWaitUntil(() -> properties.isEmpty());
 	}
 
@@ -53,12 +71,11 @@ public class SmoothingEngine extends SolverBasedEngine {
 		comment("Smoothing: " + property);
 		DependencySet relevant = spec.dependencyMap.get(property);
 
+		unroll(im.length);
 		solver.push();
 
-		createVariables(-1);
 		for (int i = 0; i < im.length; i++) {
-			createVariables(i);
-			assertBaseTransition(i);
+			solver.assertSexp(steps.get(i));
 			if (i > 0) {
 				assertDeltaCost(i, relevant);
 			}
@@ -78,6 +95,15 @@ public class SmoothingEngine extends SolverBasedEngine {
 		sendCounterexample(property, smoothModel, im);
 	}
 
+	private void unroll(int length) {
+		for (int i = steps.size(); i < length; i++) {
+			createVariables(i);
+			Symbol step = solver.createActivationLiteral("step", i);
+			solver.assertSexp(new Cons("=>", step, getBaseTransition(i)));
+			steps.add(step);
+		}
+	}
+
 	private void assertDeltaCost(int k, DependencySet relevant) {
 		for (VarDecl input : spec.node.inputs) {
 			if (relevant.contains(Dependency.variable(input.id))) {
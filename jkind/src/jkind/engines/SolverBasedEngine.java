@@ -1,6 +1,7 @@
 package jkind.engines;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import jkind.JKindSettings;
@@ -19,6 +20,7 @@ import jkind.solvers.Solver;
 import jkind.solvers.UnknownResult;
 import jkind.translation.Lustre2Sexp;
 import jkind.translation.Specification;
+import jkind.util.SexpUtil;
 import jkind.util.StreamIndex;
 import jkind.util.Util;
 
@@ -54,8 +56,18 @@ public abstract class SolverBasedEngine extends Engine {
 		solver.define(new VarDecl(INIT.str, NamedType.BOOL));
 	}
 
+	protected void initializeIvcSolver(Solver solver, Collection<Symbol> ivcLiterals) {
+		solver.initialize();
+		for (Symbol e : ivcLiterals) {
+			solver.define(new VarDecl(e.str, NamedType.BOOL));
+		}
+		solver.declare(spec.functions);
+		solver.define(spec.getIvcTransitionRelation());
+		solver.define(new VarDecl(INIT.str, NamedType.BOOL));
+	}
+
 	protected Solver getSolver() {
-		return SolverUtil.getSolver(settings.solver, getScratchBase(), spec.node);
+		return SolverUtil.getSolver(settings.solver, getScratchBase(), spec.node, settings.bitVectors);
 	}
 
 	/** Utility */
@@ -65,6 +77,10 @@ public abstract class SolverBasedEngine extends Engine {
 	}
 
 	protected void createVariables(int k) {
+		createVariables(solver, k);
+	}
+
+	protected void createVariables(Solver solver, int k) {
 		for (VarDecl vd : getOffsetVarDecls(k)) {
 			solver.define(vd);
 		}
@@ -120,6 +136,52 @@ public abstract class SolverBasedEngine extends Engine {
 		return new Cons(spec.getTransitionRelation().getName(), args);
 	}
 
+	protected Sexp getIvcQuery(List<Expr> properties, int k) {
+		if (k == 0) {
+			return SexpUtil.conjoinInvariants(properties, k);
+		}
+
+		Sexp base = getBaseIvcQuery(properties, k);
+		Sexp inductiveStep = getStepIvcQuery(properties, k);
+		return new Cons("and", base, inductiveStep);
+	}
+
+	/**
+	 * Base step query for IVC reduction. Examples for k = 1, 2, 3:
+	 * 
+	 * %init => P(0)
+	 * 
+	 * %init => (P(0) and (T(0, 1) => P(1)))
+	 *
+	 * %init => (P(0) and (T(0, 1) => (P(1) and (T(1, 2) => P(2)))))
+	 */
+	protected Sexp getBaseIvcQuery(List<Expr> properties, int k) {
+		Sexp query = SexpUtil.conjoinInvariants(properties, k - 1);
+		for (int i = k - 1; i > 0; i--) {
+			query = new Cons("=>", getBaseTransition(i), query);
+			query = new Cons("and", SexpUtil.conjoinInvariants(properties, i - 1), query);
+		}
+		return new Cons("=>", INIT, query);
+	}
+
+	/**
+	 * Inductive step query for IVC reduction. Examples for k = 1, 2, 3:
+	 * 
+	 * (P(0) and T(0, 1)) => P(1)
+	 * 
+	 * (P(0) and T(0, 1) and P(1) and T(1, 2)) => P(2)
+	 *
+	 * (P(0) and T(0, 1) and P(1) and T(1, 2) and P(2) and T(2, 3)) => P(3)
+	 */
+	protected Sexp getStepIvcQuery(List<Expr> properties, int k) {
+		List<Sexp> hyps = new ArrayList<>();
+		for (int i = 0; i < k; i++) {
+			hyps.add(SexpUtil.conjoinInvariants(properties, i));
+			hyps.add(getInductiveTransition(i + 1));
+		}
+		return new Cons("=>", SexpUtil.conjoin(hyps), SexpUtil.conjoinInvariants(properties, k));
+	}
+
 	protected List<Sexp> getSymbols(List<VarDecl> varDecls) {
 		List<Sexp> result = new ArrayList<>();
 		for (VarDecl vd : varDecls) {
@@ -2,11 +2,15 @@ package jkind.engines;
 
 import static java.util.stream.Collectors.toList;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import jkind.JKindException;
 import jkind.SolverOption;
+import jkind.analysis.BitVectorWidth;
+import jkind.analysis.ContainsArrays;
 import jkind.analysis.LinearChecker;
 import jkind.analysis.YicesArithOnlyCheck;
 import jkind.lustre.Node;
@@ -15,6 +19,7 @@ import jkind.solvers.Solver;
 import jkind.solvers.cvc4.Cvc4Solver;
 import jkind.solvers.mathsat.MathSatSolver;
 import jkind.solvers.smtinterpol.SmtInterpolSolver;
+import jkind.solvers.smtlib2.SmtLib2Solver;
 import jkind.solvers.yices.YicesSolver;
 import jkind.solvers.yices2.Yices2Solver;
 import jkind.solvers.z3.Z3Solver;
@@ -33,11 +38,26 @@ public class SolverUtil {
 		case MATHSAT:
 			return new MathSatSolver(scratchBase);
 		case SMTINTERPOL:
-			return new SmtInterpolSolver(scratchBase);
+			return new SmtInterpolSolver(scratchBase, ContainsArrays.check(node));
 		}
 		throw new IllegalArgumentException("Unknown solver: " + solverOption);
 	}
 
+	/**
+	 * Get a solver which encodes integers as bit-vectors when requested and
+	 * all integers in the node are bounded
+	 */
+	public static Solver getSolver(SolverOption solverOption, String scratchBase, Node node, boolean bitVectors) {
+		Solver solver = getSolver(solverOption, scratchBase, node);
+		if (bitVectors && solver instanceof SmtLib2Solver) {
+			Map<String, BigInteger> bounds = BitVectorWidth.getBounds(node);
+			if (bounds != null) {
+				((SmtLib2Solver) solver).setBitVectors(BitVectorWidth.get(node), bounds);
+			}
+		}
+		return solver;
+	}
+
 	public static Solver getBasicSolver(SolverOption solverOption) {
 		Node emptyNode = new NodeBuilder("empty").build();
 		return getSolver(solverOption, null, emptyNode);
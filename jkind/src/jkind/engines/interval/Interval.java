@@ -0,0 +1,346 @@
+package jkind.engines.interval;
+
+import java.math.BigInteger;
+
+import jkind.util.BigFraction;
+
+/**
+ * An immutable interval of rational values. A null bound is unbounded.
+ * Booleans are represented as intervals over 0 (false) and 1 (true).
+ */
+public class Interval {
+	public static final Interval TOP = new Interval(null, null);
+	public static final Interval EMPTY = new Interval(BigFraction.ONE, BigFraction.ZERO);
+	public static final Interval FALSE = new Interval(BigFraction.ZERO, BigFraction.ZERO);
+	public static final Interval TRUE = new Interval(BigFraction.ONE, BigFraction.ONE);
+	public static final Interval BOOL = new Interval(BigFraction.ZERO, BigFraction.ONE);
+
+	public final BigFraction low;
+	public final BigFraction high;
+
+	public Interval(BigFraction low, BigFraction high) {
+		this.low = low;
+		this.high = high;
+	}
+
+	public static Interval constant(BigFraction value) {
+		return new Interval(value, value);
+	}
+
+	public static Interval fromBoolean(boolean value) {
+		return value ? TRUE : FALSE;
+	}
+
+	public boolean isEmpty() {
+		return low != null && high != null && low.compareTo(high) > 0;
+	}
+
+	public boolean isTrue() {
+		return equals(TRUE);
+	}
+
+	public boolean isFalse() {
+		return equals(FALSE);
+	}
+
+	public boolean isConstant() {
+		return low != null && low.equals(high);
+	}
+
+	public Interval join(Interval other) {
+		if (isEmpty()) {
+			return other;
+		} else if (other.isEmpty()) {
+			return this;
+		}
+		return new Interval(minLow(low, other.low), maxHigh(high, other.high));
+	}
+
+	public Interval meet(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		}
+		Interval result = new Interval(maxLow(low, other.low), minHigh(high, other.high));
+		return result.isEmpty() ? EMPTY : result;
+	}
+
+	/**
+	 * Standard interval widening: any bound which is not stable is dropped
+	 */
+	public Interval widen(Interval next) {
+		if (isEmpty()) {
+			return next;
+		} else if (next.isEmpty()) {
+			return this;
+		}
+
+		BigFraction newLow = (low != null && next.low != null && next.low.compareTo(low) >= 0) ? low : null;
+		BigFraction newHigh = (high != null && next.high != null && next.high.compareTo(high) <= 0) ? high : null;
+		return new Interval(newLow, newHigh);
+	}
+
+	/**
+	 * Standard interval narrowing: only unbounded sides are refined
+	 */
+	public Interval narrow(Interval next) {
+		if (isEmpty() || next.isEmpty()) {
+			return next;
+		}
+		return new Interval(low == null ? next.low : low, high == null ? next.high : high);
+	}
+
+	public boolean contains(Interval other) {
+		return meet(other).equals(other) || other.isEmpty();
+	}
+
+	/** Arithmetic */
+
+	public Interval negate() {
+		if (isEmpty()) {
+			return EMPTY;
+		}
+		return new Interval(negate(high), negate(low));
+	}
+
+	public Interval add(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		}
+		return new Interval(add(low, other.low), add(high, other.high));
+	}
+
+	public Interval subtract(Interval other) {
+		return add(other.negate());
+	}
+
+	public Interval multiply(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		} else if (isZero() || other.isZero()) {
+			return constant(BigFraction.ZERO);
+		} else if (!isBounded() || !other.isBounded()) {
+			return multiplyUnbounded(other);
+		}
+
+		BigFraction p1 = low.multiply(other.low);
+		BigFraction p2 = low.multiply(other.high);
+		BigFraction p3 = high.multiply(other.low);
+		BigFraction p4 = high.multiply(other.high);
+		return new Interval(min(min(p1, p2), min(p3, p4)), max(max(p1, p2), max(p3, p4)));
+	}
+
+	private Interval multiplyUnbounded(Interval other) {
+		if (other.isConstant()) {
+			return scale(other.low);
+		} else if (isConstant()) {
+			return other.scale(low);
+		}
+		return TOP;
+	}
+
+	private Interval scale(BigFraction factor) {
+		BigFraction newLow = low == null ? null : low.multiply(factor);
+		BigFraction newHigh = high == null ? null : high.multiply(factor);
+		if (factor.signum() >= 0) {
+			return new Interval(newLow, newHigh);
+		} else {
+			return new Interval(newHigh, newLow);
+		}
+	}
+
+	public Interval divide(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		} else if (other.isConstant() && other.low.signum() != 0) {
+			return scale(BigFraction.ONE.divide(other.low));
+		}
+		return TOP;
+	}
+
+	/**
+	 * Integer division with floor semantics, only precise for positive
+	 * constant divisors
+	 */
+	public Interval intDivide(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		} else if (other.isConstant() && other.low.signum() > 0) {
+			BigFraction newLow = low == null ? null : floor(low.divide(other.low));
+			BigFraction newHigh = high == null ? null : floor(high.divide(other.low));
+			return new Interval(newLow, newHigh);
+		}
+		return TOP;
+	}
+
+	public Interval modulus(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		} else if (other.isConstant() && other.low.signum() != 0) {
+			BigFraction bound = new BigFraction(other.low.getNumerator().abs().subtract(BigInteger.ONE));
+			Interval range = new Interval(BigFraction.ZERO, bound);
+			return range.contains(this) ? this : range;
+		}
+		return TOP;
+	}
+
+	public Interval floor() {
+		if (isEmpty()) {
+			return EMPTY;
+		}
+		return new Interval(low == null ? null : floor(low), high == null ? null : floor(high));
+	}
+
+	/** Comparisons */
+
+	public Interval less(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		} else if (high != null && other.low != null && high.compareTo(other.low) < 0) {
+			return TRUE;
+		} else if (low != null && other.high != null && low.compareTo(other.high) >= 0) {
+			return FALSE;
+		}
+		return BOOL;
+	}
+
+	public Interval lessEqual(Interval other) {
+		return other.less(this).not();
+	}
+
+	public Interval equal(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		} else if (isConstant() && equals(other)) {
+			return TRUE;
+		} else if (meet(other).isEmpty()) {
+			return FALSE;
+		}
+		return BOOL;
+	}
+
+	/** Booleans */
+
+	public Interval not() {
+		if (isTrue()) {
+			return FALSE;
+		} else if (isFalse()) {
+			return TRUE;
+		} else if (isEmpty()) {
+			return EMPTY;
+		}
+		return BOOL;
+	}
+
+	public Interval and(Interval other) {
+		if (isEmpty() || other.isEmpty()) {
+			return EMPTY;
+		} else if (isFalse() || other.isFalse()) {
+			return FALSE;
+		} else if (isTrue() && other.isTrue()) {
+			return TRUE;
+		}
+		return BOOL;
+	}
+
+	public Interval or(Interval other) {
+		return not().and(other.not()).not();
+	}
+
+	/** Utility */
+
+	private boolean isZero() {
+		return isConstant() && low.signum() == 0;
+	}
+
+	private boolean isBounded() {
+		return low != null && high != null;
+	}
+
+	private static BigFraction floor(BigFraction value) {
+		return new BigFraction(value.floor());
+	}
+
+	private static BigFraction negate(BigFraction value) {
+		return value == null ? null : value.negate();
+	}
+
+	private static BigFraction add(BigFraction value1, BigFraction value2) {
+		return (value1 == null || value2 == null) ? null : value1.add(value2);
+	}
+
+	/** Minimum of two lower bounds, where null is negative infinity */
+	private static BigFraction minLow(BigFraction value1, BigFraction value2) {
+		if (value1 == null || value2 == null) {
+			return null;
+		}
+		return min(value1, value2);
+	}
+
+	/** Maximum of two upper bounds, where null is positive infinity */
+	private static BigFraction maxHigh(BigFraction value1, BigFraction value2) {
+		if (value1 == null || value2 == null) {
+			return null;
+		}
+		return max(value1, value2);
+	}
+
+	/** Maximum of two lower bounds, where null is negative infinity */
+	private static BigFraction maxLow(BigFraction value1, BigFraction value2) {
+		if (value1 == null) {
+			return value2;
+		} else if (value2 == null) {
+			return value1;
+		}
+		return max(value1, value2);
+	}
+
+	/** Minimum of two upper bounds, where null is positive infinity */
+	private static BigFraction minHigh(BigFraction value1, BigFraction value2) {
+		if (value1 == null) {
+			return value2;
+		} else if (value2 == null) {
+			return value1;
+		}
+		return min(value1, value2);
+	}
+
+	private static BigFraction min(BigFraction value1, BigFraction value2) {
+		return value1.compareTo(value2) <= 0 ? value1 : value2;
+	}
+
+	private static BigFraction max(BigFraction value1, BigFraction value2) {
+		return value1.compareTo(value2) >= 0 ? value1 : value2;
+	}
+
+	@Override
+	public int hashCode() {
+		return (low == null ? 0 : low.hashCode()) * 31 + (high == null ? 0 : high.hashCode());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Interval)) {
+			return false;
+		}
+		Interval other = (Interval) obj;
+		if (isEmpty() || other.isEmpty()) {
+			return isEmpty() && other.isEmpty();
+		}
+		return equals(low, other.low) && equals(high, other.high);
+	}
+
+	private static boolean equals(BigFraction value1, BigFraction value2) {
+		return value1 == null ? value2 == null : value1.equals(value2);
+	}
+
+	@Override
+	public String toString() {
+		if (isEmpty()) {
+			return "[]";
+		}
+		return "[" + (low == null ? "-inf" : low) + ", " + (high == null ? "inf" : high) + "]";
+	}
+}
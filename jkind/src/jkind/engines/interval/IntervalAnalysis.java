@@ -0,0 +1,86 @@
+package jkind.engines.interval;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jkind.lustre.Equation;
+import jkind.lustre.Expr;
+import jkind.lustre.Node;
+import jkind.lustre.Type;
+import jkind.util.Util;
+
+/**
+ * Computes an interval for every variable of a node which over-approximates
+ * the values it takes in all reachable steps. The fixpoint is computed with
+ * widening, and then improved with a bounded number of narrowing steps.
+ */
+public class IntervalAnalysis {
+	private static final int WIDENING_DELAY = 3;
+	private static final int NARROWING_STEPS = 5;
+
+	private final Map<String, Expr> equations = new HashMap<>();
+	private final Map<String, Type> typeMap;
+
+	public IntervalAnalysis(Node node) {
+		for (Equation eq : node.equations) {
+			equations.put(eq.lhs.get(0).id, eq.expr);
+		}
+		this.typeMap = Util.getTypeMap(node);
+	}
+
+	public Map<String, Interval> analyze() {
+		Map<String, Interval> initial = step(null);
+
+		Map<String, Interval> state = initial;
+		for (int i = 0;; i++) {
+			Map<String, Interval> next = join(initial, step(state));
+			next = i < WIDENING_DELAY ? join(state, next) : widen(state, next);
+			if (next.equals(state)) {
+				break;
+			}
+			state = next;
+		}
+
+		for (int i = 0; i < NARROWING_STEPS; i++) {
+			Map<String, Interval> next = narrow(state, join(initial, step(state)));
+			if (next.equals(state)) {
+				break;
+			}
+			state = next;
+		}
+
+		return state;
+	}
+
+	public Map<String, Type> getTypeMap() {
+		return typeMap;
+	}
+
+	private Map<String, Interval> step(Map<String, Interval> previous) {
+		return new IntervalEvaluator(equations, typeMap, previous).evalAll();
+	}
+
+	private Map<String, Interval> join(Map<String, Interval> state1, Map<String, Interval> state2) {
+		Map<String, Interval> result = new HashMap<>();
+		for (String id : typeMap.keySet()) {
+			result.put(id, state1.get(id).join(state2.get(id)));
+		}
+		return result;
+	}
+
+	private Map<String, Interval> widen(Map<String, Interval> state, Map<String, Interval> next) {
+		Map<String, Interval> result = new HashMap<>();
+		for (String id : typeMap.keySet()) {
+			result.put(id, state.get(id).widen(next.get(id)));
+		}
+		return result;
+	}
+
+	private Map<String, Interval> narrow(Map<String, Interval> state, Map<String, Interval> next) {
+		Map<String, Interval> result = new HashMap<>();
+		for (String id : typeMap.keySet()) {
+			result.put(id, state.get(id).narrow(next.get(id)));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,134 @@
+package jkind.engines.interval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jkind.JKindSettings;
+import jkind.engines.Director;
+import jkind.engines.Engine;
+import jkind.engines.messages.BaseStepMessage;
+import jkind.engines.messages.InductiveCounterexampleMessage;
+import jkind.engines.messages.InvalidMessage;
+import jkind.engines.messages.InvariantMessage;
+import jkind.engines.messages.Itinerary;
+import jkind.engines.messages.UnknownMessage;
+import jkind.engines.messages.ValidMessage;
+import jkind.lustre.BinaryExpr;
+import jkind.lustre.BinaryOp;
+import jkind.lustre.Expr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.IntExpr;
+import jkind.lustre.NamedType;
+import jkind.lustre.RealExpr;
+import jkind.lustre.Type;
+import jkind.lustre.UnaryExpr;
+import jkind.lustre.UnaryOp;
+import jkind.translation.Specification;
+import jkind.util.BigFraction;
+
+/**
+ * Computes interval bounds on all variables by abstract interpretation of the
+ * node equations, without calling a solver. The bounds are broadcast as
+ * invariants, and properties which are always true in the fixpoint are
+ * reported as valid.
+ */
+public class IntervalEngine extends Engine {
+	public static final String NAME = "interval-analysis";
+
+	public IntervalEngine(Specification spec, JKindSettings settings, Director director) {
+		super(NAME, spec, settings, director);
+	}
+
+	@Override
+	protected void main() {
+		IntervalAnalysis analysis = new IntervalAnalysis(spec.node);
+		Map<String, Interval> fixpoint = analysis.analyze();
+		Map<String, Type> typeMap = analysis.getTypeMap();
+
+		List<Expr> invariants = new ArrayList<>();
+		List<String> valid = new ArrayList<>();
+		for (String id : typeMap.keySet()) {
+			Type type = typeMap.get(id);
+			Interval interval = fixpoint.get(id);
+			if (type == NamedType.BOOL) {
+				if (interval.isTrue()) {
+					invariants.add(new IdExpr(id));
+					if (properties.contains(id)) {
+						valid.add(id);
+					}
+				} else if (interval.isFalse()) {
+					invariants.add(new UnaryExpr(UnaryOp.NOT, new IdExpr(id)));
+				}
+			} else {
+				addBounds(invariants, id, type, interval);
+			}
+		}
+
+		if (invariants.isEmpty()) {
+			return;
+		}
+
+		director.broadcast(new InvariantMessage(invariants));
+		if (!valid.isEmpty()) {
+			Itinerary itinerary = director.getValidMessageItinerary();
+			director.broadcast(new ValidMessage(getName(), valid, 1, invariants, null, itinerary));
+		}
+	}
+
+	private void addBounds(List<Expr> invariants, String id, Type type, Interval interval) {
+		Interval range = IntervalEvaluator.getTypeRange(type);
+		boolean integral = IntervalEvaluator.isIntegral(type);
+		IdExpr idExpr = new IdExpr(id);
+
+		if (interval.low != null && !interval.low.equals(range.low)) {
+			Expr bound = toExpr(interval.low, integral, true);
+			invariants.add(new BinaryExpr(idExpr, BinaryOp.GREATEREQUAL, bound));
+		}
+
+		if (interval.high != null && !interval.high.equals(range.high)) {
+			Expr bound = toExpr(interval.high, integral, false);
+			invariants.add(new BinaryExpr(idExpr, BinaryOp.LESSEQUAL, bound));
+		}
+	}
+
+	private static Expr toExpr(BigFraction value, boolean integral, boolean lower) {
+		if (integral) {
+			BigInteger bound = lower ? value.negate().floor().negate() : value.floor();
+			return new IntExpr(bound);
+		}
+
+		RealExpr num = new RealExpr(new BigDecimal(value.getNumerator()));
+		if (value.getDenominator().equals(BigInteger.ONE)) {
+			return num;
+		}
+		RealExpr denom = new RealExpr(new BigDecimal(value.getDenominator()));
+		return new BinaryExpr(num, BinaryOp.DIVIDE, denom);
+	}
+
+	@Override
+	protected void handleMessage(BaseStepMessage bsm) {
+	}
+
+	@Override
+	protected void handleMessage(InductiveCounterexampleMessage icm) {
+	}
+
+	@Override
+	protected void handleMessage(InvalidMessage im) {
+	}
+
+	@Override
+	protected void handleMessage(InvariantMessage im) {
+	}
+
+	@Override
+	protected void handleMessage(UnknownMessage um) {
+	}
+
+	@Override
+	protected void handleMessage(ValidMessage vm) {
+	}
+}
@@ -0,0 +1,448 @@
+package jkind.engines.interval;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+import jkind.lustre.ArrayAccessExpr;
+import jkind.lustre.ArrayExpr;
+import jkind.lustre.ArrayUpdateExpr;
+import jkind.lustre.BinaryExpr;
+import jkind.lustre.BinaryOp;
+import jkind.lustre.BoolExpr;
+import jkind.lustre.CastExpr;
+import jkind.lustre.CondactExpr;
+import jkind.lustre.EnumType;
+import jkind.lustre.Expr;
+import jkind.lustre.FunctionCallExpr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.IfThenElseExpr;
+import jkind.lustre.IntExpr;
+import jkind.lustre.NamedType;
+import jkind.lustre.NodeCallExpr;
+import jkind.lustre.RealExpr;
+import jkind.lustre.RecordAccessExpr;
+import jkind.lustre.RecordExpr;
+import jkind.lustre.RecordUpdateExpr;
+import jkind.lustre.SubrangeIntType;
+import jkind.lustre.TupleExpr;
+import jkind.lustre.Type;
+import jkind.lustre.UnaryExpr;
+import jkind.lustre.UnaryOp;
+import jkind.lustre.visitors.ExprVisitor;
+import jkind.util.BigFraction;
+
+/**
+ * Abstractly evaluates one step of a node over intervals. Values of 'pre'
+ * expressions are taken from the previous state, which is null for the initial
+ * step. Conditions of if-then-else expressions are used to refine the
+ * variables they compare before the branches are evaluated.
+ *
+ * This assumes all transformations have been performed, so that 'pre' is never
+ * nested and no compound types remain.
+ */
+public class IntervalEvaluator implements ExprVisitor<Interval> {
+	private final Map<String, Expr> equations;
+	private final Map<String, Type> typeMap;
+	private final Map<String, Interval> previous;
+
+	private final Map<String, Interval> current = new HashMap<>();
+	private final ArrayDeque<String> evalStack = new ArrayDeque<>();
+	private Map<String, Interval> refinements = new HashMap<>();
+	private boolean inPre = false;
+
+	public IntervalEvaluator(Map<String, Expr> equations, Map<String, Type> typeMap,
+			Map<String, Interval> previous) {
+		this.equations = equations;
+		this.typeMap = typeMap;
+		this.previous = previous;
+	}
+
+	public Map<String, Interval> evalAll() {
+		for (String id : typeMap.keySet()) {
+			eval(id);
+		}
+		return current;
+	}
+
+	public Interval eval(String id) {
+		if (current.containsKey(id)) {
+			return current.get(id);
+		} else if (evalStack.contains(id)) {
+			return getTypeRange(id);
+		}
+
+		Expr expr = equations.get(id);
+		if (expr == null) {
+			current.put(id, getTypeRange(id));
+			return current.get(id);
+		}
+
+		Map<String, Interval> savedRefinements = refinements;
+		boolean savedInPre = inPre;
+		refinements = new HashMap<>();
+		inPre = false;
+		evalStack.push(id);
+
+		Interval value = expr.accept(this).meet(getTypeRange(id));
+		if (value.isEmpty()) {
+			value = getTypeRange(id);
+		}
+
+		evalStack.pop();
+		refinements = savedRefinements;
+		inPre = savedInPre;
+
+		current.put(id, value);
+		return value;
+	}
+
+	private Interval getTypeRange(String id) {
+		return getTypeRange(typeMap.get(id));
+	}
+
+	public static Interval getTypeRange(Type type) {
+		if (type == NamedType.BOOL) {
+			return Interval.BOOL;
+		} else if (type instanceof SubrangeIntType) {
+			SubrangeIntType subrange = (SubrangeIntType) type;
+			return new Interval(new BigFraction(subrange.low), new BigFraction(subrange.high));
+		} else if (type instanceof EnumType) {
+			EnumType et = (EnumType) type;
+			return new Interval(BigFraction.ZERO, new BigFraction(BigInteger.valueOf(et.values.size() - 1)));
+		} else {
+			return Interval.TOP;
+		}
+	}
+
+	public static boolean isIntegral(Type type) {
+		return type == NamedType.INT || type instanceof SubrangeIntType || type instanceof EnumType;
+	}
+
+	@Override
+	public Interval visit(ArrayAccessExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(ArrayExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(ArrayUpdateExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(BinaryExpr e) {
+		if (e.op == BinaryOp.ARROW) {
+			if (inPre) {
+				return Interval.TOP;
+			}
+			return previous == null ? e.left.accept(this) : e.right.accept(this);
+		}
+
+		Interval left = e.left.accept(this);
+		Interval right = e.right.accept(this);
+
+		switch (e.op) {
+		case PLUS:
+			return left.add(right);
+		case MINUS:
+			return left.subtract(right);
+		case MULTIPLY:
+			return left.multiply(right);
+		case DIVIDE:
+			return left.divide(right);
+		case INT_DIVIDE:
+			return left.intDivide(right);
+		case MODULUS:
+			return left.modulus(right);
+		case EQUAL:
+			return left.equal(right);
+		case NOTEQUAL:
+			return left.equal(right).not();
+		case GREATER:
+			return right.less(left);
+		case LESS:
+			return left.less(right);
+		case GREATEREQUAL:
+			return right.lessEqual(left);
+		case LESSEQUAL:
+			return left.lessEqual(right);
+		case OR:
+			return left.or(right);
+		case AND:
+			return left.and(right);
+		case XOR:
+			return left.equal(right).not();
+		case IMPLIES:
+			return left.not().or(right);
+		default:
+			return Interval.TOP;
+		}
+	}
+
+	@Override
+	public Interval visit(BoolExpr e) {
+		return Interval.fromBoolean(e.value);
+	}
+
+	@Override
+	public Interval visit(CastExpr e) {
+		Interval value = e.expr.accept(this);
+		if (e.type == NamedType.INT) {
+			return value.floor();
+		}
+		return value;
+	}
+
+	@Override
+	public Interval visit(CondactExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(FunctionCallExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(IdExpr e) {
+		Interval refined = refinements.get(getKey(e.id));
+		if (refined != null) {
+			return refined;
+		} else if (inPre) {
+			Interval value = previous.get(e.id);
+			return value == null ? getTypeRange(e.id) : value;
+		} else {
+			return eval(e.id);
+		}
+	}
+
+	@Override
+	public Interval visit(IfThenElseExpr e) {
+		Interval cond = e.cond.accept(this);
+		if (cond.isTrue()) {
+			return e.thenExpr.accept(this);
+		} else if (cond.isFalse()) {
+			return e.elseExpr.accept(this);
+		}
+
+		Interval thenValue = evalUnder(e.cond, true, e.thenExpr);
+		Interval elseValue = evalUnder(e.cond, false, e.elseExpr);
+		return thenValue.join(elseValue);
+	}
+
+	private Interval evalUnder(Expr cond, boolean polarity, Expr expr) {
+		Map<String, Interval> saved = refinements;
+		refinements = new HashMap<>(saved);
+
+		Interval result;
+		if (refine(cond, polarity)) {
+			result = expr.accept(this);
+		} else {
+			result = Interval.EMPTY;
+		}
+
+		refinements = saved;
+		return result;
+	}
+
+	@Override
+	public Interval visit(IntExpr e) {
+		return Interval.constant(new BigFraction(e.value));
+	}
+
+	@Override
+	public Interval visit(NodeCallExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(RealExpr e) {
+		return Interval.constant(BigFraction.valueOf(e.value));
+	}
+
+	@Override
+	public Interval visit(RecordAccessExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(RecordExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(RecordUpdateExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(TupleExpr e) {
+		return Interval.TOP;
+	}
+
+	@Override
+	public Interval visit(UnaryExpr e) {
+		switch (e.op) {
+		case NEGATIVE:
+			return e.expr.accept(this).negate();
+		case NOT:
+			return e.expr.accept(this).not();
+		case PRE:
+			if (previous == null || inPre) {
+				return Interval.TOP;
+			}
+			inPre = true;
+			Interval result = e.expr.accept(this);
+			inPre = false;
+			return result;
+		default:
+			return Interval.TOP;
+		}
+	}
+
+	/** Condition refinement */
+
+	private String getKey(String id) {
+		return inPre ? "pre " + id : id;
+	}
+
+	/**
+	 * Get the key of an expression which can be refined, or null if it cannot
+	 * be refined
+	 */
+	private String getRefinableKey(Expr e) {
+		if (e instanceof IdExpr) {
+			return getKey(((IdExpr) e).id);
+		} else if (e instanceof UnaryExpr && !inPre && previous != null) {
+			UnaryExpr ue = (UnaryExpr) e;
+			if (ue.op == UnaryOp.PRE && ue.expr instanceof IdExpr) {
+				return "pre " + ((IdExpr) ue.expr).id;
+			}
+		}
+		return null;
+	}
+
+	private String getRefinableId(Expr e) {
+		if (e instanceof IdExpr) {
+			return ((IdExpr) e).id;
+		}
+		return ((IdExpr) ((UnaryExpr) e).expr).id;
+	}
+
+	/**
+	 * Refine the current refinements under the assumption that cond has the
+	 * given polarity. Returns false if the assumption is infeasible.
+	 */
+	private boolean refine(Expr cond, boolean polarity) {
+		if (cond instanceof UnaryExpr && ((UnaryExpr) cond).op == UnaryOp.NOT) {
+			return refine(((UnaryExpr) cond).expr, !polarity);
+		}
+
+		String key = getRefinableKey(cond);
+		if (key != null) {
+			return restrict(cond, key, Interval.fromBoolean(polarity));
+		}
+
+		if (!(cond instanceof BinaryExpr)) {
+			return true;
+		}
+
+		BinaryExpr be = (BinaryExpr) cond;
+		if ((be.op == BinaryOp.AND && polarity) || (be.op == BinaryOp.OR && !polarity)) {
+			return refine(be.left, polarity) && refine(be.right, polarity);
+		} else if (be.op == BinaryOp.IMPLIES && !polarity) {
+			return refine(be.left, true) && refine(be.right, false);
+		}
+
+		BinaryOp op = polarity ? be.op : negate(be.op);
+		if (op == null) {
+			return true;
+		}
+		return refineComparison(be.left, op, be.right) && refineComparison(be.right, flip(op), be.left);
+	}
+
+	private boolean refineComparison(Expr left, BinaryOp op, Expr right) {
+		String key = getRefinableKey(left);
+		if (key == null) {
+			return true;
+		}
+
+		Interval other = right.accept(this);
+		if (other.isEmpty()) {
+			return false;
+		}
+
+		boolean integral = isIntegral(typeMap.get(getRefinableId(left)));
+		BigFraction one = integral ? BigFraction.ONE : BigFraction.ZERO;
+		Interval constraint;
+		switch (op) {
+		case EQUAL:
+			constraint = other;
+			break;
+		case LESS:
+			constraint = new Interval(null, other.high == null ? null : other.high.subtract(one));
+			break;
+		case LESSEQUAL:
+			constraint = new Interval(null, other.high);
+			break;
+		case GREATER:
+			constraint = new Interval(other.low == null ? null : other.low.add(one), null);
+			break;
+		case GREATEREQUAL:
+			constraint = new Interval(other.low, null);
+			break;
+		default:
+			return true;
+		}
+		return restrict(left, key, constraint);
+	}
+
+	private boolean restrict(Expr e, String key, Interval constraint) {
+		Interval value = e.accept(this).meet(constraint);
+		if (value.isEmpty()) {
+			return false;
+		}
+		refinements.put(key, value);
+		return true;
+	}
+
+	private static BinaryOp negate(BinaryOp op) {
+		switch (op) {
+		case EQUAL:
+			return BinaryOp.NOTEQUAL;
+		case NOTEQUAL:
+			return BinaryOp.EQUAL;
+		case LESS:
+			return BinaryOp.GREATEREQUAL;
+		case LESSEQUAL:
+			return BinaryOp.GREATER;
+		case GREATER:
+			return BinaryOp.LESSEQUAL;
+		case GREATEREQUAL:
+			return BinaryOp.LESS;
+		default:
+			return null;
+		}
+	}
+
+	private static BinaryOp flip(BinaryOp op) {
+		switch (op) {
+		case LESS:
+			return BinaryOp.GREATER;
+		case LESSEQUAL:
+			return BinaryOp.GREATEREQUAL;
+		case GREATER:
+			return BinaryOp.LESS;
+		case GREATEREQUAL:
+			return BinaryOp.LESSEQUAL;
+		default:
+			return op;
+		}
+	}
+}
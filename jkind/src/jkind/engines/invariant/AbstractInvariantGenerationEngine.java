@@ -20,12 +20,15 @@ import jkind.sexp.Cons;
 import jkind.sexp.Sexp;
 import jkind.solvers.Model;
 import jkind.solvers.ModelEvaluator;
-import jkind.solvers.Result;
-import jkind.solvers.UnsatResult;
 import jkind.translation.Specification;
 import jkind.util.SexpUtil;
 
 public abstract class AbstractInvariantGenerationEngine extends SolverBasedEngine {
+	/**
+	 * Number of counterexamples harvested from the solver per refinement query
+	 */
+	private static final int MODELS_PER_QUERY = 16;
+
 	private final InvariantSet provenInvariants = new InvariantSet();
 
 	public AbstractInvariantGenerationEngine(String name, Specification spec,
@@ -61,7 +64,7 @@ public abstract class AbstractInvariantGenerationEngine extends SolverBasedEngin
 
 	private void refineBaseStep(int k, StructuredInvariant invariant) {
 		solver.push();
-		Result result;
+		List<Model> models;
 
 		for (int i = 0; i <= k; i++) {
 			assertBaseTransition(i);
@@ -71,18 +74,9 @@ public abstract class AbstractInvariantGenerationEngine extends SolverBasedEngin
 			checkForStop();
 
 			Sexp query = SexpUtil.conjoinInvariants(invariant.toExprs(), k);
-			result = solver.query(query);
-
-			if (!(result instanceof UnsatResult)) {
-				Model model = getModel(result);
-				if (model == null) {
-					comment("No model - unable to continue");
-					throw new StopException();
-				}
-				invariant.refine(new ModelEvaluator(model, k));
-				comment("Finished single base step refinement");
-			}
-		} while (!invariant.isTrivial() && !(result instanceof UnsatResult));
+			models = harvestAndRefine(query, k, invariant);
+			comment("Finished base step refinement with " + models.size() + " models");
+		} while (!invariant.isTrivial() && !models.isEmpty());
 
 		solver.pop();
 	}
@@ -90,7 +84,7 @@ public abstract class AbstractInvariantGenerationEngine extends SolverBasedEngin
 	private void refineInductiveStep(int k, StructuredInvariant original) {
 		solver.push();
 		StructuredInvariant invariant = original.copy();
-		Result result;
+		List<Model> models;
 
 		for (int i = 0; i <= k; i++) {
 			assertInvariants(provenInvariants, i);
@@ -100,18 +94,9 @@ public abstract class AbstractInvariantGenerationEngine extends SolverBasedEngin
 		do {
 			checkForStop();
 
-			result = solver.query(getInductiveQuery(k, invariant));
-
-			if (!(result instanceof UnsatResult)) {
-				Model model = getModel(result);
-				if (model == null) {
-					comment("No model - unable to continue");
-					throw new StopException();
-				}
-				invariant.refine(new ModelEvaluator(model, k));
-				comment("Finished single inductive step refinement");
-			}
-		} while (!invariant.isTrivial() && !(result instanceof UnsatResult));
+			models = harvestAndRefine(getInductiveQuery(k, invariant), k, invariant);
+			comment("Finished inductive step refinement with " + models.size() + " models");
+		} while (!invariant.isTrivial() && !models.isEmpty());
 
 		solver.pop();
 
@@ -124,6 +109,29 @@ public abstract class AbstractInvariantGenerationEngine extends SolverBasedEngin
 		return;
 	}
 
+	/**
+	 * Harvest several counterexamples to the query from the solver, refining
+	 * the invariant with each one. Every later model must falsify the refined
+	 * invariant at step k, so it is a genuine counterexample to the refined
+	 * candidates even though the hypotheses of an inductive query stay those
+	 * of the original invariant.
+	 */
+	private List<Model> harvestAndRefine(Sexp query, int k, StructuredInvariant invariant) {
+		List<Model> models = solver.multiQuery(query, MODELS_PER_QUERY, model -> {
+			invariant.refine(new ModelEvaluator(model, k));
+			if (invariant.isTrivial()) {
+				return null;
+			}
+			return SexpUtil.conjoinInvariants(invariant.toExprs(), k);
+		});
+
+		if (models == null) {
+			comment("No model - unable to continue");
+			throw new StopException();
+		}
+		return models;
+	}
+
 	private void assertInvariants(InvariantSet set, int i) {
 		solver.assertSexp(SexpUtil.conjoinInvariants(set.getInvariants(), i));
 	}
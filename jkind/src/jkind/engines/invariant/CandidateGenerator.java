@@ -2,6 +2,7 @@ package jkind.engines.invariant;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import jkind.analysis.evaluation.InitialStepEvaluator;
@@ -19,9 +20,17 @@ import jkind.lustre.UnaryExpr;
 import jkind.lustre.UnaryOp;
 import jkind.lustre.values.IntegerValue;
 import jkind.lustre.values.Value;
+import jkind.slicing.Dependency;
+import jkind.slicing.DependencySet;
 import jkind.translation.Specification;
 
 public class CandidateGenerator {
+	/**
+	 * Bound on the number of relational candidates so that the initial
+	 * invariant stays tractable on models with many state variables
+	 */
+	private static final int MAX_RELATIONAL_CANDIDATES = 2000;
+
 	private Specification spec;
 
 	private List<Expr> candidates;
@@ -39,6 +48,7 @@ public class CandidateGenerator {
 		candidates.add(new BoolExpr(false));
 
 		CombinatorialInfo info = new CombinatorialInfo(spec.node);
+		List<String> relationalIds = new ArrayList<>();
 
 		for (String id : spec.typeMap.keySet()) {
 			if (info.isCombinatorial(id) && !spec.node.properties.contains(id)) {
@@ -46,6 +56,10 @@ public class CandidateGenerator {
 			}
 
 			Type type = spec.typeMap.get(id);
+			if (isInteger(type) && !info.isCombinatorial(id) && getConstantInitialValue(id) != null) {
+				relationalIds.add(id);
+			}
+
 			if (type == NamedType.INT) {
 				addIntCandidates(id);
 			} else if (type == NamedType.BOOL) {
@@ -57,9 +71,15 @@ public class CandidateGenerator {
 			}
 		}
 
+		addRelationalCandidates(relationalIds);
+
 		return candidates;
 	}
 
+	private static boolean isInteger(Type type) {
+		return type == NamedType.INT || type instanceof SubrangeIntType;
+	}
+
 	private void addIntCandidates(String id) {
 		BigInteger init = getConstantInitialValue(id);
 		IdExpr idExpr = new IdExpr(id);
@@ -81,6 +101,71 @@ public class CandidateGenerator {
 		return null;
 	}
 
+	/**
+	 * Propose relations x <= y, x - y <= c, and x - y >= c between pairs of
+	 * integer state variables in the cone of influence of a common property.
+	 * Candidates are pruned by the initial step evaluator so that only those
+	 * which hold initially are proposed.
+	 */
+	private void addRelationalCandidates(List<String> ids) {
+		Collections.sort(ids);
+		List<DependencySet> cones = getPropertyCones();
+
+		int count = 0;
+		for (int i = 0; i < ids.size(); i++) {
+			for (int j = i + 1; j < ids.size(); j++) {
+				if (count >= MAX_RELATIONAL_CANDIDATES) {
+					return;
+				}
+
+				String x = ids.get(i);
+				String y = ids.get(j);
+				if (inCommonCone(cones, x, y)) {
+					count += addRelationalCandidates(x, y);
+				}
+			}
+		}
+	}
+
+	private int addRelationalCandidates(String x, String y) {
+		BigInteger c = getConstantInitialValue(x).subtract(getConstantInitialValue(y));
+		IdExpr xExpr = new IdExpr(x);
+		IdExpr yExpr = new IdExpr(y);
+		int added = 0;
+
+		if (c.signum() != 0) {
+			if (c.signum() < 0) {
+				candidates.add(new BinaryExpr(xExpr, BinaryOp.LESSEQUAL, yExpr));
+			} else {
+				candidates.add(new BinaryExpr(yExpr, BinaryOp.LESSEQUAL, xExpr));
+			}
+			added++;
+		}
+
+		Expr diff = new BinaryExpr(xExpr, BinaryOp.MINUS, yExpr);
+		IntExpr cExpr = new IntExpr(c);
+		candidates.add(new BinaryExpr(diff, BinaryOp.LESSEQUAL, cExpr));
+		candidates.add(new BinaryExpr(diff, BinaryOp.GREATEREQUAL, cExpr));
+		return added + 2;
+	}
+
+	private List<DependencySet> getPropertyCones() {
+		List<DependencySet> cones = new ArrayList<>();
+		for (String property : spec.node.properties) {
+			DependencySet cone = spec.dependencyMap.get(property);
+			if (cone != null && !cones.contains(cone)) {
+				cones.add(cone);
+			}
+		}
+		return cones;
+	}
+
+	private boolean inCommonCone(List<DependencySet> cones, String x, String y) {
+		Dependency xDep = Dependency.variable(x);
+		Dependency yDep = Dependency.variable(y);
+		return cones.stream().anyMatch(cone -> cone.contains(xDep) && cone.contains(yDep));
+	}
+
 	private void addBoolCandidates(String id) {
 		candidates.add(new IdExpr(id));
 		candidates.add(new UnaryExpr(UnaryOp.NOT, new IdExpr(id)));
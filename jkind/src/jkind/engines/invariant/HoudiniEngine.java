@@ -0,0 +1,386 @@
+package jkind.engines.invariant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jkind.JKindException;
+import jkind.JKindSettings;
+import jkind.advice.Advice;
+import jkind.engines.Director;
+import jkind.engines.SolverBasedEngine;
+import jkind.engines.SolverUtil;
+import jkind.engines.StopException;
+import jkind.engines.messages.BaseStepMessage;
+import jkind.engines.messages.InductiveCounterexampleMessage;
+import jkind.engines.messages.InvalidMessage;
+import jkind.engines.messages.InvariantMessage;
+import jkind.engines.messages.Itinerary;
+import jkind.engines.messages.UnknownMessage;
+import jkind.engines.messages.ValidMessage;
+import jkind.lustre.Expr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.NamedType;
+import jkind.lustre.VarDecl;
+import jkind.lustre.values.BooleanValue;
+import jkind.lustre.values.Value;
+import jkind.sexp.Cons;
+import jkind.sexp.Sexp;
+import jkind.sexp.Symbol;
+import jkind.solvers.Model;
+import jkind.solvers.ModelEvaluator;
+import jkind.solvers.Result;
+import jkind.solvers.Solver;
+import jkind.solvers.UnsatResult;
+import jkind.translation.Lustre2Sexp;
+import jkind.translation.Specification;
+import jkind.util.SexpUtil;
+
+/**
+ * Houdini-style invariant inference: a set of candidate conjuncts is reduced
+ * until it is 1-inductive by repeatedly dropping the candidates which are
+ * falsified by a counterexample to induction.
+ *
+ * Candidates are referenced through literals defined once per solver, so each
+ * query only mentions literals. The inductive check is sharded across several
+ * solvers. In each round every shard checks its own candidates against the
+ * whole current conjunction, and all falsified candidates are dropped together.
+ * Candidates are processed in batches so that invariants are broadcast
+ * incrementally, with earlier batches assumed by later ones. A candidate of an
+ * early batch may only be inductive together with candidates of later ones,
+ * so the dropped candidates are checked once more as a whole at the end. This
+ * yields the maximal inductive subset, as in a single run over all candidates.
+ */
+public class HoudiniEngine extends SolverBasedEngine {
+	public static final String NAME = "houdini";
+	private static final int BATCH_SIZE = 5000;
+
+	private final List<Expr> adviceCandidates;
+	private final InvariantSet provenInvariants = new InvariantSet();
+	private final List<Shard> shards = new ArrayList<>();
+	private ExecutorService executor;
+	private int literalCounter = 0;
+
+	public HoudiniEngine(Specification spec, JKindSettings settings, Director director, Advice advice) {
+		super(NAME, spec, settings, director);
+
+		if (advice != null) {
+			advice.prune(spec.node);
+			this.adviceCandidates = advice.getInvariants();
+		} else {
+			this.adviceCandidates = Collections.emptyList();
+		}
+	}
+
+	@Override
+	protected void main() {
+		List<Expr> candidates = createCandidates();
+		comment("Proposed " + candidates.size() + " candidates");
+
+		createVariables(-1);
+		createVariables(0);
+		candidates = refineBaseStep(candidates);
+		comment(candidates.size() + " candidates remaining after base step");
+		if (candidates.isEmpty()) {
+			return;
+		}
+
+		try {
+			createShards();
+			List<Expr> dropped = new ArrayList<>();
+			for (int i = 0; i < candidates.size(); i += BATCH_SIZE) {
+				List<Expr> batch = candidates.subList(i, Math.min(i + BATCH_SIZE, candidates.size()));
+				List<Expr> newInvariants = refineInductiveStep(batch);
+				Set<Expr> proven = new HashSet<>(newInvariants);
+				for (Expr candidate : batch) {
+					if (!proven.contains(candidate)) {
+						dropped.add(candidate);
+					}
+				}
+				assumeInvariants(newInvariants);
+			}
+
+			if (candidates.size() > BATCH_SIZE && !dropped.isEmpty()) {
+				comment("Rechecking " + dropped.size() + " dropped candidates");
+				assumeInvariants(refineInductiveStep(dropped));
+			}
+		} finally {
+			stopShards();
+		}
+	}
+
+	private void assumeInvariants(List<Expr> newInvariants) {
+		provenInvariants.addAll(newInvariants);
+		for (Shard shard : shards) {
+			shard.assume(newInvariants);
+		}
+		sendValidProperties(newInvariants);
+		sendInvariants(newInvariants);
+	}
+
+	private List<Expr> createCandidates() {
+		InvariantSet candidates = new InvariantSet();
+		candidates.addAll(new CandidateGenerator(spec).generate());
+		candidates.addAll(adviceCandidates);
+		return new ArrayList<>(candidates.getInvariants());
+	}
+
+	private List<Expr> refineBaseStep(List<Expr> candidates) {
+		solver.push();
+		assertBaseTransition(0);
+
+		ListInvariant invariant = new ListInvariant(candidates);
+		while (!invariant.isTrivial()) {
+			checkForStop();
+
+			Result result = solver.query(SexpUtil.conjoinInvariants(invariant.toExprs(), 0));
+			if (result instanceof UnsatResult) {
+				break;
+			}
+
+			Model model = getModel(result);
+			int before = invariant.toExprs().size();
+			if (model != null) {
+				invariant.refine(new ModelEvaluator(model, 0));
+			}
+			if (invariant.toExprs().size() == before) {
+				comment("No progress - unable to continue");
+				throw new StopException();
+			}
+		}
+
+		solver.pop();
+		return new ArrayList<>(invariant.toExprs());
+	}
+
+	private List<Expr> refineInductiveStep(List<Expr> batch) {
+		List<Candidate> candidates = new ArrayList<>();
+		for (Expr expr : batch) {
+			candidates.add(new Candidate(expr, literalCounter++));
+		}
+		for (int i = 0; i < shards.size(); i++) {
+			shards.get(i).define(candidates, i);
+		}
+
+		Set<Candidate> remaining = new HashSet<>(candidates);
+		int round = 0;
+		while (!remaining.isEmpty()) {
+			checkForStop();
+
+			Set<Candidate> falsified = checkShards(Collections.unmodifiableSet(new HashSet<>(remaining)));
+			comment("Round " + round++ + " falsified " + falsified.size() + " of " + remaining.size());
+			if (falsified.isEmpty()) {
+				break;
+			}
+			remaining.removeAll(falsified);
+		}
+
+		List<Expr> result = new ArrayList<>();
+		for (Candidate candidate : candidates) {
+			if (remaining.contains(candidate)) {
+				result.add(candidate.expr);
+			}
+		}
+		return result;
+	}
+
+	private Set<Candidate> checkShards(Set<Candidate> remaining) {
+		List<Future<Set<Candidate>>> futures = new ArrayList<>();
+		for (Shard shard : shards) {
+			futures.add(executor.submit(() -> shard.check(remaining)));
+		}
+
+		Set<Candidate> falsified = new HashSet<>();
+		try {
+			for (Future<Set<Candidate>> future : futures) {
+				falsified.addAll(future.get());
+			}
+		} catch (ExecutionException e) {
+			throw new JKindException("Houdini shard failed", e.getCause());
+		} catch (InterruptedException e) {
+			throw new JKindException("Interrupted while waiting for Houdini shards", e);
+		}
+		return falsified;
+	}
+
+	private void createShards() {
+		int count = Math.max(1, settings.houdini);
+		for (int i = 0; i < count; i++) {
+			shards.add(new Shard(i));
+		}
+		executor = Executors.newFixedThreadPool(count);
+	}
+
+	private void stopShards() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+		for (Shard shard : shards) {
+			shard.solver.stop();
+		}
+	}
+
+	private void checkForStop() {
+		processMessages();
+		if (properties.isEmpty()) {
+			throw new StopException();
+		}
+	}
+
+	private void sendValidProperties(List<Expr> newInvariants) {
+		List<String> valid = new ArrayList<>();
+		for (Expr inv : newInvariants) {
+			if (inv instanceof IdExpr) {
+				IdExpr idExpr = (IdExpr) inv;
+				if (properties.remove(idExpr.id)) {
+					valid.add(idExpr.id);
+				}
+			}
+		}
+
+		if (!valid.isEmpty()) {
+			Itinerary itinerary = director.getValidMessageItinerary();
+			List<Expr> invariants = provenInvariants.getInvariants();
+			director.broadcast(new ValidMessage(getName(), valid, 1, invariants, null, itinerary));
+		}
+	}
+
+	private void sendInvariants(List<Expr> newInvariants) {
+		comment("Sending " + newInvariants.size() + " invariants");
+		if (!newInvariants.isEmpty()) {
+			director.broadcast(new InvariantMessage(newInvariants));
+		}
+	}
+
+	private static class Candidate {
+		public final Expr expr;
+		public final Symbol hypothesis;
+		public final Symbol conclusion;
+
+		public Candidate(Expr expr, int id) {
+			this.expr = expr;
+			this.hypothesis = new Symbol("houdini_hyp" + id);
+			this.conclusion = new Symbol("houdini_con" + id);
+		}
+	}
+
+	/**
+	 * A solver which checks the inductiveness of a slice of the candidates
+	 * relative to all of the remaining candidates
+	 */
+	private class Shard {
+		private final Solver solver;
+		private final Set<Candidate> owned = new LinkedHashSet<>();
+
+		public Shard(int index) {
+			String scratch = getScratchBase();
+			solver = SolverUtil.getSolver(settings.solver, scratch == null ? null : scratch + index, spec.node,
+					settings.bitVectors);
+			solver.initialize();
+			solver.declare(spec.functions);
+			solver.define(spec.getTransitionRelation());
+			solver.define(new VarDecl(INIT.str, NamedType.BOOL));
+			createVariables(solver, 0);
+			createVariables(solver, 1);
+			solver.assertSexp(getInductiveTransition(1));
+		}
+
+		public void assume(List<Expr> invariants) {
+			solver.assertSexp(SexpUtil.conjoinInvariants(invariants, 0));
+		}
+
+		public void define(List<Candidate> candidates, int index) {
+			owned.clear();
+			for (int i = 0; i < candidates.size(); i++) {
+				Candidate candidate = candidates.get(i);
+				define(candidate.hypothesis, candidate.expr.accept(new Lustre2Sexp(0)));
+				if (i % shards.size() == index) {
+					define(candidate.conclusion, candidate.expr.accept(new Lustre2Sexp(1)));
+					owned.add(candidate);
+				}
+			}
+		}
+
+		private void define(Symbol literal, Sexp definition) {
+			solver.define(new VarDecl(literal.str, NamedType.BOOL));
+			solver.assertSexp(new Cons("=", literal, definition));
+		}
+
+		public Set<Candidate> check(Set<Candidate> remaining) {
+			List<Sexp> hypotheses = new ArrayList<>();
+			List<Sexp> conclusions = new ArrayList<>();
+			for (Candidate candidate : remaining) {
+				hypotheses.add(candidate.hypothesis);
+			}
+			for (Candidate candidate : owned) {
+				if (remaining.contains(candidate)) {
+					conclusions.add(candidate.conclusion);
+				}
+			}
+
+			Set<Candidate> falsified = new HashSet<>();
+			if (conclusions.isEmpty()) {
+				return falsified;
+			}
+
+			Sexp query = new Cons("=>", SexpUtil.conjoin(hypotheses), SexpUtil.conjoin(conclusions));
+			Result result = solver.query(query);
+			if (result instanceof UnsatResult) {
+				return falsified;
+			}
+
+			Model model = getModel(result);
+			if (model == null) {
+				throw new JKindException("No model from Houdini shard - unable to continue");
+			}
+
+			ModelEvaluator evaluator = new ModelEvaluator(model, 1);
+			for (Candidate candidate : remaining) {
+				Value value;
+				if (owned.contains(candidate)) {
+					value = model.getValue(candidate.conclusion.str);
+				} else {
+					value = evaluator.eval(candidate.expr);
+				}
+				if (value == BooleanValue.FALSE) {
+					falsified.add(candidate);
+				}
+			}
+			return falsified;
+		}
+	}
+
+	@Override
+	protected void handleMessage(BaseStepMessage bsm) {
+	}
+
+	@Override
+	protected void handleMessage(InductiveCounterexampleMessage icm) {
+	}
+
+	@Override
+	protected void handleMessage(InvalidMessage im) {
+		properties.removeAll(im.invalid);
+	}
+
+	@Override
+	protected void handleMessage(InvariantMessage im) {
+	}
+
+	@Override
+	protected void handleMessage(UnknownMessage um) {
+		properties.removeAll(um.unknown);
+	}
+
+	@Override
+	protected void handleMessage(ValidMessage vm) {
+		properties.removeAll(vm.valid);
+	}
+}
@@ -12,10 +12,10 @@ import jkind.lustre.Expr;
 
 public class InvariantSet {
 	private final List<Expr> invariants = new ArrayList<>();
-	private final Set<String> uniqueRepresentations = new HashSet<>();
+	private final Set<Expr> uniqueInvariants = new HashSet<>();
 	
 	public void add(Expr invariant) {
-		if (uniqueRepresentations.add(invariant.toString())) {
+		if (uniqueInvariants.add(invariant)) {
 			invariants.add(invariant);
 		}
 	}
@@ -34,7 +34,7 @@ public class InvariantSet {
 			Expr invariant = iterator.next();
 			if (predicate.test(invariant)) {
 				iterator.remove();
-				uniqueRepresentations.remove(invariant.toString());
+				uniqueInvariants.remove(invariant);
 			}
 		}
 	}
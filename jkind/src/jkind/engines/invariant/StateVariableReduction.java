@@ -0,0 +1,390 @@
+package jkind.engines.invariant;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import jkind.JKindSettings;
+import jkind.analysis.evaluation.InitialStepEvaluator;
+import jkind.engines.SolverUtil;
+import jkind.lustre.BinaryExpr;
+import jkind.lustre.BinaryOp;
+import jkind.lustre.BoolExpr;
+import jkind.lustre.Equation;
+import jkind.lustre.Expr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.IntExpr;
+import jkind.lustre.LustreUtil;
+import jkind.lustre.NamedType;
+import jkind.lustre.Node;
+import jkind.lustre.Program;
+import jkind.lustre.SubrangeIntType;
+import jkind.lustre.Type;
+import jkind.lustre.VarDecl;
+import jkind.lustre.builders.NodeBuilder;
+import jkind.lustre.builders.ProgramBuilder;
+import jkind.lustre.values.BooleanValue;
+import jkind.lustre.values.IntegerValue;
+import jkind.lustre.values.Value;
+import jkind.sexp.Cons;
+import jkind.sexp.Sexp;
+import jkind.sexp.Symbol;
+import jkind.slicing.Dependency;
+import jkind.slicing.DependencyType;
+import jkind.slicing.DependencyVisitor;
+import jkind.solvers.Model;
+import jkind.solvers.ModelEvaluator;
+import jkind.solvers.Result;
+import jkind.solvers.SatResult;
+import jkind.solvers.Solver;
+import jkind.solvers.UnknownResult;
+import jkind.solvers.UnsatResult;
+import jkind.translation.Lustre2Sexp;
+import jkind.translation.Specification;
+import jkind.util.SexpUtil;
+import jkind.util.StreamIndex;
+import jkind.util.Util;
+
+/**
+ * Find state variables which are equivalent to each other or constant in every
+ * reachable state, in the style of van Eijk's sequential equivalence checking,
+ * and replace each by its representative or constant.
+ *
+ * State variables are first partitioned by type and initial value. The
+ * partition is refined with counterexamples to the base step, and then to the
+ * inductive step, where each class is checked separately under the hypothesis
+ * that all remaining classes hold in the previous step. Refinement repeats
+ * until every class is inductive under the same hypothesis.
+ *
+ * A reduced equation becomes an alias or a constant, so InlineSimpleEquations
+ * removes it from the analysis while ModelReconstructionEvaluator still reports
+ * it in counterexamples. Properties and variables in the IVC set are not
+ * reduced, as in SweepEquations, and neither are variables the assertions
+ * depend on.
+ */
+public class StateVariableReduction {
+	public static Program program(Program program, JKindSettings settings) {
+		Specification spec = new Specification(program, settings.slicing);
+		Map<String, Expr> representatives = new StateVariableReduction(spec, settings).reduce();
+		if (representatives == null || representatives.isEmpty()) {
+			return program;
+		}
+
+		Node main = program.getMainNode();
+		NodeBuilder builder = new NodeBuilder(main).clearEquations();
+		for (Equation eq : main.equations) {
+			Expr representative = representatives.get(eq.lhs.get(0).id);
+			if (representative == null) {
+				builder.addEquation(eq);
+			} else {
+				builder.addEquation(new Equation(eq.location, eq.lhs, representative));
+			}
+		}
+		return new ProgramBuilder(program).clearNodes().addNode(builder.build()).build();
+	}
+
+	private final Specification spec;
+	private final JKindSettings settings;
+	private List<Candidate> classes = new ArrayList<>();
+	private Solver solver;
+
+	private StateVariableReduction(Specification spec, JKindSettings settings) {
+		this.spec = spec;
+		this.settings = settings;
+	}
+
+	/**
+	 * Returns null if the solver could not decide a query
+	 */
+	private Map<String, Expr> reduce() {
+		createInitialClasses();
+		if (classes.isEmpty()) {
+			return null;
+		}
+
+		solver = SolverUtil.getSolver(settings.solver, getScratchBase(), spec.node, settings.bitVectors);
+		try {
+			solver.initialize();
+			solver.declare(spec.functions);
+			solver.define(spec.getTransitionRelation());
+			for (int k = -1; k <= 1; k++) {
+				createVariables(k);
+			}
+
+			if (!refineBaseStep() || !refineInductiveStep()) {
+				return null;
+			}
+		} finally {
+			solver.stop();
+		}
+
+		Map<String, Expr> representatives = new LinkedHashMap<>();
+		for (Candidate candidate : classes) {
+			candidate.addRepresentatives(representatives);
+		}
+		return representatives;
+	}
+
+	private String getScratchBase() {
+		return settings.scratch ? settings.filename + ".reduction" : null;
+	}
+
+	private void createInitialClasses() {
+		CombinatorialInfo info = new CombinatorialInfo(spec.node);
+		InitialStepEvaluator evaluator = new InitialStepEvaluator(spec.node);
+		Set<String> constrained = getAssertionDependencies();
+		Map<String, Candidate> initial = new LinkedHashMap<>();
+
+		for (Equation eq : spec.node.equations) {
+			String id = eq.lhs.get(0).id;
+			Type type = spec.typeMap.get(id);
+			if (info.isCombinatorial(id) || spec.node.properties.contains(id) || spec.node.ivc.contains(id)
+					|| constrained.contains(id) || !isSupported(type)) {
+				continue;
+			}
+
+			Value init = evaluator.eval(id);
+			String key = (type == NamedType.BOOL ? "bool" : "int") + " " + init;
+			initial.computeIfAbsent(key, k -> new Candidate(init)).members.add(id);
+		}
+
+		for (Candidate candidate : initial.values()) {
+			if (!candidate.isTrivial()) {
+				classes.add(candidate);
+			}
+		}
+	}
+
+	/**
+	 * The variables which the assertions depend on. Equivalences are only
+	 * proven in states which satisfy the assertions, so reducing one of these
+	 * would weaken the assertions and admit traces the original rejects.
+	 */
+	private Set<String> getAssertionDependencies() {
+		Map<String, Expr> definitions = new HashMap<>();
+		for (Equation eq : spec.node.equations) {
+			definitions.put(eq.lhs.get(0).id, eq.expr);
+		}
+
+		Set<String> result = new HashSet<>();
+		Deque<Expr> todo = new ArrayDeque<>(spec.node.assertions);
+		while (!todo.isEmpty()) {
+			for (Dependency dep : DependencyVisitor.get(todo.pop())) {
+				if (dep.type == DependencyType.VARIABLE && result.add(dep.name)
+						&& definitions.containsKey(dep.name)) {
+					todo.push(definitions.get(dep.name));
+				}
+			}
+		}
+		return result;
+	}
+
+	private static boolean isSupported(Type type) {
+		return type == NamedType.BOOL || type == NamedType.INT || type instanceof SubrangeIntType;
+	}
+
+	private void createVariables(int k) {
+		for (VarDecl vd : Util.getVarDecls(spec.node)) {
+			solver.define(new VarDecl(new StreamIndex(vd.id, k).getEncoded().str, vd.type));
+			Expr constraint = LustreUtil.typeConstraint(vd.id, vd.type);
+			if (constraint != null) {
+				solver.assertSexp(constraint.accept(new Lustre2Sexp(k)));
+			}
+		}
+	}
+
+	private boolean refineBaseStep() {
+		solver.push();
+		solver.assertSexp(getTransition(0, true));
+
+		List<Model> models;
+		do {
+			models = solver.multiQuery(SexpUtil.conjoinInvariants(toExprs(classes), 0), 16, model -> {
+				refine(model, 0);
+				return classes.isEmpty() ? null : SexpUtil.conjoinInvariants(toExprs(classes), 0);
+			});
+			if (models == null) {
+				solver.pop();
+				return false;
+			}
+		} while (!classes.isEmpty() && !models.isEmpty());
+
+		solver.pop();
+		return true;
+	}
+
+	/**
+	 * One induction proof per class, all under the hypothesis that every class
+	 * holds in the previous step. A counterexample splits every class it
+	 * falsifies, which weakens the hypothesis, so the round is repeated until
+	 * no class fails. Classes which were split earlier in the round need not be
+	 * checked again in it.
+	 */
+	private boolean refineInductiveStep() {
+		solver.assertSexp(getTransition(1, false));
+
+		boolean refined;
+		do {
+			refined = false;
+			List<Candidate> snapshot = classes;
+			Set<Candidate> remaining = new HashSet<>(snapshot);
+			Sexp hypothesis = SexpUtil.conjoinInvariants(toExprs(snapshot), 0);
+			for (Candidate candidate : snapshot) {
+				if (!remaining.contains(candidate)) {
+					continue;
+				}
+
+				Sexp conclusion = SexpUtil.conjoinInvariants(candidate.toExprs(), 1);
+				Result result = solver.query(new Cons("=>", hypothesis, conclusion));
+				if (result instanceof UnsatResult) {
+					continue;
+				}
+
+				Model model = getModel(result);
+				if (model == null) {
+					return false;
+				}
+
+				int size = toExprs(classes).size();
+				refine(model, 1);
+				if (toExprs(classes).size() == size) {
+					// An unknown result whose model does not falsify the class
+					return false;
+				}
+				remaining.retainAll(classes);
+				refined = true;
+			}
+		} while (refined && !classes.isEmpty());
+
+		return true;
+	}
+
+	private Sexp getTransition(int k, boolean init) {
+		List<Sexp> args = new ArrayList<>();
+		args.add(Sexp.fromBoolean(init));
+		for (VarDecl vd : Util.getVarDecls(spec.node)) {
+			args.add(new StreamIndex(vd.id, k - 1).getEncoded());
+		}
+		for (VarDecl vd : Util.getVarDecls(spec.node)) {
+			args.add(new StreamIndex(vd.id, k).getEncoded());
+		}
+		return new Cons(new Symbol(spec.getTransitionRelation().getName()), args);
+	}
+
+	private static Model getModel(Result result) {
+		if (result instanceof SatResult) {
+			return ((SatResult) result).getModel();
+		} else if (result instanceof UnknownResult) {
+			return ((UnknownResult) result).getModel();
+		} else {
+			return null;
+		}
+	}
+
+	private void refine(Model model, int k) {
+		ModelEvaluator eval = new ModelEvaluator(model, k);
+		List<Candidate> refined = new ArrayList<>();
+		for (Candidate candidate : classes) {
+			refined.addAll(candidate.split(eval));
+		}
+		classes = refined;
+	}
+
+	private static List<Expr> toExprs(List<Candidate> candidates) {
+		List<Expr> exprs = new ArrayList<>();
+		for (Candidate candidate : candidates) {
+			exprs.addAll(candidate.toExprs());
+		}
+		return exprs;
+	}
+
+	/**
+	 * A set of state variables conjectured to be equal, and to be equal to the
+	 * constant if there is one
+	 */
+	private static class Candidate {
+		private final Value constant;
+		private final List<String> members = new ArrayList<>();
+
+		public Candidate(Value value) {
+			this.constant = value instanceof BooleanValue || value instanceof IntegerValue ? value : null;
+		}
+
+		public boolean isTrivial() {
+			return constant == null && members.size() < 2;
+		}
+
+		/**
+		 * Returns this candidate itself if the model does not falsify it
+		 */
+		public List<Candidate> split(ModelEvaluator eval) {
+			Map<Value, List<String>> groups = new LinkedHashMap<>();
+			for (String id : members) {
+				Value value = eval.eval(new IdExpr(id));
+				groups.computeIfAbsent(value, v -> new ArrayList<>()).add(id);
+			}
+
+			if (groups.size() == 1) {
+				Value value = groups.keySet().iterator().next();
+				if (constant == null || constant.equals(value)) {
+					return Collections.singletonList(this);
+				}
+			}
+
+			List<Candidate> result = new ArrayList<>();
+			for (Entry<Value, List<String>> entry : groups.entrySet()) {
+				Value value = entry.getKey();
+				Candidate candidate = new Candidate(value != null && value.equals(constant) ? constant : null);
+				candidate.members.addAll(entry.getValue());
+				if (!candidate.isTrivial()) {
+					result.add(candidate);
+				}
+			}
+			return result;
+		}
+
+		public List<Expr> toExprs() {
+			List<Expr> exprs = new ArrayList<>();
+			if (constant != null) {
+				for (String id : members) {
+					exprs.add(new BinaryExpr(new IdExpr(id), BinaryOp.EQUAL, getConstantExpr()));
+				}
+			} else {
+				IdExpr representative = new IdExpr(members.get(0));
+				for (String id : members.subList(1, members.size())) {
+					exprs.add(new BinaryExpr(representative, BinaryOp.EQUAL, new IdExpr(id)));
+				}
+			}
+			return exprs;
+		}
+
+		public void addRepresentatives(Map<String, Expr> representatives) {
+			if (constant != null) {
+				for (String id : members) {
+					representatives.put(id, getConstantExpr());
+				}
+			} else {
+				IdExpr representative = new IdExpr(members.get(0));
+				for (String id : members.subList(1, members.size())) {
+					representatives.put(id, representative);
+				}
+			}
+		}
+
+		private Expr getConstantExpr() {
+			if (constant instanceof BooleanValue) {
+				return new BoolExpr(((BooleanValue) constant).value);
+			} else {
+				return new IntExpr(((IntegerValue) constant).value);
+			}
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package jkind.engines.itp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import jkind.JKindSettings;
+import jkind.analysis.ContainsArrays;
+import jkind.analysis.LinearChecker;
+import jkind.engines.Director;
+import jkind.engines.Engine;
+import jkind.engines.StopException;
+import jkind.engines.messages.BaseStepMessage;
+import jkind.engines.messages.InductiveCounterexampleMessage;
+import jkind.engines.messages.InvalidMessage;
+import jkind.engines.messages.InvariantMessage;
+import jkind.engines.messages.Itinerary;
+import jkind.engines.messages.UnknownMessage;
+import jkind.engines.messages.ValidMessage;
+import jkind.engines.pdr.CounterexampleException;
+import jkind.lustre.Expr;
+import jkind.lustre.Node;
+import jkind.lustre.builders.NodeBuilder;
+import jkind.slicing.LustreSlicer;
+import jkind.translation.Specification;
+
+/**
+ * Interpolation-based model checking based on "Interpolation and SAT-Based
+ * Model Checking" by Kenneth McMillan
+ *
+ * For a bound k, the reachable states are over-approximated by repeatedly
+ * adding interpolants which separate the image of the current states from the
+ * property violations within k steps. If the image adds no new states, the
+ * approximation is an inductive invariant which proves the property. If a
+ * violation is reachable from the approximation, k is increased, unless the
+ * approximation was still exactly the initial states.
+ *
+ * Properties are checked round-robin by bound so that one hard property does
+ * not block the others.
+ */
+public class ItpEngine extends Engine {
+	public static final String NAME = "interpolation";
+
+	private final Map<String, ItpSmt> contexts = new HashMap<>();
+
+	public ItpEngine(Specification spec, JKindSettings settings, Director director) {
+		super(NAME, spec, settings, director);
+	}
+
+	@Override
+	protected void main() {
+		for (int k = 1; k <= settings.n; k++) {
+			processMessages();
+			if (properties.isEmpty()) {
+				return;
+			}
+
+			for (String prop : new ArrayList<>(properties)) {
+				processMessages();
+				if (!properties.contains(prop)) {
+					continue;
+				}
+
+				ItpSmt itp = getContext(prop);
+				if (itp == null) {
+					properties.remove(prop);
+					continue;
+				}
+
+				try {
+					if (check(prop, itp, k)) {
+						properties.remove(prop);
+					}
+				} catch (CounterexampleException cex) {
+					sendInvalid(prop, cex);
+					properties.remove(prop);
+				} catch (StopException e) {
+					itp.comment("Giving up on property: " + prop);
+					properties.remove(prop);
+				}
+
+				if (!properties.contains(prop)) {
+					contexts.remove(prop);
+				}
+			}
+		}
+	}
+
+	private ItpSmt getContext(String prop) {
+		if (!contexts.containsKey(prop)) {
+			Node node = new NodeBuilder(spec.node).clearProperties().addProperty(prop).build();
+			node = LustreSlicer.slice(node, spec.dependencyMap);
+			if (!LinearChecker.isLinear(node) || ContainsArrays.check(node)) {
+				return null;
+			}
+
+			String scratch = getScratchBase() == null ? null : getScratchBase() + "." + prop;
+			ItpSmt itp = new ItpSmt(node, spec.functions, prop, scratch);
+			itp.comment("Checking property: " + prop);
+			contexts.put(prop, itp);
+		}
+		return contexts.get(prop);
+	}
+
+	/**
+	 * Run the interpolation loop at bound k. Returns true if the property is
+	 * proven and false if the bound needs to be increased or the property was
+	 * resolved elsewhere.
+	 */
+	private boolean check(String prop, ItpSmt itp, int k) {
+		itp.comment("Bound " + k);
+		Term R = itp.getInit();
+		boolean exact = true;
+
+		while (true) {
+			processMessages();
+			if (!properties.contains(prop)) {
+				return false;
+			}
+
+			Term image = itp.getImage(R, k, exact);
+			if (image == null) {
+				return false;
+			}
+
+			if (itp.implies(image, R)) {
+				itp.comment("Fixpoint found");
+				sendValid(prop, getInvariants(itp, R));
+				return true;
+			}
+
+			R = itp.union(R, image);
+			exact = false;
+		}
+	}
+
+	private List<Expr> getInvariants(ItpSmt itp, Term R) {
+		try {
+			return Collections.singletonList(itp.getInvariant(R));
+		} catch (IllegalArgumentException e) {
+			itp.comment("Unable to convert invariant: " + e.getMessage());
+			return Collections.emptyList();
+		}
+	}
+
+	private void sendValid(String prop, List<Expr> invariants) {
+		Itinerary itinerary = director.getValidMessageItinerary();
+		director.broadcast(new ValidMessage(getName(), prop, 1, invariants, null, itinerary));
+		if (!invariants.isEmpty()) {
+			director.broadcast(new InvariantMessage(invariants));
+		}
+	}
+
+	private void sendInvalid(String prop, CounterexampleException cex) {
+		Itinerary itinerary = director.getInvalidMessageItinerary();
+		director.broadcast(new InvalidMessage(getName(), prop, cex.getLength(), cex.getModel(), itinerary));
+	}
+
+	@Override
+	protected void handleMessage(BaseStepMessage bsm) {
+	}
+
+	@Override
+	protected void handleMessage(InductiveCounterexampleMessage icm) {
+	}
+
+	@Override
+	protected void handleMessage(InvalidMessage im) {
+		properties.removeAll(im.invalid);
+	}
+
+	@Override
+	protected void handleMessage(InvariantMessage im) {
+	}
+
+	@Override
+	protected void handleMessage(UnknownMessage um) {
+	}
+
+	@Override
+	protected void handleMessage(ValidMessage vm) {
+		properties.removeAll(vm.valid);
+	}
+}
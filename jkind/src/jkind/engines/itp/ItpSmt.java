@@ -0,0 +1,256 @@
+package jkind.engines.itp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.uni_freiburg.informatik.ultimate.logic.Annotation;
+import de.uni_freiburg.informatik.ultimate.logic.ApplicationTerm;
+import de.uni_freiburg.informatik.ultimate.logic.Logics;
+import de.uni_freiburg.informatik.ultimate.logic.Model;
+import de.uni_freiburg.informatik.ultimate.logic.QuotedObject;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import de.uni_freiburg.informatik.ultimate.logic.TermVariable;
+import jkind.engines.StopException;
+import jkind.engines.pdr.CounterexampleException;
+import jkind.engines.pdr.Lustre2Term;
+import jkind.lustre.Expr;
+import jkind.lustre.Function;
+import jkind.lustre.Node;
+import jkind.lustre.Type;
+import jkind.lustre.VarDecl;
+import jkind.solvers.smtinterpol.ScriptUser;
+import jkind.solvers.smtinterpol.SmtInterpolUtil;
+import jkind.solvers.smtinterpol.Subst;
+import jkind.solvers.smtinterpol.Term2Expr;
+import jkind.solvers.smtlib2.SmtLib2Model;
+import jkind.solvers.smtlib2.SmtLib2Solver;
+import jkind.translation.Relation;
+import jkind.util.StreamIndex;
+
+/**
+ * SMTInterpol context for interpolation-based model checking of a single
+ * property. States are numbered like stream indices, so the state before
+ * step 0 is -1 and it is the only state where %init holds.
+ */
+public class ItpSmt extends ScriptUser {
+	private final List<VarDecl> varDecls;
+	private final List<Function> functions;
+	private final Map<Integer, Term[]> variableLists = new HashMap<>();
+	private final Term[] base;
+	private final Term[] prime;
+
+	private final Term I;
+	private final Term A;
+	private final Term P;
+
+	public ItpSmt(Node node, List<Function> functions, String property, String scratchBase) {
+		super(SmtInterpolUtil.getScript(scratchBase));
+
+		script.setOption(":produce-interpolants", true);
+		script.setOption(":produce-models", true);
+		script.setOption(":simplify-interpolants", true);
+		script.setLogic(Logics.QF_UFLIRA);
+		script.setOption(":verbosity", 2);
+
+		this.functions = functions;
+		for (Function function : functions) {
+			SmtInterpolUtil.declareFunction(script, function);
+		}
+
+		Lustre2Term lustre2Term = new Lustre2Term(script, node);
+		this.varDecls = lustre2Term.getVariables();
+		this.base = declareVariables("");
+		this.prime = declareVariables("'");
+
+		this.I = lustre2Term.getInit();
+		this.A = lustre2Term.getAssertions();
+		this.P = lustre2Term.encodeProperty(property);
+		defineTransitionRelation(lustre2Term.getTransition());
+	}
+
+	private void defineTransitionRelation(Term transition) {
+		Term[] vars = concat(base, prime);
+		TermVariable[] params = new TermVariable[vars.length];
+		for (int i = 0; i < vars.length; i++) {
+			ApplicationTerm at = (ApplicationTerm) vars[i];
+			params[i] = script.variable(at.getFunction().getName(), at.getSort());
+		}
+
+		Term body = Subst.apply(script, transition, vars, params);
+		script.defineFun(Relation.T, params, script.sort("Bool"), body);
+	}
+
+	/**
+	 * The initial states as a set of states at index -1
+	 */
+	public Term getInit() {
+		return at(I, -1);
+	}
+
+	/**
+	 * Check if a state of R at index -1 can violate the property within k
+	 * steps. If not, return an interpolant at index -1 which contains the
+	 * successors of R and which cannot violate the property within k-1 steps.
+	 * If so, return null unless R is exact, in which case the violation is a
+	 * real counterexample and it is thrown.
+	 */
+	public Term getImage(Term R, int k, boolean exact) {
+		List<Term> bad = new ArrayList<>();
+		List<Term> suffix = new ArrayList<>();
+		for (int i = 0; i < k; i++) {
+			if (i > 0) {
+				suffix.add(T(i));
+			}
+			bad.add(not(at(P, i)));
+		}
+		suffix.add(or(bad.toArray(new Term[bad.size()])));
+
+		script.push(1);
+		script.assertTerm(name(and(R, T(0)), "A"));
+		script.assertTerm(name(and(suffix), "B"));
+
+		switch (script.checkSat()) {
+		case UNSAT:
+			Term[] interpolants = script.getInterpolants(new Term[] { term("A"), term("B") });
+			script.pop(1);
+			return shift(interpolants[0], 0, -1);
+
+		case SAT:
+			if (exact) {
+				CounterexampleException cex = getCounterexample(k);
+				script.pop(1);
+				throw cex;
+			}
+			script.pop(1);
+			return null;
+
+		default:
+			commentUnknownReason();
+			throw new StopException();
+		}
+	}
+
+	private CounterexampleException getCounterexample(int k) {
+		Model model = script.getModel();
+		for (int i = 0; i < k; i++) {
+			if (isFalse(model.evaluate(at(P, i)))) {
+				return new CounterexampleException(i + 1, extractModel(model, i + 1));
+			}
+		}
+		throw new IllegalStateException("Interpolation counterexample does not violate the property");
+	}
+
+	private boolean isFalse(Term term) {
+		if (term instanceof ApplicationTerm) {
+			ApplicationTerm at = (ApplicationTerm) term;
+			return at.getFunction().getName().equals("false");
+		}
+		return false;
+	}
+
+	private SmtLib2Model extractModel(Model model, int length) {
+		Map<String, Type> varTypes = new HashMap<>();
+		for (int i = -1; i < length; i++) {
+			for (VarDecl vd : varDecls) {
+				varTypes.put(vd.id + StreamIndex.getSuffix(i), vd.type);
+			}
+		}
+
+		return SmtLib2Solver.parseSmtLib2Model(model.toString(), varTypes, functions);
+	}
+
+	public Term union(Term R1, Term R2) {
+		return or(R1, R2);
+	}
+
+	public boolean implies(Term a, Term b) {
+		script.push(1);
+		script.assertTerm(and(a, not(b)));
+		switch (script.checkSat()) {
+		case UNSAT:
+			script.pop(1);
+			return true;
+
+		case SAT:
+			script.pop(1);
+			return false;
+
+		default:
+			commentUnknownReason();
+			throw new StopException();
+		}
+	}
+
+	/**
+	 * Convert a set of states at index -1 to a Lustre invariant. The invariant
+	 * only needs to hold outside the initial state and while the assertions
+	 * hold.
+	 */
+	public Expr getInvariant(Term R) {
+		Term[] vars = getVariables(-1);
+		Term[] args = base.clone();
+		for (int i = 0; i < vars.length; i++) {
+			if (base[i] == I) {
+				args[i] = term("false");
+			} else if (base[i] == A) {
+				args[i] = term("true");
+			}
+		}
+		return Term2Expr.expr(Subst.apply(script, R, vars, args));
+	}
+
+	public void comment(String comment) {
+		script.echo(new QuotedObject(comment));
+	}
+
+	private void commentUnknownReason() {
+		comment("SMT solver returned 'unknown' due to " + script.getInfo(":reason-unknown"));
+	}
+
+	private Term T(int i) {
+		return script.term(Relation.T, concat(getVariables(i - 1), getVariables(i)));
+	}
+
+	private Term at(Term term, int i) {
+		return Subst.apply(script, term, base, getVariables(i));
+	}
+
+	private Term shift(Term term, int from, int to) {
+		return Subst.apply(script, term, getVariables(from), getVariables(to));
+	}
+
+	private Term[] getVariables(int i) {
+		Term[] result = variableLists.get(i);
+		if (result == null) {
+			result = declareVariables(StreamIndex.getSuffix(i));
+			variableLists.put(i, result);
+		}
+		return result;
+	}
+
+	private Term[] declareVariables(String suffix) {
+		Term[] result = new Term[varDecls.size()];
+		for (int i = 0; i < varDecls.size(); i++) {
+			VarDecl vd = varDecls.get(i);
+			String name = vd.id + suffix;
+			Sort sort = SmtInterpolUtil.getSort(script, vd.type);
+			script.declareFun(name, new Sort[0], sort);
+			result[i] = script.term(name);
+		}
+		return result;
+	}
+
+	private Term[] concat(Term[] terms1, Term[] terms2) {
+		Term[] result = new Term[terms1.length + terms2.length];
+		System.arraycopy(terms1, 0, result, 0, terms1.length);
+		System.arraycopy(terms2, 0, result, terms1.length, terms2.length);
+		return result;
+	}
+
+	private Term name(Term term, String name) {
+		return script.annotate(term, new Annotation(":named", name));
+	}
+}
@@ -2,5 +2,5 @@ package jkind.engines.messages;
 
 /** Only the engines used for itineraries */
 public enum EngineType {
-	SMOOTHING, INTERVAL_GENERALIZATION, IVC_REDUCTION;
+	SMOOTHING, INTERVAL_GENERALIZATION, IVC_REDUCTION, ALL_IVCS;
 }
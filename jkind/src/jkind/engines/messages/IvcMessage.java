@@ -0,0 +1,26 @@
+package jkind.engines.messages;
+
+import java.util.Set;
+
+import jkind.util.Util;
+
+/**
+ * An additional inductive validity core for a property which has already been
+ * reported valid
+ */
+public class IvcMessage extends Message {
+	public final String source;
+	public final String property;
+	public final Set<String> ivc;
+
+	public IvcMessage(String source, String property, Set<String> ivc) {
+		this.source = source;
+		this.property = property;
+		this.ivc = Util.safeSet(ivc);
+	}
+
+	@Override
+	public void accept(MessageHandler handler) {
+		handler.handleMessage(this);
+	}
+}
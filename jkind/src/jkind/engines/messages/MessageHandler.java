@@ -56,6 +56,10 @@ public abstract class MessageHandler {
 
 	protected abstract void handleMessage(ValidMessage vm);
 
+	@SuppressWarnings("unused")
+	protected void handleMessage(IvcMessage im) {
+	}
+
 	@SuppressWarnings("unused")
 	protected void handleMessage(StopMessage sm) {
 		throw new StopException();
@@ -1,6 +1,7 @@
 package jkind.engines.pdr;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import de.uni_freiburg.informatik.ultimate.logic.Script;
@@ -8,23 +9,80 @@ import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.Util;
 
 public class Cube {
+	private final LiteralTable table;
 	private final List<Term> pLiterals = new ArrayList<>();
 	private Cube next;
 
+	// Sorted literal ids and a 64-bit summary of them, computed on demand
+	private int[] ids;
+	private long signature;
+
+	public Cube(LiteralTable table) {
+		this.table = table;
+	}
+
 	public void addPLiteral(Term term) {
 		pLiterals.add(term);
+		ids = null;
 	}
 
 	public void removePLiteral(Term term) {
 		pLiterals.remove(term);
+		ids = null;
 	}
 
 	public List<Term> getPLiterals() {
 		return pLiterals;
 	}
 
+	public Cube copy() {
+		Cube result = new Cube(table);
+		result.pLiterals.addAll(pLiterals);
+		return result;
+	}
+
+	public int[] getIds() {
+		if (ids == null) {
+			int[] result = new int[pLiterals.size()];
+			long sig = 0;
+			for (int i = 0; i < result.length; i++) {
+				result[i] = table.getId(pLiterals.get(i));
+				sig |= signatureBit(result[i]);
+			}
+			Arrays.sort(result);
+			ids = result;
+			signature = sig;
+		}
+		return ids;
+	}
+
+	public long getSignature() {
+		getIds();
+		return signature;
+	}
+
+	private static long signatureBit(int id) {
+		return 1L << (id & 63);
+	}
+
 	public boolean subsumes(Cube other) {
-		return other.pLiterals.containsAll(pLiterals);
+		int[] mine = getIds();
+		int[] theirs = other.getIds();
+		if (mine.length > theirs.length || (getSignature() & ~other.getSignature()) != 0) {
+			return false;
+		}
+
+		int j = 0;
+		for (int id : mine) {
+			while (j < theirs.length && theirs[j] < id) {
+				j++;
+			}
+			if (j == theirs.length || theirs[j] != id) {
+				return false;
+			}
+			j++;
+		}
+		return true;
 	}
 
 	public void setNext(Cube next) {
@@ -0,0 +1,151 @@
+package jkind.engines.pdr;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index over the blocked cubes of all frames. Each cube is stored with its
+ * frame level (TCube.FRAME_INF for F_INF) and indexed by its literal ids, so
+ * subsumption queries only look at cubes which share a literal with the query.
+ */
+public class CubeIndex {
+	private final Map<Cube, Integer> levels = new HashMap<>();
+
+	/** Cubes keyed by their frame level */
+	private final TreeMap<Integer, Set<Cube>> byLevel = new TreeMap<>();
+
+	/** Cubes keyed by their smallest literal id */
+	private final Map<Integer, Set<Cube>> byFirst = new HashMap<>();
+
+	/** Cubes keyed by every literal id they contain */
+	private final Map<Integer, Set<Cube>> occurrences = new HashMap<>();
+
+	private final Set<Cube> emptyCubes = new HashSet<>();
+
+	public void add(Cube cube, int level) {
+		levels.put(cube, level);
+		byLevel.computeIfAbsent(level, l -> new HashSet<>()).add(cube);
+		int[] ids = cube.getIds();
+		if (ids.length == 0) {
+			emptyCubes.add(cube);
+			return;
+		}
+
+		byFirst.computeIfAbsent(ids[0], id -> new HashSet<>()).add(cube);
+		for (int id : ids) {
+			occurrences.computeIfAbsent(id, i -> new HashSet<>()).add(cube);
+		}
+	}
+
+	public void remove(Cube cube) {
+		Integer level = levels.remove(cube);
+		if (level == null) {
+			return;
+		}
+		byLevel.get(level).remove(cube);
+
+		int[] ids = cube.getIds();
+		if (ids.length == 0) {
+			emptyCubes.remove(cube);
+			return;
+		}
+
+		byFirst.get(ids[0]).remove(cube);
+		for (int id : ids) {
+			occurrences.get(id).remove(cube);
+		}
+	}
+
+	public int getLevel(Cube cube) {
+		return levels.get(cube);
+	}
+
+	/**
+	 * Check if some cube at minLevel or above subsumes the given cube. Such a
+	 * cube must have its smallest literal among the literals of the query, or
+	 * no literals at all. Most cubes live in the lowest frames, so the cubes at
+	 * minLevel or above are scanned directly when there are fewer of them than
+	 * literals in the query, or than candidates by smallest literal.
+	 */
+	public boolean hasSubsuming(Cube cube, int minLevel) {
+		Collection<Set<Cube>> above = byLevel.tailMap(minLevel).values();
+		int count = 0;
+		for (Set<Cube> cubes : above) {
+			count += cubes.size();
+		}
+		if (count <= cube.getPLiterals().size()) {
+			return anySubsumes(above, cube);
+		}
+
+		List<Set<Cube>> candidates = new ArrayList<>();
+		candidates.add(emptyCubes);
+		int candidateCount = emptyCubes.size();
+		for (int id : cube.getIds()) {
+			Set<Cube> cubes = byFirst.get(id);
+			if (cubes != null) {
+				candidates.add(cubes);
+				candidateCount += cubes.size();
+			}
+		}
+		if (count <= candidateCount) {
+			return anySubsumes(above, cube);
+		}
+
+		for (Set<Cube> cubes : candidates) {
+			for (Cube c : cubes) {
+				if (levels.get(c) >= minLevel && c.subsumes(cube)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean anySubsumes(Collection<Set<Cube>> sets, Cube cube) {
+		for (Set<Cube> cubes : sets) {
+			for (Cube c : cubes) {
+				if (c.subsumes(cube)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Find all cubes at maxLevel or below which are subsumed by the given cube.
+	 * Such cubes must contain every literal of the query, so only the cubes of
+	 * its rarest literal are examined.
+	 */
+	public List<Cube> getSubsumed(Cube cube, int maxLevel) {
+		List<Cube> result = new ArrayList<>();
+		int[] ids = cube.getIds();
+
+		Set<Cube> candidates;
+		if (ids.length == 0) {
+			candidates = levels.keySet();
+		} else {
+			candidates = occurrences.getOrDefault(ids[0], Collections.emptySet());
+			for (int i = 1; i < ids.length && !candidates.isEmpty(); i++) {
+				Set<Cube> other = occurrences.getOrDefault(ids[i], Collections.emptySet());
+				if (other.size() < candidates.size()) {
+					candidates = other;
+				}
+			}
+		}
+
+		for (Cube c : candidates) {
+			if (levels.get(c) <= maxLevel && cube.subsumes(c)) {
+				result.add(c);
+			}
+		}
+		return result;
+	}
+}
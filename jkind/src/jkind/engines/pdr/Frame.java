@@ -10,6 +10,7 @@ import de.uni_freiburg.informatik.ultimate.logic.Util;
 public class Frame {
 	private final Term term;
 	private final Set<Cube> cubes = new HashSet<>();
+	private int version = 0;
 
 	public Frame(Term term) {
 		this.term = term;
@@ -35,7 +36,22 @@ public class Frame {
 
 	public void add(Cube c) {
 		assert term == null;
-		cubes.add(c);
+		if (cubes.add(c)) {
+			version++;
+		}
+	}
+
+	public void remove(Cube c) {
+		if (cubes.remove(c)) {
+			version++;
+		}
+	}
+
+	/**
+	 * A counter which changes whenever a cube is added or removed
+	 */
+	public int getVersion() {
+		return version;
 	}
 
 	public Set<Cube> getCubes() {
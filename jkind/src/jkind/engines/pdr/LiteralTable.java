@@ -0,0 +1,23 @@
+package jkind.engines.pdr;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+
+/**
+ * Assigns dense integer ids to cube literals so cubes can be compared as
+ * sorted id arrays instead of term lists
+ */
+public class LiteralTable {
+	private final Map<Term, Integer> ids = new HashMap<>();
+
+	public int getId(Term literal) {
+		Integer id = ids.get(literal);
+		if (id == null) {
+			id = ids.size();
+			ids.put(literal, id);
+		}
+		return id;
+	}
+}
@@ -121,6 +121,21 @@ public class Lustre2Term extends ScriptUser implements ExprVisitor<Term> {
 		return or(term(encode(property)), not(term(ASSERTIONS)), term(INIT));
 	}
 
+	/**
+	 * Encode an invariant over the unprimed state. Invariants from other
+	 * engines only hold on paths where the assertions have held so far.
+	 */
+	public Term encodeInvariant(Expr invariant) {
+		Term body;
+		pre = true;
+		try {
+			body = invariant.accept(this);
+		} finally {
+			pre = false;
+		}
+		return or(term(INIT), not(term(ASSERTIONS)), body);
+	}
+
 	private String prime(String str) {
 		return str + "'";
 	}
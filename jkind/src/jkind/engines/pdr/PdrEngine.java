@@ -1,7 +1,10 @@
 package jkind.engines.pdr;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -15,11 +18,16 @@ import jkind.engines.messages.InvalidMessage;
 import jkind.engines.messages.InvariantMessage;
 import jkind.engines.messages.UnknownMessage;
 import jkind.engines.messages.ValidMessage;
+import jkind.lustre.Expr;
+import jkind.slicing.Dependency;
 import jkind.translation.Specification;
 
 public class PdrEngine extends Engine {
 	public static final String NAME = "pdr";
+	private static final double GROUP_OVERLAP = 0.5;
+
 	private final ConcurrentMap<String, PdrSubengine> subengines = new ConcurrentHashMap<>();
+	private final List<Expr> invariants = new ArrayList<>();
 	private int scratchCounter = 1;
 
 	public PdrEngine(Specification spec, JKindSettings settings, Director director) {
@@ -36,7 +44,7 @@ public class PdrEngine extends Engine {
 				}
 			}
 		} catch (StopException se) {
-			subengines.forEach((name, subengine) -> subengine.cancel());
+			getRunningSubengines().forEach(PdrSubengine::cancel);
 		}
 	}
 
@@ -45,17 +53,60 @@ public class PdrEngine extends Engine {
 	}
 
 	private boolean canSpawnSubengine() {
-		return subengines.size() < settings.pdrMax && !properties.isEmpty();
+		return getRunningSubengines().size() < settings.pdrMax && !properties.isEmpty();
+	}
+
+	private Set<PdrSubengine> getRunningSubengines() {
+		return new HashSet<>(subengines.values());
 	}
 
 	private void spawnSubengine() {
-		String prop = properties.remove(0);
+		List<String> group = takeGroup();
 		String scratch = settings.scratch ? getScratchBase() + scratchCounter++ : null;
-		PdrSubengine subengine = new PdrSubengine(prop, spec, scratch, this, director);
-		subengines.put(prop, subengine);
+		PdrSubengine subengine = new PdrSubengine(group, spec, settings.solver, settings.pdrWorkers, scratch, this, director, invariants);
+		for (String prop : group) {
+			subengines.put(prop, subengine);
+		}
 		subengine.start();
 	}
 
+	/**
+	 * Take the next property to check. In multi-property mode, the remaining
+	 * properties whose cones overlap enough with the cone of the group so far
+	 * are checked together in one frame sequence.
+	 */
+	private List<String> takeGroup() {
+		List<String> group = new ArrayList<>();
+		String first = properties.remove(0);
+		group.add(first);
+		if (!settings.pdrMultiProperty) {
+			return group;
+		}
+
+		Set<Dependency> cone = new HashSet<>(spec.dependencyMap.get(first).getSet());
+		Iterator<String> iterator = properties.iterator();
+		while (iterator.hasNext()) {
+			String prop = iterator.next();
+			Set<Dependency> other = spec.dependencyMap.get(prop).getSet();
+			if (overlap(cone, other) >= GROUP_OVERLAP) {
+				group.add(prop);
+				cone.addAll(other);
+				iterator.remove();
+			}
+		}
+		return group;
+	}
+
+	private static double overlap(Set<Dependency> cone1, Set<Dependency> cone2) {
+		int common = 0;
+		for (Dependency dep : cone2) {
+			if (cone1.contains(dep)) {
+				common++;
+			}
+		}
+		return (double) common / Math.max(1, Math.min(cone1.size(), cone2.size()));
+	}
+
 	public void reportUnknown(String prop) {
 		subengines.remove(prop);
 		director.receiveMessage(new UnknownMessage(getName(), prop));
@@ -80,6 +131,8 @@ public class PdrEngine extends Engine {
 
 	@Override
 	protected void handleMessage(InvariantMessage im) {
+		invariants.addAll(im.invariants);
+		getRunningSubengines().forEach(subengine -> subengine.addInvariants(im.invariants));
 	}
 
 	@Override
@@ -97,7 +150,7 @@ public class PdrEngine extends Engine {
 			if (cancel.contains(prop)) {
 				PdrSubengine subengine = subengines.remove(prop);
 				if (subengine != null) {
-					subengine.cancel();
+					subengine.cancel(prop);
 				}
 			}
 		}
@@ -5,6 +5,7 @@ import static java.util.stream.Collectors.toList;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -17,15 +18,20 @@ import de.uni_freiburg.informatik.ultimate.logic.QuotedObject;
 import de.uni_freiburg.informatik.ultimate.logic.Sort;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.TermVariable;
+import jkind.SolverOption;
 import jkind.engines.StopException;
 import jkind.lustre.Expr;
 import jkind.lustre.Function;
 import jkind.lustre.Node;
 import jkind.lustre.Type;
 import jkind.lustre.VarDecl;
+import jkind.solvers.Result;
+import jkind.solvers.SatResult;
+import jkind.solvers.UnsatResult;
 import jkind.solvers.smtinterpol.ScriptUser;
 import jkind.solvers.smtinterpol.SmtInterpolUtil;
 import jkind.solvers.smtinterpol.Subst;
+import jkind.solvers.smtinterpol.TermCopier;
 import jkind.solvers.smtinterpol.Term2Expr;
 import jkind.solvers.smtlib2.SmtLib2Model;
 import jkind.solvers.smtlib2.SmtLib2Solver;
@@ -44,17 +50,30 @@ public class PdrSmt extends ScriptUser {
 
 	private final Term I;
 	private final Term A;
-	private final Term P;
+	private Term P;
 
 	private final Set<Term> predicates = new HashSet<>();
+	private final LiteralTable literals = new LiteralTable();
+	private final Lustre2Term lustre2Term;
+	private final TermCopier copier;
+
+	private int queryCount = 0;
 
 	private final NameGenerator abstractAssertions = new NameGenerator("abstract");
 
 	private final List<Function> functions;
 
-	public PdrSmt(Node node, List<Function> functions, List<Frame> F, String property, String scratchBase) {
+	/**
+	 * Solver used for the PDR queries when it is not SMTInterpol. The script
+	 * is still used to build terms and to compute interpolants.
+	 */
+	private final PdrSolver backend;
+
+	public PdrSmt(Node node, List<Function> functions, List<Frame> F, List<String> properties,
+			SolverOption solverOption, String scratchBase) {
 		super(SmtInterpolUtil.getScript(scratchBase));
 		this.F = F;
+		this.copier = new TermCopier(script);
 
 		script.setOption(":produce-interpolants", true);
 		script.setOption(":produce-unsat-cores", true);
@@ -65,7 +84,7 @@ public class PdrSmt extends ScriptUser {
 		this.functions = functions;
 		declareFunctions(functions);
 
-		Lustre2Term lustre2Term = new Lustre2Term(script, node);
+		this.lustre2Term = new Lustre2Term(script, node);
 		this.varDecls = lustre2Term.getVariables();
 
 		this.base = getVariables("");
@@ -73,10 +92,20 @@ public class PdrSmt extends ScriptUser {
 		this.primeAbstract = getVariables("-'");
 		this.prime = getVariables("'");
 
+		if (PdrSolver.supports(solverOption)) {
+			this.backend = new PdrSolver(solverOption, scratchBase == null ? null : scratchBase + "-queries", node,
+					functions);
+			for (String suffix : new String[] { "", "-", "-'", "'" }) {
+				backend.declare(varDecls, suffix);
+			}
+		} else {
+			this.backend = null;
+		}
+
 		this.I = lustre2Term.getInit();
 		this.A = lustre2Term.getAssertions();
 		defineTransitionRelation(lustre2Term.getTransition());
-		this.P = lustre2Term.encodeProperty(property);
+		this.P = encodeProperties(properties);
 
 		assertAbstract(T(baseAbstract, primeAbstract));
 
@@ -84,6 +113,20 @@ public class PdrSmt extends ScriptUser {
 		addPredicates(PredicateCollector.collect(P));
 	}
 
+	private Term encodeProperties(List<String> properties) {
+		return and(properties.stream().map(lustre2Term::encodeProperty).collect(toList()));
+	}
+
+	/**
+	 * Weaken the property being checked to a subset of the original
+	 * properties. The frames remain valid since they only over-approximate
+	 * the reachable states.
+	 */
+	public void setProperties(List<String> properties) {
+		P = encodeProperties(properties);
+		addPredicates(PredicateCollector.collect(P));
+	}
+
 	private void declareFunctions(List<Function> functions) {
 		for (Function function : functions) {
 			SmtInterpolUtil.declareFunction(script, function);
@@ -92,6 +135,9 @@ public class PdrSmt extends ScriptUser {
 
 	private void assertAbstract(Term t) {
 		script.assertTerm(name(t, abstractAssertions.getNextName()));
+		if (backend != null) {
+			backend.assertTerm(t);
+		}
 	}
 
 	private void defineTransitionRelation(Term transition) {
@@ -105,6 +151,9 @@ public class PdrSmt extends ScriptUser {
 
 		Term body = subst(transition, concat(base, prime), params);
 		script.defineFun(Relation.T, params, script.sort("Bool"), body);
+		if (backend != null) {
+			backend.defineTransitionRelation(varDecls, transition);
+		}
 	}
 
 	private TermVariable variable(Term v) {
@@ -128,12 +177,50 @@ public class PdrSmt extends ScriptUser {
 			comment("New predicate: " + p);
 			assertAbstract(term("=", apply(p, base), apply(p, baseAbstract)));
 			assertAbstract(term("=", apply(p, primeAbstract), apply(p, prime)));
+			if (backend != null) {
+				backend.addPredicate(p);
+			}
+		}
+	}
+
+	public Set<Term> getPredicates() {
+		return predicates;
+	}
+
+	/**
+	 * Copy predicates from another instance over the same node so that both
+	 * use the same abstraction
+	 */
+	public void importPredicates(Set<Term> otherPredicates) {
+		Set<Term> imported = new HashSet<>();
+		for (Term p : otherPredicates) {
+			imported.add(importTerm(p));
+		}
+		addPredicates(imported);
+	}
+
+	public Term importTerm(Term term) {
+		return copier.copy(term);
+	}
+
+	/**
+	 * Forget the terms imported so far, so that the cache does not keep every
+	 * term of the other instance alive
+	 */
+	public void clearImportCache() {
+		copier.clear();
+	}
+
+	public Cube importCube(Cube cube) {
+		Cube result = new Cube(literals);
+		for (Term literal : cube.getPLiterals()) {
+			result.addPLiteral(importTerm(literal));
 		}
-		return;
+		return result;
 	}
 
 	public Cube getBadCube() {
-		return extractCube(checkSat(and(R(depth()), not(P))));
+		return checkSatCube(and(R(depth()), not(P)));
 	}
 
 	private int depth() {
@@ -148,7 +235,17 @@ public class PdrSmt extends ScriptUser {
 		return and(conjuncts);
 	}
 
-	private Model checkSat(Term assertion) {
+	/**
+	 * Check satisfiability of an assertion and return the cube of predicates
+	 * in the model, or null if it is unsatisfiable
+	 */
+	private Cube checkSatCube(Term assertion) {
+		queryCount++;
+		if (backend != null) {
+			Set<Term> truePredicates = backend.checkSat(assertion);
+			return truePredicates == null ? null : extractCube(truePredicates);
+		}
+
 		script.push(1);
 		script.assertTerm(assertion);
 		switch (script.checkSat()) {
@@ -157,9 +254,9 @@ public class PdrSmt extends ScriptUser {
 			return null;
 
 		case SAT:
-			Model model = script.getModel();
+			Cube cube = extractCube(getTruePredicates());
 			script.pop(1);
-			return model;
+			return cube;
 
 		default:
 			commentUnknownReason();
@@ -167,14 +264,21 @@ public class PdrSmt extends ScriptUser {
 		}
 	}
 
-	private Cube extractCube(Model model) {
-		if (model == null) {
-			return null;
+	private Set<Term> getTruePredicates() {
+		Model model = script.getModel();
+		Set<Term> result = new HashSet<>();
+		for (Term p : predicates) {
+			if (isTrue(model.evaluate(p))) {
+				result.add(p);
+			}
 		}
+		return result;
+	}
 
-		Cube result = new Cube();
+	private Cube extractCube(Set<Term> truePredicates) {
+		Cube result = new Cube(literals);
 		for (Term p : predicates) {
-			result.addPLiteral(isTrue(model.evaluate(p)) ? p : not(p));
+			result.addPLiteral(truePredicates.contains(p) ? p : not(p));
 		}
 		return result;
 	}
@@ -193,14 +297,26 @@ public class PdrSmt extends ScriptUser {
 		return !cube.getPLiterals().contains(not(I));
 	}
 
+	/**
+	 * Lemmas which block cubes that violate the assertions cannot be expressed
+	 * as Lustre invariants
+	 */
+	public boolean satisfiesAssertions(Cube cube) {
+		return !cube.getPLiterals().contains(not(A));
+	}
+
 	public enum Option {
 		DEFAULT, EXTRACT_MODEL, NO_IND
 	};
 
 	public TCube solveRelative(TCube s, Option option) {
+		queryCount++;
+		if (backend != null) {
+			return solveRelativeBackend(s, option);
+		}
+
 		int frame = s.getFrame();
 		Cube cube = s.getCube();
-
 		script.push(1);
 
 		if (option != Option.NO_IND) {
@@ -219,21 +335,17 @@ public class PdrSmt extends ScriptUser {
 
 		switch (script.checkSat()) {
 		case UNSAT:
-			Term[] unsatCore = script.getUnsatCore();
-			script.pop(1);
-			int minFrame = getMinimumF(unsatCore);
-			Cube minCube = getMinimalNonInitialCube(pLiterals, unsatCore);
-
-			if (minFrame == F.size() - 2 || minFrame == TCube.FRAME_INF) {
-				return new TCube(minCube, minFrame);
-			} else {
-				return new TCube(minCube, minFrame + 1);
+			List<String> unsatCore = new ArrayList<>();
+			for (Term t : script.getUnsatCore()) {
+				unsatCore.add(t.toString());
 			}
+			script.pop(1);
+			return getBlockedTCube(pLiterals, unsatCore);
 
 		case SAT:
 			Cube c = null;
 			if (option == Option.EXTRACT_MODEL) {
-				c = extractCube(script.getModel());
+				c = extractCube(getTruePredicates());
 			}
 			script.pop(1);
 			return new TCube(c, TCube.FRAME_NULL);
@@ -244,14 +356,67 @@ public class PdrSmt extends ScriptUser {
 		}
 	}
 
+	private TCube solveRelativeBackend(TCube s, Option option) {
+		int frame = s.getFrame();
+		Cube cube = s.getCube();
+		backend.push();
+
+		if (option != Option.NO_IND) {
+			backend.assertTerm(not(cube));
+		}
+		backend.assertTerm(F.get(F.size() - 1).toTerm(script));
+
+		Map<String, Term> named = new LinkedHashMap<>();
+		for (int i = frame - 1; i < F.size() - 1; i++) {
+			named.put("F" + i, F.get(i).toTerm(script));
+		}
+		List<Term> pLiterals = cube.getPLiterals();
+		for (int i = 0; i < pLiterals.size(); i++) {
+			named.put("P" + i, prime(pLiterals.get(i)));
+		}
+
+		Result result;
+		try {
+			result = backend.checkSatAssuming(named, option == Option.EXTRACT_MODEL);
+		} finally {
+			backend.pop();
+		}
+
+		if (result instanceof UnsatResult) {
+			List<String> unsatCore = new ArrayList<>();
+			((UnsatResult) result).getUnsatCore().forEach(symbol -> unsatCore.add(symbol.str));
+			return getBlockedTCube(pLiterals, unsatCore);
+		}
+
+		Cube c = null;
+		if (option == Option.EXTRACT_MODEL) {
+			c = extractCube(backend.getTruePredicates(((SatResult) result).getModel()));
+		}
+		return new TCube(c, TCube.FRAME_NULL);
+	}
+
+	private TCube getBlockedTCube(List<Term> pLiterals, List<String> unsatCore) {
+		int minFrame = getMinimumF(unsatCore);
+		Cube minCube = getMinimalNonInitialCube(pLiterals, unsatCore);
+
+		if (minFrame == F.size() - 2 || minFrame == TCube.FRAME_INF) {
+			return new TCube(minCube, minFrame);
+		} else {
+			return new TCube(minCube, minFrame + 1);
+		}
+	}
+
+	public int getQueryCount() {
+		return queryCount;
+	}
+
 	private void commentUnknownReason() {
 		comment("SMT solver returned 'unknown' due to " + script.getInfo(":reason-unknown"));
 	}
 
-	private int getMinimumF(Term[] unsatCore) {
+	private int getMinimumF(List<String> unsatCore) {
 		int min = TCube.FRAME_INF;
-		for (Term t : unsatCore) {
-			String name = t.toString();
+		for (String name : unsatCore) {
 			if (name.startsWith("F")) {
 				int frame = Integer.parseInt(name.substring(1));
 				if (frame < min) {
@@ -262,10 +427,9 @@ public class PdrSmt extends ScriptUser {
 		return min;
 	}
 
-	private Cube getMinimalNonInitialCube(List<Term> pLiterals, Term[] unsatCore) {
-		Cube result = new Cube();
-		for (Term t : unsatCore) {
-			String name = t.toString();
+	private Cube getMinimalNonInitialCube(List<Term> pLiterals, List<String> unsatCore) {
+		Cube result = new Cube(literals);
+		for (String name : unsatCore) {
 			if (name.startsWith("P")) {
 				int pIndex = Integer.parseInt(name.substring(1));
 				result.addPLiteral(pLiterals.get(pIndex));
@@ -287,13 +451,26 @@ public class PdrSmt extends ScriptUser {
 		int frame = s.getFrame();
 		Cube cube = s.getCube();
 		Term query = and(cube, R(frame));
-		return checkSat(query) == null;
+		return checkSatCube(query) == null;
 	}
 
 	public Frame createInitialFrame() {
 		return new Frame(I);
 	}
 
+	/**
+	 * Add an invariant proven elsewhere. It holds in every frame, so rather
+	 * than being re-encoded in each query as part of F_INF, it is asserted
+	 * once for the current state and for both states of the abstract
+	 * transition relation.
+	 */
+	public void addInvariant(Expr invariant) {
+		Term lemma = lustre2Term.encodeInvariant(invariant);
+		assertAbstract(lemma);
+		assertAbstract(apply(lemma, baseAbstract));
+		assertAbstract(apply(lemma, primeAbstract));
+	}
+
 	public void refine(List<Cube> cubes) {
 		List<Term> pieces = new ArrayList<>();
 
@@ -334,6 +511,7 @@ public class PdrSmt extends ScriptUser {
 		case SAT:
 			int length = terms.size() - 1;
 			SmtLib2Model extractedModel = extractModel(script.getModel(), length);
+			script.pop(1);
 			throw new CounterexampleException(length, extractedModel);
 
 		default:
@@ -356,6 +534,15 @@ public class PdrSmt extends ScriptUser {
 
 	public void comment(String comment) {
 		script.echo(new QuotedObject(comment));
+		if (backend != null) {
+			backend.comment(comment);
+		}
+	}
+
+	public void stop() {
+		if (backend != null) {
+			backend.stop();
+		}
 	}
 
 	public Expr getInvariant(Cube cube) {
@@ -0,0 +1,223 @@
+package jkind.engines.pdr;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import de.uni_freiburg.informatik.ultimate.logic.ApplicationTerm;
+import de.uni_freiburg.informatik.ultimate.logic.ConstantTerm;
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import jkind.JKindException;
+import jkind.SolverOption;
+import jkind.engines.SolverUtil;
+import jkind.engines.StopException;
+import jkind.lustre.Function;
+import jkind.lustre.NamedType;
+import jkind.lustre.Node;
+import jkind.lustre.VarDecl;
+import jkind.lustre.values.BooleanValue;
+import jkind.sexp.Cons;
+import jkind.sexp.Sexp;
+import jkind.sexp.Symbol;
+import jkind.solvers.Model;
+import jkind.solvers.Result;
+import jkind.solvers.SatResult;
+import jkind.solvers.Solver;
+import jkind.solvers.UnknownResult;
+import jkind.solvers.UnsatResult;
+import jkind.translation.Relation;
+
+/**
+ * Runs the PDR satisfiability queries on a generic solver. Terms are still
+ * built by the SMTInterpol script in PdrSmt, which is also kept for
+ * interpolation during abstraction refinement, and are translated to
+ * s-expressions here. Unsat cores are computed with check-sat under
+ * activation literals, and predicate values are read through one defined
+ * Boolean per predicate.
+ */
+public class PdrSolver {
+	private final Solver solver;
+	private final Map<Term, Symbol> indicators = new HashMap<>();
+	private final Map<Term, Sexp> cache = new HashMap<>();
+
+	public static boolean supports(SolverOption option) {
+		// SMTInterpol is used directly by PdrSmt, and Yices 1 does not use
+		// SMT-LIB syntax
+		return option != SolverOption.SMTINTERPOL && option != SolverOption.YICES;
+	}
+
+	public PdrSolver(SolverOption option, String scratchBase, Node node, List<Function> functions) {
+		this.solver = SolverUtil.getSolver(option, scratchBase, node);
+		solver.initialize();
+		solver.declare(functions);
+	}
+
+	public void declare(List<VarDecl> varDecls, String suffix) {
+		for (VarDecl vd : varDecls) {
+			solver.define(new VarDecl(encode(vd.id + suffix), vd.type));
+		}
+	}
+
+	public void defineTransitionRelation(List<VarDecl> varDecls, Term transition) {
+		List<VarDecl> inputs = new ArrayList<>();
+		for (VarDecl vd : varDecls) {
+			inputs.add(new VarDecl(encode(vd.id), vd.type));
+		}
+		for (VarDecl vd : varDecls) {
+			inputs.add(new VarDecl(encode(vd.id + "'"), vd.type));
+		}
+		solver.define(new Relation(Relation.T, inputs, sexp(transition)));
+	}
+
+	public void assertTerm(Term term) {
+		solver.assertSexp(sexp(term));
+	}
+
+	public void addPredicate(Term predicate) {
+		Symbol indicator = new Symbol("%pred" + indicators.size());
+		solver.define(new VarDecl(indicator.str, NamedType.BOOL));
+		solver.assertSexp(new Cons("=", indicator, sexp(predicate)));
+		indicators.put(predicate, indicator);
+	}
+
+	public void push() {
+		solver.push();
+	}
+
+	public void pop() {
+		solver.pop();
+	}
+
+	/**
+	 * Check satisfiability of an assertion and return the predicates which
+	 * are true in the model, or null if it is unsatisfiable
+	 */
+	public Set<Term> checkSat(Term assertion) {
+		Result result = solver.query(new Cons("not", sexp(assertion)));
+		if (result instanceof UnsatResult) {
+			return null;
+		}
+		return getTruePredicates(getModel(result));
+	}
+
+	/**
+	 * Check satisfiability of the current assertions together with the named
+	 * terms, each guarded by an activation literal with its name. For UNSAT
+	 * the result holds the names in the unsat core, and for SAT it holds a
+	 * model only if one is requested.
+	 */
+	public Result checkSatAssuming(Map<String, Term> named, boolean extractModel) {
+		push();
+
+		List<Symbol> activationLiterals = new ArrayList<>();
+		for (String name : named.keySet()) {
+			Symbol actLit = new Symbol(name);
+			solver.define(new VarDecl(name, NamedType.BOOL));
+			solver.assertSexp(new Cons("=>", actLit, sexp(named.get(name))));
+			activationLiterals.add(actLit);
+		}
+
+		Result result = solver.checkSatAssuming(activationLiterals, extractModel);
+		if (result instanceof UnknownResult) {
+			pop();
+			throw new StopException();
+		}
+
+		pop();
+		return result;
+	}
+
+	public Set<Term> getTruePredicates(Model model) {
+		Set<Term> result = new HashSet<>();
+		for (Term predicate : indicators.keySet()) {
+			if (model.getValue(indicators.get(predicate).str) == BooleanValue.TRUE) {
+				result.add(predicate);
+			}
+		}
+		return result;
+	}
+
+	private Model getModel(Result result) {
+		if (result instanceof SatResult) {
+			return ((SatResult) result).getModel();
+		} else if (result instanceof UnknownResult) {
+			throw new StopException();
+		} else {
+			throw new JKindException("Expected a model from PDR query");
+		}
+	}
+
+	public void comment(String comment) {
+		solver.comment(comment);
+	}
+
+	public void stop() {
+		solver.stop();
+	}
+
+	/** Translation */
+
+	private static String encode(String name) {
+		// Primes are not allowed in simple SMT-LIB symbols
+		return name.replace("'", "~");
+	}
+
+	private Sexp sexp(Term term) {
+		Sexp result = cache.get(term);
+		if (result == null) {
+			result = convert(term);
+			cache.put(term, result);
+		}
+		return result;
+	}
+
+	private Sexp convert(Term term) {
+		if (term instanceof ConstantTerm) {
+			return convert((ConstantTerm) term);
+		} else if (term instanceof ApplicationTerm) {
+			ApplicationTerm at = (ApplicationTerm) term;
+			String name = at.getFunction().getName();
+			Term[] params = at.getParameters();
+			if (params.length == 0) {
+				return new Symbol(encode(name));
+			}
+
+			List<Sexp> args = new ArrayList<>();
+			for (Term param : params) {
+				args.add(sexp(param));
+			}
+			return new Cons(name, args);
+		} else {
+			throw new IllegalArgumentException("Unhandled term type: " + term.getClass().getSimpleName());
+		}
+	}
+
+	private Sexp convert(ConstantTerm ct) {
+		boolean isInt = ct.getSort().getName().equals("Int");
+		Object value = ct.getValue();
+		if (value instanceof BigInteger) {
+			return number((BigInteger) value, BigInteger.ONE, isInt);
+		} else if (value instanceof BigDecimal) {
+			BigDecimal bd = (BigDecimal) value;
+			return number(bd.unscaledValue(), BigInteger.TEN.pow(bd.scale()), isInt);
+		} else if (value instanceof Rational) {
+			Rational r = (Rational) value;
+			return number(r.numerator(), r.denominator(), isInt);
+		} else {
+			throw new IllegalArgumentException("Unhandled constant term type: " + value.getClass().getSimpleName());
+		}
+	}
+
+	private Sexp number(BigInteger numerator, BigInteger denominator, boolean isInt) {
+		if (isInt) {
+			return Sexp.fromBigInt(numerator);
+		}
+		return new Cons("/", Sexp.fromBigInt(numerator), Sexp.fromBigInt(denominator));
+	}
+}
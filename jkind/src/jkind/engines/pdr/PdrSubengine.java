@@ -1,11 +1,24 @@
 package jkind.engines.pdr;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import de.uni_freiburg.informatik.ultimate.logic.SMTLIBException;
 import de.uni_freiburg.informatik.ultimate.logic.Term;
+import jkind.JKindException;
+import jkind.SolverOption;
+import jkind.advice.VariableUsageChecker;
+import jkind.analysis.ContainsArrays;
 import jkind.analysis.LinearChecker;
 import jkind.engines.Director;
 import jkind.engines.StopException;
@@ -17,10 +30,13 @@ import jkind.engines.pdr.PdrSmt.Option;
 import jkind.lustre.Expr;
 import jkind.lustre.Function;
 import jkind.lustre.Node;
+import jkind.lustre.values.BooleanValue;
 import jkind.lustre.builders.NodeBuilder;
 import jkind.slicing.LustreSlicer;
 import jkind.solvers.Model;
 import jkind.translation.Specification;
+import jkind.util.StreamIndex;
+import jkind.util.Util;
 
 /**
  * PDR algorithm based on "Efficient implementation of property directed
@@ -31,43 +47,77 @@ import jkind.translation.Specification;
  * Stefano Tonetta
  */
 public class PdrSubengine extends Thread {
+	private static final int MAX_CTGS = 3;
+	private static final int MIN_PARALLEL_CUBES = 8;
+
 	private final Node node;
 	private final List<Function> functions;
-	private final String prop;
-	
+	private final List<String> props;
+
 	private final PdrEngine parent;
 	private final Director director;
 
 	private final List<Frame> F = new ArrayList<>();
+	private final CubeIndex index = new CubeIndex();
+	private final SolverOption solverOption;
 	private final String scratchBase;
 	private PdrSmt Z;
 
+	private final int propagationWorkers;
+	private final List<PropagationWorker> workers = new ArrayList<>();
+	private ExecutorService executor;
+
+	private final Queue<Expr> incomingInvariants = new ConcurrentLinkedQueue<>();
+	private final List<Expr> importedInvariants = new ArrayList<>();
+	private final Set<Expr> knownInvariants = new HashSet<>();
+
+	private final Set<String> cancelled = ConcurrentHashMap.newKeySet();
 	private volatile boolean cancel = false;
 
-	public PdrSubengine(String prop, Specification spec, String scratchBase, PdrEngine parent, Director director) {
-		super("pdr-" + prop);
-		this.prop = prop;
-		Node single = new NodeBuilder(spec.node).clearProperties().addProperty(prop).build();
-		this.node = LustreSlicer.slice(single, spec.dependencyMap);
+	private int generalizations = 0;
+	private int generalizationQueries = 0;
+	private int ctgs = 0;
+
+	public PdrSubengine(List<String> props, Specification spec, SolverOption solverOption, int propagationWorkers,
+			String scratchBase, PdrEngine parent, Director director, List<Expr> invariants) {
+		super("pdr-" + String.join(",", props));
+		this.props = new ArrayList<>(props);
+		Node group = new NodeBuilder(spec.node).clearProperties().addProperties(props).build();
+		this.node = LustreSlicer.slice(group, spec.dependencyMap);
 		this.functions = spec.functions;
+		this.solverOption = solverOption;
+		this.propagationWorkers = propagationWorkers;
 		this.scratchBase = scratchBase;
 		this.parent = parent;
 		this.director = director;
+		this.incomingInvariants.addAll(invariants);
 	}
 
 	public void cancel() {
 		cancel = true;
 	}
 
+	/**
+	 * Stop checking a single property of the group. The subengine stops once
+	 * all of its properties are cancelled.
+	 */
+	public void cancel(String prop) {
+		cancelled.add(prop);
+	}
+
+	public void addInvariants(List<Expr> invariants) {
+		incomingInvariants.addAll(invariants);
+	}
+
 	@Override
 	public void run() {
-		if (!LinearChecker.isLinear(this.node)) {
-			parent.reportUnknown(prop);
+		if (!LinearChecker.isLinear(this.node) || ContainsArrays.check(this.node)) {
+			reportUnknown();
 			return;
 		}
 
-		Z = new PdrSmt(node, functions, F, prop, scratchBase);
-		Z.comment("Checking property: " + prop);
+		Z = new PdrSmt(node, functions, F, props, solverOption, scratchBase);
+		Z.comment("Checking properties: " + props);
 
 		// Create F_INF and F[0]
 		F.add(new Frame());
@@ -75,29 +125,85 @@ public class PdrSubengine extends Thread {
 
 		try {
 			while (true) {
-				Cube c = Z.getBadCube();
-				if (c != null) {
-					blockCube(new TCube(c, depth()));
-				} else {
-					addFrame(new Frame());
-					Z.comment("Number of frames: " + F.size());
-					List<Expr> invariants = propogateBlockedCubes();
-					if (invariants != null) {
-						sendValidAndInvariants(invariants);
+				try {
+					removeCancelledProperties();
+					importInvariants();
+					Cube c = Z.getBadCube();
+					if (c != null) {
+						blockCube(new TCube(c, depth()));
+					} else {
+						addFrame(new Frame());
+						Z.comment("Number of frames: " + F.size());
+						commentStatistics();
+						List<Expr> invariants = propogateBlockedCubes();
+						if (invariants != null) {
+							sendValidAndInvariants(invariants);
+							return;
+						}
+					}
+				} catch (CounterexampleException cex) {
+					Z.comment("Found counterexample of length " + cex.getLength());
+					if (!sendInvalid(cex.getLength(), cex.getModel())) {
 						return;
 					}
 				}
 			}
-		} catch (CounterexampleException cex) {
-			Z.comment("Found counterexample of length " + cex.getLength());
-			sendInvalid(cex.getLength(), cex.getModel());
-			return;
 		} catch (StopException | OutOfMemoryError e) {
-			parent.reportUnknown(prop);
+			reportUnknown();
 			return;
 		} catch (Throwable t) {
 			parent.reportThrowable(t);
 			return;
+		} finally {
+			Z.stop();
+			stopWorkers();
+		}
+	}
+
+	private void reportUnknown() {
+		for (String prop : props) {
+			parent.reportUnknown(prop);
+		}
+	}
+
+	private void removeCancelledProperties() {
+		if (props.removeAll(cancelled)) {
+			checkCancel();
+			Z.comment("Checking properties: " + props);
+			Z.setProperties(props);
+		}
+	}
+
+	private void importInvariants() {
+		VariableUsageChecker checker = null;
+		int count = 0;
+		Expr invariant;
+		while ((invariant = incomingInvariants.poll()) != null) {
+			if (!knownInvariants.add(invariant)) {
+				continue;
+			}
+
+			if (checker == null) {
+				checker = new VariableUsageChecker(Util.getVarDecls(node));
+			}
+			if (!checker.check(invariant)) {
+				continue;
+			}
+
+			try {
+				Z.addInvariant(invariant);
+				for (PropagationWorker worker : workers) {
+					worker.addInvariant(invariant);
+				}
+				importedInvariants.add(invariant);
+				count++;
+			} catch (IllegalArgumentException | SMTLIBException e) {
+				// Skip invariants which are not state lemmas or do not translate
+			}
+		}
+
+		if (count > 0) {
+			Z.comment("Imported " + count + " invariants");
 		}
 	}
 
@@ -149,26 +255,96 @@ public class PdrSubengine extends Thread {
 
 	private boolean isBlocked(TCube s) {
 		// Check syntactic subsumption (faster than SAT):
-		for (int d = s.getFrame(); d < F.size(); d++) {
-			for (Cube c : F.get(d).getCubes()) {
-				if (c.subsumes(s.getCube())) {
-					return true;
-				}
-			}
+		if (index.hasSubsuming(s.getCube(), s.getFrame())) {
+			return true;
 		}
 
 		// Semantic subsumption thru SAT:
 		return Z.isBlocked(s);
 	}
 
+	/**
+	 * Drop literals from a blocked cube while it remains inductive relative to
+	 * the previous frame. Literals are dropped in halves, falling back to
+	 * smaller groups when that fails, and the unsat core of every successful
+	 * query removes all other literals it does not need.
+	 */
 	private void generalize(TCube s) {
-		List<Term> pLiterals = new ArrayList<>(s.getCube().getPLiterals());
+		int queries = Z.getQueryCount();
+		dropLiterals(s, new ArrayList<>(s.getCube().getPLiterals()));
+		generalizations++;
+		generalizationQueries += Z.getQueryCount() - queries;
+	}
+
+	private void dropLiterals(TCube s, List<Term> literals) {
+		literals.retainAll(s.getCube().getPLiterals());
+		if (literals.isEmpty() || tryDropLiterals(s, literals) || literals.size() == 1) {
+			return;
+		}
+
+		int mid = literals.size() / 2;
+		dropLiterals(s, new ArrayList<>(literals.subList(0, mid)));
+		dropLiterals(s, new ArrayList<>(literals.subList(mid, literals.size())));
+	}
+
+	private boolean tryDropLiterals(TCube s, List<Term> literals) {
+		Cube candidate = s.getCube().copy();
+		for (Term p : literals) {
+			candidate.removePLiteral(p);
+		}
+
+		Cube core = down(candidate, s.getFrame());
+		if (core == null) {
+			return false;
+		}
+
+		for (Term p : new ArrayList<>(s.getCube().getPLiterals())) {
+			if (!core.getPLiterals().contains(p)) {
+				s.getCube().removePLiteral(p);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Check if a cube is inductive relative to the frame before the given
+	 * one. A counterexample to generalization which can itself be blocked one
+	 * frame earlier is blocked, and the check is repeated (up to MAX_CTGS
+	 * times). Returns the cube reduced by the unsat core, or null.
+	 */
+	private Cube down(Cube cube, int frame) {
+		int attempts = 0;
+		while (true) {
+			if (Z.isInitial(cube)) {
+				return null;
+			}
+
+			TCube z = Z.solveRelative(new TCube(cube, frame), Option.EXTRACT_MODEL);
+			if (z.getFrame() != TCube.FRAME_NULL) {
+				return z.getCube();
+			}
+
+			Cube ctg = z.getCube();
+			if (attempts >= MAX_CTGS || frame <= 1 || Z.isInitial(ctg) || !Z.satisfiesAssertions(ctg)) {
+				return null;
+			}
 
-		for (Term p : pLiterals) {
-			s.getCube().removePLiteral(p);
-			if (Z.isInitial(s.getCube()) || Z.solveRelative(s).getFrame() == TCube.FRAME_NULL) {
-				s.getCube().addPLiteral(p);
+			TCube blocked = Z.solveRelative(new TCube(ctg, frame - 1));
+			if (blocked.getFrame() == TCube.FRAME_NULL) {
+				return null;
 			}
+
+			attempts++;
+			ctgs++;
+			addBlockedCube(blocked);
+		}
+	}
+
+	private void commentStatistics() {
+		if (generalizations > 0) {
+			double average = (double) generalizationQueries / generalizations;
+			Z.comment(String.format("Generalized %d cubes with %d SMT queries (%.1f per cube), blocked %d CTGs",
+					generalizations, generalizationQueries, average, ctgs));
 		}
 	}
 
@@ -182,11 +358,16 @@ public class PdrSubengine extends Thread {
 
 	private List<Expr> propogateBlockedCubes() {
 		for (int k = 1; k < depth(); k++) {
-			for (Cube c : new ArrayList<>(F.get(k).getCubes())) {
-				checkCancel();
-				TCube s = Z.solveRelative(new TCube(c, k + 1), Option.NO_IND);
-				if (s.getFrame() != TCube.FRAME_NULL) {
-					addBlockedCube(s);
+			List<Cube> cubes = new ArrayList<>(F.get(k).getCubes());
+			if (propagationWorkers > 1 && cubes.size() >= MIN_PARALLEL_CUBES) {
+				propogateBlockedCubesInParallel(cubes, k);
+			} else {
+				for (Cube c : cubes) {
+					checkCancel();
+					TCube s = Z.solveRelative(new TCube(c, k + 1), Option.NO_IND);
+					if (s.getFrame() != TCube.FRAME_NULL) {
+						addBlockedCube(s);
+					}
 				}
 			}
 
@@ -198,8 +379,87 @@ public class PdrSubengine extends Thread {
 		return null;
 	}
 
+	/**
+	 * Each worker tries to push a share of the cubes using its own copy of the
+	 * frames. The pushed cubes are then added to the frames in their original
+	 * order on this thread.
+	 */
+	private void propogateBlockedCubesInParallel(List<Cube> cubes, int k) {
+		createWorkers();
+
+		List<Future<List<TCube>>> futures = new ArrayList<>();
+		for (int i = 0; i < workers.size(); i++) {
+			PropagationWorker worker = workers.get(i);
+			List<Cube> share = new ArrayList<>();
+			for (int j = i; j < cubes.size(); j += workers.size()) {
+				share.add(cubes.get(j));
+			}
+			futures.add(executor.submit(() -> propagate(worker, share, k)));
+		}
+
+		List<List<TCube>> results = new ArrayList<>();
+		for (Future<List<TCube>> future : futures) {
+			results.add(await(future));
+		}
+
+		for (int j = 0; j < cubes.size(); j++) {
+			TCube s = results.get(j % workers.size()).get(j / workers.size());
+			if (s != null) {
+				addBlockedCube(new TCube(Z.importCube(s.getCube()), s.getFrame()));
+			}
+		}
+		Z.clearImportCache();
+	}
+
+	private List<TCube> propagate(PropagationWorker worker, List<Cube> share, int k) {
+		worker.load(Z, F, k);
+		List<TCube> result = new ArrayList<>();
+		for (Cube c : share) {
+			checkCancel();
+			TCube s = worker.propagate(c, k);
+			result.add(s.getFrame() == TCube.FRAME_NULL ? null : s);
+		}
+		return result;
+	}
+
+	private <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof StopException) {
+				throw (StopException) e.getCause();
+			}
+			throw new JKindException("PDR propagation worker failed", e.getCause());
+		} catch (InterruptedException e) {
+			throw new JKindException("Interrupted while waiting for PDR propagation workers", e);
+		}
+	}
+
+	private void createWorkers() {
+		if (executor != null) {
+			return;
+		}
+
+		for (int i = 0; i < propagationWorkers; i++) {
+			String scratch = scratchBase == null ? null : scratchBase + "-propagate" + i;
+			PropagationWorker worker = new PropagationWorker(node, functions, props, solverOption, scratch);
+			importedInvariants.forEach(worker::addInvariant);
+			workers.add(worker);
+		}
+		executor = Executors.newFixedThreadPool(propagationWorkers);
+	}
+
+	private void stopWorkers() {
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+		for (PropagationWorker worker : workers) {
+			worker.stop();
+		}
+	}
+
 	private List<Expr> getInvariants(int k) {
-		List<Expr> invariants = new ArrayList<>();
+		List<Expr> invariants = new ArrayList<>(importedInvariants);
 		for (int i = k; i < F.size(); i++) {
 			for (Cube c : F.get(i).getCubes()) {
 				invariants.add(Z.getInvariant(c));
@@ -209,26 +469,24 @@ public class PdrSubengine extends Thread {
 	}
 
 	private void checkCancel() {
-		if (cancel) {
+		if (cancel || cancelled.containsAll(props)) {
 			throw new StopException();
 		}
 	}
 
 	private void addBlockedCube(TCube s) {
 		int k = Math.min(s.getFrame(), depth() + 1);
+		int level = (k == depth() + 1) ? TCube.FRAME_INF : k;
 
 		// Remove subsumed clauses:
-		for (int d = 1; d <= k; d++) {
-			Set<Cube> cubes = F.get(d).getCubes();
-			for (Cube c : new ArrayList<>(cubes)) {
-				if (s.getCube().subsumes(c)) {
-					cubes.remove(c);
-				}
-			}
+		for (Cube c : index.getSubsumed(s.getCube(), level)) {
+			F.get(getFrameIndex(index.getLevel(c))).remove(c);
+			index.remove(c);
 		}
 
 		// Store clause
 		F.get(k).add(s.getCube());
+		index.add(s.getCube(), level);
 		Z.comment("Blocked [" + k + "] : " + s.getCube());
 
 		// Report if invariant
@@ -238,6 +496,10 @@ public class PdrSubengine extends Thread {
 		}
 	}
 
+	private int getFrameIndex(int level) {
+		return level == TCube.FRAME_INF ? F.size() - 1 : level;
+	}
+
 	private List<Cube> getCubes(Cube init) {
 		List<Cube> result = new ArrayList<>();
 		Cube curr = init;
@@ -250,16 +512,39 @@ public class PdrSubengine extends Thread {
 
 	private void sendValidAndInvariants(List<Expr> invariants) {
 		Itinerary itinerary = director.getValidMessageItinerary();
-		director.broadcast(new ValidMessage(parent.getName(), prop, 1, invariants, null, itinerary));
+		director.broadcast(new ValidMessage(parent.getName(), props, 1, invariants, null, itinerary));
 		director.broadcast(new InvariantMessage(invariants));
 	}
 
-	private void sendInvalid(int length, Model model) {
+	/**
+	 * Report the properties falsified by a counterexample and continue with
+	 * the rest of the group. Returns false if no properties remain.
+	 */
+	private boolean sendInvalid(int length, Model model) {
+		List<String> invalid = new ArrayList<>();
+		for (String prop : props) {
+			if (model.getValue(new StreamIndex(prop, length - 1)) == BooleanValue.FALSE) {
+				invalid.add(prop);
+			}
+		}
+		if (invalid.isEmpty()) {
+			throw new JKindException("PDR counterexample does not falsify any property");
+		}
+
 		Itinerary itinerary = director.getInvalidMessageItinerary();
-		director.broadcast(new InvalidMessage(parent.getName(), prop, length, model, itinerary));
+		director.broadcast(new InvalidMessage(parent.getName(), invalid, length, model, itinerary));
+
+		props.removeAll(invalid);
+		if (props.isEmpty()) {
+			return false;
+		}
+		Z.comment("Checking properties: " + props);
+		Z.setProperties(props);
+		return true;
 	}
 
 	private void sendInvariant(Expr invariant) {
+		knownInvariants.add(invariant);
 		director.broadcast(new InvariantMessage(invariant));
 	}
 }
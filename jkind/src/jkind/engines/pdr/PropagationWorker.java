@@ -0,0 +1,110 @@
+package jkind.engines.pdr;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+import jkind.SolverOption;
+import jkind.engines.pdr.PdrSmt.Option;
+import jkind.lustre.Expr;
+import jkind.lustre.Function;
+import jkind.lustre.Node;
+
+/**
+ * A separate PDR context used to push blocked cubes forward in parallel with
+ * other workers. Before each propagation step the worker brings the frames it
+ * needs and the predicates up to date with the main context, copying only what
+ * changed since the previous step. The resulting cubes stay in the worker's
+ * terms and must be imported by the main context.
+ */
+public class PropagationWorker {
+	private final List<Frame> F = new ArrayList<>();
+	private final PdrSmt Z;
+
+	/** For each frame, the copies of the cubes of the main frame */
+	private final List<Map<Cube, Cube>> copies = new ArrayList<>();
+
+	/** For each frame, the version of the main frame when it was last copied */
+	private final List<Integer> versions = new ArrayList<>();
+
+	private final Set<Term> knownPredicates = new HashSet<>();
+
+	public PropagationWorker(Node node, List<Function> functions, List<String> props, SolverOption solverOption,
+			String scratchBase) {
+		this.Z = new PdrSmt(node, functions, F, props, solverOption, scratchBase);
+	}
+
+	/**
+	 * Mirror frames k and above of the main context. Lower frames are not
+	 * used when pushing cubes out of frame k, so they may be out of date.
+	 */
+	public void load(PdrSmt main, List<Frame> mainF, int k) {
+		Set<Term> newPredicates = new HashSet<>(main.getPredicates());
+		newPredicates.removeAll(knownPredicates);
+		knownPredicates.addAll(newPredicates);
+		Z.importPredicates(newPredicates);
+
+		// New frames are always inserted just before F_INF
+		while (F.size() < mainF.size()) {
+			int index = Math.max(0, F.size() - 1);
+			F.add(index, new Frame());
+			copies.add(index, new HashMap<>());
+			versions.add(index, -1);
+		}
+
+		for (int i = k; i < mainF.size(); i++) {
+			Frame mainFrame = mainF.get(i);
+			if (versions.get(i) != mainFrame.getVersion()) {
+				update(F.get(i), copies.get(i), mainFrame);
+				versions.set(i, mainFrame.getVersion());
+			}
+		}
+
+		Z.clearImportCache();
+	}
+
+	private void update(Frame frame, Map<Cube, Cube> copy, Frame mainFrame) {
+		Iterator<Entry<Cube, Cube>> iterator = copy.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Entry<Cube, Cube> entry = iterator.next();
+			if (!mainFrame.getCubes().contains(entry.getKey())) {
+				frame.remove(entry.getValue());
+				iterator.remove();
+			}
+		}
+
+		for (Cube c : mainFrame.getCubes()) {
+			if (!copy.containsKey(c)) {
+				Cube imported = Z.importCube(c);
+				frame.add(imported);
+				copy.put(c, imported);
+			}
+		}
+	}
+
+	public void addInvariant(Expr invariant) {
+		Z.addInvariant(invariant);
+	}
+
+	/**
+	 * Try to push a cube of the main context from frame k to frame k+1. The
+	 * result is in terms of this worker.
+	 */
+	public TCube propagate(Cube c, int k) {
+		Cube imported = copies.get(k).get(c);
+		if (imported == null) {
+			imported = Z.importCube(c);
+		}
+		return Z.solveRelative(new TCube(imported, k + 1), Option.NO_IND);
+	}
+
+	public void stop() {
+		Z.stop();
+	}
+}
@@ -46,4 +46,25 @@ public class Cons extends Sexp {
 		}
 		sb.append(")");
 	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + head.hashCode();
+		result = prime * result + args.hashCode();
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Cons)) {
+			return false;
+		}
+		Cons other = (Cons) obj;
+		return head.equals(other.head) && args.equals(other.args);
+	}
 }
@@ -0,0 +1,327 @@
+package jkind.slicing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jkind.lustre.Equation;
+import jkind.lustre.Expr;
+import jkind.lustre.Function;
+import jkind.lustre.IdExpr;
+import jkind.lustre.Node;
+import jkind.lustre.VarDecl;
+
+/**
+ * The dependencies of a node over dense ids, closed once for all roots.
+ *
+ * Strongly connected components are computed once and condensed into a DAG.
+ * The cone of each component is a bitset which is the union of the cones of
+ * its successors, so roots in the same component share their cone. Bits are
+ * assigned in reverse topological order, so the bitset of a cone is no longer
+ * than the last bit of its component.
+ */
+class DependencyGraph {
+	private final Map<Dependency, Integer> ids = new HashMap<>();
+	private final List<Dependency> dependencies = new ArrayList<>();
+	private final List<List<Integer>> successors = new ArrayList<>();
+	private final BitSet rootNodes = new BitSet();
+
+	private int[] component;
+	private int[] order;
+	private BitSet[] cones;
+	private Dependency[] dependenciesByOrder;
+	private final Map<Integer, DependencySet> materialized = new HashMap<>();
+
+	public DependencyGraph(Node node, List<String> roots, List<Function> functions) {
+		for (VarDecl input : node.inputs) {
+			getId(Dependency.variable(input.id));
+		}
+
+		for (Function fn : functions) {
+			getId(Dependency.function(fn.id));
+		}
+
+		for (Equation eq : node.equations) {
+			DependencySet deps = DependencyVisitor.get(eq.expr);
+			for (IdExpr idExpr : eq.lhs) {
+				int id = getId(Dependency.variable(idExpr.id));
+				for (Dependency dep : deps) {
+					successors.get(id).add(getId(dep));
+				}
+			}
+		}
+
+		List<Integer> rootIds = new ArrayList<>();
+		for (String root : roots) {
+			int id = getId(Dependency.variable(root));
+			rootIds.add(id);
+			rootNodes.set(id);
+		}
+
+		analyzeAssertions(node.assertions);
+		computeComponents();
+		computeCones(rootIds);
+	}
+
+	private int getId(Dependency dep) {
+		Integer id = ids.get(dep);
+		if (id == null) {
+			id = addNode(dep);
+			ids.put(dep, id);
+		}
+		return id;
+	}
+
+	private int addNode(Dependency dep) {
+		dependencies.add(dep);
+		successors.add(new ArrayList<>());
+		return successors.size() - 1;
+	}
+
+	/*
+	 * Assertions cause everything they (transitively) touch to be related. For
+	 * example, suppose x depends on y and y depends on z. If we assert that x
+	 * is always true, then x, y, and z all depends on each other. Assertions
+	 * whose cones overlap relate everything in both cones.
+	 *
+	 * Each cone is traversed only as far as the nodes not already claimed by
+	 * an earlier assertion, merging the two assertions instead. Every group of
+	 * related nodes is then made strongly connected through a node which has
+	 * no dependency of its own.
+	 */
+	private void analyzeAssertions(List<Expr> assertions) {
+		List<DependencySet> assertionDependencies = new ArrayList<>();
+		for (Expr assertion : assertions) {
+			DependencySet deps = DependencyVisitor.get(assertion);
+			for (Dependency dep : deps) {
+				getId(dep);
+			}
+			assertionDependencies.add(deps);
+		}
+
+		int n = dependencies.size();
+		int[] owner = new int[n];
+		Arrays.fill(owner, -1);
+		int[] group = new int[assertions.size()];
+		for (int i = 0; i < group.length; i++) {
+			group[i] = i;
+		}
+
+		for (int i = 0; i < assertions.size(); i++) {
+			Deque<Integer> todo = new ArrayDeque<>();
+			for (Dependency dep : assertionDependencies.get(i)) {
+				todo.push(ids.get(dep));
+			}
+
+			while (!todo.isEmpty()) {
+				int curr = todo.pop();
+				if (owner[curr] >= 0) {
+					union(group, i, owner[curr]);
+					continue;
+				}
+
+				owner[curr] = i;
+				for (int next : successors.get(curr)) {
+					todo.push(next);
+				}
+			}
+		}
+
+		Map<Integer, Integer> groupNodes = new HashMap<>();
+		for (int curr = 0; curr < n; curr++) {
+			if (owner[curr] >= 0) {
+				int groupNode = groupNodes.computeIfAbsent(find(group, owner[curr]), g -> addNode(null));
+				successors.get(curr).add(groupNode);
+				successors.get(groupNode).add(curr);
+			}
+		}
+	}
+
+	private static int find(int[] group, int i) {
+		while (group[i] != i) {
+			group[i] = group[group[i]];
+			i = group[i];
+		}
+		return i;
+	}
+
+	private static void union(int[] group, int i, int j) {
+		group[find(group, i)] = find(group, j);
+	}
+
+	/**
+	 * Tarjan's algorithm without recursion, since dependency chains may be
+	 * longer than the call stack allows. Components are numbered in the order
+	 * they are completed, so every successor of a component has a lower
+	 * number.
+	 */
+	private void computeComponents() {
+		int n = successors.size();
+		component = new int[n];
+		order = new int[n];
+		int[] index = new int[n];
+		int[] lowlink = new int[n];
+		int[] edge = new int[n];
+		boolean[] onStack = new boolean[n];
+		Arrays.fill(index, -1);
+
+		Deque<Integer> stack = new ArrayDeque<>();
+		Deque<Integer> callStack = new ArrayDeque<>();
+		int nextIndex = 0;
+		int nextComponent = 0;
+		int nextOrder = 0;
+
+		for (int root = 0; root < n; root++) {
+			if (index[root] >= 0) {
+				continue;
+			}
+
+			callStack.push(root);
+			index[root] = lowlink[root] = nextIndex++;
+			stack.push(root);
+			onStack[root] = true;
+
+			while (!callStack.isEmpty()) {
+				int curr = callStack.peek();
+				List<Integer> succs = successors.get(curr);
+				if (edge[curr] < succs.size()) {
+					int next = succs.get(edge[curr]++);
+					if (index[next] < 0) {
+						callStack.push(next);
+						index[next] = lowlink[next] = nextIndex++;
+						stack.push(next);
+						onStack[next] = true;
+					} else if (onStack[next]) {
+						lowlink[curr] = Math.min(lowlink[curr], index[next]);
+					}
+					continue;
+				}
+
+				callStack.pop();
+				if (!callStack.isEmpty()) {
+					int parent = callStack.peek();
+					lowlink[parent] = Math.min(lowlink[parent], lowlink[curr]);
+				}
+
+				if (lowlink[curr] == index[curr]) {
+					int member;
+					do {
+						member = stack.pop();
+						onStack[member] = false;
+						component[member] = nextComponent;
+						order[member] = nextOrder++;
+					} while (member != curr);
+					nextComponent++;
+				}
+			}
+		}
+
+		cones = new BitSet[nextComponent];
+		dependenciesByOrder = new Dependency[n];
+		for (int curr = 0; curr < n; curr++) {
+			dependenciesByOrder[order[curr]] = dependencies.get(curr);
+		}
+	}
+
+	/**
+	 * Compute the cones of the components reachable from the roots, releasing
+	 * the cone of each intermediate component once all of its predecessors
+	 * have used it
+	 */
+	private void computeCones(List<Integer> rootIds) {
+		int n = successors.size();
+		List<List<Integer>> members = new ArrayList<>();
+		for (int i = 0; i < cones.length; i++) {
+			members.add(new ArrayList<>());
+		}
+		for (int curr = 0; curr < n; curr++) {
+			members.get(component[curr]).add(curr);
+		}
+
+		boolean[] needed = new boolean[cones.length];
+		boolean[] isRoot = new boolean[cones.length];
+		int[] remaining = new int[cones.length];
+		Deque<Integer> todo = new ArrayDeque<>();
+		for (int root : rootIds) {
+			isRoot[component[root]] = true;
+			if (!needed[component[root]]) {
+				needed[component[root]] = true;
+				todo.push(component[root]);
+			}
+		}
+		while (!todo.isEmpty()) {
+			int c = todo.pop();
+			for (int curr : members.get(c)) {
+				for (int next : successors.get(curr)) {
+					int d = component[next];
+					if (d != c) {
+						remaining[d]++;
+						if (!needed[d]) {
+							needed[d] = true;
+							todo.push(d);
+						}
+					}
+				}
+			}
+		}
+
+		for (int c = 0; c < cones.length; c++) {
+			if (!needed[c]) {
+				continue;
+			}
+
+			BitSet cone = new BitSet();
+			for (int curr : members.get(c)) {
+				if (dependencies.get(curr) != null) {
+					cone.set(order[curr]);
+				}
+				for (int next : successors.get(curr)) {
+					int d = component[next];
+					if (d != c) {
+						cone.or(cones[d]);
+						if (--remaining[d] == 0 && !isRoot[d]) {
+							cones[d] = null;
+						}
+					}
+				}
+			}
+			cones[c] = cone;
+		}
+	}
+
+	/**
+	 * The cone of a root, shared with all other roots in its component, or
+	 * null if the dependency is not a root
+	 */
+	public synchronized DependencySet getCone(Dependency root) {
+		Integer id = ids.get(root);
+		if (id == null || !rootNodes.get(id)) {
+			return null;
+		}
+		return materialized.computeIfAbsent(component[id], c -> toDependencySet(cones[c]));
+	}
+
+	public DependencySet getCone(List<Dependency> roots) {
+		BitSet union = new BitSet();
+		for (Dependency root : roots) {
+			Integer id = ids.get(root);
+			if (id != null && rootNodes.get(id)) {
+				union.or(cones[component[id]]);
+			}
+		}
+		return toDependencySet(union);
+	}
+
+	private DependencySet toDependencySet(BitSet cone) {
+		DependencySet result = new DependencySet();
+		for (int i = cone.nextSetBit(0); i >= 0; i = cone.nextSetBit(i + 1)) {
+			result.add(dependenciesByOrder[i]);
+		}
+		return result;
+	}
+}
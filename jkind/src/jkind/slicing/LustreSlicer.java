@@ -16,11 +16,7 @@ public class LustreSlicer extends AstMapVisitor {
 	}
 
 	private static DependencySet getPropertyDependencies(Node node, DependencyMap depMap) {
-		DependencySet keep = new DependencySet();
-		for (String prop : node.properties) {
-			keep.addAll(depMap.get(prop));
-		}
-		return keep;
+		return depMap.get(node.properties);
 	}
 
 	private final DependencySet keep;
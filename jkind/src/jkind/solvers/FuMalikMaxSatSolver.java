@@ -0,0 +1,104 @@
+package jkind.solvers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jkind.sexp.Cons;
+import jkind.sexp.Sexp;
+import jkind.sexp.Symbol;
+
+/**
+ * Unweighted MaxSAT on top of any solver, based on "On Solving the Partial
+ * MAX-SAT Problem" by Zhaohui Fu and Sharad Malik
+ *
+ * Each soft constraint is guarded by an activation literal. While the
+ * constraints are unsatisfiable under all the activation literals, every soft
+ * constraint in the minimal unsat-core is relaxed by a fresh literal and at
+ * most one of the new literals may be true. Each round raises the cost by one,
+ * so the first satisfiable round is optimal.
+ *
+ * Unlike native MaxSAT solvers, soft constraints only apply to the next query.
+ */
+public class FuMalikMaxSatSolver implements MaxSatSolver {
+	private static final Symbol FALSE = new Symbol("false");
+
+	private final Solver solver;
+	private final List<Sexp> soft = new ArrayList<>();
+	private int literalCount = 0;
+
+	public FuMalikMaxSatSolver(Solver solver) {
+		this.solver = solver;
+	}
+
+	@Override
+	public void assertSoft(Sexp sexp) {
+		soft.add(sexp);
+	}
+
+	@Override
+	public Result maxsatQuery(Sexp query) {
+		List<Sexp> constraints = new ArrayList<>(soft);
+		soft.clear();
+
+		solver.push();
+		solver.assertSexp(new Cons("not", query));
+
+		List<Symbol> selectors = new ArrayList<>();
+		for (Sexp constraint : constraints) {
+			selectors.add(guard(constraint));
+		}
+
+		int cost = 0;
+		while (true) {
+			Result result = solver.unsatQuery(selectors, FALSE);
+			if (!(result instanceof UnsatResult)) {
+				solver.comment("MaxSAT cost: " + cost);
+				result = getModel(selectors);
+				solver.pop();
+				return result;
+			}
+
+			List<Symbol> core = ((UnsatResult) result).getUnsatCore();
+			if (core.isEmpty()) {
+				solver.pop();
+				return result;
+			}
+
+			List<Symbol> relaxations = new ArrayList<>();
+			for (Symbol selector : core) {
+				int i = selectors.indexOf(selector);
+				Symbol relaxation = solver.createActivationLiteral("relax", literalCount++);
+				relaxations.add(relaxation);
+				constraints.set(i, new Cons("or", constraints.get(i), relaxation));
+				selectors.set(i, guard(constraints.get(i)));
+			}
+			solver.assertSexp(atMostOne(relaxations));
+			cost++;
+		}
+	}
+
+	private Symbol guard(Sexp constraint) {
+		Symbol selector = solver.createActivationLiteral("soft", literalCount++);
+		solver.assertSexp(new Cons("=>", selector, constraint));
+		return selector;
+	}
+
+	private Sexp atMostOne(List<Symbol> literals) {
+		List<Sexp> terms = new ArrayList<>();
+		for (Symbol literal : literals) {
+			terms.add(new Cons("ite", literal, Sexp.fromInt(1), Sexp.fromInt(0)));
+		}
+		terms.add(Sexp.fromInt(0));
+		return new Cons("<=", new Cons("+", terms), Sexp.fromInt(1));
+	}
+
+	private Result getModel(List<Symbol> selectors) {
+		solver.push();
+		for (Symbol selector : selectors) {
+			solver.assertSexp(selector);
+		}
+		Result result = solver.query(FALSE);
+		solver.pop();
+		return result;
+	}
+}
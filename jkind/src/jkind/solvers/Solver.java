@@ -1,13 +1,13 @@
 package jkind.solvers;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import jkind.lustre.Expr;
-import jkind.lustre.Function;
 import jkind.lustre.NamedType;
 import jkind.lustre.Type;
 import jkind.lustre.VarDecl;
@@ -23,7 +23,7 @@ public abstract class Solver {
 
 	public abstract void define(VarDecl decl);
 
-	public abstract void declare(Function function);
+	public abstract void declare(jkind.lustre.Function function);
 
 	public abstract void define(Relation relation);
 
@@ -33,6 +33,52 @@ public abstract class Solver {
 	 */
 	public abstract Result query(Sexp sexp);
 
+	/**
+	 * A query which harvests up to maxModels models for SAT within a single
+	 * push. After each model is found, the block function computes the next
+	 * query from it, which must be weaker than the previous one. Its negation
+	 * is asserted on top of the earlier ones and checked again, so each model
+	 * costs one check-sat and the previous queries are never re-asserted. The
+	 * block function may return null to end the harvest early. Returns an
+	 * empty list if the initial query is UNSAT, and null if no model could be
+	 * produced for it.
+	 */
+	public List<Model> multiQuery(Sexp sexp, int maxModels, Function<Model, Sexp> block) {
+		List<Model> models = new ArrayList<>();
+		push();
+
+		Sexp current = sexp;
+		while (current != null && models.size() < maxModels) {
+			assertSexp(new Cons("not", current));
+			Result result = quickCheckSat(Collections.emptyList(), true);
+			if (result instanceof UnsatResult) {
+				break;
+			}
+
+			Model model = getModel(result);
+			if (model == null) {
+				pop();
+				return models.isEmpty() ? null : models;
+			}
+
+			models.add(model);
+			current = block.apply(model);
+		}
+
+		pop();
+		return models;
+	}
+
+	private static Model getModel(Result result) {
+		if (result instanceof SatResult) {
+			return ((SatResult) result).getModel();
+		} else if (result instanceof UnknownResult) {
+			return ((UnknownResult) result).getModel();
+		} else {
+			return null;
+		}
+	}
+
 	public abstract void push();
 
 	public abstract void pop();
@@ -42,7 +88,7 @@ public abstract class Solver {
 	public abstract void stop();
 
 	protected final Map<String, Type> varTypes = new HashMap<>();
-	protected final List<Function> functions = new ArrayList<>();
+	protected final List<jkind.lustre.Function> functions = new ArrayList<>();
 
 	/**
 	 * Check if the solver supports all of the operators in the expression.
@@ -55,8 +101,8 @@ public abstract class Solver {
 		return true;
 	}
 
-	public void declare(List<Function> functions) {
-		for (Function func : functions) {
+	public void declare(List<jkind.lustre.Function> functions) {
+		for (jkind.lustre.Function func : functions) {
 			declare(func);
 		}
 	}
@@ -91,25 +137,48 @@ public abstract class Solver {
 	 * method assumes that check-sat under all the assumption returns UNSAT.
 	 */
 	protected List<Symbol> minimizeUnsatCore(List<Symbol> unsatCore) {
-		List<Symbol> result = new ArrayList<>(unsatCore);
-
-		Iterator<Symbol> iterator = result.iterator();
-		while (iterator.hasNext()) {
-			Symbol curr = iterator.next();
-			if (quickCheckSat(without(result, curr)) instanceof UnsatResult) {
-				iterator.remove();
-			}
-		}
+		UnsatCoreMinimizer minimizer = new UnsatCoreMinimizer(this::quickCheckSat);
+		List<Symbol> result = minimizer.minimize(unsatCore);
 
 		comment("Minimal unsat core: " + result);
+		int saved = unsatCore.size() - minimizer.getSolverCalls();
+		comment("Unsat core minimization made " + minimizer.getSolverCalls() + " solver calls for "
+				+ unsatCore.size() + " literals (" + minimizer.getCacheHits() + " answered from cache, " + saved
+				+ " saved compared to one call per literal)");
 		return result;
 	}
 
+	/**
+	 * Check the current assertions under the given activation literals without
+	 * minimizing the resulting unsat-core. Produces no model for SAT.
+	 */
+	public Result checkSatAssuming(List<Symbol> activationLiterals) {
+		return quickCheckSat(activationLiterals);
+	}
+
+	/**
+	 * Check the current assertions under the given activation literals without
+	 * minimizing the resulting unsat-core. If requested, the model for SAT is
+	 * read right after the check.
+	 */
+	public Result checkSatAssuming(List<Symbol> activationLiterals, boolean extractModel) {
+		return quickCheckSat(activationLiterals, extractModel);
+	}
+
 	/**
 	 * Perform a check-sat under assumptions. Produces no model for SAT. Gets
 	 * unsat-core of activation literals for UNSAT.
 	 */
-	protected abstract Result quickCheckSat(List<Symbol> activationLiterals);
+	protected Result quickCheckSat(List<Symbol> activationLiterals) {
+		return quickCheckSat(activationLiterals, false);
+	}
+
+	/**
+	 * Perform a check-sat under assumptions. Produces a model for SAT if one
+	 * is requested, read right after the check. Gets unsat-core of activation
+	 * literals for UNSAT, which is empty if there are no activation literals.
+	 */
+	protected abstract Result quickCheckSat(List<Symbol> activationLiterals, boolean extractModel);
 
 	protected <T> List<T> without(List<T> list, T elem) {
 		List<T> result = new ArrayList<>(list);
@@ -0,0 +1,166 @@
+package jkind.solvers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import jkind.sexp.Symbol;
+
+/**
+ * Minimizes an unsat-core of activation literals. Large cores are minimized
+ * with QuickXplain, based on "QUICKXPLAIN: Preferred Explanations and
+ * Relaxations for Over-Constrained Problems" by Ulrich Junker, which needs
+ * far fewer checks than removing one literal at a time when the minimal core
+ * is much smaller than the initial one. Small cores are often close to
+ * minimal already, so they are minimized by removing one literal at a time.
+ *
+ * Every answer from the solver is cached. A check of a superset of a known
+ * unsat-core or of a subset of a known satisfiable set is answered from the
+ * cache. The candidates are also intersected with the returned unsat-cores,
+ * so literals outside them are dropped without being tested.
+ */
+public class UnsatCoreMinimizer {
+	private static final int QUICKXPLAIN_MIN_SIZE = 16;
+
+	private final Function<List<Symbol>, Result> checker;
+	private final List<Set<Symbol>> sufficient = new ArrayList<>();
+	private final List<Set<Symbol>> insufficient = new ArrayList<>();
+
+	private int solverCalls = 0;
+	private int cacheHits = 0;
+
+	public UnsatCoreMinimizer(Function<List<Symbol>, Result> checker) {
+		this.checker = checker;
+	}
+
+	/**
+	 * Compute a minimal unsat-core. This method assumes that the checker
+	 * returns UNSAT for the given core.
+	 */
+	public List<Symbol> minimize(List<Symbol> unsatCore) {
+		sufficient.add(new HashSet<>(unsatCore));
+		if (unsatCore.size() < QUICKXPLAIN_MIN_SIZE) {
+			return deletion(unsatCore);
+		}
+		return quickXplain(Collections.emptyList(), true, unsatCore);
+	}
+
+	private List<Symbol> deletion(List<Symbol> unsatCore) {
+		List<Symbol> result = new ArrayList<>(unsatCore);
+		int i = 0;
+		while (i < result.size()) {
+			List<Symbol> without = new ArrayList<>(result);
+			without.remove(i);
+
+			Set<Symbol> core = check(without);
+			if (core == null) {
+				i++;
+			} else {
+				// Every literal before i is needed by all unsat-cores of the
+				// remaining literals, so i is the next literal to test
+				result = retain(without, core);
+			}
+		}
+		return result;
+	}
+
+	private List<Symbol> quickXplain(List<Symbol> background, boolean changed, List<Symbol> candidates) {
+		if (changed && check(background) != null) {
+			return Collections.emptyList();
+		}
+
+		candidates = shrink(background, candidates);
+		if (candidates.size() <= 1) {
+			return candidates;
+		}
+
+		int mid = candidates.size() / 2;
+		List<Symbol> left = candidates.subList(0, mid);
+		List<Symbol> right = candidates.subList(mid, candidates.size());
+
+		List<Symbol> rightCore = quickXplain(union(background, left), true, right);
+		List<Symbol> leftCore = quickXplain(union(background, rightCore), !rightCore.isEmpty(), left);
+		return union(leftCore, rightCore);
+	}
+
+	/**
+	 * Restrict the candidates to a known unsat-core contained in the
+	 * background and candidates together
+	 */
+	private List<Symbol> shrink(List<Symbol> background, List<Symbol> candidates) {
+		Set<Symbol> all = new HashSet<>(background);
+		all.addAll(candidates);
+
+		Set<Symbol> best = null;
+		for (Set<Symbol> core : sufficient) {
+			if (all.containsAll(core) && (best == null || core.size() < best.size())) {
+				best = core;
+			}
+		}
+
+		if (best == null) {
+			return candidates;
+		}
+
+		return retain(candidates, best);
+	}
+
+	private static List<Symbol> retain(List<Symbol> list, Set<Symbol> set) {
+		List<Symbol> result = new ArrayList<>();
+		for (Symbol symbol : list) {
+			if (set.contains(symbol)) {
+				result.add(symbol);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns an unsat-core contained in the given literals, or null if they
+	 * are satisfiable or the solver does not know
+	 */
+	private Set<Symbol> check(List<Symbol> literals) {
+		Set<Symbol> set = new HashSet<>(literals);
+		for (Set<Symbol> core : sufficient) {
+			if (set.containsAll(core)) {
+				cacheHits++;
+				return core;
+			}
+		}
+		for (Set<Symbol> sat : insufficient) {
+			if (sat.containsAll(set)) {
+				cacheHits++;
+				return null;
+			}
+		}
+
+		solverCalls++;
+		Result result = checker.apply(literals);
+		if (result instanceof UnsatResult) {
+			Set<Symbol> core = new HashSet<>(((UnsatResult) result).getUnsatCore());
+			core.retainAll(set);
+			sufficient.add(core);
+			return core;
+		} else {
+			insufficient.add(set);
+			return null;
+		}
+	}
+
+	private static List<Symbol> union(List<Symbol> list1, List<Symbol> list2) {
+		List<Symbol> result = new ArrayList<>(list1);
+		result.addAll(list2);
+		return result;
+	}
+
+	public int getSolverCalls() {
+		return solverCalls;
+	}
+
+	public int getCacheHits() {
+		return cacheHits;
+	}
+}
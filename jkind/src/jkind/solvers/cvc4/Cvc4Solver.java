@@ -27,7 +27,11 @@ public class Cvc4Solver extends SmtLib2Solver {
 		send("(set-option :produce-models true)");
 		send("(set-option :incremental true)");
 		send("(set-option :rewrite-divk true)");
-		send("(set-logic AUFLIRA)");
+		if (bitVectors != null) {
+			send("(set-logic ALL_SUPPORTED)");
+		} else {
+			send("(set-logic AUFLIRA)");
+		}
 	}
 
 	@Override
@@ -64,7 +64,7 @@ public class MathSatSolver extends SmtLib2Solver {
 	}
 
 	@Override
-	protected Result quickCheckSat(List<Symbol> activationLiterals) {
+	protected Result quickCheckSat(List<Symbol> activationLiterals, boolean extractModel) {
 		if (activationLiterals.isEmpty()) {
 			send(new Cons("check-sat"));
 		} else {
@@ -75,9 +75,9 @@ public class MathSatSolver extends SmtLib2Solver {
 
 		String status = readFromSolver();
 		if (isSat(status)) {
-			return new SatResult();
+			return extractModel ? new SatResult(readModel()) : new SatResult();
 		} else if (isUnsat(status)) {
-			return new UnsatResult(getUnsatCore(activationLiterals));
+			return new UnsatResult(readUnsatCore(activationLiterals));
 		} else {
 			return new UnknownResult();
 		}
@@ -89,6 +89,12 @@ public class MathSatSolver extends SmtLib2Solver {
 		return parseUnsatAssumptions(readFromSolver());
 	}
 
+	@Override
+	protected Model readModel() {
+		send("(get-model)");
+		return parseMathSatModel(readFromSolver());
+	}
+
 	protected Model parseMathSatModel(String string) {
 		MathSatParser parser = getParser(string);
 		ModelContext ctx = parser.model();
@@ -28,15 +28,17 @@ import jkind.translation.Relation;
 
 public class SmtInterpolSolver extends Solver {
 	private final Script script;
+	private final boolean arrays;
 
-	public SmtInterpolSolver(String scratchBase) {
+	public SmtInterpolSolver(String scratchBase, boolean arrays) {
 		this.script = SmtInterpolUtil.getScript(scratchBase);
+		this.arrays = arrays;
 	}
 
 	@Override
 	public void initialize() {
 		script.setOption(":produce-unsat-cores", true);
-		script.setLogic(Logics.QF_UFLIRA);
+		script.setLogic(arrays ? Logics.QF_AUFLIRA : Logics.QF_UFLIRA);
 		script.setOption(":verbosity", 2);
 	}
 
@@ -99,7 +101,7 @@ public class SmtInterpolSolver extends Solver {
 	}
 
 	@Override
-	protected Result quickCheckSat(List<Symbol> activationLiterals) {
+	protected Result quickCheckSat(List<Symbol> activationLiterals, boolean extractModel) {
 		push();
 
 		for (Symbol actLit : activationLiterals) {
@@ -109,8 +111,9 @@ public class SmtInterpolSolver extends Solver {
 
 		switch (script.checkSat()) {
 		case SAT:
+			Model model = extractModel ? extractModel(script.getModel()) : null;
 			pop();
-			return new SatResult();
+			return new SatResult(model);
 
 		case UNSAT:
 			List<Symbol> unsatCore = new ArrayList<>();
@@ -10,6 +10,7 @@ import de.uni_freiburg.informatik.ultimate.logic.Term;
 import de.uni_freiburg.informatik.ultimate.logic.TermVariable;
 import de.uni_freiburg.informatik.ultimate.smtinterpol.smtlib2.SMTInterpol;
 import jkind.JKindException;
+import jkind.lustre.ArrayType;
 import jkind.lustre.EnumType;
 import jkind.lustre.Function;
 import jkind.lustre.NamedType;
@@ -49,6 +50,9 @@ public class SmtInterpolUtil {
 			}
 		} else if (type instanceof SubrangeIntType || type instanceof EnumType) {
 			return script.sort("Int");
+		} else if (type instanceof ArrayType) {
+			ArrayType arrayType = (ArrayType) type;
+			return script.sort("Array", script.sort("Int"), getSort(script, arrayType.base));
 		}
 
 		throw new JKindException("Unhandled type " + type);
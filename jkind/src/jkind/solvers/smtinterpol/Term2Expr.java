@@ -49,14 +49,20 @@ public class Term2Expr {
 	}
 
 	private static Expr expr(ConstantTerm ct) {
+		// The sort decides the Lustre type since SMTInterpol may represent
+		// integer constants as rationals and vice versa
+		boolean isInt = ct.getSort().getName().equals("Int");
 		if (ct.getValue() instanceof BigInteger) {
 			BigInteger bi = (BigInteger) ct.getValue();
-			return new IntExpr(bi);
+			return isInt ? new IntExpr(bi) : real(bi);
 		} else if (ct.getValue() instanceof BigDecimal) {
 			BigDecimal bd = (BigDecimal) ct.getValue();
 			return new RealExpr(bd);
 		} else if (ct.getValue() instanceof Rational) {
 			Rational r = (Rational) ct.getValue();
+			if (isInt && r.isIntegral()) {
+				return new IntExpr(r.numerator());
+			}
 			return divide(real(r.numerator()), real(r.denominator()));
 		} else {
 			throw new IllegalArgumentException("Unhandled constant term type: " + ct.getClass().getSimpleName());
@@ -0,0 +1,73 @@
+package jkind.solvers.smtinterpol;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.uni_freiburg.informatik.ultimate.logic.ApplicationTerm;
+import de.uni_freiburg.informatik.ultimate.logic.ConstantTerm;
+import de.uni_freiburg.informatik.ultimate.logic.Rational;
+import de.uni_freiburg.informatik.ultimate.logic.Script;
+import de.uni_freiburg.informatik.ultimate.logic.Sort;
+import de.uni_freiburg.informatik.ultimate.logic.Term;
+
+/**
+ * Rebuilds terms created by one script in another script which has the same
+ * declarations and definitions
+ */
+public class TermCopier {
+	private final Script script;
+	private final Map<Term, Term> cache = new HashMap<>();
+
+	public TermCopier(Script script) {
+		this.script = script;
+	}
+
+	/**
+	 * Forget the terms copied so far. Copies made afterwards are still equal
+	 * to earlier ones since the script shares structurally equal terms.
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	public Term copy(Term term) {
+		Term result = cache.get(term);
+		if (result == null) {
+			result = convert(term);
+			cache.put(term, result);
+		}
+		return result;
+	}
+
+	private Term convert(Term term) {
+		if (term instanceof ApplicationTerm) {
+			ApplicationTerm at = (ApplicationTerm) term;
+			Term[] params = at.getParameters();
+			Term[] terms = new Term[params.length];
+			for (int i = 0; i < params.length; i++) {
+				terms[i] = copy(params[i]);
+			}
+			return script.term(at.getFunction().getName(), terms);
+		} else if (term instanceof ConstantTerm) {
+			return convert((ConstantTerm) term);
+		}
+
+		throw new IllegalArgumentException("Unhandled: " + term.getClass().getSimpleName());
+	}
+
+	private Term convert(ConstantTerm ct) {
+		Sort sort = script.sort(ct.getSort().getName());
+		Object value = ct.getValue();
+		if (value instanceof BigInteger) {
+			return Rational.valueOf((BigInteger) value, BigInteger.ONE).toTerm(sort);
+		} else if (value instanceof BigDecimal) {
+			return script.decimal((BigDecimal) value);
+		} else if (value instanceof Rational) {
+			return ((Rational) value).toTerm(sort);
+		}
+
+		throw new IllegalArgumentException("Unhandled constant: " + value.getClass().getSimpleName());
+	}
+}
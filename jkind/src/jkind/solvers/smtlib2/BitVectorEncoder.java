@@ -0,0 +1,373 @@
+package jkind.solvers.smtlib2;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jkind.lustre.NamedType;
+import jkind.lustre.SubrangeIntType;
+import jkind.lustre.Type;
+import jkind.sexp.Cons;
+import jkind.sexp.Sexp;
+import jkind.sexp.Symbol;
+
+/**
+ * Rewrites integer terms into signed bit-vector terms of a fixed width.
+ *
+ * Integer variables are declared as bit-vectors. A term is encoded as a
+ * bit-vector if it mentions such a variable, and numerals take the sort of the
+ * terms they are compared or combined with. Terms built only from numerals,
+ * such as the cardinality constraints of the MaxSAT layer, remain integer
+ * terms.
+ *
+ * Integer division and modulus are Euclidean in SMT-LIB, so they are
+ * expressed in terms of the truncating bit-vector operations.
+ *
+ * Assumption: The width is large enough that no integer term of the node
+ * overflows as long as every variable stays within its bound, see
+ * BitVectorWidth. Engines and advice may still propose constants outside of
+ * that width. A comparison with such a constant is made at a width wide enough
+ * for all of its terms, with the variables sign-extended.
+ */
+public class BitVectorEncoder {
+	private final int width;
+	private final Symbol sort;
+	private final Map<String, BigInteger> bounds;
+	private final Set<String> variables = new HashSet<>();
+
+	public BitVectorEncoder(int width, Map<String, BigInteger> bounds) {
+		this.width = width;
+		this.sort = new Symbol("(_ BitVec " + width + ")");
+		this.bounds = bounds;
+	}
+
+	public static boolean isInteger(Type type) {
+		return type == NamedType.INT || type instanceof SubrangeIntType;
+	}
+
+	public Symbol type() {
+		return sort;
+	}
+
+	public void declare(String id) {
+		variables.add(id);
+	}
+
+	/**
+	 * The range constraint for a variable which is an instance of the given
+	 * stream, or null if the stream has no bound
+	 */
+	public Sexp getBoundConstraint(String stream, Symbol variable) {
+		BigInteger bound = bounds.get(stream);
+		if (bound == null) {
+			return null;
+		}
+		return new Cons("and", new Cons("<=", Sexp.fromBigInt(bound.negate()), variable), new Cons("<=", variable,
+				Sexp.fromBigInt(bound)));
+	}
+
+	public Sexp encode(Sexp sexp) {
+		return encode(sexp, false);
+	}
+
+	private Sexp encode(Sexp sexp, boolean bitVector) {
+		if (sexp instanceof Symbol) {
+			Symbol symbol = (Symbol) sexp;
+			if (bitVector && isNumeral(symbol.str)) {
+				return literal(new BigInteger(symbol.str), width);
+			}
+			return symbol;
+		}
+
+		Cons cons = (Cons) sexp;
+		if (!(cons.head instanceof Symbol)) {
+			return new Cons(encode(cons.head, false), encodeArgs(cons.args, false));
+		}
+
+		String fn = ((Symbol) cons.head).str;
+		switch (fn) {
+		case "=":
+		case "distinct":
+			if (mentionsVariable(cons) && !fits(cons.args)) {
+				return new Cons(fn, widenArgs(cons.args));
+			}
+			return new Cons(fn, encodeArgs(cons.args, mentionsVariable(cons)));
+
+		case "<":
+		case "<=":
+		case ">":
+		case ">=":
+			if (mentionsVariable(cons)) {
+				if (!fits(cons.args)) {
+					return new Cons(comparison(fn), widenArgs(cons.args));
+				}
+				return new Cons(comparison(fn), encodeArgs(cons.args, true));
+			}
+			return new Cons(fn, encodeArgs(cons.args, false));
+
+		case "ite": {
+			boolean branches = bitVector || mentionsVariable(cons);
+			Sexp cond = encode(cons.args.get(0), false);
+			Sexp thenSexp = encode(cons.args.get(1), branches);
+			Sexp elseSexp = encode(cons.args.get(2), branches);
+			return new Cons(fn, cond, thenSexp, elseSexp);
+		}
+
+		case "+":
+		case "-":
+		case "*":
+		case "div":
+		case "mod":
+			if (bitVector || mentionsVariable(cons)) {
+				return arithmetic(fn, encodeArgs(cons.args, true), width);
+			}
+			return new Cons(fn, encodeArgs(cons.args, false));
+
+		default:
+			return new Cons(fn, encodeArgs(cons.args, false));
+		}
+	}
+
+	private List<Sexp> encodeArgs(List<? extends Sexp> args, boolean bitVector) {
+		List<Sexp> result = new ArrayList<>();
+		for (Sexp arg : args) {
+			result.add(encode(arg, bitVector));
+		}
+		return result;
+	}
+
+	private boolean mentionsVariable(Sexp sexp) {
+		if (sexp instanceof Symbol) {
+			return variables.contains(((Symbol) sexp).str);
+		}
+
+		Cons cons = (Cons) sexp;
+		for (Sexp arg : cons.args) {
+			if (mentionsVariable(arg)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isNumeral(String str) {
+		return !str.isEmpty() && str.chars().allMatch(Character::isDigit);
+	}
+
+	private Sexp literal(BigInteger value, int w) {
+		return new Cons("_", new Symbol("bv" + value), Sexp.fromInt(w));
+	}
+
+	/**
+	 * Check that every numeral of the given integer terms fits in the width
+	 */
+	private boolean fits(List<? extends Sexp> args) {
+		for (Sexp arg : args) {
+			if (!fits(arg)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean fits(Sexp sexp) {
+		if (sexp instanceof Symbol) {
+			String str = ((Symbol) sexp).str;
+			return !isNumeral(str) || new BigInteger(str).bitLength() < width;
+		}
+
+		Cons cons = (Cons) sexp;
+		if (!(cons.head instanceof Symbol)) {
+			return true;
+		}
+
+		switch (((Symbol) cons.head).str) {
+		case "ite":
+			return fits(cons.args.get(1)) && fits(cons.args.get(2));
+
+		case "+":
+		case "-":
+		case "*":
+		case "div":
+		case "mod":
+			return fits(cons.args);
+
+		default:
+			return true;
+		}
+	}
+
+	/**
+	 * Encode integer terms at a width where none of them overflows
+	 */
+	private List<Sexp> widenArgs(List<? extends Sexp> args) {
+		int w = width;
+		for (Sexp arg : args) {
+			w = Math.max(w, requiredWidth(arg));
+		}
+
+		List<Sexp> result = new ArrayList<>();
+		for (Sexp arg : args) {
+			result.add(widen(arg, w));
+		}
+		return result;
+	}
+
+	/**
+	 * An upper bound on the number of bits needed to compute an integer term
+	 * and all of its subterms in two's complement, given that variables fit in
+	 * the width
+	 */
+	private int requiredWidth(Sexp sexp) {
+		if (sexp instanceof Symbol) {
+			String str = ((Symbol) sexp).str;
+			if (isNumeral(str)) {
+				return new BigInteger(str).bitLength() + 1;
+			}
+			return width;
+		}
+
+		Cons cons = (Cons) sexp;
+		if (!(cons.head instanceof Symbol)) {
+			return width;
+		}
+
+		switch (((Symbol) cons.head).str) {
+		case "ite":
+			return Math.max(requiredWidth(cons.args.get(1)), requiredWidth(cons.args.get(2)));
+
+		case "+":
+		case "-": {
+			int max = 0;
+			for (Sexp arg : cons.args) {
+				max = Math.max(max, requiredWidth(arg));
+			}
+			// Each doubling of the number of terms adds a bit, and negation adds one
+			return max + 32 - Integer.numberOfLeadingZeros(Math.max(cons.args.size() - 1, 1));
+		}
+
+		case "*": {
+			int sum = 0;
+			for (Sexp arg : cons.args) {
+				sum += requiredWidth(arg);
+			}
+			return sum;
+		}
+
+		case "div":
+			return Math.max(requiredWidth(cons.args.get(0)) + 1, requiredWidth(cons.args.get(1)));
+
+		case "mod":
+			return Math.max(requiredWidth(cons.args.get(0)), requiredWidth(cons.args.get(1)) + 1);
+
+		default:
+			return width;
+		}
+	}
+
+	private Sexp widen(Sexp sexp, int w) {
+		if (sexp instanceof Symbol) {
+			Symbol symbol = (Symbol) sexp;
+			if (isNumeral(symbol.str)) {
+				return literal(new BigInteger(symbol.str), w);
+			}
+			return signExtend(symbol, w);
+		}
+
+		Cons cons = (Cons) sexp;
+		if (!(cons.head instanceof Symbol)) {
+			return signExtend(encode(cons, true), w);
+		}
+
+		String fn = ((Symbol) cons.head).str;
+		switch (fn) {
+		case "ite":
+			return new Cons(fn, encode(cons.args.get(0), false), widen(cons.args.get(1), w), widen(
+					cons.args.get(2), w));
+
+		case "+":
+		case "-":
+		case "*":
+		case "div":
+		case "mod": {
+			List<Sexp> args = new ArrayList<>();
+			for (Sexp arg : cons.args) {
+				args.add(widen(arg, w));
+			}
+			return arithmetic(fn, args, w);
+		}
+
+		default:
+			return signExtend(encode(cons, true), w);
+		}
+	}
+
+	private Sexp signExtend(Sexp sexp, int w) {
+		if (w == width) {
+			return sexp;
+		}
+		return new Cons(new Cons("_", new Symbol("sign_extend"), Sexp.fromInt(w - width)), sexp);
+	}
+
+	private static String comparison(String fn) {
+		switch (fn) {
+		case "<":
+			return "bvslt";
+		case "<=":
+			return "bvsle";
+		case ">":
+			return "bvsgt";
+		case ">=":
+			return "bvsge";
+		default:
+			throw new IllegalArgumentException("Unknown comparison: " + fn);
+		}
+	}
+
+	private Sexp arithmetic(String fn, List<Sexp> args, int w) {
+		switch (fn) {
+		case "+":
+			return new Cons("bvadd", args);
+		case "-":
+			return args.size() == 1 ? new Cons("bvneg", args) : new Cons("bvsub", args);
+		case "*":
+			return new Cons("bvmul", args);
+		case "div":
+			return div(args.get(0), args.get(1), w);
+		case "mod":
+			return mod(args.get(0), args.get(1), w);
+		default:
+			throw new IllegalArgumentException("Unknown arithmetic operator: " + fn);
+		}
+	}
+
+	/**
+	 * The Euclidean quotient is one further from zero than the truncated
+	 * quotient whenever the truncated remainder is negative
+	 */
+	private Sexp div(Sexp left, Sexp right, int w) {
+		Sexp quotient = new Cons("bvsdiv", left, right);
+		Sexp one = literal(BigInteger.ONE, w);
+		Sexp adjusted = new Cons("ite", isNegative(right, w), new Cons("bvadd", quotient, one), new Cons("bvsub",
+				quotient, one));
+		return new Cons("ite", isNegative(new Cons("bvsrem", left, right), w), adjusted, quotient);
+	}
+
+	/**
+	 * The Euclidean remainder is the truncated remainder shifted into the
+	 * range [0, |right|)
+	 */
+	private Sexp mod(Sexp left, Sexp right, int w) {
+		Sexp remainder = new Cons("bvsrem", left, right);
+		Sexp adjusted = new Cons("ite", isNegative(right, w), new Cons("bvsub", remainder, right), new Cons("bvadd",
+				remainder, right));
+		return new Cons("ite", isNegative(remainder, w), adjusted, remainder);
+	}
+
+	private Sexp isNegative(Sexp sexp, int w) {
+		return new Cons("bvslt", sexp, literal(BigInteger.ZERO, w));
+	}
+}
@@ -11,9 +11,12 @@ import jkind.lustre.Type;
 import jkind.sexp.Cons;
 import jkind.sexp.Sexp;
 import jkind.sexp.Symbol;
+import jkind.solvers.smtlib2.SmtLib2Parser.AbstractBodyContext;
 import jkind.solvers.smtlib2.SmtLib2Parser.ArgContext;
+import jkind.solvers.smtlib2.SmtLib2Parser.BitVectorBodyContext;
 import jkind.solvers.smtlib2.SmtLib2Parser.BodyContext;
 import jkind.solvers.smtlib2.SmtLib2Parser.ConsBodyContext;
+import jkind.solvers.smtlib2.SmtLib2Parser.ConstArrayBodyContext;
 import jkind.solvers.smtlib2.SmtLib2Parser.DefineContext;
 import jkind.solvers.smtlib2.SmtLib2Parser.IdContext;
 import jkind.solvers.smtlib2.SmtLib2Parser.ModelContext;
@@ -71,13 +74,29 @@ public class ModelExtractor {
 				args.add(sexp(sub));
 			}
 			return new Cons(cbc.fn().getText(), args);
+		} else if (ctx instanceof ConstArrayBodyContext) {
+			ConstArrayBodyContext cabc = (ConstArrayBodyContext) ctx;
+			return new Cons("const", sexp(cabc.body()));
+		} else if (ctx instanceof AbstractBodyContext) {
+			AbstractBodyContext abc = (AbstractBodyContext) ctx;
+			return new Cons("as", new Symbol(abc.symbol().getText()));
+		} else if (ctx instanceof BitVectorBodyContext) {
+			BitVectorBodyContext bvbc = (BitVectorBodyContext) ctx;
+			BigInteger value = new BigInteger(bvbc.ID().getText().substring(2));
+			return new Symbol(signed(value, Integer.parseInt(bvbc.INT().getText())).toString());
 		} else {
 			throw new IllegalArgumentException();
 		}
 	}
 
 	private static String parse(String string) {
-		if (string.contains(".")) {
+		if (string.startsWith("#b")) {
+			String bits = string.substring(2);
+			return signed(new BigInteger(bits, 2), bits.length()).toString();
+		} else if (string.startsWith("#x")) {
+			String hex = string.substring(2);
+			return signed(new BigInteger(hex, 16), 4 * hex.length()).toString();
+		} else if (string.contains(".")) {
 			BigDecimal d = new BigDecimal(string);
 			BigInteger numerator = d.unscaledValue();
 			BigInteger denominator = BigDecimal.TEN.pow(d.scale()).toBigInteger();
@@ -95,4 +114,14 @@ public class ModelExtractor {
 			return string;
 		}
 	}
+
+	/**
+	 * Bit-vectors encode integers in two's complement
+	 */
+	private static BigInteger signed(BigInteger value, int width) {
+		if (value.testBit(width - 1)) {
+			return value.subtract(BigInteger.ONE.shiftLeft(width));
+		}
+		return value;
+	}
 }
@@ -1,11 +1,17 @@
 package jkind.solvers.smtlib2;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
+import jkind.lustre.ArrayType;
 import jkind.lustre.BinaryOp;
+import jkind.lustre.NamedType;
+import jkind.lustre.Type;
 import jkind.lustre.UnaryOp;
+import jkind.lustre.values.ArrayValue;
 import jkind.lustre.values.BooleanValue;
 import jkind.lustre.values.IntegerValue;
 import jkind.lustre.values.RealValue;
@@ -79,6 +85,70 @@ public class SexpEvaluator {
 		return evalFunction(fn, args);
 	}
 
+	/**
+	 * Evaluate the elements of an SMT array within the bounds of the Lustre
+	 * array type. Elements of an abstract array value get the default value of
+	 * their sort.
+	 */
+	public ArrayValue evalArray(Sexp sexp, ArrayType type) {
+		List<Value> elements = new ArrayList<>();
+		for (int i = 0; i < type.size; i++) {
+			elements.add(select(sexp, BigInteger.valueOf(i), type.base));
+		}
+		return new ArrayValue(elements);
+	}
+
+	private Value select(Sexp array, BigInteger index, Type base) {
+		if (array instanceof Symbol) {
+			ArrayValue value = (ArrayValue) lookupSymbol.apply(((Symbol) array).str);
+			return value.get(index);
+		}
+
+		Cons cons = (Cons) array;
+		String fn = ((Symbol) cons.head).str;
+		switch (fn) {
+		case "store":
+			IntegerValue storeIndex = (IntegerValue) eval(cons.args.get(1));
+			if (storeIndex.value.equals(index)) {
+				return evalElement(cons.args.get(2), base);
+			}
+			return select(cons.args.get(0), index, base);
+
+		case "ite":
+			Sexp branch = isTrue(eval(cons.args.get(0))) ? cons.args.get(1) : cons.args.get(2);
+			return select(branch, index, base);
+
+		case "const":
+			return evalElement(cons.args.get(0), base);
+
+		case "as":
+			return getSortDefault(base);
+
+		default:
+			throw new IllegalArgumentException("Unknown array value: " + array);
+		}
+	}
+
+	private Value getSortDefault(Type type) {
+		if (type == NamedType.BOOL) {
+			return BooleanValue.FALSE;
+		} else if (type == NamedType.REAL) {
+			return new RealValue(BigFraction.ZERO);
+		} else if (type instanceof ArrayType) {
+			ArrayType arrayType = (ArrayType) type;
+			return new ArrayValue(Collections.nCopies(arrayType.size, getSortDefault(arrayType.base)));
+		} else {
+			return new IntegerValue(BigInteger.ZERO);
+		}
+	}
+
+	private Value evalElement(Sexp sexp, Type type) {
+		if (type instanceof ArrayType) {
+			return evalArray(sexp, (ArrayType) type);
+		}
+		return Util.promoteIfNeeded(eval(sexp), type);
+	}
+
 	private boolean isTrue(Value v) {
 		return v == BooleanValue.TRUE;
 	}
@@ -6,13 +6,17 @@ define: '(' 'define-fun' id '(' arg* ')' type body ')';
 
 arg: '(' id type ')';
 
-type: 'Bool' | 'Int' | 'Real';
+type: 'Bool' | 'Int' | 'Real' | '(' 'Array' type type ')' | '(' '_' 'BitVec' INT ')';
 
-body: symbol                               # symbolBody
-    | '(' fn body* ')'                     # consBody
+body: symbol                                 # symbolBody
+    | '(' fn body* ')'                       # consBody
+    | '(' '(' 'as' 'const' type ')' body ')' # constArrayBody
+    | '(' 'as' symbol type ')'               # abstractBody
+    | '(' '_' ID INT ')'                     # bitVectorBody
     ;
 
-fn: '=' | '-' | '/' | 'and' | 'or' | 'ite' | 'not' | '>=' | '<=' | '<' | '>';
+fn: '=' | '-' | '/' | 'and' | 'or' | 'ite' | 'not' | '>=' | '<=' | '<' | '>'
+  | 'store';
 
 symbol: id | BOOL | INT | REAL;
 
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import jkind.lustre.ArrayType;
 import jkind.lustre.Function;
 import jkind.lustre.Type;
 import jkind.lustre.values.Value;
@@ -37,6 +38,9 @@ public class SmtLib2Model extends Model {
 		if (sexp == null) {
 			return Util.getDefaultValue(type);
 		}
+		if (type instanceof ArrayType) {
+			return new SexpEvaluator(this).evalArray(sexp, (ArrayType) type);
+		}
 		Value value = new SexpEvaluator(this).eval(sexp);
 		return Util.promoteIfNeeded(value, type);
 	}
@@ -17,12 +17,14 @@ public class SmtLib2Parser extends Parser {
 	protected static final PredictionContextCache _sharedContextCache =
 		new PredictionContextCache();
 	public static final int
-		T__18=1, T__17=2, T__16=3, T__15=4, T__14=5, T__13=6, T__12=7, T__11=8, 
-		T__10=9, T__9=10, T__8=11, T__7=12, T__6=13, T__5=14, T__4=15, T__3=16, 
-		T__2=17, T__1=18, T__0=19, BOOL=20, INT=21, REAL=22, ID=23, WS=24, ERROR=25;
+		T__24=1, T__23=2, T__22=3, T__21=4, T__20=5, T__19=6, T__18=7, T__17=8, 
+		T__16=9, T__15=10, T__14=11, T__13=12, T__12=13, T__11=14, T__10=15, T__9=16, 
+		T__8=17, T__7=18, T__6=19, T__5=20, T__4=21, T__3=22, T__2=23, T__1=24, 
+		T__0=25, BOOL=26, INT=27, REAL=28, ID=29, WS=30, ERROR=31;
 	public static final String[] tokenNames = {
-		"<INVALID>", "'/'", "'Real'", "'model'", "'Int'", "'Bool'", "'>='", "'|'", 
-		"'<'", "'='", "'>'", "'or'", "'<='", "'('", "')'", "'and'", "'ite'", "'define-fun'", 
+		"<INVALID>", "'/'", "'as'", "'BitVec'", "'Bool'", "'='", "'<='", "'store'", 
+		"'('", "'ite'", "'define-fun'", "'Real'", "'model'", "'const'", "'Int'", 
+		"'>='", "'|'", "'<'", "'>'", "'_'", "'or'", "'Array'", "')'", "'and'", 
 		"'not'", "'-'", "BOOL", "INT", "REAL", "ID", "WS", "ERROR"
 	};
 	public static final int
@@ -72,12 +74,12 @@ public class SmtLib2Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(18); match(T__6);
-			setState(19); match(T__16);
+			setState(18); match(T__17);
+			setState(19); match(T__13);
 			setState(23);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__6) {
+			while (_la==T__17) {
 				{
 				{
 				setState(20); define();
@@ -87,7 +89,7 @@ public class SmtLib2Parser extends Parser {
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(26); match(T__5);
+			setState(26); match(T__3);
 			setState(27); match(EOF);
 			}
 		}
@@ -131,14 +133,14 @@ public class SmtLib2Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(29); match(T__6);
-			setState(30); match(T__2);
+			setState(29); match(T__17);
+			setState(30); match(T__15);
 			setState(31); id();
-			setState(32); match(T__6);
+			setState(32); match(T__17);
 			setState(36);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while (_la==T__6) {
+			while (_la==T__17) {
 				{
 				{
 				setState(33); arg();
@@ -148,10 +150,10 @@ public class SmtLib2Parser extends Parser {
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(39); match(T__5);
+			setState(39); match(T__3);
 			setState(40); type();
 			setState(41); body();
-			setState(42); match(T__5);
+			setState(42); match(T__3);
 			}
 		}
 		catch (RecognitionException re) {
@@ -184,10 +186,10 @@ public class SmtLib2Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(44); match(T__6);
+			setState(44); match(T__17);
 			setState(45); id();
 			setState(46); type();
-			setState(47); match(T__5);
+			setState(47); match(T__3);
 			}
 		}
 		catch (RecognitionException re) {
@@ -202,6 +204,13 @@ public class SmtLib2Parser extends Parser {
 	}
 
 	public static class TypeContext extends ParserRuleContext {
+		public TypeContext type(int i) {
+			return getRuleContext(TypeContext.class,i);
+		}
+		public List<TypeContext> type() {
+			return getRuleContexts(TypeContext.class);
+		}
+		public TerminalNode INT() { return getToken(SmtLib2Parser.INT, 0); }
 		public TypeContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -211,16 +220,47 @@ public class SmtLib2Parser extends Parser {
 	public final TypeContext type() throws RecognitionException {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
 		enterRule(_localctx, 6, RULE_type);
-		int _la;
 		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(49);
-			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__17) | (1L << T__15) | (1L << T__14))) != 0)) ) {
-			_errHandler.recoverInline(this);
-			}
-			consume();
+			setState(63);
+			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(49); match(T__21);
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(50); match(T__11);
+				}
+				break;
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(51); match(T__14);
+				}
+				break;
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(52); match(T__17);
+				setState(53); match(T__4);
+				setState(54); type();
+				setState(55); type();
+				setState(56); match(T__3);
+				}
+				break;
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(58); match(T__17);
+				setState(59); match(T__6);
+				setState(60); match(T__22);
+				setState(61); match(INT);
+				setState(62); match(T__3);
+				}
+				break;
 			}
 		}
 		catch (RecognitionException re) {
@@ -245,6 +285,15 @@ public class SmtLib2Parser extends Parser {
 			super.copyFrom(ctx);
 		}
 	}
+	public static class ConstArrayBodyContext extends BodyContext {
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public BodyContext body() {
+			return getRuleContext(BodyContext.class,0);
+		}
+		public ConstArrayBodyContext(BodyContext ctx) { copyFrom(ctx); }
+	}
 	public static class ConsBodyContext extends BodyContext {
 		public BodyContext body(int i) {
 			return getRuleContext(BodyContext.class,i);
@@ -257,6 +306,20 @@ public class SmtLib2Parser extends Parser {
 		}
 		public ConsBodyContext(BodyContext ctx) { copyFrom(ctx); }
 	}
+	public static class AbstractBodyContext extends BodyContext {
+		public SymbolContext symbol() {
+			return getRuleContext(SymbolContext.class,0);
+		}
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public AbstractBodyContext(BodyContext ctx) { copyFrom(ctx); }
+	}
+	public static class BitVectorBodyContext extends BodyContext {
+		public TerminalNode ID() { return getToken(SmtLib2Parser.ID, 0); }
+		public TerminalNode INT() { return getToken(SmtLib2Parser.INT, 0); }
+		public BitVectorBodyContext(BodyContext ctx) { copyFrom(ctx); }
+	}
 	public static class SymbolBodyContext extends BodyContext {
 		public SymbolContext symbol() {
 			return getRuleContext(SymbolContext.class,0);
@@ -269,43 +332,73 @@ public class SmtLib2Parser extends Parser {
 		enterRule(_localctx, 8, RULE_body);
 		int _la;
 		try {
-			setState(62);
-			switch (_input.LA(1)) {
-			case T__12:
-			case BOOL:
-			case INT:
-			case REAL:
-			case ID:
+			setState(96);
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			case 1:
 				_localctx = new SymbolBodyContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(51); symbol();
+				setState(65); symbol();
 				}
 				break;
-			case T__6:
+			case 2:
 				_localctx = new ConsBodyContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(52); match(T__6);
-				setState(53); fn();
-				setState(57);
+				setState(66); match(T__17);
+				setState(67); fn();
+				setState(71);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__12) | (1L << T__6) | (1L << BOOL) | (1L << INT) | (1L << REAL) | (1L << ID))) != 0)) {
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__17) | (1L << T__9) | (1L << BOOL) | (1L << INT) | (1L << REAL) | (1L << ID))) != 0)) {
 					{
 					{
-					setState(54); body();
+					setState(68); body();
 					}
 					}
-					setState(59);
+					setState(73);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
-				setState(60); match(T__5);
+				setState(74); match(T__3);
+				}
+				break;
+			case 3:
+				_localctx = new ConstArrayBodyContext(_localctx);
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(76); match(T__17);
+				setState(77); match(T__17);
+				setState(78); match(T__23);
+				setState(79); match(T__12);
+				setState(80); type();
+				setState(81); match(T__3);
+				setState(82); body();
+				setState(83); match(T__3);
+				}
+				break;
+			case 4:
+				_localctx = new AbstractBodyContext(_localctx);
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(85); match(T__17);
+				setState(86); match(T__23);
+				setState(87); symbol();
+				setState(88); type();
+				setState(89); match(T__3);
+				}
+				break;
+			case 5:
+				_localctx = new BitVectorBodyContext(_localctx);
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(91); match(T__17);
+				setState(92); match(T__6);
+				setState(93); match(ID);
+				setState(94); match(INT);
+				setState(95); match(T__3);
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -333,9 +426,9 @@ public class SmtLib2Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(64);
+			setState(98);
 			_la = _input.LA(1);
-			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__18) | (1L << T__13) | (1L << T__11) | (1L << T__10) | (1L << T__9) | (1L << T__8) | (1L << T__7) | (1L << T__4) | (1L << T__3) | (1L << T__1) | (1L << T__0))) != 0)) ) {
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__24) | (1L << T__20) | (1L << T__19) | (1L << T__18) | (1L << T__16) | (1L << T__10) | (1L << T__8) | (1L << T__7) | (1L << T__5) | (1L << T__2) | (1L << T__1) | (1L << T__0))) != 0)) ) {
 			_errHandler.recoverInline(this);
 			}
 			consume();
@@ -369,31 +462,31 @@ public class SmtLib2Parser extends Parser {
 		SymbolContext _localctx = new SymbolContext(_ctx, getState());
 		enterRule(_localctx, 12, RULE_symbol);
 		try {
-			setState(70);
+			setState(104);
 			switch (_input.LA(1)) {
-			case T__12:
+			case T__9:
 			case ID:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(66); id();
+				setState(100); id();
 				}
 				break;
 			case BOOL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(67); match(BOOL);
+				setState(101); match(BOOL);
 				}
 				break;
 			case INT:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(68); match(INT);
+				setState(102); match(INT);
 				}
 				break;
 			case REAL:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(69); match(REAL);
+				setState(103); match(REAL);
 				}
 				break;
 			default:
@@ -426,18 +519,18 @@ public class SmtLib2Parser extends Parser {
 		IdContext _localctx = new IdContext(_ctx, getState());
 		enterRule(_localctx, 14, RULE_id);
 		try {
-			setState(74);
+			setState(108);
 			switch (_input.LA(1)) {
-			case T__12:
+			case T__9:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(72); qid();
+				setState(106); qid();
 				}
 				break;
 			case ID:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(73); match(ID);
+				setState(107); match(ID);
 				}
 				break;
 			default:
@@ -469,9 +562,9 @@ public class SmtLib2Parser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(76); match(T__12);
-			setState(77); match(ID);
-			setState(78); match(T__12);
+			setState(110); match(T__9);
+			setState(111); match(ID);
+			setState(112); match(T__9);
 			}
 		}
 		catch (RecognitionException re) {
@@ -486,27 +579,35 @@ public class SmtLib2Parser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3\33S\4\2\t\2\4\3\t"+
-		"\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\3\2\3\2\3\2"+
-		"\7\2\30\n\2\f\2\16\2\33\13\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\7\3%\n\3"+
-		"\f\3\16\3(\13\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\6\3"+
-		"\6\3\6\3\6\7\6:\n\6\f\6\16\6=\13\6\3\6\3\6\5\6A\n\6\3\7\3\7\3\b\3\b\3"+
-		"\b\3\b\5\bI\n\b\3\t\3\t\5\tM\n\t\3\n\3\n\3\n\3\n\3\n\2\2\13\2\4\6\b\n"+
-		"\f\16\20\22\2\4\4\2\4\4\6\7\7\2\3\3\b\b\n\16\21\22\24\25Q\2\24\3\2\2\2"+
-		"\4\37\3\2\2\2\6.\3\2\2\2\b\63\3\2\2\2\n@\3\2\2\2\fB\3\2\2\2\16H\3\2\2"+
-		"\2\20L\3\2\2\2\22N\3\2\2\2\24\25\7\17\2\2\25\31\7\5\2\2\26\30\5\4\3\2"+
-		"\27\26\3\2\2\2\30\33\3\2\2\2\31\27\3\2\2\2\31\32\3\2\2\2\32\34\3\2\2\2"+
-		"\33\31\3\2\2\2\34\35\7\20\2\2\35\36\7\2\2\3\36\3\3\2\2\2\37 \7\17\2\2"+
-		" !\7\23\2\2!\"\5\20\t\2\"&\7\17\2\2#%\5\6\4\2$#\3\2\2\2%(\3\2\2\2&$\3"+
-		"\2\2\2&\'\3\2\2\2\')\3\2\2\2(&\3\2\2\2)*\7\20\2\2*+\5\b\5\2+,\5\n\6\2"+
-		",-\7\20\2\2-\5\3\2\2\2./\7\17\2\2/\60\5\20\t\2\60\61\5\b\5\2\61\62\7\20"+
-		"\2\2\62\7\3\2\2\2\63\64\t\2\2\2\64\t\3\2\2\2\65A\5\16\b\2\66\67\7\17\2"+
-		"\2\67;\5\f\7\28:\5\n\6\298\3\2\2\2:=\3\2\2\2;9\3\2\2\2;<\3\2\2\2<>\3\2"+
-		"\2\2=;\3\2\2\2>?\7\20\2\2?A\3\2\2\2@\65\3\2\2\2@\66\3\2\2\2A\13\3\2\2"+
-		"\2BC\t\3\2\2C\r\3\2\2\2DI\5\20\t\2EI\7\26\2\2FI\7\27\2\2GI\7\30\2\2HD"+
-		"\3\2\2\2HE\3\2\2\2HF\3\2\2\2HG\3\2\2\2I\17\3\2\2\2JM\5\22\n\2KM\7\31\2"+
-		"\2LJ\3\2\2\2LK\3\2\2\2M\21\3\2\2\2NO\7\t\2\2OP\7\31\2\2PQ\7\t\2\2Q\23"+
-		"\3\2\2\2\b\31&;@HL";
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3!u\4\2\t\2\4\3\t\3"+
+		"\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\3\2\3\2\3\2\7"+
+		"\2\30\n\2\f\2\16\2\33\13\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\7\3%\n\3\f"+
+		"\3\16\3(\13\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5"+
+		"\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\5\5B\n\5\3\6\3\6\3\6\3\6\7\6"+
+		"H\n\6\f\6\16\6K\13\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\5\6c\n\6\3\7\3\7\3\b\3\b\3\b\3"+
+		"\b\5\bk\n\b\3\t\3\t\5\to\n\t\3\n\3\n\3\n\3\n\3\n\2\2\13\2\4\6\b\n\f\16"+
+		"\20\22\2\3\t\2\3\3\7\t\13\13\21\21\23\24\26\26\31\33z\2\24\3\2\2\2\4\37"+
+		"\3\2\2\2\6.\3\2\2\2\bA\3\2\2\2\nb\3\2\2\2\fd\3\2\2\2\16j\3\2\2\2\20n\3"+
+		"\2\2\2\22p\3\2\2\2\24\25\7\n\2\2\25\31\7\16\2\2\26\30\5\4\3\2\27\26\3"+
+		"\2\2\2\30\33\3\2\2\2\31\27\3\2\2\2\31\32\3\2\2\2\32\34\3\2\2\2\33\31\3"+
+		"\2\2\2\34\35\7\30\2\2\35\36\7\2\2\3\36\3\3\2\2\2\37 \7\n\2\2 !\7\f\2\2"+
+		"!\"\5\20\t\2\"&\7\n\2\2#%\5\6\4\2$#\3\2\2\2%(\3\2\2\2&$\3\2\2\2&\'\3\2"+
+		"\2\2\')\3\2\2\2(&\3\2\2\2)*\7\30\2\2*+\5\b\5\2+,\5\n\6\2,-\7\30\2\2-\5"+
+		"\3\2\2\2./\7\n\2\2/\60\5\20\t\2\60\61\5\b\5\2\61\62\7\30\2\2\62\7\3\2"+
+		"\2\2\63B\7\6\2\2\64B\7\20\2\2\65B\7\r\2\2\66\67\7\n\2\2\678\7\27\2\28"+
+		"9\5\b\5\29:\5\b\5\2:;\7\30\2\2;B\3\2\2\2<=\7\n\2\2=>\7\25\2\2>?\7\5\2"+
+		"\2?@\7\35\2\2@B\7\30\2\2A\63\3\2\2\2A\64\3\2\2\2A\65\3\2\2\2A\66\3\2\2"+
+		"\2A<\3\2\2\2B\t\3\2\2\2Cc\5\16\b\2DE\7\n\2\2EI\5\f\7\2FH\5\n\6\2GF\3\2"+
+		"\2\2HK\3\2\2\2IG\3\2\2\2IJ\3\2\2\2JL\3\2\2\2KI\3\2\2\2LM\7\30\2\2Mc\3"+
+		"\2\2\2NO\7\n\2\2OP\7\n\2\2PQ\7\4\2\2QR\7\17\2\2RS\5\b\5\2ST\7\30\2\2T"+
+		"U\5\n\6\2UV\7\30\2\2Vc\3\2\2\2WX\7\n\2\2XY\7\4\2\2YZ\5\16\b\2Z[\5\b\5"+
+		"\2[\\\7\30\2\2\\c\3\2\2\2]^\7\n\2\2^_\7\25\2\2_`\7\37\2\2`a\7\35\2\2a"+
+		"c\7\30\2\2bC\3\2\2\2bD\3\2\2\2bN\3\2\2\2bW\3\2\2\2b]\3\2\2\2c\13\3\2\2"+
+		"\2de\t\2\2\2e\r\3\2\2\2fk\5\20\t\2gk\7\34\2\2hk\7\35\2\2ik\7\36\2\2jf"+
+		"\3\2\2\2jg\3\2\2\2jh\3\2\2\2ji\3\2\2\2k\17\3\2\2\2lo\5\22\n\2mo\7\37\2"+
+		"\2nl\3\2\2\2nm\3\2\2\2o\21\3\2\2\2pq\7\22\2\2qr\7\37\2\2rs\7\22\2\2s\23"+
+		"\3\2\2\2\t\31&AIbjn";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
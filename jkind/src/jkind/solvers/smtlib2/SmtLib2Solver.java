@@ -3,6 +3,7 @@ package jkind.solvers.smtlib2;
 import static java.util.stream.Collectors.toList;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -30,19 +31,34 @@ import jkind.solvers.UnsatResult;
 import jkind.solvers.smtlib2.SmtLib2Parser.ModelContext;
 import jkind.translation.Relation;
 import jkind.util.SexpUtil;
+import jkind.util.StreamIndex;
 import jkind.util.Util;
 
 public abstract class SmtLib2Solver extends ProcessBasedSolver {
+	protected BitVectorEncoder bitVectors;
+
 	public SmtLib2Solver(String scratchBase) {
 		super(scratchBase);
 	}
 
+	/**
+	 * Encode all integer variables as bit-vectors of the given width. Each
+	 * declared instance of a stream is constrained to the bound of the stream.
+	 * This must be called before the solver is initialized.
+	 */
+	public void setBitVectors(int width, Map<String, BigInteger> bounds) {
+		bitVectors = new BitVectorEncoder(width, bounds);
+	}
+
 	@Override
 	public void assertSexp(Sexp sexp) {
 		send(new Cons("assert", sexp));
 	}
 
 	protected void send(Sexp sexp) {
+		if (bitVectors != null) {
+			sexp = bitVectors.encode(sexp);
+		}
 		send(Quoting.quoteSexp(sexp).toString());
 	}
 
@@ -59,13 +75,18 @@ public abstract class SmtLib2Solver extends ProcessBasedSolver {
 	}
 
 	public Symbol type(Type type) {
+		if (bitVectors != null && BitVectorEncoder.isInteger(type)) {
+			return bitVectors.type();
+		}
 		return new Symbol(Util.capitalize(Util.getName(type)));
 	}
 
 	@Override
 	public void define(VarDecl decl) {
 		varTypes.put(decl.id, decl.type);
+		declareBitVector(decl);
 		send(new Cons("declare-fun", new Symbol(decl.id), new Symbol("()"), type(decl.type)));
+		assertBitVectorBound(decl);
 	}
 
 	@Override
@@ -87,11 +108,29 @@ public abstract class SmtLib2Solver extends ProcessBasedSolver {
 	private Sexp inputs(List<VarDecl> inputs) {
 		List<Sexp> args = new ArrayList<>();
 		for (VarDecl vd : inputs) {
+			declareBitVector(vd);
 			args.add(new Cons(vd.id, type(vd.type)));
 		}
 		return new Cons(args);
 	}
 
+	private void declareBitVector(VarDecl vd) {
+		if (bitVectors != null && BitVectorEncoder.isInteger(vd.type)) {
+			bitVectors.declare(vd.id);
+		}
+	}
+
+	private void assertBitVectorBound(VarDecl vd) {
+		if (bitVectors != null && BitVectorEncoder.isInteger(vd.type)) {
+			StreamIndex si = StreamIndex.decode(vd.id);
+			String stream = si == null ? vd.id : si.getStream();
+			Sexp constraint = bitVectors.getBoundConstraint(stream, new Symbol(vd.id));
+			if (constraint != null) {
+				assertSexp(constraint);
+			}
+		}
+	}
+
 	@Override
 	public Result query(Sexp sexp) {
 		Result result = null;
@@ -114,7 +153,7 @@ public abstract class SmtLib2Solver extends ProcessBasedSolver {
 	}
 
 	@Override
-	protected Result quickCheckSat(List<Symbol> activationLiterals) {
+	protected Result quickCheckSat(List<Symbol> activationLiterals, boolean extractModel) {
 		push();
 		for (Symbol actLit : activationLiterals) {
 			String name = "_" + actLit.str;
@@ -125,9 +164,9 @@ public abstract class SmtLib2Solver extends ProcessBasedSolver {
 		String status = readFromSolver();
 		Result result;
 		if (isSat(status)) {
-			result = new SatResult();
+			result = extractModel ? new SatResult(readModel()) : new SatResult();
 		} else if (isUnsat(status)) {
-			result = new UnsatResult(getUnsatCore(activationLiterals));
+			result = new UnsatResult(readUnsatCore(activationLiterals));
 		} else {
 			result = new UnknownResult();
 		}
@@ -138,6 +177,18 @@ public abstract class SmtLib2Solver extends ProcessBasedSolver {
 
 	protected abstract List<Symbol> getUnsatCore(List<Symbol> activationLiterals);
 
+	protected List<Symbol> readUnsatCore(List<Symbol> activationLiterals) {
+		if (activationLiterals.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return getUnsatCore(activationLiterals);
+	}
+
+	protected Model readModel() {
+		send("(get-model)");
+		return parseModel(readFromSolver());
+	}
+
 	protected boolean isSat(String output) {
 		// Only check prefix, Z3 outputs content after 'sat' for max-sat style
 		// queries
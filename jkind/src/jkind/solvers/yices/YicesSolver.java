@@ -219,9 +219,16 @@ public class YicesSolver extends ProcessBasedSolver implements MaxSatSolver {
 	}
 
 	@Override
-	protected Result quickCheckSat(List<Symbol> activationLiterals) {
-		// We do not need this method since we are overriding unsatQuery
-		throw new UnsupportedOperationException();
+	protected Result quickCheckSat(List<Symbol> activationLiterals, boolean extractModel) {
+		// We do not need activation literals since we are overriding
+		// unsatQuery, but a plain check is used to harvest models
+		if (!activationLiterals.isEmpty()) {
+			throw new UnsupportedOperationException();
+		}
+
+		send("(check)");
+		Result result = readResult();
+		return result instanceof UnsatResult ? new UnsatResult() : result;
 	}
 
 	@Override
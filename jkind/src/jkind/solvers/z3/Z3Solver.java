@@ -88,13 +88,13 @@ public class Z3Solver extends SmtLib2Solver implements MaxSatSolver {
 	}
 
 	@Override
-	protected Result quickCheckSat(List<Symbol> activationLiterals) {
+	protected Result quickCheckSat(List<Symbol> activationLiterals, boolean extractModel) {
 		send(new Cons("check-sat", activationLiterals));
 		String status = readFromSolver();
 		if (isSat(status)) {
-			return new SatResult();
+			return extractModel ? new SatResult(readModel()) : new SatResult();
 		} else if (isUnsat(status)) {
-			return new UnsatResult(getUnsatCore(activationLiterals));
+			return new UnsatResult(readUnsatCore(activationLiterals));
 		} else {
 			return new UnknownResult();
 		}
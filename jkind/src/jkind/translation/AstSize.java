@@ -0,0 +1,157 @@
+package jkind.translation;
+
+import jkind.lustre.ArrayAccessExpr;
+import jkind.lustre.ArrayExpr;
+import jkind.lustre.ArrayUpdateExpr;
+import jkind.lustre.BinaryExpr;
+import jkind.lustre.BoolExpr;
+import jkind.lustre.CastExpr;
+import jkind.lustre.CondactExpr;
+import jkind.lustre.Equation;
+import jkind.lustre.FunctionCallExpr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.IfThenElseExpr;
+import jkind.lustre.IntExpr;
+import jkind.lustre.NodeCallExpr;
+import jkind.lustre.Program;
+import jkind.lustre.RealExpr;
+import jkind.lustre.RecordAccessExpr;
+import jkind.lustre.RecordExpr;
+import jkind.lustre.RecordUpdateExpr;
+import jkind.lustre.TupleExpr;
+import jkind.lustre.UnaryExpr;
+import jkind.lustre.VarDecl;
+import jkind.lustre.visitors.AstIterVisitor;
+
+/**
+ * Counts the declarations, equations, and expressions of a program
+ */
+public class AstSize extends AstIterVisitor {
+	public static int get(Program program) {
+		AstSize visitor = new AstSize();
+		visitor.visit(program);
+		return visitor.size;
+	}
+
+	private int size = 0;
+
+	@Override
+	public Void visit(Equation e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(VarDecl e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(ArrayAccessExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(ArrayExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(ArrayUpdateExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(BinaryExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(BoolExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(CastExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(CondactExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(FunctionCallExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(IdExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(IfThenElseExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(IntExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(NodeCallExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(RealExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(RecordAccessExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(RecordExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(RecordUpdateExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(TupleExpr e) {
+		size++;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(UnaryExpr e) {
+		size++;
+		return super.visit(e);
+	}
+}
@@ -0,0 +1,70 @@
+package jkind.translation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jkind.lustre.Constant;
+import jkind.lustre.EnumType;
+import jkind.lustre.Expr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.IntExpr;
+import jkind.lustre.Program;
+import jkind.lustre.Type;
+import jkind.lustre.TypeDef;
+import jkind.lustre.VarDecl;
+import jkind.lustre.visitors.AstMapVisitor;
+import jkind.util.Util;
+
+/**
+ * Replace enumerated values by their indices, resolve user types, and inline
+ * constants, all in a single traversal. Type and constant declarations are
+ * removed from the program.
+ */
+public class InlineDeclarations extends AstMapVisitor {
+	public static Program program(Program program) {
+		return new InlineDeclarations().visit(program);
+	}
+
+	private final Map<String, IntExpr> enumValues = new HashMap<>();
+	private final Map<String, Type> types = new HashMap<>();
+	private final Map<String, Expr> constants = new HashMap<>();
+
+	@Override
+	protected List<TypeDef> visitTypeDefs(List<TypeDef> es) {
+		for (EnumType et : Util.getEnumTypes(es)) {
+			for (int i = 0; i < et.values.size(); i++) {
+				enumValues.put(et.values.get(i), new IntExpr(i));
+			}
+		}
+
+		types.putAll(Util.createResolvedTypeTable(es));
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected List<Constant> visitConstants(List<Constant> es) {
+		for (Constant e : es) {
+			constants.put(e.id, e.expr);
+		}
+
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Expr visit(IdExpr e) {
+		if (enumValues.containsKey(e.id)) {
+			return enumValues.get(e.id);
+		} else if (constants.containsKey(e.id)) {
+			return constants.get(e.id).accept(this);
+		} else {
+			return e;
+		}
+	}
+
+	@Override
+	public VarDecl visit(VarDecl e) {
+		return new VarDecl(e.id, Util.resolveType(e.type, types));
+	}
+}
@@ -33,6 +33,7 @@ import jkind.sexp.Cons;
 import jkind.sexp.Sexp;
 import jkind.sexp.Symbol;
 import jkind.util.LinkedBiMap;
+import jkind.util.SexpSimplifier;
 import jkind.util.SexpUtil;
 import jkind.util.StreamIndex;
 import jkind.util.Util;
@@ -63,11 +64,11 @@ public class Lustre2Sexp implements ExprVisitor<Sexp> {
 		for (Equation eq : node.equations) {
 			Sexp body = eq.expr.accept(visitor);
 			Sexp head = eq.lhs.get(0).accept(visitor);
-			Sexp sexp = new Cons("=", head, body);
+			Sexp sexp = simplify(new Cons("=", head, body));
 
 			String id = eq.lhs.get(0).id;
 			if (ivcMap.containsKey(id)) {
-				sexp = new Cons("=>", ivcMap.get(id), sexp);
+				sexp = simplify(new Cons("=>", ivcMap.get(id), sexp));
 			}
 			conjuncts.add(sexp);
 		}
@@ -124,19 +125,27 @@ public class Lustre2Sexp implements ExprVisitor<Sexp> {
 		return result;
 	}
 
+	/**
+	 * Arguments are translated first, so each term only needs to be
+	 * simplified at the top
+	 */
+	private static Sexp simplify(Sexp sexp) {
+		return SexpSimplifier.simplifyTop(sexp);
+	}
+
 	@Override
 	public Sexp visit(ArrayAccessExpr e) {
-		throw new IllegalArgumentException("Arrays must be flattened before translation to sexp");
+		return new Cons("select", e.array.accept(this), e.index.accept(this));
 	}
 
 	@Override
 	public Sexp visit(ArrayExpr e) {
-		throw new IllegalArgumentException("Arrays must be flattened before translation to sexp");
+		throw new IllegalArgumentException("Array literals must be removed before translation to sexp");
 	}
 
 	@Override
 	public Sexp visit(ArrayUpdateExpr e) {
-		throw new IllegalArgumentException("Arrays must be flattened before translation to sexp");
+		return new Cons("store", e.array.accept(this), e.index.accept(this), e.value.accept(this));
 	}
 
 	@Override
@@ -160,16 +169,16 @@ public class Lustre2Sexp implements ExprVisitor<Sexp> {
 		switch (e.op) {
 		case NOTEQUAL:
 		case XOR:
-			return new Cons("not", new Cons("=", left, right));
+			return simplify(new Cons("not", simplify(new Cons("=", left, right))));
 
 		case ARROW:
 			if (pre) {
 				throw new IllegalArgumentException("Arrows cannot be nested under pre during translation to sexp");
 			}
-			return new Cons("ite", INIT, left, right);
+			return simplify(new Cons("ite", INIT, left, right));
 
 		default:
-			return new Cons(e.op.toString(), left, right);
+			return simplify(new Cons(e.op.toString(), left, right));
 		}
 	}
 
@@ -201,7 +210,7 @@ public class Lustre2Sexp implements ExprVisitor<Sexp> {
 
 	@Override
 	public Sexp visit(IfThenElseExpr e) {
-		return new Cons("ite", e.cond.accept(this), e.thenExpr.accept(this), e.elseExpr.accept(this));
+		return simplify(new Cons("ite", e.cond.accept(this), e.thenExpr.accept(this), e.elseExpr.accept(this)));
 	}
 
 	@Override
@@ -254,10 +263,10 @@ public class Lustre2Sexp implements ExprVisitor<Sexp> {
 			return expr;
 
 		case NEGATIVE:
-			return new Cons("-", new Symbol("0"), e.expr.accept(this));
+			return simplify(new Cons("-", new Symbol("0"), e.expr.accept(this)));
 
 		default:
-			return new Cons(e.op.toString(), e.expr.accept(this));
+			return simplify(new Cons(e.op.toString(), e.expr.accept(this)));
 		}
 	}
 }
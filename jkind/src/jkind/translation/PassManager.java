@@ -0,0 +1,78 @@
+package jkind.translation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import jkind.lustre.Program;
+
+/**
+ * Runs the passes of a translation, skipping those which are known to leave
+ * the program unchanged. When recording, the runtime of each pass and the size
+ * of the program it produces are kept for reporting.
+ */
+public class PassManager {
+	private final boolean record;
+	private final List<String> report = new ArrayList<>();
+
+	public PassManager(boolean record) {
+		this.record = record;
+	}
+
+	public Program run(String name, Program program, UnaryOperator<Program> pass) {
+		return run(name, program, true, pass);
+	}
+
+	public Program run(String name, Program program, boolean applicable, UnaryOperator<Program> pass) {
+		if (!applicable) {
+			add(name, "skipped", "");
+			return program;
+		}
+
+		long start = System.nanoTime();
+		Program result = pass.apply(program);
+		if (record) {
+			add(name, getRuntime(start), Integer.toString(AstSize.get(result)));
+		}
+		return result;
+	}
+
+	/**
+	 * Time a step which does not produce a program, such as an analysis
+	 */
+	public <T> T time(String name, Supplier<T> step) {
+		long start = System.nanoTime();
+		T result = step.get();
+		add(name, getRuntime(start), "");
+		return result;
+	}
+
+	public void time(String name, Runnable step) {
+		time(name, () -> {
+			step.run();
+			return null;
+		});
+	}
+
+	private static String getRuntime(long start) {
+		return String.format("%.3f", (System.nanoTime() - start) / 1e9);
+	}
+
+	private void add(String name, String runtime, String size) {
+		if (record) {
+			report.add(String.format("%-28s %10s %10s", name, runtime, size).trim());
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder text = new StringBuilder();
+		text.append(String.format("%-28s %10s %10s", "PASS", "TIME (s)", "AST SIZE"));
+		for (String line : report) {
+			text.append(System.lineSeparator());
+			text.append(line);
+		}
+		return text.toString();
+	}
+}
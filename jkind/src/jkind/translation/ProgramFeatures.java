@@ -0,0 +1,127 @@
+package jkind.translation;
+
+import jkind.lustre.ArrayAccessExpr;
+import jkind.lustre.ArrayExpr;
+import jkind.lustre.ArrayType;
+import jkind.lustre.ArrayUpdateExpr;
+import jkind.lustre.CondactExpr;
+import jkind.lustre.Equation;
+import jkind.lustre.Node;
+import jkind.lustre.Program;
+import jkind.lustre.RecordAccessExpr;
+import jkind.lustre.RecordExpr;
+import jkind.lustre.RecordType;
+import jkind.lustre.RecordUpdateExpr;
+import jkind.lustre.TupleExpr;
+import jkind.lustre.TupleType;
+import jkind.lustre.VarDecl;
+import jkind.lustre.visitors.AstIterVisitor;
+
+/**
+ * Determines which language features occur in a program, so that translation
+ * passes which would leave the program unchanged can be skipped
+ */
+public class ProgramFeatures extends AstIterVisitor {
+	public static boolean hasDeclarations(Program program) {
+		return !program.types.isEmpty() || !program.constants.isEmpty();
+	}
+
+	public static boolean hasCondacts(Program program) {
+		return get(program).condacts;
+	}
+
+	public static boolean hasNodeCalls(Program program) {
+		// Recursive node calls are rejected by static analysis
+		return program.nodes.size() > 1;
+	}
+
+	/**
+	 * Functions are included since their outputs are renamed when flattened
+	 *
+	 * Assumption: User types have been inlined
+	 */
+	public static boolean hasCompoundTypes(Program program) {
+		return !program.functions.isEmpty() || get(program).compound;
+	}
+
+	private static ProgramFeatures get(Program program) {
+		ProgramFeatures visitor = new ProgramFeatures();
+		visitor.visit(program);
+		return visitor;
+	}
+
+	private boolean condacts = false;
+	private boolean compound = false;
+
+	@Override
+	public Void visit(Node e) {
+		if (e.contract != null) {
+			visit(e.contract);
+		}
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(Equation e) {
+		if (e.lhs.size() > 1) {
+			compound = true;
+		}
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(VarDecl e) {
+		if (e.type instanceof ArrayType || e.type instanceof RecordType || e.type instanceof TupleType) {
+			compound = true;
+		}
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(CondactExpr e) {
+		condacts = true;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(ArrayAccessExpr e) {
+		compound = true;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(ArrayExpr e) {
+		compound = true;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(ArrayUpdateExpr e) {
+		compound = true;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(RecordAccessExpr e) {
+		compound = true;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(RecordExpr e) {
+		compound = true;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(RecordUpdateExpr e) {
+		compound = true;
+		return super.visit(e);
+	}
+
+	@Override
+	public Void visit(TupleExpr e) {
+		compound = true;
+		return super.visit(e);
+	}
+}
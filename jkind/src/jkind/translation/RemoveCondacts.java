@@ -267,7 +267,8 @@ public class RemoveCondacts {
 	}
 
 	private Node renameNode(Node node, String id) {
-		return new NodeBuilder(node).setId(id).build();
+		// The contract of the original node does not describe the clocked node
+		return new NodeBuilder(node).setId(id).setContract(null).build();
 	}
 
 	private Program getResult() {
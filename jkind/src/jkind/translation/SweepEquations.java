@@ -0,0 +1,158 @@
+package jkind.translation;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jkind.lustre.BoolExpr;
+import jkind.lustre.Equation;
+import jkind.lustre.Expr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.IntExpr;
+import jkind.lustre.Node;
+import jkind.lustre.Program;
+import jkind.lustre.builders.NodeBuilder;
+import jkind.lustre.builders.ProgramBuilder;
+import jkind.lustre.values.BooleanValue;
+import jkind.lustre.values.IntegerValue;
+import jkind.lustre.values.Value;
+import jkind.lustre.visitors.Evaluator;
+
+/**
+ * Merge equations which are structurally equal once the variables they refer
+ * to are replaced by their representatives, and reduce equations which
+ * evaluate to a constant for every input. A merged equation becomes an alias
+ * of its representative and a constant equation becomes the constant, so that
+ * InlineSimpleEquations removes both from the analysis while
+ * ModelReconstructionEvaluator still reports them in counterexamples.
+ *
+ * Two equations are only merged when their definitions are identical, so no
+ * solver is needed to justify the merge. Merging is repeated until no more
+ * equations are merged, since each merge may make other definitions equal.
+ *
+ * Properties are kept since the analysis refers to them by name, though they
+ * may represent other equations. Variables in the IVC set are never merged
+ * since inductive validity core reduction must be able to remove each of their
+ * equations separately.
+ */
+public class SweepEquations {
+	public static Program program(Program program) {
+		Node main = node(program.getMainNode());
+		return new ProgramBuilder(program).clearNodes().addNode(main).build();
+	}
+
+	public static Node node(Node node) {
+		return new SweepEquations(node).sweep();
+	}
+
+	private final Node node;
+	private final Map<String, Expr> definitions = new LinkedHashMap<>();
+	private final Map<String, Expr> representatives = new ResolvingSubstitutionMap();
+
+	private SweepEquations(Node node) {
+		this.node = node;
+
+		// Properties come first so that they represent equal equations
+		for (Equation eq : node.equations) {
+			String id = eq.lhs.get(0).id;
+			if (node.properties.contains(id) && !node.ivc.contains(id)) {
+				definitions.put(id, eq.expr);
+			}
+		}
+		for (Equation eq : node.equations) {
+			String id = eq.lhs.get(0).id;
+			if (!node.ivc.contains(id) && !definitions.containsKey(id)) {
+				definitions.put(id, eq.expr);
+			}
+		}
+	}
+
+	private Node sweep() {
+		while (mergeEquations()) {
+		}
+
+		if (representatives.isEmpty()) {
+			return node;
+		}
+
+		NodeBuilder builder = new NodeBuilder(node).clearEquations();
+		for (Equation eq : node.equations) {
+			Expr representative = representatives.get(eq.lhs.get(0).id);
+			if (representative == null) {
+				builder.addEquation(eq);
+			} else {
+				builder.addEquation(new Equation(eq.location, eq.lhs, representative));
+			}
+		}
+		return builder.build();
+	}
+
+	private boolean mergeEquations() {
+		boolean changed = false;
+		SubstitutionVisitor substitution = new SubstitutionVisitor(representatives);
+		Map<Expr, String> canonical = new HashMap<>();
+
+		for (Entry<String, Expr> entry : definitions.entrySet()) {
+			String id = entry.getKey();
+			if (representatives.containsKey(id)) {
+				continue;
+			}
+
+			Expr definition = entry.getValue().accept(substitution);
+			if (node.properties.contains(id)) {
+				canonical.putIfAbsent(definition, id);
+				continue;
+			}
+
+			Expr constant = toConstant(evaluate(definition));
+			if (constant != null) {
+				representatives.put(id, constant);
+				changed = true;
+				continue;
+			}
+
+			String existing = canonical.putIfAbsent(definition, id);
+			if (existing != null) {
+				representatives.put(id, new IdExpr(existing));
+				changed = true;
+			}
+		}
+
+		return changed;
+	}
+
+	private static Value evaluate(Expr e) {
+		try {
+			return new CombinationalEvaluator().eval(e);
+		} catch (ArithmeticException ex) {
+			// Division by zero is left to the solver
+			return null;
+		}
+	}
+
+	/**
+	 * Only constants which InlineSimpleEquations recognizes are kept
+	 */
+	private static Expr toConstant(Value value) {
+		if (value instanceof BooleanValue) {
+			return new BoolExpr(((BooleanValue) value).value);
+		} else if (value instanceof IntegerValue) {
+			return new IntExpr(((IntegerValue) value).value);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Evaluates expressions in which all known constants have been substituted,
+	 * so every remaining variable is unknown. Temporal operators are unknown as
+	 * well since the base Evaluator does not interpret them.
+	 */
+	private static class CombinationalEvaluator extends Evaluator {
+		@Override
+		public Value visit(IdExpr e) {
+			return null;
+		}
+	}
+}
@@ -1,17 +1,37 @@
 package jkind.translation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import jkind.lustre.Program;
 import jkind.translation.compound.FlattenCompoundTypes;
 
 public class Translate {
 	public static Program translate(Program program) {
-		program = InlineEnumValues.program(program);
-		program = InlineUserTypes.program(program);
-		program = InlineConstants.program(program);
-		program = RemoveCondacts.program(program);
-		program = InlineNodeCalls.program(program);
-		program = FlattenCompoundTypes.program(program);
-		program = FlattenPres.program(program);
+		return translate(program, false);
+	}
+
+	public static Program translate(Program program, boolean smtArrays) {
+		return translate(program, smtArrays, false, new ArrayList<>(), new PassManager(false));
+	}
+
+	/**
+	 * With contracts, calls to nodes with contracts are abstracted by their
+	 * contracts instead of inlined. The ids of the outputs of abstracted calls
+	 * are added to abstractions, before compound types are flattened.
+	 */
+	public static Program translate(Program program, boolean smtArrays, boolean contracts, List<String> abstractions,
+			PassManager passes) {
+		program = passes.run("InlineDeclarations", program, ProgramFeatures.hasDeclarations(program),
+				InlineDeclarations::program);
+		program = passes.run("RemoveCondacts", program, ProgramFeatures.hasCondacts(program),
+				RemoveCondacts::program);
+		boolean mainContract = contracts && program.getMainNode().contract != null;
+		program = passes.run("InlineNodeCalls", program, ProgramFeatures.hasNodeCalls(program) || mainContract,
+				p -> InlineNodeCalls.program(p, contracts, abstractions));
+		program = passes.run("FlattenCompoundTypes", program, ProgramFeatures.hasCompoundTypes(program),
+				p -> FlattenCompoundTypes.program(p, smtArrays));
+		program = passes.run("FlattenPres", program, FlattenPres::program);
 		return program;
 	}
 }
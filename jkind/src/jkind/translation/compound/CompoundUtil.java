@@ -10,47 +10,80 @@ import jkind.lustre.ArrayAccessExpr;
 import jkind.lustre.ArrayType;
 import jkind.lustre.BinaryExpr;
 import jkind.lustre.BinaryOp;
+import jkind.lustre.EnumType;
 import jkind.lustre.Expr;
 import jkind.lustre.IdExpr;
+import jkind.lustre.NamedType;
 import jkind.lustre.RecordAccessExpr;
 import jkind.lustre.RecordType;
+import jkind.lustre.SubrangeIntType;
 import jkind.lustre.Type;
 import jkind.lustre.VarDecl;
 
 public class CompoundUtil {
 	public static List<ExprType> flattenExpr(Expr expr, Type type) {
-		if (type instanceof ArrayType) {
+		return flattenExpr(expr, type, false);
+	}
+
+	/**
+	 * Flatten an expression to scalars, optionally keeping arrays which can be
+	 * encoded as SMT arrays
+	 */
+	public static List<ExprType> flattenExpr(Expr expr, Type type, boolean smtArrays) {
+		if (smtArrays && isSmtArray(type)) {
+			return Collections.singletonList(new ExprType(expr, type));
+		} else if (type instanceof ArrayType) {
 			ArrayType arrayType = (ArrayType) type;
-			return flattenArrayExpr(expr, arrayType.base, arrayType.size);
+			return flattenArrayExpr(expr, arrayType.base, arrayType.size, smtArrays);
 		} else if (type instanceof RecordType) {
 			RecordType recordType = (RecordType) type;
-			return flattenRecordExpr(expr, recordType.fields);
+			return flattenRecordExpr(expr, recordType.fields, smtArrays);
 		} else {
 			return Collections.singletonList(new ExprType(expr, type));
 		}
 	}
 
-	private static List<ExprType> flattenArrayExpr(Expr expr, Type base, int size) {
+	private static List<ExprType> flattenArrayExpr(Expr expr, Type base, int size, boolean smtArrays) {
 		List<ExprType> result = new ArrayList<>();
 		for (int i = 0; i < size; i++) {
-			result.addAll(flattenExpr(new ArrayAccessExpr(expr, i), base));
+			result.addAll(flattenExpr(new ArrayAccessExpr(expr, i), base, smtArrays));
 		}
 		return result;
 	}
 
-	private static List<ExprType> flattenRecordExpr(Expr expr, Map<String, Type> fields) {
+	private static List<ExprType> flattenRecordExpr(Expr expr, Map<String, Type> fields, boolean smtArrays) {
 		List<ExprType> result = new ArrayList<>();
 		for (Entry<String, Type> entry : fields.entrySet()) {
-			result.addAll(flattenExpr(new RecordAccessExpr(expr, entry.getKey()), entry.getValue()));
+			result.addAll(flattenExpr(new RecordAccessExpr(expr, entry.getKey()), entry.getValue(), smtArrays));
 		}
 		return result;
 	}
 
+	/**
+	 * Arrays whose elements are scalars, or arrays of scalars, map directly to
+	 * the SMT theory of arrays
+	 */
+	public static boolean isSmtArray(Type type) {
+		if (type instanceof ArrayType) {
+			Type base = ((ArrayType) type).base;
+			return isScalar(base) || isSmtArray(base);
+		}
+		return false;
+	}
+
+	private static boolean isScalar(Type type) {
+		return type instanceof NamedType || type instanceof SubrangeIntType || type instanceof EnumType;
+	}
+
 	public static List<VarDecl> flattenVarDecls(List<VarDecl> varDecls) {
+		return flattenVarDecls(varDecls, false);
+	}
+
+	public static List<VarDecl> flattenVarDecls(List<VarDecl> varDecls, boolean smtArrays) {
 		List<VarDecl> result = new ArrayList<>();
 		for (VarDecl varDecl : varDecls) {
 			IdExpr id = new IdExpr(varDecl.id);
-			for (ExprType et : flattenExpr(id, varDecl.type)) {
+			for (ExprType et : flattenExpr(id, varDecl.type, smtArrays)) {
 				result.add(new VarDecl(et.expr.toString(), et.type));
 			}
 		}
@@ -20,8 +20,24 @@ import jkind.lustre.Type;
  * complex literals with explicit accesses.
  */
 public abstract class Expander {
+	private final boolean smtArrays;
+
+	public Expander() {
+		this(false);
+	}
+
+	/**
+	 * @param smtArrays
+	 *            Keep arrays which are encoded as SMT arrays unexpanded
+	 */
+	public Expander(boolean smtArrays) {
+		this.smtArrays = smtArrays;
+	}
+
 	public Expr expand(Expr expr, Type type) {
-		if (type instanceof ArrayType) {
+		if (smtArrays && CompoundUtil.isSmtArray(type)) {
+			return baseCase(expr);
+		} else if (type instanceof ArrayType) {
 			ArrayType arrayType = (ArrayType) type;
 			List<Expr> elements = new ArrayList<>();
 			for (int i = 0; i < arrayType.size; i++) {
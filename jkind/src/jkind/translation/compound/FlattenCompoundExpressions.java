@@ -5,6 +5,7 @@ import java.util.Deque;
 
 import jkind.lustre.ArrayAccessExpr;
 import jkind.lustre.ArrayExpr;
+import jkind.lustre.ArrayUpdateExpr;
 import jkind.lustre.Expr;
 import jkind.lustre.IdExpr;
 import jkind.lustre.IfThenElseExpr;
@@ -15,23 +16,42 @@ import jkind.lustre.RecordExpr;
 import jkind.lustre.visitors.AstMapVisitor;
 
 /**
- * Flatten array and record expressions to scalars variables
+ * Flatten array and record expressions to scalars variables. When arrays are
+ * encoded as SMT arrays, accesses which reach an array variable or update are
+ * kept instead.
  * 
  * Assumption: All node calls have been inlined.
  * 
- * Assumption: All array indices are integer literals
+ * Assumption: All array indices are integer literals, except for indices into
+ * SMT arrays
  * 
- * Assumption: All array updates are removed
+ * Assumption: All array updates are removed, except for updates of SMT arrays
  */
 public class FlattenCompoundExpressions extends AstMapVisitor {
 	public static Program program(Program program) {
-		return new FlattenCompoundExpressions().visit(program);
+		return program(program, false);
+	}
+
+	public static Program program(Program program, boolean smtArrays) {
+		return new FlattenCompoundExpressions(smtArrays).visit(program);
 	}
 
 	private final Deque<Access> accesses = new ArrayDeque<>();
+	private final boolean smtArrays;
+
+	private FlattenCompoundExpressions(boolean smtArrays) {
+		this.smtArrays = smtArrays;
+	}
 
 	@Override
 	public Expr visit(ArrayAccessExpr e) {
+		if (!(e.index instanceof IntExpr)) {
+			FlattenCompoundExpressions fresh = new FlattenCompoundExpressions(smtArrays);
+			Expr array = e.array.accept(fresh);
+			Expr index = e.index.accept(fresh);
+			return applyAccesses(new ArrayAccessExpr(array, index));
+		}
+
 		IntExpr intExpr = (IntExpr) e.index;
 		accesses.push(new ArrayAccess(intExpr.value));
 		Expr result = e.array.accept(this);
@@ -39,6 +59,28 @@ public class FlattenCompoundExpressions extends AstMapVisitor {
 		return result;
 	}
 
+	@Override
+	public Expr visit(ArrayUpdateExpr e) {
+		if (!accesses.isEmpty() && e.index instanceof IntExpr) {
+			ArrayAccess arrayAccess = (ArrayAccess) accesses.peek();
+			IntExpr intExpr = (IntExpr) e.index;
+			if (arrayAccess.index.equals(intExpr.value)) {
+				accesses.pop();
+				Expr result = e.value.accept(this);
+				accesses.push(arrayAccess);
+				return result;
+			} else {
+				return e.array.accept(this);
+			}
+		}
+
+		FlattenCompoundExpressions fresh = new FlattenCompoundExpressions(smtArrays);
+		Expr array = e.array.accept(fresh);
+		Expr index = e.index.accept(fresh);
+		Expr value = e.value.accept(fresh);
+		return applyAccesses(new ArrayUpdateExpr(array, index, value));
+	}
+
 	@Override
 	public Expr visit(ArrayExpr e) {
 		if (accesses.isEmpty()) {
@@ -73,15 +115,29 @@ public class FlattenCompoundExpressions extends AstMapVisitor {
 
 	@Override
 	public Expr visit(IdExpr e) {
-		if (!accesses.isEmpty()) {
+		if (!smtArrays && !accesses.isEmpty()) {
 			throw new IllegalArgumentException();
 		}
-		return e;
+		return applyAccesses(e);
+	}
+
+	private Expr applyAccesses(Expr expr) {
+		Expr result = expr;
+		for (Access access : accesses) {
+			if (access instanceof ArrayAccess) {
+				ArrayAccess arrayAccess = (ArrayAccess) access;
+				result = new ArrayAccessExpr(result, new IntExpr(arrayAccess.index));
+			} else {
+				RecordAccess recordAccess = (RecordAccess) access;
+				result = new RecordAccessExpr(result, recordAccess.field);
+			}
+		}
+		return result;
 	}
 
 	@Override
 	public Expr visit(IfThenElseExpr e) {
-		Expr cond = e.cond.accept(new FlattenCompoundExpressions());
+		Expr cond = e.cond.accept(new FlattenCompoundExpressions(smtArrays));
 		Expr thenExpr = e.thenExpr.accept(this);
 		Expr elseExpr = e.elseExpr.accept(this);
 		return new IfThenElseExpr(cond, thenExpr, elseExpr);
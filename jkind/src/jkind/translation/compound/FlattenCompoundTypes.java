@@ -4,21 +4,29 @@ import jkind.lustre.Program;
 import jkind.translation.tuples.FlattenTuples;
 
 /**
- * Flatten arrays and records to scalars
+ * Flatten arrays and records to scalars. Arrays of scalars may optionally be
+ * kept and encoded with the SMT theory of arrays instead.
  * 
  * Assumption: All node calls have been inlined.
  */
 public class FlattenCompoundTypes {
 	public static Program program(Program program) {
-		program = RemoveNonConstantArrayIndices.program(program);
-		program = RemoveArrayUpdates.program(program);
+		return program(program, false);
+	}
+
+	public static Program program(Program program, boolean smtArrays) {
+		program = RemoveNonConstantArrayIndices.program(program, smtArrays);
+		program = RemoveArrayUpdates.program(program, smtArrays);
 		program = RemoveRecordUpdates.program(program);
 		program = FlattenCompoundFunctionOutputs.program(program);
  		program = FlattenCompoundFunctionInputs.program(program);
 		program = FlattenTuples.program(program);
 		program = FlattenCompoundComparisons.program(program);
-		program = FlattenCompoundVariables.program(program);
-		program = FlattenCompoundExpressions.program(program);
+		program = FlattenCompoundVariables.program(program, smtArrays);
+		program = FlattenCompoundExpressions.program(program, smtArrays);
+		if (smtArrays) {
+			program = RemoveArrayLiterals.program(program);
+		}
 		return program;
 	}
 }
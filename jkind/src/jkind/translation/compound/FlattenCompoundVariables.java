@@ -23,18 +23,29 @@ import jkind.translation.SubstitutionVisitor;
 import jkind.util.Util;
 
 /**
- * Flatten array and record variables to scalars variables
+ * Flatten array and record variables to scalars variables. Variables which are
+ * encoded as SMT arrays may optionally be kept.
  * 
  * Assumption: All node calls have been inlined.
  * 
- * Assumption: All array indices are integer literals
+ * Assumption: All array indices are integer literals, except for indices into
+ * kept arrays
  */
 public class FlattenCompoundVariables extends AstMapVisitor {
 	public static Program program(Program program) {
-		return new FlattenCompoundVariables().visit(program);
+		return program(program, false);
+	}
+
+	public static Program program(Program program, boolean smtArrays) {
+		return new FlattenCompoundVariables(smtArrays).visit(program);
 	}
 
 	private final Map<String, Type> originalTypes = new HashMap<>();
+	private final boolean smtArrays;
+
+	private FlattenCompoundVariables(boolean smtArrays) {
+		this.smtArrays = smtArrays;
+	}
 
 	@Override
 	public Node visit(Node node) {
@@ -43,9 +54,9 @@ public class FlattenCompoundVariables extends AstMapVisitor {
 		addOriginalTypes(node.locals);
 
 		NodeBuilder builder = new NodeBuilder(node);
-		builder.clearInputs().addInputs(CompoundUtil.flattenVarDecls(node.inputs));
-		builder.clearOutputs().addOutputs(CompoundUtil.flattenVarDecls(node.outputs));
-		builder.clearLocals().addLocals(CompoundUtil.flattenVarDecls(node.locals));
+		builder.clearInputs().addInputs(CompoundUtil.flattenVarDecls(node.inputs, smtArrays));
+		builder.clearOutputs().addOutputs(CompoundUtil.flattenVarDecls(node.outputs, smtArrays));
+		builder.clearLocals().addLocals(CompoundUtil.flattenVarDecls(node.locals, smtArrays));
 		builder.clearEquations().addEquations(flattenLeftHandSide(node.equations));
 		if (node.realizabilityInputs != null) {
 			builder.setRealizabilityInputs(flattenNames(node.realizabilityInputs));
@@ -66,7 +77,7 @@ public class FlattenCompoundVariables extends AstMapVisitor {
 		List<String> result = new ArrayList<>();
 		for (String name : names) {
 			IdExpr id = new IdExpr(name);
-			for (ExprType et : CompoundUtil.flattenExpr(id, originalTypes.get(name))) {
+			for (ExprType et : CompoundUtil.flattenExpr(id, originalTypes.get(name), smtArrays)) {
 				result.add(et.expr.toString());
 			}
 		}
@@ -83,9 +94,9 @@ public class FlattenCompoundVariables extends AstMapVisitor {
 		return result;
 	}
 
-	private static List<Equation> flattenLeftHandSide(Expr lhs, Expr rhs, Type type) {
+	private List<Equation> flattenLeftHandSide(Expr lhs, Expr rhs, Type type) {
 		List<Equation> result = new ArrayList<>();
-		if (type instanceof ArrayType) {
+		if (type instanceof ArrayType && !isKept(type)) {
 			ArrayType arrayType = (ArrayType) type;
 			for (int i = 0; i < arrayType.size; i++) {
 				Expr accessLhs = new ArrayAccessExpr(lhs, i);
@@ -105,6 +116,10 @@ public class FlattenCompoundVariables extends AstMapVisitor {
 		return result;
 	}
 
+	private boolean isKept(Type type) {
+		return smtArrays && CompoundUtil.isSmtArray(type);
+	}
+
 	private Map<String, Expr> createExpandedVariables(List<VarDecl> varDecls) {
 		Map<String, Expr> map = new HashMap<>();
 		for (VarDecl varDecl : varDecls) {
@@ -116,7 +131,7 @@ public class FlattenCompoundVariables extends AstMapVisitor {
 	}
 
 	private Expr expand(Expr expr, Type type) {
-		return new Expander() {
+		return new Expander(smtArrays) {
 			@Override
 			protected Expr baseCase(Expr expr) {
 				return new IdExpr(expr.toString());
@@ -0,0 +1,63 @@
+package jkind.translation.compound;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jkind.lustre.ArrayExpr;
+import jkind.lustre.ArrayType;
+import jkind.lustre.ArrayUpdateExpr;
+import jkind.lustre.Expr;
+import jkind.lustre.IdExpr;
+import jkind.lustre.IntExpr;
+import jkind.lustre.Node;
+import jkind.lustre.Program;
+import jkind.lustre.Type;
+import jkind.lustre.VarDecl;
+import jkind.lustre.builders.NodeBuilder;
+import jkind.lustre.visitors.TypeAwareAstMapVisitor;
+
+/**
+ * Replace array literals by updates of an unconstrained input array, since SMT
+ * arrays have no literals. Every element of the input array is overwritten, so
+ * a single input is shared by all literals of the same type.
+ *
+ * Assumption: All remaining arrays are encoded as SMT arrays
+ */
+public class RemoveArrayLiterals extends TypeAwareAstMapVisitor {
+	public static Program program(Program program) {
+		return new RemoveArrayLiterals().visit(program);
+	}
+
+	private final Map<Type, IdExpr> bases = new LinkedHashMap<>();
+
+	@Override
+	public Node visit(Node node) {
+		bases.clear();
+		NodeBuilder builder = new NodeBuilder(super.visit(node));
+		for (Entry<Type, IdExpr> entry : bases.entrySet()) {
+			builder.addInput(new VarDecl(entry.getValue().id, entry.getKey()));
+		}
+		return builder.build();
+	}
+
+	@Override
+	public Expr visit(ArrayExpr e) {
+		ArrayType type = (ArrayType) getType(e);
+		List<Expr> elements = visitExprs(e.elements);
+
+		Expr result = getBase(type);
+		for (int i = 0; i < elements.size(); i++) {
+			result = new ArrayUpdateExpr(result, new IntExpr(i), elements.get(i));
+		}
+		return result;
+	}
+
+	private IdExpr getBase(ArrayType type) {
+		if (!bases.containsKey(type)) {
+			bases.put(type, new IdExpr("%array" + bases.size()));
+		}
+		return bases.get(type);
+	}
+}
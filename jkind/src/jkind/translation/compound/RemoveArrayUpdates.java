@@ -14,22 +14,37 @@ import jkind.lustre.visitors.TypeAwareAstMapVisitor;
 
 /**
  * Replace all non-constant array indices using if-then-else expressions. Remove
- * all array updates entirely.
+ * all array updates entirely, except optionally updates of arrays encoded as
+ * SMT arrays.
  * 
  * Assumption: All node calls have been inlined.
  */
 public class RemoveArrayUpdates extends TypeAwareAstMapVisitor {
 	public static Program program(Program program) {
-		return new RemoveArrayUpdates().visit(program);
+		return program(program, false);
 	}
-	
+
+	public static Program program(Program program, boolean smtArrays) {
+		return new RemoveArrayUpdates(smtArrays).visit(program);
+	}
+
+	private final boolean smtArrays;
+
+	private RemoveArrayUpdates(boolean smtArrays) {
+		this.smtArrays = smtArrays;
+	}
+
 	@Override
 	public Expr visit(ArrayUpdateExpr e) {
 		Expr array = e.array.accept(this);
-		IntExpr indexExpr = (IntExpr) e.index;
 		Expr value = e.value.accept(this);
 
 		ArrayType at = (ArrayType) getType(array);
+		if (smtArrays && CompoundUtil.isSmtArray(at)) {
+			return new ArrayUpdateExpr(array, e.index.accept(this), value);
+		}
+
+		IntExpr indexExpr = (IntExpr) e.index;
 		int index = indexExpr.value.intValue();
 		List<Expr> elements = new ArrayList<>();
 		for (int i = 0; i < at.size; i++) {
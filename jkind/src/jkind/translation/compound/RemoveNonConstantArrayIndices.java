@@ -20,13 +20,24 @@ import jkind.lustre.visitors.TypeAwareAstMapVisitor;
 
 /**
  * Replace all non-constant array indices using if-then-else expressions.
- * Constant array indices are evaluated to be integer literal.
+ * Constant array indices are evaluated to be integer literal. Non-constant
+ * indices into arrays encoded as SMT arrays may optionally be kept.
  * 
  * Assumption: All node calls have been inlined.
  */
 public class RemoveNonConstantArrayIndices extends TypeAwareAstMapVisitor {
 	public static Program program(Program program) {
-		return new RemoveNonConstantArrayIndices().visit(program);
+		return program(program, false);
+	}
+
+	public static Program program(Program program, boolean smtArrays) {
+		return new RemoveNonConstantArrayIndices(smtArrays).visit(program);
+	}
+
+	private final boolean smtArrays;
+
+	private RemoveNonConstantArrayIndices(boolean smtArrays) {
+		this.smtArrays = smtArrays;
 	}
 
 	private boolean isConstant(Expr e) {
@@ -44,11 +55,30 @@ public class RemoveNonConstantArrayIndices extends TypeAwareAstMapVisitor {
 		Expr index = e.index.accept(this);
 		if (isConstant(index)) {
 			return new ArrayAccessExpr(array, evalIndex(index));
+		} else if (isKept(array)) {
+			return new ArrayAccessExpr(array, clampIndex(array, index));
 		} else {
 			return expandArrayAccess(array, index);
 		}
 	}
 
+	private boolean isKept(Expr array) {
+		return smtArrays && CompoundUtil.isSmtArray(getType(array));
+	}
+
+	/**
+	 * Out of range accesses yield the last element, just as in the expansion
+	 * of non-constant array accesses
+	 */
+	private Expr clampIndex(Expr array, Expr index) {
+		ArrayType arrayType = (ArrayType) getType(array);
+		Expr last = new IntExpr(arrayType.size - 1);
+		Expr lower = new BinaryExpr(new IntExpr(0), BinaryOp.LESSEQUAL, index);
+		Expr upper = new BinaryExpr(index, BinaryOp.LESS, last);
+		Expr inRange = new BinaryExpr(lower, BinaryOp.AND, upper);
+		return new IfThenElseExpr(inRange, index, last);
+	}
+
 	private Expr expandArrayAccess(Expr array, Expr index) {
 		ArrayType arrayType = (ArrayType) getType(array);
 		Expr result = new ArrayAccessExpr(array, arrayType.size - 1);
@@ -67,6 +97,9 @@ public class RemoveNonConstantArrayIndices extends TypeAwareAstMapVisitor {
 		Expr value = e.value.accept(this);
 		if (isConstant(index)) {
 			return new ArrayUpdateExpr(array, evalIndex(index), value);
+		} else if (isKept(array)) {
+			// Out of range updates only change elements which are never read
+			return new ArrayUpdateExpr(array, index, value);
 		} else {
 			return expandNonConstantArrayUpdate(array, index, value);
 		}
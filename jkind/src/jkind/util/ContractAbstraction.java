@@ -0,0 +1,108 @@
+package jkind.util;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jkind.JKindException;
+import jkind.lustre.VarDecl;
+import jkind.lustre.values.BooleanValue;
+import jkind.lustre.values.Value;
+import jkind.results.FunctionTable;
+import jkind.slicing.Dependency;
+import jkind.slicing.DependencySet;
+import jkind.slicing.DependencyType;
+import jkind.solvers.Model;
+import jkind.solvers.SimpleModel;
+import jkind.translation.Specification;
+
+/**
+ * The outputs of node calls which were abstracted by contracts. These outputs
+ * are only constrained by the contract, so a counterexample which depends on
+ * them may not be a behavior of the program. Such a counterexample is replayed
+ * on the fully inlined program, using the values of the inputs of the main
+ * node, and is only genuine if the property fails there as well.
+ */
+public class ContractAbstraction {
+	private final Specification abstractSpec;
+	private final Specification concreteSpec;
+	private final Set<String> outputs;
+
+	public ContractAbstraction(Specification abstractSpec, Specification concreteSpec, List<String> outputs) {
+		this.abstractSpec = abstractSpec;
+		this.concreteSpec = concreteSpec;
+		this.outputs = new HashSet<>(outputs);
+	}
+
+	public Specification getConcreteSpec() {
+		return concreteSpec;
+	}
+
+	/**
+	 * Check if a property depends on the output of an abstracted call
+	 */
+	public boolean isAbstract(String property) {
+		DependencySet dependencies = abstractSpec.dependencyMap.get(property);
+		for (Dependency dependency : dependencies) {
+			if (dependency.type == DependencyType.VARIABLE && isAbstraction(dependency.name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if a stream is the output of an abstracted call, or a component
+	 * of one after compound types have been flattened
+	 */
+	private boolean isAbstraction(String stream) {
+		if (outputs.contains(stream)) {
+			return true;
+		}
+		for (int i = 0; i < stream.length(); i++) {
+			char c = stream.charAt(i);
+			if ((c == '.' || c == '[') && outputs.contains(stream.substring(0, i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Replay a counterexample of length k on the fully inlined program.
+	 * Returns the model of the inlined program if the property fails there in
+	 * the last step, and null otherwise.
+	 */
+	public Model replay(String property, int k, Model model) {
+		if (!concreteSpec.node.properties.contains(property)) {
+			return null;
+		}
+
+		SimpleModel inputs = new SimpleModel(concreteSpec.functions);
+		for (FunctionTable table : model.getFunctionTables()) {
+			inputs.addFunctionTable(SexpUtil.encodeFunction(table.getName()), table);
+		}
+
+		// Inputs outside the cone of the property in the abstraction are free
+		Set<String> names = model.getVariableNames();
+		for (VarDecl input : concreteSpec.node.inputs) {
+			for (int i = 0; i < k; i++) {
+				StreamIndex si = new StreamIndex(input.id, i);
+				Value value = names.contains(si.getEncoded().str) ? model.getValue(si) : null;
+				inputs.putValue(si, value != null ? value : Util.getDefaultValue(input.type));
+			}
+		}
+
+		try {
+			Model result = ModelReconstructionEvaluator.reconstruct(concreteSpec, concreteSpec, inputs, property, k,
+					true);
+			Value value = result.getValue(new StreamIndex(property, k - 1));
+			if (value instanceof BooleanValue && !((BooleanValue) value).value) {
+				return result;
+			}
+		} catch (JKindException e) {
+			// The inputs violate an assertion of the inlined program
+		}
+		return null;
+	}
+}
@@ -3,9 +3,11 @@ package jkind.util;
 import java.util.ArrayList;
 import java.util.List;
 
+import jkind.lustre.ArrayType;
 import jkind.lustre.EnumType;
 import jkind.lustre.Type;
 import jkind.lustre.VarDecl;
+import jkind.lustre.values.ArrayValue;
 import jkind.lustre.values.EnumValue;
 import jkind.lustre.values.IntegerValue;
 import jkind.lustre.values.Value;
@@ -68,6 +70,14 @@ public class CounterexampleExtractor {
 			EnumType et = (EnumType) type;
 			IntegerValue iv = (IntegerValue) value;
 			return new EnumValue(et.values.get(iv.value.intValue()));
+		} else if (type instanceof ArrayType && value != null) {
+			ArrayType at = (ArrayType) type;
+			ArrayValue av = (ArrayValue) value;
+			List<Value> elements = new ArrayList<>();
+			for (Value element : av.elements) {
+				elements.add(convert(at.base, element));
+			}
+			return new ArrayValue(elements);
 		}
 		return value;
 	}
@@ -0,0 +1,260 @@
+package jkind.util;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jkind.sexp.Cons;
+import jkind.sexp.Sexp;
+import jkind.sexp.Symbol;
+
+/**
+ * Local simplification of formulas before they are sent to a solver: folding
+ * of integer constants, boolean normalization, flattening of nested
+ * conjunctions and disjunctions, collapsing of if-then-else expressions with
+ * constant or identical branches, and elimination of trivial equalities.
+ *
+ * The top-level simplification assumes the arguments are already simplified,
+ * so translations which build formulas bottom-up simplify in linear time.
+ *
+ * Assumption: Numerals only occur in integer terms, as in Lustre2Sexp
+ */
+public class SexpSimplifier {
+	private static final Symbol TRUE = new Symbol("true");
+	private static final Symbol FALSE = new Symbol("false");
+	private static final Symbol ZERO = new Symbol("0");
+
+	public static Sexp simplify(Sexp sexp) {
+		if (sexp instanceof Cons) {
+			Cons cons = (Cons) sexp;
+			List<Sexp> args = new ArrayList<>();
+			for (Sexp arg : cons.args) {
+				args.add(simplify(arg));
+			}
+			return simplifyTop(new Cons(cons.head, args));
+		}
+		return sexp;
+	}
+
+	public static Sexp simplifyTop(Sexp sexp) {
+		if (!(sexp instanceof Cons) || !(((Cons) sexp).head instanceof Symbol)) {
+			return sexp;
+		}
+
+		Cons cons = (Cons) sexp;
+		List<? extends Sexp> args = cons.args;
+		switch (((Symbol) cons.head).str) {
+		case "and":
+			return junction("and", args, TRUE, FALSE);
+		case "or":
+			return junction("or", args, FALSE, TRUE);
+		case "not":
+			return not(args.get(0));
+		case "=>":
+			return implies(args.get(0), args.get(1));
+		case "ite":
+			return ite(args.get(0), args.get(1), args.get(2));
+		case "=":
+			return args.size() == 2 ? equal(args.get(0), args.get(1)) : cons;
+		case "+":
+		case "-":
+		case "*":
+			return arithmetic(cons);
+		case "<":
+		case "<=":
+		case ">":
+		case ">=":
+			return comparison(cons);
+		default:
+			return cons;
+		}
+	}
+
+	private static Sexp junction(String fn, List<? extends Sexp> args, Symbol unit, Symbol zero) {
+		List<Sexp> result = new ArrayList<>();
+		Set<Sexp> symbols = new HashSet<>();
+		for (Sexp arg : args) {
+			if (isCall(arg, fn)) {
+				for (Sexp inner : ((Cons) arg).args) {
+					if (add(result, symbols, inner, unit, zero)) {
+						return zero;
+					}
+				}
+			} else if (add(result, symbols, arg, unit, zero)) {
+				return zero;
+			}
+		}
+
+		if (result.isEmpty()) {
+			return unit;
+		} else if (result.size() == 1) {
+			return result.get(0);
+		} else {
+			return new Cons(fn, result);
+		}
+	}
+
+	/**
+	 * Add a junct unless it is the unit or a repeated symbol, and report
+	 * whether it is the zero of the junction
+	 */
+	private static boolean add(List<Sexp> result, Set<Sexp> symbols, Sexp arg, Symbol unit, Symbol zero) {
+		if (arg.equals(zero)) {
+			return true;
+		} else if (!arg.equals(unit) && !(arg instanceof Symbol && !symbols.add(arg))) {
+			result.add(arg);
+		}
+		return false;
+	}
+
+	private static Sexp not(Sexp arg) {
+		if (arg.equals(TRUE)) {
+			return FALSE;
+		} else if (arg.equals(FALSE)) {
+			return TRUE;
+		} else if (isCall(arg, "not")) {
+			return ((Cons) arg).args.get(0);
+		}
+		return new Cons("not", arg);
+	}
+
+	private static Sexp implies(Sexp left, Sexp right) {
+		if (left.equals(TRUE)) {
+			return right;
+		} else if (left.equals(FALSE) || right.equals(TRUE)) {
+			return TRUE;
+		} else if (right.equals(FALSE)) {
+			return not(left);
+		}
+		return new Cons("=>", left, right);
+	}
+
+	private static Sexp ite(Sexp cond, Sexp thenSexp, Sexp elseSexp) {
+		if (cond.equals(TRUE) || thenSexp.equals(elseSexp)) {
+			return thenSexp;
+		} else if (cond.equals(FALSE)) {
+			return elseSexp;
+		} else if (thenSexp.equals(TRUE)) {
+			return junction("or", Arrays.asList(cond, elseSexp), FALSE, TRUE);
+		} else if (thenSexp.equals(FALSE)) {
+			return junction("and", Arrays.asList(not(cond), elseSexp), TRUE, FALSE);
+		} else if (elseSexp.equals(TRUE)) {
+			return junction("or", Arrays.asList(not(cond), thenSexp), FALSE, TRUE);
+		} else if (elseSexp.equals(FALSE)) {
+			return junction("and", Arrays.asList(cond, thenSexp), TRUE, FALSE);
+		}
+		return new Cons("ite", cond, thenSexp, elseSexp);
+	}
+
+	private static Sexp equal(Sexp left, Sexp right) {
+		if (left.equals(right)) {
+			return TRUE;
+		} else if (left.equals(TRUE)) {
+			return right;
+		} else if (right.equals(TRUE)) {
+			return left;
+		} else if (left.equals(FALSE)) {
+			return not(right);
+		} else if (right.equals(FALSE)) {
+			return not(left);
+		}
+
+		BigInteger leftValue = getInteger(left);
+		BigInteger rightValue = getInteger(right);
+		if (leftValue != null && rightValue != null) {
+			return Sexp.fromBoolean(leftValue.equals(rightValue));
+		}
+		return new Cons("=", left, right);
+	}
+
+	private static Sexp arithmetic(Cons cons) {
+		List<BigInteger> values = getIntegers(cons.args);
+		if (values == null || values.isEmpty() || isNegativeInteger(cons)) {
+			return cons;
+		}
+
+		String fn = ((Symbol) cons.head).str;
+		if (fn.equals("-") && values.size() == 1) {
+			return Sexp.fromBigInt(values.get(0).negate());
+		}
+
+		BigInteger result = values.get(0);
+		for (BigInteger value : values.subList(1, values.size())) {
+			switch (fn) {
+			case "+":
+				result = result.add(value);
+				break;
+			case "-":
+				result = result.subtract(value);
+				break;
+			default:
+				result = result.multiply(value);
+				break;
+			}
+		}
+		return Sexp.fromBigInt(result);
+	}
+
+	private static Sexp comparison(Cons cons) {
+		List<BigInteger> values = getIntegers(cons.args);
+		if (values == null || values.size() != 2) {
+			return cons;
+		}
+
+		int cmp = values.get(0).compareTo(values.get(1));
+		switch (((Symbol) cons.head).str) {
+		case "<":
+			return Sexp.fromBoolean(cmp < 0);
+		case "<=":
+			return Sexp.fromBoolean(cmp <= 0);
+		case ">":
+			return Sexp.fromBoolean(cmp > 0);
+		default:
+			return Sexp.fromBoolean(cmp >= 0);
+		}
+	}
+
+	private static List<BigInteger> getIntegers(List<? extends Sexp> args) {
+		List<BigInteger> values = new ArrayList<>();
+		for (Sexp arg : args) {
+			BigInteger value = getInteger(arg);
+			if (value == null) {
+				return null;
+			}
+			values.add(value);
+		}
+		return values;
+	}
+
+	/**
+	 * Integer constants are numerals, or negated numerals as produced by
+	 * Sexp.fromBigInt
+	 */
+	private static BigInteger getInteger(Sexp sexp) {
+		if (sexp instanceof Symbol) {
+			String str = ((Symbol) sexp).str;
+			if (!str.isEmpty() && str.chars().allMatch(Character::isDigit)) {
+				return new BigInteger(str);
+			}
+		} else if (isNegativeInteger(sexp)) {
+			return getInteger(((Cons) sexp).args.get(1)).negate();
+		}
+		return null;
+	}
+
+	private static boolean isNegativeInteger(Sexp sexp) {
+		if (isCall(sexp, "-")) {
+			Cons cons = (Cons) sexp;
+			return cons.args.size() == 2 && cons.args.get(0).equals(ZERO) && cons.args.get(1) instanceof Symbol
+					&& getInteger(cons.args.get(1)) != null;
+		}
+		return false;
+	}
+
+	private static boolean isCall(Sexp sexp, String fn) {
+		return sexp instanceof Cons && ((Cons) sexp).head.equals(new Symbol(fn));
+	}
+}
@@ -7,28 +7,15 @@ import java.util.List;
 import jkind.lustre.Expr;
 import jkind.sexp.Cons;
 import jkind.sexp.Sexp;
-import jkind.sexp.Symbol;
 import jkind.translation.Lustre2Sexp;
 
 public class SexpUtil {
 	public static Sexp conjoin(List<? extends Sexp> conjuncts) {
-		if (conjuncts.isEmpty()) {
-			return new Symbol("true");
-		} else if (conjuncts.size() == 1) {
-			return conjuncts.get(0);
-		} else {
-			return new Cons("and", conjuncts);
-		}
+		return SexpSimplifier.simplifyTop(new Cons("and", conjuncts));
 	}
 
 	public static Sexp disjoin(List<Sexp> disjuncts) {
-		if (disjuncts.isEmpty()) {
-			return new Symbol("false");
-		} else if (disjuncts.size() == 1) {
-			return disjuncts.get(0);
-		} else {
-			return new Cons("or", disjuncts);
-		}
+		return SexpSimplifier.simplifyTop(new Cons("or", disjuncts));
 	}
 
 	public static Sexp conjoinInvariants(Collection<Expr> invariants, int k) {
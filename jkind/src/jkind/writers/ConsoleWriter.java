@@ -54,6 +54,18 @@ public class ConsoleWriter extends Writer {
 		System.out.println();
 	}
 
+	@Override
+	public void writeIvc(String prop, String source, Set<String> ivc, double runtime) {
+		writeLine();
+		System.out.println("INDUCTIVE VALIDITY CORE: " + prop + " || " + source + " || Time = "
+				+ Util.secondsToTime(runtime));
+		for (String e : Util.safeStringSortedSet(ivc)) {
+			System.out.println("  " + e);
+		}
+		writeLine();
+		System.out.println();
+	}
+
 	@Override
 	public void writeInvalid(String prop, String source, Counterexample cex,
 			List<String> conflicts, double runtime) {
@@ -56,6 +56,11 @@ public class ExcelWriter extends Writer {
 		}
 	}
 
+	@Override
+	public void writeIvc(String prop, String source, Set<String> ivc, double runtime) {
+		// Enumerating IVCs is rejected with Excel output by JKindArgumentParser
+	}
+
 	@Override
 	public void writeInvalid(String prop, String source, Counterexample cex,
 			List<String> conflicts, double runtime) {
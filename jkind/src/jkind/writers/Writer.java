@@ -15,6 +15,8 @@ public abstract class Writer {
 	public abstract void writeValid(List<String> props, String source, int k, double runtime,
 			List<Expr> invariants, Set<String> ivc);
 
+	public abstract void writeIvc(String prop, String source, Set<String> ivc, double runtime);
+
 	public abstract void writeInvalid(String prop, String source, Counterexample cex,
 			List<String> conflicts, double runtime);
 
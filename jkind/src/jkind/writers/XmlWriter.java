@@ -7,9 +7,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import jkind.lustre.ArrayType;
 import jkind.lustre.Expr;
 import jkind.lustre.Type;
 import jkind.lustre.VarDecl;
+import jkind.lustre.values.ArrayValue;
 import jkind.lustre.values.BooleanValue;
 import jkind.lustre.values.Value;
 import jkind.results.Counterexample;
@@ -65,6 +67,17 @@ public class XmlWriter extends Writer {
 		out.flush();
 	}
 
+	@Override
+	public void writeIvc(String prop, String source, Set<String> ivc, double runtime) {
+		out.println("  <IvcSet property=\"" + prop + "\" source=\"" + source + "\">");
+		out.println("    <Runtime unit=\"sec\">" + runtime + "</Runtime>");
+		for (String supp : ivc) {
+			out.println("    <Ivc>" + supp + "</Ivc>");
+		}
+		out.println("  </IvcSet>");
+		out.flush();
+	}
+
 	private String escape(Expr invariant) {
 		return invariant.toString().replace("<", "&lt;").replace(">", "&gt;");
 	}
@@ -141,16 +154,47 @@ public class XmlWriter extends Writer {
 	private void writeSignal(int k, Signal<Value> signal) {
 		String name = signal.getName();
 		Type type = types.get(name);
-		out.println("      <Signal name=\"" + name + "\" type=\"" + type + "\">");
+		out.println("      <Signal name=\"" + name + "\" type=\"" + formatType(type) + "\">");
 		for (int i = 0; i < k; i++) {
 			Value value = signal.getValue(i);
-			if (value != null) {
+			if (value instanceof ArrayValue) {
+				out.println("        <Value time=\"" + i + "\">");
+				writeArray((ArrayValue) value, "          ");
+				out.println("        </Value>");
+			} else if (value != null) {
 				out.println("        <Value time=\"" + i + "\">" + formatValue(value) + "</Value>");
 			}
 		}
 		out.println("      </Signal>");
 	}
 
+	/**
+	 * Arrays which are not flattened use the same format as Kind 2
+	 */
+	private String formatType(Type type) {
+		if (type instanceof ArrayType) {
+			Type base = type;
+			while (base instanceof ArrayType) {
+				base = ((ArrayType) base).base;
+			}
+			return "array of " + base;
+		}
+		return String.valueOf(type);
+	}
+
+	private void writeArray(ArrayValue value, String indent) {
+		out.println(indent + "<Array size=\"" + value.elements.size() + "\">");
+		for (int i = 0; i < value.elements.size(); i++) {
+			Value element = value.elements.get(i);
+			if (element instanceof ArrayValue) {
+				writeArray((ArrayValue) element, indent + "  ");
+			} else {
+				out.println(indent + "  <Item index=\"" + i + "\">" + formatValue(element) + "</Item>");
+			}
+		}
+		out.println(indent + "</Array>");
+	}
+
 	/**
 	 * pkind prints booleans as 0/1. We do the same for compatibility.
 	 */
@@ -0,0 +1,49 @@
+#!/bin/sh
+
+# Compare the integer and bit-vector encodings on every model in this
+# directory. Models which are not eligible for the bit-vector encoding are
+# analyzed with the integer encoding in both runs.
+#
+# Usage: ./compare-encodings.sh [solver] [timeout]
+# The jkind launcher is taken from $JKIND if set, and from the path otherwise.
+
+SOLVER=${1:-z3}
+TIMEOUT=${2:-60}
+JKIND=${JKIND:-jkind}
+DIR=$(dirname "$0")
+INT_OUT=$(mktemp)
+BV_OUT=$(mktemp)
+
+now() { date +%s.%N; }
+
+# Print the runtime and leave the summary of results in the given file
+run() {
+	OUT=$1
+	shift
+	START=$(now)
+	$JKIND -solver "$SOLVER" -timeout "$TIMEOUT" "$@" > "$OUT" 2>&1
+	END=$(now)
+	echo "$END - $START" | bc
+}
+
+summary() { sed -n '/SUMMARY/,$p' "$1"; }
+
+printf "%-40s %10s %10s %9s %8s\n" "model" "int (s)" "bv (s)" "eligible" "results"
+for FILE in "$DIR"/*.lus "$DIR"/hard/*.lus; do
+	INT_TIME=$(run "$INT_OUT" "$FILE")
+	BV_TIME=$(run "$BV_OUT" -bit_vectors "$FILE")
+
+	ELIGIBLE=yes
+	if grep -q "bit-vector encoding not available" "$BV_OUT"; then
+		ELIGIBLE=no
+	fi
+
+	RESULTS=same
+	if [ "$(summary "$INT_OUT")" != "$(summary "$BV_OUT")" ]; then
+		RESULTS=differ
+	fi
+
+	printf "%-40s %10.2f %10.2f %9s %8s\n" "$(basename "$FILE")" "$INT_TIME" "$BV_TIME" "$ELIGIBLE" "$RESULTS"
+done
+
+rm -f "$INT_OUT" "$BV_OUT"
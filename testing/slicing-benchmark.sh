@@ -0,0 +1,44 @@
+#!/bin/sh
+
+# Time the construction of the dependency map on a generated model with many
+# streams, properties and assertions. Each stream depends on the previous
+# one, so the cones of the properties overlap and grow with the model. The
+# analysis itself is cut off, since only the Specification passes are of
+# interest.
+#
+# Usage: ./slicing-benchmark.sh [streams] [properties] [assertions]
+# The jkind launcher is taken from $JKIND if set, and from the path otherwise.
+
+STREAMS=${1:-5000}
+PROPERTIES=${2:-500}
+ASSERTIONS=${3:-20}
+JKIND=${JKIND:-jkind}
+MODEL=$(mktemp)
+OUT=$(mktemp)
+
+awk -v n="$STREAMS" -v p="$PROPERTIES" -v a="$ASSERTIONS" 'BEGIN {
+	print "node main(in0, in1, in2, in3 : int) returns ();"
+	print "var"
+	for (i = 0; i < n; i++) print "  x" i " : int;"
+	for (j = 0; j < p; j++) print "  p" j " : bool;"
+	print "let"
+	print "  x0 = in0;"
+	for (i = 1; i < n; i++) {
+		print "  x" i " = in" (i % 4) " + (0 -> pre x" (i - 1) ");"
+	}
+	for (j = 0; j < p; j++) {
+		k = int((j + 1) * (n - 1) / p)
+		print "  p" j " = x" k " <> x" (k - 1) " or in" (j % 4) " = 0;"
+		print "  --%PROPERTY p" j ";"
+	}
+	for (j = 0; j < a; j++) {
+		k = int(j * (n - 1) / a)
+		print "  assert x" k " > -1000;"
+	}
+	print "tel;"
+}' > "$MODEL"
+
+$JKIND -solver "${SOLVER:-z3}" -pass_timing -timeout 1 -pdr_max 0 "$MODEL" > "$OUT" 2>&1
+grep -E "^(PASS|Specification|InlineSimpleEquations)" "$OUT"
+
+rm -f "$MODEL" "$OUT"